@@ -28,6 +28,9 @@ public class PIDControllerConstants {
     public static final String CONFIG_SETPOINT_ITEM = "setpoint";
     public static final String CONFIG_COMMAND_ITEM = "commandItem";
     public static final String CONFIG_LOOP_TIME = "loopTime";
+    public static final String CONFIG_LOOP_MODE = "loopMode";
+    public static final String LOOP_MODE_FIXED_DELAY = "fixedDelay";
+    public static final String LOOP_MODE_FIXED_RATE = "fixedRate";
     public static final String CONFIG_KP_GAIN = "kp";
     public static final String CONFIG_KI_GAIN = "ki";
     public static final String CONFIG_KD_GAIN = "kd";
@@ -38,5 +41,7 @@ public class PIDControllerConstants {
     public static final String I_INSPECTOR = "iInspector";
     public static final String D_INSPECTOR = "dInspector";
     public static final String E_INSPECTOR = "eInspector";
+    public static final String JITTER_INSPECTOR = "jitterInspector";
+    public static final String LATENCY_INSPECTOR = "latencyInspector";
     public static final String COMMAND = "command";
 }
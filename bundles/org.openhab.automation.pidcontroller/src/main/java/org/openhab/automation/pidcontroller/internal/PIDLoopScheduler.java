@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.pidcontroller.internal;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link PIDLoopScheduler} is a dedicated timer shared by all PID controller modules running in fixed rate
+ * mode. Loops are executed at a fixed rate, independent of the rule engine's shared scheduler. Each loop gets the
+ * measured time since its previous run and the jitter against the configured loop time.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PIDLoopScheduler {
+    private final Logger logger = LoggerFactory.getLogger(PIDLoopScheduler.class);
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * Callback executed every loop cycle.
+     */
+    @FunctionalInterface
+    public interface Loop {
+        /**
+         * @param dtMs measured time since the previous cycle in milliseconds
+         * @param jitterMs deviation of the measured time from the configured loop time in milliseconds
+         */
+        void run(double dtMs, double jitterMs);
+    }
+
+    /**
+     * Handle of a registered loop, allows to cancel the loop.
+     */
+    public static class Registration {
+        private final Loop loop;
+        private final long loopTimeNs;
+        private long previousNs;
+        private volatile @Nullable ScheduledFuture<?> future;
+
+        private Registration(Loop loop, long loopTimeNs) {
+            this.loop = loop;
+            this.loopTimeNs = loopTimeNs;
+            this.previousNs = System.nanoTime();
+        }
+
+        private void tick() {
+            long now = System.nanoTime();
+            double dtMs = (now - previousNs) / 1_000_000d;
+            double jitterMs = (now - previousNs - loopTimeNs) / 1_000_000d;
+            previousNs = now;
+
+            loop.run(dtMs, jitterMs);
+        }
+
+        public void cancel() {
+            ScheduledFuture<?> localFuture = future;
+            if (localFuture != null) {
+                localFuture.cancel(false);
+            }
+        }
+    }
+
+    public PIDLoopScheduler() {
+        scheduler = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("pidcontroller-loop", true));
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Registers a loop which is executed at a fixed rate.
+     *
+     * @param loop the loop to execute
+     * @param loopTimeMs the loop time in milliseconds
+     * @return the registration, which needs to be cancelled when the loop is no longer needed
+     */
+    public Registration register(Loop loop, int loopTimeMs) {
+        Registration registration = new Registration(loop, TimeUnit.MILLISECONDS.toNanos(loopTimeMs));
+        registration.future = scheduler.scheduleAtFixedRate(() -> {
+            try {
+                registration.tick();
+            } catch (RuntimeException e) {
+                // an exception would silently cancel the fixed rate schedule
+                logger.warn("PID controller loop failed: {}", e.getMessage(), e);
+            }
+        }, loopTimeMs, loopTimeMs, TimeUnit.MILLISECONDS);
+        return registration;
+    }
+
+    public void dispose() {
+        scheduler.shutdownNow();
+    }
+}
@@ -17,6 +17,7 @@ import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.automation.pidcontroller.internal.PIDLoopScheduler;
 import org.openhab.automation.pidcontroller.internal.handler.PIDControllerTriggerHandler;
 import org.openhab.core.automation.Module;
 import org.openhab.core.automation.Trigger;
@@ -28,6 +29,7 @@ import org.openhab.core.items.ItemRegistry;
 import org.osgi.framework.BundleContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 
 /**
@@ -41,6 +43,7 @@ public class PIDControllerModuleHandlerFactory extends BaseModuleHandlerFactory
     private ItemRegistry itemRegistry;
     private EventPublisher eventPublisher;
     private BundleContext bundleContext;
+    private final PIDLoopScheduler loopScheduler = new PIDLoopScheduler();
 
     @Activate
     public PIDControllerModuleHandlerFactory(@Reference ItemRegistry itemRegistry,
@@ -50,6 +53,13 @@ public class PIDControllerModuleHandlerFactory extends BaseModuleHandlerFactory
         this.bundleContext = bundleContext;
     }
 
+    @Override
+    @Deactivate
+    protected void deactivate() {
+        super.deactivate();
+        loopScheduler.dispose();
+    }
+
     @Override
     public Collection<String> getTypes() {
         return TYPES;
@@ -59,7 +69,8 @@ public class PIDControllerModuleHandlerFactory extends BaseModuleHandlerFactory
     protected @Nullable ModuleHandler internalCreate(Module module, String ruleUID) {
         switch (module.getTypeUID()) {
             case PIDControllerTriggerHandler.MODULE_TYPE_ID:
-                return new PIDControllerTriggerHandler((Trigger) module, itemRegistry, eventPublisher, bundleContext);
+                return new PIDControllerTriggerHandler((Trigger) module, itemRegistry, eventPublisher, bundleContext,
+                        loopScheduler);
         }
 
         return null;
@@ -72,7 +72,7 @@ class PIDController {
         }
     }
 
-    public PIDOutputDTO calculate(double input, double setpoint, long lastInvocationMs, int loopTimeMs) {
+    public PIDOutputDTO calculate(double input, double setpoint, double lastInvocationMs, int loopTimeMs) {
         final double lastInvocationSec = lastInvocationMs / 1000d;
         final double error = setpoint - input;
 
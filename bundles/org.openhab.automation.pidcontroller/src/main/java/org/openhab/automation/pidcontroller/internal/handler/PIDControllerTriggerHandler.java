@@ -23,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.automation.pidcontroller.internal.PIDException;
+import org.openhab.automation.pidcontroller.internal.PIDLoopScheduler;
 import org.openhab.core.automation.ModuleHandlerCallback;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.handler.BaseTriggerModuleHandler;
@@ -61,7 +62,12 @@ public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler implem
     private final ServiceRegistration<?> eventSubscriberRegistration;
     private final PIDController controller;
     private final int loopTimeMs;
+    private final boolean fixedRate;
+    private final PIDLoopScheduler loopScheduler;
+    private @Nullable PIDLoopScheduler.Registration loopRegistration;
     private long previousTimeMs = System.currentTimeMillis();
+    private volatile double inputValue = Double.NaN;
+    private volatile double setpointValue = Double.NaN;
     private Item inputItem;
     private Item setpointItem;
     private Optional<String> commandTopic;
@@ -71,13 +77,16 @@ public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler implem
     private @Nullable String iInspector;
     private @Nullable String dInspector;
     private @Nullable String eInspector;
+    private @Nullable String jitterInspector;
+    private @Nullable String latencyInspector;
     private ItemRegistry itemRegistry;
 
     public PIDControllerTriggerHandler(Trigger module, ItemRegistry itemRegistry, EventPublisher eventPublisher,
-            BundleContext bundleContext) {
+            BundleContext bundleContext, PIDLoopScheduler loopScheduler) {
         super(module);
         this.itemRegistry = itemRegistry;
         this.eventPublisher = eventPublisher;
+        this.loopScheduler = loopScheduler;
 
         Configuration config = module.getConfiguration();
 
@@ -113,9 +122,18 @@ public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler implem
         iInspector = (String) config.get(I_INSPECTOR);
         dInspector = (String) config.get(D_INSPECTOR);
         eInspector = (String) config.get(E_INSPECTOR);
+        jitterInspector = (String) config.get(JITTER_INSPECTOR);
+        latencyInspector = (String) config.get(LATENCY_INSPECTOR);
 
         loopTimeMs = ((BigDecimal) requireNonNull(config.get(CONFIG_LOOP_TIME), CONFIG_LOOP_TIME + " is not set"))
                 .intValue();
+        fixedRate = LOOP_MODE_FIXED_RATE.equals(config.get(CONFIG_LOOP_MODE));
+
+        if (fixedRate) {
+            // in fixed rate mode the inputs are taken from the events, the registry is only read once
+            inputValue = getStateAsNumberOrNaN(inputItem.getState());
+            setpointValue = getStateAsNumberOrNaN(setpointItem.getState());
+        }
 
         double previousIntegralPart = getItemNameValueAsNumberOrZero(itemRegistry, iInspector);
         double previousDerivativePart = getItemNameValueAsNumberOrZero(itemRegistry, dInspector);
@@ -141,7 +159,11 @@ public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler implem
     @Override
     public void setCallback(ModuleHandlerCallback callback) {
         super.setCallback(callback);
-        getCallback().getScheduler().scheduleWithFixedDelay(this::calculate, 0, loopTimeMs, TimeUnit.MILLISECONDS);
+        if (fixedRate) {
+            loopRegistration = loopScheduler.register(this::loop, loopTimeMs);
+        } else {
+            getCallback().getScheduler().scheduleWithFixedDelay(this::calculate, 0, loopTimeMs, TimeUnit.MILLISECONDS);
+        }
     }
 
     private <T> T requireNonNull(T obj, String message) {
@@ -192,6 +214,36 @@ public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler implem
         getCallback().triggered(module, Map.of(COMMAND, new DecimalType(output.getOutput())));
     }
 
+    private void loop(double dtMs, double jitterMs) {
+        double input = inputValue;
+        double setpoint = setpointValue;
+
+        if (Double.isNaN(input)) {
+            logger.warn("Input item: {}: No numeric value received", inputItem.getName());
+            return;
+        }
+
+        if (Double.isNaN(setpoint)) {
+            logger.warn("Setpoint item: {}: No numeric value received", setpointItem.getName());
+            return;
+        }
+
+        long startNs = System.nanoTime();
+        PIDOutputDTO output = controller.calculate(input, setpoint, dtMs, loopTimeMs);
+        double latencyMs = (System.nanoTime() - startNs) / 1_000_000d;
+
+        updateItem(pInspector, output.getProportionalPart());
+        updateItem(iInspector, output.getIntegralPart());
+        updateItem(dInspector, output.getDerivativePart());
+        updateItem(eInspector, output.getError());
+        updateItem(jitterInspector, jitterMs);
+        updateItem(latencyInspector, latencyMs);
+
+        logger.trace("PID loop {}: dt={}ms, jitter={}ms, latency={}ms", module.getId(), dtMs, jitterMs, latencyMs);
+
+        getCallback().triggered(module, Map.of(COMMAND, new DecimalType(output.getOutput())));
+    }
+
     private void updateItem(@Nullable String itemName, double value) {
         if (itemName != null) {
             try {
@@ -234,8 +286,18 @@ public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler implem
     }
 
     private double getItemValueAsNumber(Item item) throws PIDException {
-        State setpointState = item.getState();
+        return getStateAsNumber(item.getState());
+    }
 
+    private double getStateAsNumberOrNaN(State state) {
+        try {
+            return getStateAsNumber(state);
+        } catch (PIDException e) {
+            return Double.NaN;
+        }
+    }
+
+    private double getStateAsNumber(State setpointState) throws PIDException {
         if (setpointState instanceof Number number) {
             double doubleValue = number.doubleValue();
 
@@ -254,7 +316,10 @@ public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler implem
 
     @Override
     public void receive(Event event) {
-        if (event instanceof ItemStateChangedEvent changedEvent) {
+        if (fixedRate && event instanceof ItemStateEvent stateEvent) {
+            // ItemStateEvents are only subscribed for the input item
+            inputValue = getStateAsNumberOrNaN(stateEvent.getItemState());
+        } else if (event instanceof ItemStateChangedEvent changedEvent) {
             if (commandTopic.isPresent() && event.getTopic().equals(commandTopic.get())) {
                 if ("RESET".equals(changedEvent.getItemState().toString())) {
                     controller.setIntegralResult(0);
@@ -263,6 +328,13 @@ public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler implem
                 } else if (changedEvent.getItemState() != UnDefType.NULL) {
                     logger.warn("Unknown command: {}", changedEvent.getItemState());
                 }
+            } else if (fixedRate) {
+                double value = getStateAsNumberOrNaN(changedEvent.getItemState());
+                if (changedEvent.getItemName().equals(inputItem.getName())) {
+                    inputValue = value;
+                } else {
+                    setpointValue = value;
+                }
             } else {
                 calculate();
             }
@@ -283,6 +355,12 @@ public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler implem
     public void dispose() {
         eventSubscriberRegistration.unregister();
 
+        PIDLoopScheduler.Registration localLoopRegistration = loopRegistration;
+        if (localLoopRegistration != null) {
+            localLoopRegistration.cancel();
+            loopRegistration = null;
+        }
+
         super.dispose();
     }
 }
@@ -27,6 +27,7 @@ import org.openhab.core.automation.type.TriggerType;
 import org.openhab.core.config.core.ConfigDescriptionParameter;
 import org.openhab.core.config.core.ConfigDescriptionParameter.Type;
 import org.openhab.core.config.core.ConfigDescriptionParameterBuilder;
+import org.openhab.core.config.core.ParameterOption;
 
 /**
  *
@@ -94,6 +95,18 @@ public class PIDControllerTriggerType extends TriggerType {
                 .withDescription("The interval the output value is updated in ms") //
                 .withUnit("ms") //
                 .build());
+        configDescriptions.add(ConfigDescriptionParameterBuilder.create(CONFIG_LOOP_MODE, Type.TEXT) //
+                .withRequired(false) //
+                .withMultiple(false) //
+                .withDefault(LOOP_MODE_FIXED_DELAY) //
+                .withOptions(List.of(new ParameterOption(LOOP_MODE_FIXED_DELAY, "Fixed Delay"),
+                        new ParameterOption(LOOP_MODE_FIXED_RATE, "Fixed Rate"))) //
+                .withLimitToOptions(true) //
+                .withAdvanced(true) //
+                .withLabel("Loop Mode") //
+                .withDescription(
+                        "Fixed Delay: the loop runs on the rule engine's scheduler. Fixed Rate: the loop runs at a fixed rate on a dedicated timer with measured time steps.") //
+                .build());
         configDescriptions.add(ConfigDescriptionParameterBuilder.create(CONFIG_I_MIN, Type.DECIMAL) //
                 .withRequired(false) //
                 .withMultiple(false) //
@@ -132,6 +145,18 @@ public class PIDControllerTriggerType extends TriggerType {
                 .withLabel("Error Inspector Item") //
                 .withDescription("Item for debugging the error value") //
                 .build());
+        configDescriptions.add(ConfigDescriptionParameterBuilder.create(JITTER_INSPECTOR, Type.TEXT) //
+                .withRequired(false).withMultiple(false) //
+                .withContext(ITEM) //
+                .withLabel("Jitter Inspector Item") //
+                .withDescription("Item for debugging the loop jitter in ms (fixed rate mode only)") //
+                .build());
+        configDescriptions.add(ConfigDescriptionParameterBuilder.create(LATENCY_INSPECTOR, Type.TEXT) //
+                .withRequired(false).withMultiple(false) //
+                .withContext(ITEM) //
+                .withLabel("Latency Inspector Item") //
+                .withDescription("Item for debugging the calculation latency in ms (fixed rate mode only)") //
+                .build());
 
         Output output = new Output(COMMAND, BigDecimal.class.getName(), "Output", "Output value of the PID Controller",
                 Set.of("command"), null, null);
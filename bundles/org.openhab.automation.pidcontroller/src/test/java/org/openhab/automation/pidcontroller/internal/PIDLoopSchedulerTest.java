@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.pidcontroller.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for PIDLoopScheduler.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class PIDLoopSchedulerTest {
+    private final PIDLoopScheduler scheduler = new PIDLoopScheduler();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    void loopRunsAtFixedRateWithMeasuredDt() throws InterruptedException {
+        List<Double> dts = new CopyOnWriteArrayList<>();
+        List<Double> jitters = new CopyOnWriteArrayList<>();
+        CountDownLatch cycles = new CountDownLatch(5);
+
+        PIDLoopScheduler.Registration registration = scheduler.register((dtMs, jitterMs) -> {
+            dts.add(dtMs);
+            jitters.add(jitterMs);
+            cycles.countDown();
+        }, 20);
+
+        assertTrue(cycles.await(5, TimeUnit.SECONDS));
+        registration.cancel();
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(dts.get(i) > 0);
+            // jitter is the deviation of the measured dt from the loop time
+            assertEquals(dts.get(i) - 20, jitters.get(i), 0.001);
+        }
+    }
+
+    @Test
+    void failingLoopKeepsRunning() throws InterruptedException {
+        CountDownLatch cycles = new CountDownLatch(3);
+
+        PIDLoopScheduler.Registration registration = scheduler.register((dtMs, jitterMs) -> {
+            cycles.countDown();
+            throw new IllegalStateException("test");
+        }, 10);
+
+        assertTrue(cycles.await(5, TimeUnit.SECONDS));
+        registration.cancel();
+    }
+
+    @Test
+    void cancelledLoopStops() throws InterruptedException {
+        CountDownLatch firstCycle = new CountDownLatch(1);
+        List<Double> dts = new CopyOnWriteArrayList<>();
+
+        PIDLoopScheduler.Registration registration = scheduler.register((dtMs, jitterMs) -> {
+            dts.add(dtMs);
+            firstCycle.countDown();
+        }, 10);
+
+        assertTrue(firstCycle.await(5, TimeUnit.SECONDS));
+        registration.cancel();
+        int count = dts.size();
+        Thread.sleep(100);
+
+        // at most a cycle which was already running when cancelled
+        assertTrue(dts.size() <= count + 1);
+    }
+}
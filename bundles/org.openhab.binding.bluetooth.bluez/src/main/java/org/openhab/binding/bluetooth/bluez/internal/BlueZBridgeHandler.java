@@ -12,9 +12,14 @@
  */
 package org.openhab.binding.bluetooth.bluez.internal;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -33,6 +38,9 @@ import org.openhab.binding.bluetooth.bluez.internal.events.AdapterDiscoveringCha
 import org.openhab.binding.bluetooth.bluez.internal.events.AdapterPoweredChangedEvent;
 import org.openhab.binding.bluetooth.bluez.internal.events.BlueZEvent;
 import org.openhab.binding.bluetooth.bluez.internal.events.BlueZEventListener;
+import org.openhab.binding.bluetooth.bluez.internal.events.DeviceAddedEvent;
+import org.openhab.binding.bluetooth.bluez.internal.events.DeviceRemovedEvent;
+import org.openhab.binding.bluetooth.bluez.internal.events.RssiEvent;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
@@ -48,6 +56,9 @@ import com.github.hypfvieh.bluetooth.wrapper.BluetoothDevice;
  * It provides a private interface for {@link BlueZBluetoothDevice}s to access the stack and provides top
  * level adaptor functionality for scanning and arbitration.
  *
+ * Devices are tracked through the ObjectManager and PropertiesChanged signals of BlueZ. All devices of the adapter
+ * are only enumerated once the adapter is ready and then every {@link #RESYNC_INTERVAL} in case a signal was missed.
+ *
  * @author Kai Kreuzer - Initial contribution and API
  * @author Hilbrand Bouwkamp - Simplified calling scan and better handling manual scanning
  * @author Connor Petty - Simplified device scan logic
@@ -58,6 +69,8 @@ import com.github.hypfvieh.bluetooth.wrapper.BluetoothDevice;
 public class BlueZBridgeHandler extends AbstractBluetoothBridgeHandler<BlueZBluetoothDevice>
         implements BlueZEventListener {
 
+    private static final Duration RESYNC_INTERVAL = Duration.ofMinutes(5);
+
     private final Logger logger = LoggerFactory.getLogger(BlueZBridgeHandler.class);
 
     // ADAPTER from BlueZ-DBus Library
@@ -70,6 +83,11 @@ public class BlueZBridgeHandler extends AbstractBluetoothBridgeHandler<BlueZBlue
 
     private final DeviceManagerFactory deviceManagerFactory;
 
+    // devices which have a BlueZ device object attached
+    private final Set<BluetoothAddress> trackedDevices = ConcurrentHashMap.newKeySet();
+
+    private volatile Instant lastResync = Instant.MIN;
+
     /**
      * Constructor
      *
@@ -117,6 +135,8 @@ public class BlueZBridgeHandler extends AbstractBluetoothBridgeHandler<BlueZBlue
             localAdatper.stopDiscovery();
             this.adapter = null;
         }
+        trackedDevices.clear();
+        lastResync = Instant.MIN;
 
         super.dispose();
     }
@@ -182,17 +202,8 @@ public class BlueZBridgeHandler extends AbstractBluetoothBridgeHandler<BlueZBlue
                 return;
             }
 
-            // now lets refresh devices
-            List<BluetoothDevice> bluezDevices = deviceManager.getDevices(localAdapter);
-            logger.debug("Found {} Bluetooth devices.", bluezDevices.size());
-            for (BluetoothDevice bluezDevice : bluezDevices) {
-                if (bluezDevice.getAddress() == null) {
-                    // For some reasons, sometimes the address is null..
-                    continue;
-                }
-                BlueZBluetoothDevice device = getDevice(new BluetoothAddress(bluezDevice.getAddress()));
-                device.updateBlueZDevice(bluezDevice);
-                deviceDiscovered(device);
+            if (lastResync.plus(RESYNC_INTERVAL).isBefore(Instant.now())) {
+                resyncDevices(deviceManager, localAdapter);
             }
             updateStatus(ThingStatus.ONLINE);
         } catch (Exception ex) {
@@ -203,6 +214,59 @@ public class BlueZBridgeHandler extends AbstractBluetoothBridgeHandler<BlueZBlue
         }
     }
 
+    /**
+     * Enumerates all devices of the adapter, which is expensive with many devices in range. Between two runs the
+     * devices are tracked through the signals of BlueZ.
+     */
+    private void resyncDevices(DeviceManagerWrapper deviceManager, BluetoothAdapter localAdapter) {
+        List<BluetoothDevice> bluezDevices = deviceManager.getDevices(localAdapter);
+        Set<BluetoothAddress> addresses = new HashSet<>();
+        int untracked = 0;
+        for (BluetoothDevice bluezDevice : bluezDevices) {
+            if (bluezDevice.getAddress() == null) {
+                // For some reasons, sometimes the address is null..
+                continue;
+            }
+            BluetoothAddress address = new BluetoothAddress(bluezDevice.getAddress());
+            addresses.add(address);
+            if (trackedDevices.add(address)) {
+                untracked++;
+            }
+            BlueZBluetoothDevice device = getDevice(address);
+            device.updateBlueZDevice(bluezDevice);
+            deviceDiscovered(device);
+        }
+        trackedDevices.retainAll(addresses);
+        lastResync = Instant.now();
+        logger.debug("Found {} Bluetooth devices, {} of them were not tracked yet.", bluezDevices.size(), untracked);
+    }
+
+    /**
+     * Attaches the BlueZ device object to a device the first time an event for it is received.
+     */
+    private void trackDevice(BluetoothAddress address) {
+        if (!trackedDevices.add(address)) {
+            return;
+        }
+        DeviceManagerWrapper deviceManager = deviceManagerFactory.getDeviceManager();
+        BluetoothAdapter localAdapter = adapter;
+        BluetoothDevice bluezDevice = deviceManager == null || localAdapter == null ? null
+                : deviceManager.getDevice(localAdapter, address);
+        if (bluezDevice == null) {
+            trackedDevices.remove(address);
+            return;
+        }
+        try {
+            BlueZBluetoothDevice device = getDevice(address);
+            device.updateBlueZDevice(bluezDevice);
+            deviceDiscovered(device);
+        } catch (RuntimeException e) {
+            // the device might already be gone again, the next event or resync will try again
+            logger.debug("Failed to track device {}: {}", address, e.getMessage());
+            trackedDevices.remove(address);
+        }
+    }
+
     @Override
     public @Nullable BluetoothAddress getAddress() {
         return adapterAddress;
@@ -216,26 +280,52 @@ public class BlueZBridgeHandler extends AbstractBluetoothBridgeHandler<BlueZBlue
 
     @Override
     public void onDBusBlueZEvent(BlueZEvent event) {
+        BluetoothAddress address = getDeviceOfAdapter(event);
+        if (address != null) {
+            trackDevice(address);
+            // now lets forward the event to the corresponding bluetooth device
+            BlueZBluetoothDevice device = getDevice(address);
+            Integer previousRssi = device.getRssi();
+            event.dispatch(device);
+            if (event instanceof RssiEvent rssiEvent && rssiEvent.getRssi() != 0
+                    && (previousRssi == null || previousRssi == 0)) {
+                // the device is in range again, which the discovery only learns from a discovered device
+                deviceDiscovered(device);
+            }
+        }
+    }
+
+    @Override
+    public void onDeviceAdded(DeviceAddedEvent event) {
+        BluetoothAddress address = getDeviceOfAdapter(event);
+        if (address != null) {
+            trackDevice(address);
+        }
+    }
+
+    @Override
+    public void onDeviceRemoved(DeviceRemovedEvent event) {
+        BluetoothAddress address = getDeviceOfAdapter(event);
+        if (address != null && trackedDevices.remove(address)) {
+            // the BlueZ device object is gone, it is attached again when the device shows up
+            getDevice(address).updateBlueZDevice(null);
+        }
+    }
+
+    private @Nullable BluetoothAddress getDeviceOfAdapter(BlueZEvent event) {
         BluetoothAdapter localAdapter = this.adapter;
         String adapterName = event.getAdapterName();
         if (adapterName == null || localAdapter == null) {
             // We cannot be sure that this event concerns this adapter.. So ignore message
-            return;
+            return null;
         }
         String localName = localAdapter.getDeviceName();
 
         if (!adapterName.equals(localName)) {
             // does not concern this adapter
-            return;
-        }
-
-        BluetoothAddress address = event.getDevice();
-
-        if (address != null) {
-            // now lets forward the event to the corresponding bluetooth device
-            BlueZBluetoothDevice device = getDevice(address);
-            event.dispatch(device);
+            return null;
         }
+        return event.getDevice();
     }
 
     @Override
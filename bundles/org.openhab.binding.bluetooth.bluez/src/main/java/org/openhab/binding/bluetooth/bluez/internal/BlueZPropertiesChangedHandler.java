@@ -21,6 +21,8 @@ import java.util.concurrent.ScheduledExecutorService;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.freedesktop.dbus.handlers.AbstractPropertiesChangedHandler;
+import org.freedesktop.dbus.interfaces.ObjectManager.InterfacesAdded;
+import org.freedesktop.dbus.interfaces.ObjectManager.InterfacesRemoved;
 import org.freedesktop.dbus.interfaces.Properties.PropertiesChanged;
 import org.freedesktop.dbus.types.UInt16;
 import org.freedesktop.dbus.types.Variant;
@@ -30,6 +32,8 @@ import org.openhab.binding.bluetooth.bluez.internal.events.BlueZEvent;
 import org.openhab.binding.bluetooth.bluez.internal.events.BlueZEventListener;
 import org.openhab.binding.bluetooth.bluez.internal.events.CharacteristicUpdateEvent;
 import org.openhab.binding.bluetooth.bluez.internal.events.ConnectedEvent;
+import org.openhab.binding.bluetooth.bluez.internal.events.DeviceAddedEvent;
+import org.openhab.binding.bluetooth.bluez.internal.events.DeviceRemovedEvent;
 import org.openhab.binding.bluetooth.bluez.internal.events.ManufacturerDataEvent;
 import org.openhab.binding.bluetooth.bluez.internal.events.NameEvent;
 import org.openhab.binding.bluetooth.bluez.internal.events.RssiEvent;
@@ -51,6 +55,8 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class BlueZPropertiesChangedHandler extends AbstractPropertiesChangedHandler {
 
+    private static final String DEVICE_INTERFACE = "org.bluez.Device1";
+
     private final Logger logger = LoggerFactory.getLogger(BlueZPropertiesChangedHandler.class);
 
     private final Set<BlueZEventListener> listeners = new CopyOnWriteArraySet<>();
@@ -91,44 +97,7 @@ public class BlueZPropertiesChangedHandler extends AbstractPropertiesChangedHand
                 if (key == null || variant == null) {
                     return;
                 }
-                switch (key.toLowerCase()) {
-                    case "rssi":
-                        // Signal Update
-                        onRSSIUpdate(dbusPath, variant);
-                        break;
-                    case "txpower":
-                        // TxPower
-                        onTXPowerUpdate(dbusPath, variant);
-                        break;
-                    case "value":
-                        // Characteristc value updated
-                        onValueUpdate(dbusPath, variant);
-                        break;
-                    case "connected":
-                        onConnectedUpdate(dbusPath, variant);
-                        break;
-                    case "name":
-                        onNameUpdate(dbusPath, variant);
-                        break;
-                    case "alias":
-                        // TODO
-                        break;
-                    case "manufacturerdata":
-                        onManufacturerDataUpdate(dbusPath, variant);
-                        break;
-                    case "servicedata":
-                        onServiceDataUpdate(dbusPath, variant);
-                        break;
-                    case "powered":
-                        onPoweredUpdate(dbusPath, variant);
-                        break;
-                    case "discovering":
-                        onDiscoveringUpdate(dbusPath, variant);
-                        break;
-                    case "servicesresolved":
-                        onServicesResolved(dbusPath, variant);
-                        break;
-                }
+                onPropertyUpdate(dbusPath, key, variant);
             });
 
             logger.debug("PropertiesPath: {}", dbusPath);
@@ -136,6 +105,79 @@ public class BlueZPropertiesChangedHandler extends AbstractPropertiesChangedHand
         });
     }
 
+    /**
+     * Handles the ObjectManager signal of a new bluez object. For a device the initial properties are dispatched as
+     * if they had changed, so that the advertised data of a new device is not lost.
+     */
+    public void handleInterfacesAdded(InterfacesAdded signal) {
+        String dbusPath = signal.getSignalSource().getPath();
+        Map<String, Map<String, Variant<?>>> interfaces = signal.getInterfaces();
+        Map<String, Variant<?>> deviceProperties = interfaces.get(DEVICE_INTERFACE);
+        if (deviceProperties == null) {
+            return;
+        }
+        scheduler.execute(() -> {
+            logger.debug("Device added: {}", dbusPath);
+            notifyListeners(new DeviceAddedEvent(dbusPath));
+            deviceProperties.forEach((key, variant) -> onPropertyUpdate(dbusPath, key, variant));
+        });
+    }
+
+    /**
+     * Handles the ObjectManager signal of a removed bluez object.
+     */
+    public void handleInterfacesRemoved(InterfacesRemoved signal) {
+        String dbusPath = signal.getSignalSource().getPath();
+        if (!signal.getInterfaces().contains(DEVICE_INTERFACE)) {
+            return;
+        }
+        scheduler.execute(() -> {
+            logger.debug("Device removed: {}", dbusPath);
+            notifyListeners(new DeviceRemovedEvent(dbusPath));
+        });
+    }
+
+    private void onPropertyUpdate(String dbusPath, String key, Variant<?> variant) {
+        switch (key.toLowerCase()) {
+            case "rssi":
+                // Signal Update
+                onRSSIUpdate(dbusPath, variant);
+                break;
+            case "txpower":
+                // TxPower
+                onTXPowerUpdate(dbusPath, variant);
+                break;
+            case "value":
+                // Characteristc value updated
+                onValueUpdate(dbusPath, variant);
+                break;
+            case "connected":
+                onConnectedUpdate(dbusPath, variant);
+                break;
+            case "name":
+                onNameUpdate(dbusPath, variant);
+                break;
+            case "alias":
+                // TODO
+                break;
+            case "manufacturerdata":
+                onManufacturerDataUpdate(dbusPath, variant);
+                break;
+            case "servicedata":
+                onServiceDataUpdate(dbusPath, variant);
+                break;
+            case "powered":
+                onPoweredUpdate(dbusPath, variant);
+                break;
+            case "discovering":
+                onDiscoveringUpdate(dbusPath, variant);
+                break;
+            case "servicesresolved":
+                onServicesResolved(dbusPath, variant);
+                break;
+        }
+    }
+
     private void onDiscoveringUpdate(String dbusPath, Variant<?> variant) {
         if (variant.getValue() instanceof Boolean discovered) {
             notifyListeners(new AdapterDiscoveringChangedEvent(dbusPath, discovered));
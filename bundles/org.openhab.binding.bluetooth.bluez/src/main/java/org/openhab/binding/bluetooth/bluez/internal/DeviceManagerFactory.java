@@ -19,7 +19,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.freedesktop.dbus.connections.impl.DBusConnection;
 import org.freedesktop.dbus.exceptions.DBusException;
+import org.freedesktop.dbus.interfaces.ObjectManager.InterfacesAdded;
+import org.freedesktop.dbus.interfaces.ObjectManager.InterfacesRemoved;
 import org.openhab.binding.bluetooth.util.RetryException;
 import org.openhab.binding.bluetooth.util.RetryFuture;
 import org.openhab.core.common.ThreadPoolManager;
@@ -108,7 +111,12 @@ public class DeviceManagerFactory {
                         throw e;
                     }
                 }
-            }, scheduler);
+            }, scheduler).thenApply(devManagerWrapper -> {
+                if (devManager != null) {
+                    registerObjectManagerHandlers(devManager);
+                }
+                return devManagerWrapper;
+            });
         }).whenComplete((devManagerWrapper, th) -> {
             if (th != null) {
                 if (th.getCause() instanceof DBusException) {
@@ -121,6 +129,21 @@ public class DeviceManagerFactory {
         });
     }
 
+    /**
+     * Devices are tracked through the signals of the ObjectManager instead of polling them. The handlers are
+     * registered once, after the property handler, so that a retry does not register them twice.
+     */
+    private void registerObjectManagerHandlers(DeviceManager devManager) {
+        try {
+            DBusConnection connection = devManager.getDbusConnection();
+            connection.addSigHandler(InterfacesAdded.class, changeHandler::handleInterfacesAdded);
+            connection.addSigHandler(InterfacesRemoved.class, changeHandler::handleInterfacesRemoved);
+        } catch (DBusException e) {
+            // the periodic resync of the bridges still finds the devices
+            logger.warn("Failed to register the handlers for added and removed devices: {}", e.getMessage());
+        }
+    }
+
     @Deactivate
     public void dispose() {
         var stage1 = this.deviceManagerFuture;
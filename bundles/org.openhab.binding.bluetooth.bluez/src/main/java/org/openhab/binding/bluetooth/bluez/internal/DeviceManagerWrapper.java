@@ -16,8 +16,11 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
+import org.bluez.Device1;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.freedesktop.dbus.connections.impl.DBusConnection;
+import org.freedesktop.dbus.exceptions.DBusException;
 import org.openhab.binding.bluetooth.BluetoothAddress;
 
 import com.github.hypfvieh.bluetooth.DeviceManager;
@@ -33,6 +36,8 @@ import com.github.hypfvieh.bluetooth.wrapper.BluetoothDevice;
 @NonNullByDefault
 public class DeviceManagerWrapper {
 
+    private static final String BLUEZ_DBUS_SERVICE = "org.bluez";
+
     private @Nullable DeviceManager deviceManager;
 
     public DeviceManagerWrapper(@Nullable DeviceManager deviceManager) {
@@ -73,4 +78,26 @@ public class DeviceManagerWrapper {
             return List.of();
         }
     }
+
+    /**
+     * Creates the wrapper of a device object without enumerating all devices of the adapter.
+     *
+     * @param adapter the adapter the device belongs to
+     * @param address the address of the device
+     * @return the device, or null if the object could not be created
+     */
+    public synchronized @Nullable BluetoothDevice getDevice(BluetoothAdapter adapter, BluetoothAddress address) {
+        DeviceManager devMgr = deviceManager;
+        if (devMgr == null) {
+            return null;
+        }
+        String dbusPath = adapter.getDbusPath() + "/dev_" + address.toString().replace(':', '_');
+        DBusConnection connection = devMgr.getDbusConnection();
+        try {
+            Device1 device = connection.getRemoteObject(BLUEZ_DBUS_SERVICE, dbusPath, Device1.class);
+            return new BluetoothDevice(device, adapter, dbusPath, connection);
+        } catch (DBusException e) {
+            return null;
+        }
+    }
 }
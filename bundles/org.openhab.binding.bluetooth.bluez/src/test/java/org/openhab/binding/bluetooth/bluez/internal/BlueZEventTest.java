@@ -14,11 +14,16 @@ package org.openhab.binding.bluetooth.bluez.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
 import org.openhab.binding.bluetooth.BluetoothAddress;
 import org.openhab.binding.bluetooth.bluez.internal.events.BlueZEvent;
 import org.openhab.binding.bluetooth.bluez.internal.events.BlueZEventListener;
+import org.openhab.binding.bluetooth.bluez.internal.events.DeviceAddedEvent;
+import org.openhab.binding.bluetooth.bluez.internal.events.DeviceRemovedEvent;
 
 /**
  *
@@ -77,6 +82,20 @@ public class BlueZEventTest {
         assertNull(event.getDevice());
     }
 
+    @Test
+    public void testDeviceAddedEventFallsBackToGenericHandler() {
+        List<BlueZEvent> events = new ArrayList<>();
+        BlueZEventListener listener = events::add;
+
+        new DeviceAddedEvent("/org/bluez/hci0/dev_00_CC_3F_B2_7E_60").dispatch(listener);
+        new DeviceRemovedEvent("/org/bluez/hci0/dev_00_CC_3F_B2_7E_60").dispatch(listener);
+
+        assertEquals(2, events.size());
+        assertInstanceOf(DeviceAddedEvent.class, events.get(0));
+        assertInstanceOf(DeviceRemovedEvent.class, events.get(1));
+        assertEquals(new BluetoothAddress("00:CC:3F:B2:7E:60"), events.get(1).getDevice());
+    }
+
     private static class DummyBlueZEvent extends BlueZEvent {
 
         public DummyBlueZEvent(String dbusPath) {
@@ -12,6 +12,7 @@
  */
 package org.openhab.binding.bluetooth;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Map;
 import java.util.Objects;
@@ -24,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.bluetooth.BluetoothDevice.ConnectionState;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -35,7 +37,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This is an abstract superclass for BluetoothAdapter implementations. This class takes care of inactive device cleanup
- * as well as handling background and active discovery logic.
+ * as well as handling background and active discovery logic. The scan records of its devices are passed through an
+ * {@link AdvertisementPipeline}.
  *
  * Subclasses will primarily be responsible for device discovery
  *
@@ -45,6 +48,8 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDevice> extends BaseBridgeHandler
         implements BluetoothAdapter {
 
+    private static final String ADVERTISEMENT_POOL_NAME = "bluetooth-advertisements";
+
     private final Logger logger = LoggerFactory.getLogger(AbstractBluetoothBridgeHandler.class);
 
     // Set of discovery listeners
@@ -61,6 +66,8 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     private @Nullable ScheduledFuture<?> inactiveRemovalJob;
 
+    private volatile @Nullable AdvertisementPipeline advertisementPipeline;
+
     /**
      * Constructor
      *
@@ -88,6 +95,9 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     @Override
     public void initialize() {
         config = getConfigAs(BaseBluetoothBridgeHandlerConfiguration.class);
+        advertisementPipeline = new AdvertisementPipeline(ThreadPoolManager.getPool(ADVERTISEMENT_POOL_NAME),
+                config.listenerQueueSize, Duration.ofSeconds(config.advertisementDuplicateWindow),
+                config.rssiSmoothing);
 
         int intervalSecs = config.inactiveDeviceCleanupInterval;
         inactiveRemovalJob = scheduler.scheduleWithFixedDelay(this::removeInactiveDevices, intervalSecs, intervalSecs,
@@ -101,6 +111,11 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
             inactiveRemovalJob.cancel(true);
         }
         this.inactiveRemovalJob = null;
+        AdvertisementPipeline pipeline = advertisementPipeline;
+        if (pipeline != null) {
+            pipeline.close();
+        }
+        advertisementPipeline = null;
 
         synchronized (devices) {
             for (BD device : devices.values()) {
@@ -113,7 +128,20 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     public void handleCommand(ChannelUID channelUID, Command command) {
     }
 
+    /**
+     * Returns the pipeline the scan records of the devices pass before they are delivered to their listeners.
+     *
+     * @return the pipeline, or null if the bridge is not initialized
+     */
+    public @Nullable AdvertisementPipeline getAdvertisementPipeline() {
+        return advertisementPipeline;
+    }
+
     private void removeInactiveDevices() {
+        AdvertisementPipeline pipeline = advertisementPipeline;
+        if (pipeline != null) {
+            logger.debug("Scan records of '{}': {}", getThing().getUID(), pipeline);
+        }
         // clean up orphaned entries
         synchronized (devices) {
             for (BD device : devices.values()) {
@@ -130,6 +158,10 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
         synchronized (devices) {
             devices.remove(device.getAddress());
         }
+        AdvertisementPipeline pipeline = advertisementPipeline;
+        if (pipeline != null) {
+            pipeline.remove(device.getAddress());
+        }
         discoveryListeners.forEach(listener -> listener.deviceRemoved(device));
     }
 
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link AdvertisementPipeline} sits between the scan records a bridge receives and the listeners of its devices.
+ *
+ * Scan records with the same manufacturer data, service data and name as the last record of a device which was queued
+ * for delivery are dropped for the duplicate window, only their RSSI is used. RSSI updates are smoothed and coalesced,
+ * a device never has more than one RSSI update waiting for delivery. The records are delivered in order by a single
+ * task of the given executor through a bounded queue, so a slow listener can not block the adapter. Records which do
+ * not fit into the queue are dropped and counted.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AdvertisementPipeline {
+
+    static final double MAX_RSSI_SMOOTHING = 0.95;
+
+    private final Logger logger = LoggerFactory.getLogger(AdvertisementPipeline.class);
+
+    private final Executor executor;
+    private final BlockingQueue<Runnable> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+    private final Map<BluetoothAddress, DeviceState> states = new ConcurrentHashMap<>();
+    private final long duplicateWindowNanos;
+    private final double rssiSmoothing;
+    private final LongSupplier clock;
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+
+    /**
+     * @param executor runs the delivery to the listeners
+     * @param queueSize maximum number of records waiting for delivery
+     * @param duplicateWindow time during which identical data of a device is dropped, zero to deliver all records
+     * @param rssiSmoothing weight of the previous RSSI in the reported value, from 0 (no smoothing) to
+     *            {@value #MAX_RSSI_SMOOTHING}
+     */
+    public AdvertisementPipeline(Executor executor, int queueSize, Duration duplicateWindow, double rssiSmoothing) {
+        this(executor, queueSize, duplicateWindow, rssiSmoothing, System::nanoTime);
+    }
+
+    AdvertisementPipeline(Executor executor, int queueSize, Duration duplicateWindow, double rssiSmoothing,
+            LongSupplier clock) {
+        this.executor = executor;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        this.duplicateWindowNanos = duplicateWindow.toNanos();
+        this.rssiSmoothing = Math.max(0, Math.min(MAX_RSSI_SMOOTHING, rssiSmoothing));
+        this.clock = clock;
+    }
+
+    /**
+     * Filters a scan record of a device and queues it for delivery.
+     *
+     * @param address the address of the device
+     * @param notification the scan record
+     * @param listeners delivers the record to the listeners of the device
+     */
+    public void submit(BluetoothAddress address, BluetoothScanNotification notification,
+            Consumer<BluetoothScanNotification> listeners) {
+        if (closed) {
+            return;
+        }
+        received.increment();
+        DeviceState state = states.computeIfAbsent(address, a -> new DeviceState());
+        int rssi = notification.getRssi();
+        synchronized (state) {
+            if (rssi != Integer.MIN_VALUE) {
+                state.smooth(rssi, rssiSmoothing);
+            }
+            if (hasData(notification)) {
+                long now = clock.getAsLong();
+                if (!state.isDuplicate(notification, now, duplicateWindowNanos)) {
+                    // a record which did not fit into the queue must not hide the same data for the duplicate window
+                    if (enqueue(() -> listeners.accept(rssi == Integer.MIN_VALUE ? notification
+                            : state.withCurrentRssi(notification)))) {
+                        state.remember(notification, now);
+                    }
+                    return;
+                }
+                duplicates.increment();
+                if (rssi == Integer.MIN_VALUE) {
+                    return;
+                }
+            } else if (rssi == Integer.MIN_VALUE) {
+                enqueue(() -> listeners.accept(notification));
+                return;
+            }
+            if (state.rssiPending) {
+                coalesced.increment();
+                return;
+            }
+            state.rssiPending = true;
+            if (!enqueue(() -> listeners.accept(state.takeRssiNotification()))) {
+                state.rssiPending = false;
+            }
+        }
+    }
+
+    /**
+     * Forgets the state of a device which has been removed.
+     */
+    public void remove(BluetoothAddress address) {
+        states.remove(address);
+    }
+
+    /**
+     * Drops the records waiting for delivery and stops delivering. Records submitted afterwards are ignored.
+     */
+    public void close() {
+        closed = true;
+        queue.clear();
+        states.clear();
+    }
+
+    private static boolean hasData(BluetoothScanNotification notification) {
+        return notification.getManufacturerData().length > 0 || !notification.getServiceData().isEmpty()
+                || notification.getData().length > 0 || !notification.getDeviceName().isEmpty();
+    }
+
+    private boolean enqueue(Runnable delivery) {
+        if (!queue.offer(delivery)) {
+            overflows.increment();
+            logger.trace("Listener queue is full, dropping a scan record");
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        Runnable delivery;
+        while (!closed && (delivery = queue.poll()) != null) {
+            try {
+                delivery.run();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to deliver a scan record: {}", e.getMessage(), e);
+            }
+            delivered.increment();
+        }
+        draining.set(false);
+        // a record might have been queued after the last poll but before draining was reset
+        if (!closed && !queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    public long getReceived() {
+        return received.sum();
+    }
+
+    public long getDuplicates() {
+        return duplicates.sum();
+    }
+
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    public long getOverflows() {
+        return overflows.sum();
+    }
+
+    public long getDelivered() {
+        return delivered.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "received=" + getReceived() + ", duplicates=" + getDuplicates() + ", coalesced=" + getCoalesced()
+                + ", overflows=" + getOverflows() + ", delivered=" + getDelivered() + ", queued=" + queue.size();
+    }
+
+    /**
+     * The data last queued for delivery and the smoothed RSSI of a device.
+     */
+    private static class DeviceState {
+        private byte[] data = new byte[0];
+        private byte[] manufacturerData = new byte[0];
+        private Map<String, byte[]> serviceData = Map.of();
+        private String name = "";
+        private long dataNanos;
+        private double rssi = Double.NaN;
+        private boolean rssiPending;
+
+        void smooth(int value, double smoothing) {
+            rssi = Double.isNaN(rssi) ? value : smoothing * rssi + (1 - smoothing) * value;
+        }
+
+        int getRssi() {
+            return (int) Math.round(rssi);
+        }
+
+        /**
+         * Checks if every kind of data in the record equals the data of that kind last queued for delivery. Bridges
+         * may report each kind of data in a record of its own.
+         */
+        boolean isDuplicate(BluetoothScanNotification notification, long now, long windowNanos) {
+            if (now - dataNanos >= windowNanos) {
+                return false;
+            }
+            if (notification.getData().length > 0 && !Arrays.equals(data, notification.getData())) {
+                return false;
+            }
+            if (notification.getManufacturerData().length > 0
+                    && !Arrays.equals(manufacturerData, notification.getManufacturerData())) {
+                return false;
+            }
+            if (!notification.getServiceData().isEmpty()
+                    && !sameServiceData(serviceData, notification.getServiceData())) {
+                return false;
+            }
+            return notification.getDeviceName().isEmpty() || name.equals(notification.getDeviceName());
+        }
+
+        /**
+         * Remembers the data of a record which has been queued for delivery.
+         */
+        void remember(BluetoothScanNotification notification, long now) {
+            if (notification.getData().length > 0) {
+                data = notification.getData();
+            }
+            if (notification.getManufacturerData().length > 0) {
+                manufacturerData = notification.getManufacturerData();
+            }
+            if (!notification.getServiceData().isEmpty()) {
+                serviceData = notification.getServiceData();
+            }
+            if (!notification.getDeviceName().isEmpty()) {
+                name = notification.getDeviceName();
+            }
+            dataNanos = now;
+        }
+
+        private static boolean sameServiceData(Map<String, byte[]> a, Map<String, byte[]> b) {
+            if (a.size() != b.size()) {
+                return false;
+            }
+            for (Map.Entry<String, byte[]> entry : a.entrySet()) {
+                if (!Arrays.equals(entry.getValue(), b.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Sets the RSSI of a record to the value at the time of delivery, a newer RSSI might have been coalesced.
+         */
+        synchronized BluetoothScanNotification withCurrentRssi(BluetoothScanNotification notification) {
+            notification.setRssi(getRssi());
+            return notification;
+        }
+
+        synchronized BluetoothScanNotification takeRssiNotification() {
+            rssiPending = false;
+            BluetoothScanNotification notification = new BluetoothScanNotification();
+            notification.setRssi(getRssi());
+            return notification;
+        }
+    }
+}
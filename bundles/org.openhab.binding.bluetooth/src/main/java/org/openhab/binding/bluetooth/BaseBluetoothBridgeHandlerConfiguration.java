@@ -26,4 +26,7 @@ public class BaseBluetoothBridgeHandlerConfiguration {
     public boolean backgroundDiscovery = false;
     public int inactiveDeviceCleanupInterval = 60;
     public int inactiveDeviceCleanupThreshold = 300;
+    public int advertisementDuplicateWindow = 5;
+    public double rssiSmoothing = 0;
+    public int listenerQueueSize = 1000;
 }
@@ -26,6 +26,7 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -340,6 +341,16 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
             default:
                 break;
         }
+        if (event == BluetoothEventType.SCAN_RECORD && args.length > 0
+                && args[0] instanceof BluetoothScanNotification notification
+                && adapter instanceof AbstractBluetoothBridgeHandler<?> bridge) {
+            // scan records are filtered and delivered asynchronously so the adapter is not slowed down by listeners
+            AdvertisementPipeline pipeline = bridge.getAdvertisementPipeline();
+            if (pipeline != null) {
+                pipeline.submit(address, notification, record -> super.notifyListeners(event, record));
+                return;
+            }
+        }
         super.notifyListeners(event, args);
     }
 
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * Tests {@link AdvertisementPipeline}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AdvertisementPipelineTest {
+
+    private static final BluetoothAddress ADDRESS = new BluetoothAddress("12:34:56:78:9A:BC");
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<BluetoothScanNotification> delivered = new ArrayList<>();
+    private long now;
+
+    private AdvertisementPipeline createPipeline(int queueSize, double rssiSmoothing) {
+        return new AdvertisementPipeline(tasks::add, queueSize, Duration.ofSeconds(5), rssiSmoothing, () -> now);
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static BluetoothScanNotification manufacturerData(int rssi, byte... data) {
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setRssi(rssi);
+        notification.setManufacturerData(data);
+        return notification;
+    }
+
+    private static BluetoothScanNotification rssi(int rssi) {
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setRssi(rssi);
+        return notification;
+    }
+
+    @Test
+    public void dropsUnchangedDataWithinWindow() {
+        AdvertisementPipeline pipeline = createPipeline(100, 0);
+
+        pipeline.submit(ADDRESS, manufacturerData(Integer.MIN_VALUE, (byte) 1, (byte) 2), delivered::add);
+        pipeline.submit(ADDRESS, manufacturerData(Integer.MIN_VALUE, (byte) 1, (byte) 2), delivered::add);
+        pipeline.submit(ADDRESS, manufacturerData(Integer.MIN_VALUE, (byte) 1, (byte) 3), delivered::add);
+        now += TimeUnit.SECONDS.toNanos(6);
+        pipeline.submit(ADDRESS, manufacturerData(Integer.MIN_VALUE, (byte) 1, (byte) 3), delivered::add);
+        runTasks();
+
+        assertEquals(3, delivered.size());
+        assertEquals(1, pipeline.getDuplicates());
+        assertEquals(3, pipeline.getDelivered());
+    }
+
+    @Test
+    public void coalescesPendingRssiUpdates() {
+        AdvertisementPipeline pipeline = createPipeline(100, 0);
+
+        pipeline.submit(ADDRESS, rssi(-70), delivered::add);
+        pipeline.submit(ADDRESS, rssi(-60), delivered::add);
+        // a duplicate advertisement only updates the RSSI
+        pipeline.submit(ADDRESS, manufacturerData(-80, (byte) 1), delivered::add);
+        pipeline.submit(ADDRESS, manufacturerData(-50, (byte) 1), delivered::add);
+        runTasks();
+
+        // the pending RSSI update and the advertisement report the latest RSSI
+        assertEquals(2, delivered.size());
+        assertEquals(-50, delivered.get(0).getRssi());
+        assertEquals(0, delivered.get(0).getManufacturerData().length);
+        assertEquals(-50, delivered.get(1).getRssi());
+        assertEquals(1, delivered.get(1).getManufacturerData().length);
+        assertEquals(2, pipeline.getCoalesced());
+        assertEquals(1, pipeline.getDuplicates());
+    }
+
+    @Test
+    public void smoothsRssi() {
+        AdvertisementPipeline pipeline = createPipeline(100, 0.5);
+
+        pipeline.submit(ADDRESS, rssi(-80), delivered::add);
+        runTasks();
+        pipeline.submit(ADDRESS, rssi(-60), delivered::add);
+        runTasks();
+
+        assertEquals(-80, delivered.get(0).getRssi());
+        assertEquals(-70, delivered.get(1).getRssi());
+    }
+
+    @Test
+    public void limitsRssiSmoothing() {
+        AdvertisementPipeline pipeline = createPipeline(100, 1);
+
+        pipeline.submit(ADDRESS, rssi(-80), delivered::add);
+        runTasks();
+        pipeline.submit(ADDRESS, rssi(-60), delivered::add);
+        runTasks();
+
+        // a weight of 1 would never change the RSSI, the weight is limited to 0.95
+        assertEquals(-79, delivered.get(1).getRssi());
+    }
+
+    @Test
+    public void dropsRecordsWhenQueueIsFull() {
+        AdvertisementPipeline pipeline = createPipeline(2, 0);
+
+        for (byte i = 0; i < 5; i++) {
+            pipeline.submit(ADDRESS, manufacturerData(Integer.MIN_VALUE, i), delivered::add);
+        }
+        runTasks();
+
+        assertEquals(2, delivered.size());
+        assertEquals(3, pipeline.getOverflows());
+    }
+
+    @Test
+    public void recordDroppedByFullQueueIsNotADuplicate() {
+        AdvertisementPipeline pipeline = createPipeline(1, 0);
+
+        pipeline.submit(ADDRESS, manufacturerData(Integer.MIN_VALUE, (byte) 1), delivered::add);
+        pipeline.submit(ADDRESS, manufacturerData(Integer.MIN_VALUE, (byte) 2), delivered::add);
+        runTasks();
+        // the changed data did not fit into the queue, so it is delivered when it is received again
+        pipeline.submit(ADDRESS, manufacturerData(Integer.MIN_VALUE, (byte) 2), delivered::add);
+        runTasks();
+
+        assertEquals(2, delivered.size());
+        assertEquals(2, delivered.get(1).getManufacturerData()[0]);
+        assertEquals(1, pipeline.getOverflows());
+        assertEquals(0, pipeline.getDuplicates());
+    }
+
+    @Test
+    public void closeDropsQueuedRecords() {
+        AdvertisementPipeline pipeline = createPipeline(100, 0);
+
+        pipeline.submit(ADDRESS, manufacturerData(Integer.MIN_VALUE, (byte) 1), delivered::add);
+        pipeline.close();
+        pipeline.submit(ADDRESS, manufacturerData(Integer.MIN_VALUE, (byte) 2), delivered::add);
+        runTasks();
+
+        assertEquals(0, delivered.size());
+        assertEquals(0, pipeline.getDelivered());
+    }
+}
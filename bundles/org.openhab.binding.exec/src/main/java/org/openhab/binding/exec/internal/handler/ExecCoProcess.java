@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.exec.internal.handler;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ExecCoProcess} keeps a command running and exchanges lines with it, instead of starting a new process
+ * for every execution.
+ *
+ * Every execution writes the input as one line to stdin of the process. The response is the next line on stdout or,
+ * if a terminator is configured, all lines up to the next line equal to the terminator. The process is started on
+ * the first execution and started again on the next execution after it died or did not answer in time, until it is
+ * closed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ExecCoProcess {
+    // marks the end of stdout in the line queue, a line read never contains a line break
+    private static final String END_OF_STREAM = "\n";
+
+    private final Logger logger = LoggerFactory.getLogger(ExecCoProcess.class);
+
+    private final String[] cmdArray;
+    private final String terminator;
+    private final String threadName;
+
+    private @Nullable Process process;
+    private @Nullable BufferedWriter stdin;
+    private BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+    private volatile boolean closed;
+
+    private long starts;
+    private long executions;
+    private long failures;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * @param cmdArray the command and its arguments
+     * @param terminator the line which ends a response, empty if every response is a single line
+     * @param threadName name of the threads reading the output of the process
+     */
+    public ExecCoProcess(String[] cmdArray, String terminator, String threadName) {
+        this.cmdArray = cmdArray;
+        this.terminator = terminator;
+        this.threadName = threadName;
+    }
+
+    /**
+     * Passes an input to the process and waits for its response.
+     *
+     * @param input the input, line breaks are replaced by spaces
+     * @param timeoutMillis the time to wait for the complete response
+     * @return the response, the lines are separated by line breaks
+     * @throws IOException if the process could not be started, exited, closed stdin or has been closed
+     * @throws TimeoutException if the response was not complete in time, the process is stopped
+     * @throws InterruptedException if interrupted while waiting for the response
+     */
+    public synchronized String execute(String input, long timeoutMillis)
+            throws IOException, TimeoutException, InterruptedException {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            if (closed) {
+                throw new IOException("The process has been closed");
+            }
+            BufferedWriter writer = stdin;
+            Process localProcess = process;
+            if (writer == null || localProcess == null || !localProcess.isAlive()) {
+                localProcess = start();
+                writer = stdin;
+            }
+            // lines written after the end of the last response do not belong to this execution
+            lines.removeIf(line -> !END_OF_STREAM.equals(line));
+            if (writer == null) {
+                throw new IOException("stdin of the process is not available");
+            }
+            writer.write(input.replace('\r', ' ').replace('\n', ' '));
+            writer.newLine();
+            writer.flush();
+
+            String response = readResponse(localProcess, start + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+            success = true;
+            return response;
+        } catch (IOException | TimeoutException e) {
+            stop();
+            throw e;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            executions++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            if (!success) {
+                failures++;
+            }
+            logger.debug("Execution of '{}' took {} ms", Arrays.asList(cmdArray), TimeUnit.NANOSECONDS.toMillis(nanos));
+        }
+    }
+
+    private String readResponse(Process localProcess, long deadline)
+            throws IOException, TimeoutException, InterruptedException {
+        StringBuilder response = new StringBuilder();
+        while (true) {
+            String line = lines.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (line == null) {
+                throw new TimeoutException("No complete response within the timeout");
+            } else if (END_OF_STREAM.equals(line)) {
+                int exitValue = localProcess.waitFor(1, TimeUnit.SECONDS) ? localProcess.exitValue() : -1;
+                throw new IOException("Process exited with value " + exitValue);
+            } else if (terminator.isEmpty()) {
+                return line;
+            } else if (terminator.equals(line)) {
+                return response.toString();
+            }
+            if (!response.isEmpty()) {
+                response.append("\n");
+            }
+            response.append(line);
+        }
+    }
+
+    private Process start() throws IOException {
+        stop();
+        if (starts > 0) {
+            logger.info("Restarting '{}'", Arrays.asList(cmdArray));
+        }
+        starts++;
+        Process localProcess = new ProcessBuilder(cmdArray).start();
+        BlockingQueue<String> localLines = new LinkedBlockingQueue<>();
+        startReader(localProcess.getInputStream(), "stdout", line -> localLines.add(line),
+                () -> localLines.add(END_OF_STREAM));
+        startReader(localProcess.getErrorStream(), "stderr", line -> logger.debug("Exec [{}]: '{}'", "ERROR", line),
+                () -> {
+                });
+        process = localProcess;
+        lines = localLines;
+        stdin = new BufferedWriter(new OutputStreamWriter(localProcess.getOutputStream(), Charset.defaultCharset()));
+        return localProcess;
+    }
+
+    private void startReader(InputStream stream, String name, Consumer<String> lineConsumer, Runnable onEnd) {
+        Thread thread = new Thread(() -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, Charset.defaultCharset()))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineConsumer.accept(line);
+                }
+            } catch (IOException e) {
+                logger.trace("Reading {} of '{}' failed: {}", name, Arrays.asList(cmdArray), e.getMessage());
+            } finally {
+                onEnd.run();
+            }
+        }, threadName + "-" + name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the process. The next execution starts it again.
+     */
+    public synchronized void stop() {
+        BufferedWriter writer = stdin;
+        stdin = null;
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.trace("Closing stdin of '{}' failed: {}", Arrays.asList(cmdArray), e.getMessage());
+            }
+        }
+        Process localProcess = process;
+        process = null;
+        if (localProcess != null && localProcess.isAlive()) {
+            localProcess.destroy();
+            try {
+                if (!localProcess.waitFor(1, TimeUnit.SECONDS)) {
+                    localProcess.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                localProcess.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Stops the process for good. Executions afterwards fail instead of starting the process again.
+     */
+    public void close() {
+        closed = true;
+        stop();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "starts=" + starts + ", executions=" + executions + ", failures=" + failures + ", averageLatency="
+                + (executions == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos / executions)) + " ms, maxLatency="
+                + TimeUnit.NANOSECONDS.toMillis(maxNanos) + " ms";
+    }
+}
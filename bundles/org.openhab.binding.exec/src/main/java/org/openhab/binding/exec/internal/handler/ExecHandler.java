@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -80,9 +81,14 @@ public class ExecHandler extends BaseThingHandler {
     public static final String COMMAND = "command";
     public static final String TRANSFORM = "transform";
     public static final String AUTORUN = "autorun";
+    public static final String PERSISTENT = "persistent";
+    public static final String TERMINATOR = "terminator";
 
     private @Nullable ScheduledFuture<?> executionJob;
     private @Nullable String lastInput;
+    private @Nullable ExecCoProcess coProcess;
+    private boolean disposed;
+    private final Object coProcessLock = new Object();
 
     private static Runtime rt = Runtime.getRuntime();
 
@@ -141,6 +147,18 @@ public class ExecHandler extends BaseThingHandler {
             executionJob.cancel(true);
             executionJob = null;
         }
+        ExecCoProcess localCoProcess;
+        synchronized (coProcessLock) {
+            // an execution which is still running must not create a new process
+            disposed = true;
+            localCoProcess = coProcess;
+            coProcess = null;
+        }
+        if (localCoProcess != null) {
+            localCoProcess.close();
+            logger.debug("Statistics of the persistent process of thing '{}': {}", getThing().getUID(),
+                    localCoProcess);
+        }
         channelTransformation = null;
     }
 
@@ -159,6 +177,11 @@ public class ExecHandler extends BaseThingHandler {
         if (commandLine != null && !commandLine.isEmpty()) {
             updateState(RUN, OnOffType.ON);
 
+            if (Boolean.TRUE.equals(getConfig().get(PERSISTENT))) {
+                executePersistent(commandLine, timeOut);
+                return;
+            }
+
             // For some obscure reason, when using Apache Common Exec, or using a straight implementation of
             // Runtime.Exec(), on Mac OS X (Yosemite and El Capitan), there seems to be a lock race condition
             // randomly appearing (on UNIXProcess) *when* one tries to gobble up the stdout and sterr output of the
@@ -184,52 +207,14 @@ public class ExecHandler extends BaseThingHandler {
                 return;
             }
 
-            String[] cmdArray;
-            String[] shell;
-            if (commandLine.contains(CMD_LINE_DELIMITER)) {
-                logger.debug("Splitting by '{}'", CMD_LINE_DELIMITER);
-                try {
-                    cmdArray = commandLine.split(CMD_LINE_DELIMITER);
-                } catch (PatternSyntaxException e) {
-                    logger.warn("An exception occurred while splitting '{}' : '{}'", commandLine, e.getMessage());
-                    updateState(RUN, OnOffType.OFF);
-                    updateState(OUTPUT, new StringType(e.getMessage()));
-                    return;
-                }
-            } else {
-                // Invoke shell with 'c' option and pass string
-                logger.debug("Passing to shell for parsing command.");
-                switch (getOperatingSystemType()) {
-                    case WINDOWS:
-                        shell = SHELL_WINDOWS;
-                        logger.debug("OS: WINDOWS ({})", getOperatingSystemName());
-                        cmdArray = createCmdArray(shell, "/c", commandLine);
-                        break;
-                    case LINUX:
-                    case MAC:
-                    case BSD:
-                    case SOLARIS:
-                        // assume sh is present, should all be POSIX-compliant
-                        shell = SHELL_NIX;
-                        logger.debug("OS: *NIX ({})", getOperatingSystemName());
-                        cmdArray = createCmdArray(shell, "-c", commandLine);
-                        break;
-                    default:
-                        logger.debug("OS: Unknown ({})", getOperatingSystemName());
-                        logger.warn("OS {} not supported, please manually split commands!", getOperatingSystemName());
-                        updateState(RUN, OnOffType.OFF);
-                        updateState(OUTPUT, new StringType("OS not supported, please manually split commands!"));
-                        return;
-                }
-            }
-
-            if (cmdArray.length == 0) {
-                logger.trace("Empty command received, not executing");
+            String[] cmdArray = toCmdArray(commandLine);
+            if (cmdArray == null) {
                 return;
             }
 
             logger.trace("The command to be executed will be '{}'", Arrays.asList(cmdArray));
 
+            long start = System.nanoTime();
             Process proc;
             try {
                 proc = rt.exec(cmdArray);
@@ -281,6 +266,9 @@ public class ExecHandler extends BaseThingHandler {
                 proc.destroyForcibly();
             }
 
+            logger.debug("Execution of '{}' took {} ms", Arrays.asList(cmdArray),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
             updateState(RUN, OnOffType.OFF);
             updateState(EXIT, new DecimalType(proc.exitValue()));
 
@@ -299,6 +287,106 @@ public class ExecHandler extends BaseThingHandler {
         }
     }
 
+    private void executePersistent(String commandLine, int timeOut) {
+        ExecCoProcess localCoProcess;
+        synchronized (coProcessLock) {
+            // executions of the polling job and of commands may run concurrently, only one of them creates the process
+            if (disposed) {
+                logger.debug("Not executing '{}', the thing '{}' has been disposed", commandLine, getThing().getUID());
+                return;
+            }
+            localCoProcess = coProcess;
+            if (localCoProcess == null) {
+                // the process is started once, so the command line is not formatted with the date and the input
+                String[] cmdArray = toCmdArray(commandLine);
+                if (cmdArray == null) {
+                    return;
+                }
+                logger.trace("The command to be kept running will be '{}'", Arrays.asList(cmdArray));
+                String terminator = (String) getConfig().get(TERMINATOR);
+                localCoProcess = new ExecCoProcess(cmdArray, terminator == null ? "" : terminator,
+                        "OH-binding-" + getThing().getUID());
+                coProcess = localCoProcess;
+            }
+        }
+
+        String input = lastInput;
+        String response;
+        try {
+            response = localCoProcess.execute(input == null ? "" : input, timeOut);
+        } catch (IOException | TimeoutException e) {
+            logger.warn("An exception occurred while executing '{}' in the persistent process : '{}'", commandLine,
+                    e.getMessage());
+            updateState(RUN, OnOffType.OFF);
+            updateState(OUTPUT, new StringType(e.getMessage()));
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            updateState(RUN, OnOffType.OFF);
+            return;
+        }
+
+        updateState(RUN, OnOffType.OFF);
+        if (channelTransformation != null) {
+            response = channelTransformation.apply(response).orElse(response);
+        }
+        updateState(OUTPUT, new StringType(response));
+        updateState(LAST_EXECUTION, new DateTimeType());
+    }
+
+    /**
+     * Splits the command line into the command and its arguments, or passes it to the shell.
+     *
+     * @param commandLine the formatted command line
+     * @return the command array, or {@code null} if the command can not be executed
+     */
+    private String @Nullable [] toCmdArray(String commandLine) {
+        String[] cmdArray;
+        String[] shell;
+        if (commandLine.contains(CMD_LINE_DELIMITER)) {
+            logger.debug("Splitting by '{}'", CMD_LINE_DELIMITER);
+            try {
+                cmdArray = commandLine.split(CMD_LINE_DELIMITER);
+            } catch (PatternSyntaxException e) {
+                logger.warn("An exception occurred while splitting '{}' : '{}'", commandLine, e.getMessage());
+                updateState(RUN, OnOffType.OFF);
+                updateState(OUTPUT, new StringType(e.getMessage()));
+                return null;
+            }
+        } else {
+            // Invoke shell with 'c' option and pass string
+            logger.debug("Passing to shell for parsing command.");
+            switch (getOperatingSystemType()) {
+                case WINDOWS:
+                    shell = SHELL_WINDOWS;
+                    logger.debug("OS: WINDOWS ({})", getOperatingSystemName());
+                    cmdArray = createCmdArray(shell, "/c", commandLine);
+                    break;
+                case LINUX:
+                case MAC:
+                case BSD:
+                case SOLARIS:
+                    // assume sh is present, should all be POSIX-compliant
+                    shell = SHELL_NIX;
+                    logger.debug("OS: *NIX ({})", getOperatingSystemName());
+                    cmdArray = createCmdArray(shell, "-c", commandLine);
+                    break;
+                default:
+                    logger.debug("OS: Unknown ({})", getOperatingSystemName());
+                    logger.warn("OS {} not supported, please manually split commands!", getOperatingSystemName());
+                    updateState(RUN, OnOffType.OFF);
+                    updateState(OUTPUT, new StringType("OS not supported, please manually split commands!"));
+                    return null;
+            }
+        }
+
+        if (cmdArray.length == 0) {
+            logger.trace("Empty command received, not executing");
+            return null;
+        }
+        return cmdArray;
+    }
+
     /**
      * Transforms the command string into an array.
      * Either invokes the shell and passes using the "c" option
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.exec.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+/**
+ * Tests {@link ExecCoProcess} with processes started by {@code cat} and {@code sh}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@DisabledOnOs(OS.WINDOWS)
+public class ExecCoProcessTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private @Nullable ExecCoProcess coProcess;
+
+    private ExecCoProcess createCoProcess(String terminator, String... cmdArray) {
+        ExecCoProcess localCoProcess = new ExecCoProcess(cmdArray, terminator, "exec-test");
+        coProcess = localCoProcess;
+        return localCoProcess;
+    }
+
+    private ExecCoProcess createShell(String terminator, String script) {
+        return createCoProcess(terminator, "sh", "-c", script);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ExecCoProcess localCoProcess = coProcess;
+        if (localCoProcess != null) {
+            localCoProcess.stop();
+        }
+    }
+
+    @Test
+    public void everyExecutionReadsOneLine() throws Exception {
+        ExecCoProcess localCoProcess = createCoProcess("", "cat");
+
+        assertEquals("first", localCoProcess.execute("first", TIMEOUT_MILLIS));
+        assertEquals("second", localCoProcess.execute("second", TIMEOUT_MILLIS));
+        // the process is started once for all executions
+        assertTrue(localCoProcess.toString().startsWith("starts=1, executions=2, failures=0"));
+    }
+
+    @Test
+    public void lineBreaksOfTheInputAreReplaced() throws Exception {
+        ExecCoProcess localCoProcess = createCoProcess("", "cat");
+
+        assertEquals("a b c", localCoProcess.execute("a\nb\rc", TIMEOUT_MILLIS));
+        assertEquals("next", localCoProcess.execute("next", TIMEOUT_MILLIS));
+    }
+
+    @Test
+    public void responseEndsWithTerminator() throws Exception {
+        ExecCoProcess localCoProcess = createShell("END",
+                "while read line; do echo \"$line\"; echo \"$line $line\"; echo END; done");
+
+        assertEquals("x\nx x", localCoProcess.execute("x", TIMEOUT_MILLIS));
+        assertEquals("y\ny y", localCoProcess.execute("y", TIMEOUT_MILLIS));
+    }
+
+    @Test
+    public void emptyResponseBeforeTerminator() throws Exception {
+        ExecCoProcess localCoProcess = createShell("END", "while read line; do echo END; done");
+
+        assertEquals("", localCoProcess.execute("x", TIMEOUT_MILLIS));
+    }
+
+    @Test
+    public void timeoutRestartsTheProcess() throws Exception {
+        ExecCoProcess localCoProcess = createShell("",
+                "while read line; do if [ \"$line\" = wait ]; then sleep 10; else echo \"$line\"; fi; done");
+
+        assertThrows(TimeoutException.class, () -> localCoProcess.execute("wait", 200));
+        // the process which did not answer was stopped, the next execution starts a new one
+        assertEquals("hello", localCoProcess.execute("hello", TIMEOUT_MILLIS));
+        assertTrue(localCoProcess.toString().startsWith("starts=2, executions=2, failures=1"));
+    }
+
+    @Test
+    public void exitOfTheProcessFailsTheExecution() throws Exception {
+        ExecCoProcess localCoProcess = createShell("", "read line; exit 3");
+
+        IOException e = assertThrows(IOException.class, () -> localCoProcess.execute("x", TIMEOUT_MILLIS));
+        assertEquals("Process exited with value 3", e.getMessage());
+        // the next execution starts the process again
+        assertThrows(IOException.class, () -> localCoProcess.execute("x", TIMEOUT_MILLIS));
+        assertTrue(localCoProcess.toString().startsWith("starts=2, executions=2, failures=2"));
+    }
+
+    @Test
+    public void stoppedProcessIsRestarted() throws Exception {
+        ExecCoProcess localCoProcess = createCoProcess("", "cat");
+
+        assertEquals("before", localCoProcess.execute("before", TIMEOUT_MILLIS));
+        localCoProcess.stop();
+        assertEquals("after", localCoProcess.execute("after", TIMEOUT_MILLIS));
+        assertTrue(localCoProcess.toString().startsWith("starts=2, executions=2, failures=0"));
+    }
+
+    @Test
+    public void closedProcessIsNotStartedAgain() throws Exception {
+        ExecCoProcess localCoProcess = createCoProcess("", "cat");
+
+        assertEquals("before", localCoProcess.execute("before", TIMEOUT_MILLIS));
+        localCoProcess.close();
+        assertThrows(IOException.class, () -> localCoProcess.execute("after", TIMEOUT_MILLIS));
+        assertTrue(localCoProcess.toString().startsWith("starts=1, executions=2, failures=1"));
+    }
+}
@@ -133,6 +133,11 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
         } else {
             try {
                 itemValueConverter.send(command);
+                // the command might change the state, pass the next refresh to the channels even if unchanged
+                RefreshingUrlCache refreshingUrlCache = urlHandlers.get(channelUrls.get(channelUID));
+                if (refreshingUrlCache != null) {
+                    refreshingUrlCache.invalidate();
+                }
             } catch (IllegalArgumentException e) {
                 logger.warn("Failed to convert command '{}' to channel '{}' for sending", command, channelUID);
             } catch (IllegalStateException e) {
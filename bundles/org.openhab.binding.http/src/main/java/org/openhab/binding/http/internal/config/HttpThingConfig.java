@@ -51,6 +51,7 @@ public class HttpThingConfig {
     public @Nullable String contentType = null;
 
     public boolean ignoreSSLErrors = false;
+    public boolean skipUnchangedContent = false;
     public boolean strictErrorHandling = false;
 
     // ArrayList is required as implementation because list may be modified later
@@ -23,6 +23,7 @@ import org.eclipse.jetty.client.api.Response;
 import org.eclipse.jetty.client.api.Result;
 import org.eclipse.jetty.client.util.BufferingResponseListener;
 import org.eclipse.jetty.http.HttpField;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
 import org.slf4j.Logger;
@@ -39,6 +40,8 @@ public class HttpResponseListener extends BufferingResponseListener {
     private final CompletableFuture<@Nullable ChannelHandlerContent> future;
     private final HttpStatusListener httpStatusListener;
     private final String fallbackEncoding;
+    private @Nullable String eTag;
+    private @Nullable String lastModified;
 
     /**
      * the HttpResponseListener is responsible
@@ -79,6 +82,8 @@ public class HttpResponseListener extends BufferingResponseListener {
                 case HttpStatus.MULTI_STATUS_207:
                     byte[] content = getContent();
                     String encoding = getEncoding();
+                    eTag = response.getHeaders().get(HttpHeader.ETAG);
+                    lastModified = response.getHeaders().get(HttpHeader.LAST_MODIFIED);
                     if (content != null) {
                         future.complete(new ChannelHandlerContent(content,
                                 encoding == null ? fallbackEncoding : encoding, getMediaType()));
@@ -87,6 +92,10 @@ public class HttpResponseListener extends BufferingResponseListener {
                     }
                     httpStatusListener.onHttpSuccess();
                     break;
+                case HttpStatus.NOT_MODIFIED_304:
+                    future.completeExceptionally(new HttpNotModifiedException());
+                    httpStatusListener.onHttpSuccess();
+                    break;
                 case HttpStatus.UNAUTHORIZED_401:
                     logger.debug("Requesting '{}' (method='{}', content='{}') failed: Authorization error",
                             request.getURI(), request.getMethod(), request.getContent());
@@ -101,6 +110,20 @@ public class HttpResponseListener extends BufferingResponseListener {
         }
     }
 
+    /**
+     * @return the ETag of a successful response, available after the future has completed
+     */
+    public @Nullable String getETag() {
+        return eTag;
+    }
+
+    /**
+     * @return the Last-Modified header of a successful response, available after the future has completed
+     */
+    public @Nullable String getLastModified() {
+        return lastModified;
+    }
+
     private String responseToLogString(Response response) {
         String logString = "Code = {" + response.getStatus() + "}, Headers = {"
                 + response.getHeaders().stream().map(HttpField::toString).collect(Collectors.joining(", "))
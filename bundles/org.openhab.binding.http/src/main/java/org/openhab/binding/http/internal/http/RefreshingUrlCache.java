@@ -15,6 +15,7 @@ package org.openhab.binding.http.internal.http;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
@@ -25,10 +26,12 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
@@ -40,6 +43,10 @@ import org.slf4j.LoggerFactory;
  * The {@link RefreshingUrlCache} is responsible for requesting from a single URL and passing the content to the
  * channels
  *
+ * GET requests are sent with If-None-Match/If-Modified-Since when the server provided an ETag/Last-Modified header.
+ * If the content did not change, the channels either get the last content again or, with
+ * {@link HttpThingConfig#skipUnchangedContent}, are not called at all.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -58,9 +65,19 @@ public class RefreshingUrlCache {
     private final String httpContent;
     private final @Nullable String httpContentType;
     private final HttpStatusListener httpStatusListener;
+    private final boolean skipUnchangedContent;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
 
     private @Nullable ScheduledFuture<?> future;
-    private @Nullable ChannelHandlerContent lastContent;
+    private volatile @Nullable ChannelHandlerContent lastContent;
+    private volatile @Nullable String eTag;
+    private volatile @Nullable String lastModified;
+    // set after a command, the next result is passed to the channels even if it did not change
+    private volatile boolean forceUpdate;
 
     public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
             String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener) {
@@ -74,6 +91,7 @@ public class RefreshingUrlCache {
         this.httpContent = httpContent;
         this.httpContentType = httpContentType;
         this.httpStatusListener = httpStatusListener;
+        this.skipUnchangedContent = thingConfig.skipUnchangedContent;
         fallbackEncoding = thingConfig.encoding;
     }
 
@@ -94,6 +112,15 @@ public class RefreshingUrlCache {
             future.cancel(true);
             logger.trace("Stopped refresh task for URL '{}'", url);
         }
+        logger.debug("Statistics for URL '{}': {}", url, getStatistics());
+    }
+
+    /**
+     * Passes the next result to the channels even if it did not change, e.g. because a command might have changed the
+     * state of the item.
+     */
+    public void invalidate() {
+        forceUpdate = true;
     }
 
     private void refresh() {
@@ -114,9 +141,24 @@ public class RefreshingUrlCache {
             httpClient.newRequest(uri, httpMethod, httpContent, httpContentType).thenAccept(request -> {
                 request.timeout(timeout, TimeUnit.MILLISECONDS);
                 headers.forEach(request::header);
+                String localETag = eTag;
+                String localLastModified = lastModified;
+                if (httpMethod == HttpMethod.GET && lastContent != null) {
+                    if (localETag != null) {
+                        request.header(HttpHeader.IF_NONE_MATCH, localETag);
+                    } else if (localLastModified != null) {
+                        request.header(HttpHeader.IF_MODIFIED_SINCE, localLastModified);
+                    }
+                }
 
                 CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
-                responseContentFuture.exceptionally(t -> {
+                HttpResponseListener responseListener = new HttpResponseListener(responseContentFuture,
+                        fallbackEncoding, bufferSize, httpStatusListener);
+                responseContentFuture.whenComplete((content, t) -> {
+                    if (t instanceof HttpNotModifiedException) {
+                        processNotModified();
+                        return;
+                    }
                     if (t instanceof HttpAuthException) {
                         if (isRetry || !httpClient.reAuth(uri)) {
                             logger.debug("Authentication failed for '{}', retry={}", uri, isRetry);
@@ -124,16 +166,19 @@ public class RefreshingUrlCache {
                         } else {
                             refresh(true);
                         }
+                    } else if (t == null && content != null) {
+                        eTag = responseListener.getETag();
+                        lastModified = responseListener.getLastModified();
                     }
-                    return null;
-                }).thenAccept(this::processResult);
+                    processResult(content);
+                });
 
                 if (logger.isTraceEnabled()) {
                     logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
                 }
 
-                request.send(new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
-                        httpStatusListener));
+                requests.incrementAndGet();
+                request.send(responseListener);
             }).exceptionally(e -> {
                 if (e instanceof CancellationException) {
                     logger.debug("Request to URL {} was cancelled by thing handler.", uri);
@@ -155,16 +200,64 @@ public class RefreshingUrlCache {
         return Optional.ofNullable(lastContent);
     }
 
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    public long getNotModified() {
+        return notModified.get();
+    }
+
+    public long getSkipped() {
+        return skipped.get();
+    }
+
+    public String getStatistics() {
+        return "requests=" + getRequests() + ", bytes=" + getBytes() + ", notModified=" + getNotModified()
+                + ", skipped=" + getSkipped();
+    }
+
+    private void processNotModified() {
+        notModified.incrementAndGet();
+        ChannelHandlerContent content = lastContent;
+        if (content == null || (skipUnchangedContent && !forceUpdate)) {
+            skipped.incrementAndGet();
+            logger.trace("Content of URL '{}' not modified", url);
+            return;
+        }
+        forceUpdate = false;
+        passToConsumers(content);
+    }
+
     private void processResult(@Nullable ChannelHandlerContent content) {
+        ChannelHandlerContent previousContent = lastContent;
+        lastContent = content;
+        if (content != null) {
+            bytes.addAndGet(content.getRawContent().length);
+            if (skipUnchangedContent && !forceUpdate && previousContent != null
+                    && Arrays.equals(previousContent.getRawContent(), content.getRawContent())) {
+                skipped.incrementAndGet();
+                logger.trace("Content of URL '{}' did not change", url);
+                return;
+            }
+        }
         if (content != null || strictErrorHandling) {
-            for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
-                try {
-                    consumer.accept(content);
-                } catch (IllegalArgumentException | IllegalStateException e) {
-                    logger.warn("Failed processing result for URL {}: {}", url, e.getMessage());
-                }
+            forceUpdate = false;
+            passToConsumers(content);
+        }
+    }
+
+    private void passToConsumers(@Nullable ChannelHandlerContent content) {
+        for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
+            try {
+                consumer.accept(content);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                logger.warn("Failed processing result for URL {}: {}", url, e.getMessage());
             }
         }
-        lastContent = content;
     }
 }
@@ -19,8 +19,11 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -28,6 +31,8 @@ import java.util.stream.Collectors;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.icalendar.internal.logic.EventTextFilter.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import biweekly.ICalendar;
 import biweekly.component.VEvent;
@@ -66,7 +71,18 @@ import biweekly.util.com.google.ical.compat.javautil.DateIterator;
 @NonNullByDefault
 class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
     private static final Duration ONE_DAY = Duration.ofDays(1).minusNanos(1);
+    // the occurrences of all events in this range around the first query are expanded once into the index
+    private static final Duration INDEX_LOOK_BEHIND = Duration.ofDays(31);
+    private static final Duration INDEX_LOOK_AHEAD = Duration.ofDays(366);
+    // calendars with more occurrences in the range are not indexed, e.g. because of events recurring every minute
+    private static final int MAX_INDEXED_OCCURRENCES = 100000;
+    // longer occurrences are kept apart, so they do not widen the look-behind of queries for the short ones
+    private static final Duration MAX_SHORT_OCCURRENCE_DURATION = Duration.ofDays(1);
+
+    private final Logger logger = LoggerFactory.getLogger(BiweeklyPresentableCalendar.class);
     private final ICalendar usedCalendar;
+    private @Nullable OccurrenceIndex occurrenceIndex;
+    private boolean occurrenceIndexBuilt;
 
     BiweeklyPresentableCalendar(InputStream streamed) throws IOException, CalendarException {
         try (final ICalReader reader = new ICalReader(streamed)) {
@@ -102,6 +118,15 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
 
     @Override
     public @Nullable Event getNextEvent(Instant instant) {
+        final OccurrenceIndex index = getOccurrenceIndex(instant);
+        if (index != null && index.contains(instant)) {
+            final VEventWPeriod next = index.getNext(instant);
+            // without an occurrence in the index, the next event might be after the indexed range
+            if (next != null) {
+                return next.toEvent();
+            }
+        }
+
         final Collection<VEventWPeriod> candidates = new ArrayList<>();
         final Collection<VEvent> negativeEvents = new ArrayList<>();
         final Collection<VEvent> positiveEvents = new ArrayList<>();
@@ -210,6 +235,11 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      */
     private List<VEventWPeriod> getVEventWPeriodsBetween(Instant frameBegin, Instant frameEnd, int maximumPerSeries,
             EventTimeFilter eventTimeFilter) {
+        final OccurrenceIndex index = getOccurrenceIndex(frameBegin);
+        if (index != null && index.covers(frameBegin, frameEnd)) {
+            return index.getBetween(frameBegin, frameEnd, maximumPerSeries, eventTimeFilter);
+        }
+
         final List<VEvent> positiveEvents = new ArrayList<>();
         final List<VEvent> negativeEvents = new ArrayList<>();
         classifyEvents(positiveEvents, negativeEvents);
@@ -285,6 +315,11 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      * @return A VEventWPeriod describing the event or null if there is none.
      */
     private @Nullable VEventWPeriod getCurrentComponentWPeriod(Instant instant) {
+        final OccurrenceIndex index = getOccurrenceIndex(instant);
+        if (index != null && index.covers(instant, instant)) {
+            return index.getCurrent(instant);
+        }
+
         final List<VEvent> negativeEvents = new ArrayList<>();
         final List<VEvent> positiveEvents = new ArrayList<>();
         classifyEvents(positiveEvents, negativeEvents);
@@ -318,6 +353,104 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
         return earliestEndingEvent;
     }
 
+    /**
+     * Returns the occurrence index, building it around the given Instant on the first call.
+     *
+     * @param anchor The Instant of the first query.
+     * @return The index or null if the calendar has too many occurrences to be indexed.
+     */
+    private synchronized @Nullable OccurrenceIndex getOccurrenceIndex(Instant anchor) {
+        if (!occurrenceIndexBuilt) {
+            occurrenceIndexBuilt = true;
+            occurrenceIndex = buildOccurrenceIndex(anchor.minus(INDEX_LOOK_BEHIND), anchor.plus(INDEX_LOOK_AHEAD));
+        }
+        return occurrenceIndex;
+    }
+
+    /**
+     * Checks if queries for the given frame are answered by the occurrence index.
+     *
+     * @param frameBegin Begin of the frame.
+     * @param frameEnd End of the frame.
+     * @return True if the index covers the frame, else false.
+     */
+    boolean isAnsweredByOccurrenceIndex(Instant frameBegin, Instant frameEnd) {
+        final OccurrenceIndex index = getOccurrenceIndex(frameBegin);
+        return index != null && index.covers(frameBegin, frameEnd);
+    }
+
+    /**
+     * Expands all occurrences of the positive events which are not countered and either start in the given range or
+     * are still active at its begin.
+     *
+     * @param from Begin of the range (inclusive).
+     * @param to End of the range (exclusive).
+     * @return The index or null if there are more than {@link #MAX_INDEXED_OCCURRENCES} occurrences.
+     */
+    private @Nullable OccurrenceIndex buildOccurrenceIndex(Instant from, Instant to) {
+        final long buildStart = System.nanoTime();
+        final List<VEvent> positiveEvents = new ArrayList<>();
+        final List<VEvent> negativeEvents = new ArrayList<>();
+        classifyEvents(positiveEvents, negativeEvents);
+
+        // counter events can only counter events with the same uid
+        final Map<String, List<VEvent>> negativeEventsByUid = new HashMap<>();
+        for (final VEvent negativeEvent : negativeEvents) {
+            final Uid negativeEventUid = negativeEvent.getUid();
+            if (negativeEventUid != null) {
+                negativeEventsByUid.computeIfAbsent(negativeEventUid.getValue(), uid -> new ArrayList<>())
+                        .add(negativeEvent);
+            }
+        }
+
+        final List<Occurrence> occurrences = new ArrayList<>();
+        final List<Occurrence> longOccurrences = new ArrayList<>();
+        Duration maxDuration = Duration.ZERO;
+        int series = 0;
+        for (final VEvent positiveEvent : positiveEvents) {
+            final Duration eventLength = getEventLength(positiveEvent);
+            final Duration duration = eventLength == null ? Duration.ZERO : eventLength;
+            final boolean longEvent = duration.compareTo(MAX_SHORT_OCCURRENCE_DURATION) > 0;
+            if (!longEvent && duration.compareTo(maxDuration) > 0) {
+                maxDuration = duration;
+            }
+            final List<Occurrence> eventOccurrences = longEvent ? longOccurrences : occurrences;
+            final Uid eventUid = positiveEvent.getUid();
+            final List<VEvent> counterEvents = eventUid == null ? List.of()
+                    : negativeEventsByUid.getOrDefault(eventUid.getValue(), List.of());
+            final DateIterator startDates = getRecurredEventDateIterator(positiveEvent);
+            // occurrences which started before the range are indexed as long as they end in it
+            final Instant firstStart = from.minus(duration);
+            startDates.advanceTo(Date.from(firstStart));
+            while (startDates.hasNext()) {
+                final Instant startInstant = startDates.next().toInstant();
+                if (!startInstant.isBefore(to)) {
+                    break;
+                }
+                if (startInstant.isBefore(firstStart)) {
+                    continue;
+                }
+                if (eventUid == null || !isCounteredBy(startInstant, eventUid, counterEvents)) {
+                    eventOccurrences.add(new Occurrence(series, eventLength != null,
+                            new VEventWPeriod(positiveEvent, startInstant, startInstant.plus(duration))));
+                    if (occurrences.size() + longOccurrences.size() > MAX_INDEXED_OCCURRENCES) {
+                        logger.debug("Calendar has more than {} occurrences between {} and {}, not indexing",
+                                MAX_INDEXED_OCCURRENCES, from, to);
+                        return null;
+                    }
+                }
+            }
+            series++;
+        }
+        occurrences.sort(Occurrence.BY_START);
+        longOccurrences.sort(Occurrence.BY_START);
+
+        logger.debug("Indexed {} occurrences of {} events between {} and {} in {} ms",
+                occurrences.size() + longOccurrences.size(), positiveEvents.size(), from, to,
+                Duration.ofNanos(System.nanoTime() - buildStart).toMillis());
+        return new OccurrenceIndex(from, to, maxDuration, occurrences, longOccurrences);
+    }
+
     /**
      * Finds a duration of the event.
      *
@@ -406,6 +539,169 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
         return false;
     }
 
+    /**
+     * An occurrence of a positive event in the {@link OccurrenceIndex}.
+     *
+     * @author agent - Initial contribution
+     */
+    private static class Occurrence {
+        static final Comparator<Occurrence> BY_START = Comparator.comparing((Occurrence o) -> o.period.start)
+                .thenComparingInt(o -> o.series);
+
+        // position of the event in the calendar, results are ordered like the events when searching without index
+        final int series;
+        // events without a length are found by range queries only
+        final boolean hasLength;
+        final VEventWPeriod period;
+
+        Occurrence(int series, boolean hasLength, VEventWPeriod period) {
+            this.series = series;
+            this.hasLength = hasLength;
+            this.period = period;
+        }
+    }
+
+    /**
+     * The occurrences of all positive events which start in a range or are still active at its begin, sorted by
+     * start. Occurrences which are countered are not part of the index. Occurrences longer than
+     * {@link #MAX_SHORT_OCCURRENCE_DURATION} are kept in a list of their own which is always searched completely, so
+     * queries only look back by the longest of the other occurrences. The queries return the same results as
+     * iterating the recurrences of the events, as long as all occurrences they consider end in the range.
+     *
+     * @author agent - Initial contribution
+     */
+    private static class OccurrenceIndex {
+        final Instant from;
+        final Instant to;
+        // longest duration of the short occurrences
+        final Duration maxDuration;
+        final List<Occurrence> occurrences;
+        final List<Occurrence> longOccurrences;
+
+        OccurrenceIndex(Instant from, Instant to, Duration maxDuration, List<Occurrence> occurrences,
+                List<Occurrence> longOccurrences) {
+            this.from = from;
+            this.to = to;
+            this.maxDuration = maxDuration;
+            this.occurrences = occurrences;
+            this.longOccurrences = longOccurrences;
+        }
+
+        /**
+         * Checks if the index contains all occurrences starting after the Instant and before the end of the range.
+         */
+        boolean contains(Instant instant) {
+            return !instant.isBefore(from) && instant.isBefore(to);
+        }
+
+        /**
+         * Checks if the index contains all occurrences which are active between frameBegin and frameEnd.
+         */
+        boolean covers(Instant frameBegin, Instant frameEnd) {
+            return contains(frameBegin) && frameEnd.isBefore(to);
+        }
+
+        /**
+         * Finds the position of the first occurrence starting at or after the given Instant.
+         */
+        static int firstStartingFrom(List<Occurrence> occurrences, Instant instant) {
+            int low = 0;
+            int high = occurrences.size();
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (occurrences.get(middle).period.start.isBefore(instant)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        @Nullable VEventWPeriod getCurrent(Instant instant) {
+            Occurrence earliestEnding = getEarliestEnding(occurrences,
+                    firstStartingFrom(occurrences, instant.minus(maxDuration)), instant, null);
+            earliestEnding = getEarliestEnding(longOccurrences, 0, instant, earliestEnding);
+            return earliestEnding == null ? null : earliestEnding.period;
+        }
+
+        private static @Nullable Occurrence getEarliestEnding(List<Occurrence> occurrences, int first,
+                Instant instant, @Nullable Occurrence earliestEndingSoFar) {
+            Occurrence earliestEnding = earliestEndingSoFar;
+            for (int i = first; i < occurrences.size(); i++) {
+                final Occurrence occurrence = occurrences.get(i);
+                if (!occurrence.period.start.isBefore(instant)) {
+                    break;
+                }
+                if (!occurrence.hasLength || !occurrence.period.end.isAfter(instant)) {
+                    continue;
+                }
+                if (earliestEnding == null || occurrence.period.end.isBefore(earliestEnding.period.end)
+                        || (occurrence.period.end.equals(earliestEnding.period.end)
+                                && occurrence.series < earliestEnding.series)) {
+                    earliestEnding = occurrence;
+                }
+            }
+            return earliestEnding;
+        }
+
+        @Nullable VEventWPeriod getNext(Instant instant) {
+            final Occurrence next = getFirstStartingAfter(occurrences, instant);
+            final Occurrence nextLong = getFirstStartingAfter(longOccurrences, instant);
+            if (next == null || (nextLong != null && Occurrence.BY_START.compare(nextLong, next) < 0)) {
+                return nextLong == null ? null : nextLong.period;
+            }
+            return next.period;
+        }
+
+        private static @Nullable Occurrence getFirstStartingAfter(List<Occurrence> occurrences, Instant instant) {
+            for (int i = firstStartingFrom(occurrences, instant); i < occurrences.size(); i++) {
+                final Occurrence occurrence = occurrences.get(i);
+                if (occurrence.hasLength && occurrence.period.start.isAfter(instant)) {
+                    return occurrence;
+                }
+            }
+            return null;
+        }
+
+        List<VEventWPeriod> getBetween(Instant frameBegin, Instant frameEnd, int maximumPerSeries,
+                EventTimeFilter eventTimeFilter) {
+            final List<Occurrence> found = new ArrayList<>();
+            addBetween(occurrences, firstStartingFrom(occurrences, frameBegin.minus(maxDuration)), frameBegin,
+                    frameEnd, eventTimeFilter, found);
+            addBetween(longOccurrences, 0, frameBegin, frameEnd, eventTimeFilter, found);
+            found.sort(Comparator.comparingInt((Occurrence o) -> o.series).thenComparing(o -> o.period.start));
+
+            final List<VEventWPeriod> eventList = new ArrayList<>(found.size());
+            int lastSeries = -1;
+            int foundInSeries = 0;
+            for (final Occurrence occurrence : found) {
+                foundInSeries = occurrence.series == lastSeries ? foundInSeries + 1 : 1;
+                lastSeries = occurrence.series;
+                if (maximumPerSeries == 0 || foundInSeries <= maximumPerSeries) {
+                    eventList.add(occurrence.period);
+                }
+            }
+            return eventList;
+        }
+
+        private static void addBetween(List<Occurrence> occurrences, int first, Instant frameBegin, Instant frameEnd,
+                EventTimeFilter eventTimeFilter, List<Occurrence> found) {
+            for (int i = first; i < occurrences.size(); i++) {
+                final Occurrence occurrence = occurrences.get(i);
+                final Instant start = occurrence.period.start;
+                if (start.isAfter(frameEnd)) {
+                    break;
+                }
+                final Duration duration = Duration.between(start, occurrence.period.end);
+                if (!eventTimeFilter.eventAfterFrame(frameEnd, start, duration)
+                        && !eventTimeFilter.eventBeforeFrame(frameBegin, start, duration)) {
+                    found.add(occurrence);
+                }
+            }
+        }
+    }
+
     /**
      * A Class describing an event together with a start and end instant.
      *
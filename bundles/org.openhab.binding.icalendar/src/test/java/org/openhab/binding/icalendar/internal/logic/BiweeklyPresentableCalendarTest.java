@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -647,4 +648,59 @@ public class BiweeklyPresentableCalendarTest {
                 Instant.parse("2021-08-16T16:45:00.123456Z"), Instant.parse("2021-08-16T16:46:00.768643Z"), null, 3);
         assertEquals(0, realFilteredEvents9.size());
     }
+
+    /**
+     * Tests that queries answered by the occurrence index return the same results as iterating the recurrences.
+     */
+    @Test
+    public void testOccurrenceIndexMatchesIteration() throws IOException, CalendarException {
+        assertSameResults("src/test/resources/test.ics", calendar, Instant.parse("2019-09-08T00:00:00Z"));
+        assertSameResults("src/test/resources/test2.ics", calendar2, Instant.parse("2019-11-01T00:00:00Z"));
+        assertSameResults("src/test/resources/test-issue9647.ics", calendar_issue9647,
+                Instant.parse("2021-01-01T00:00:00Z"));
+        assertSameResults("src/test/resources/test-issue10808.ics", calendar_issue10808,
+                Instant.parse("2021-06-05T00:00:00Z"));
+    }
+
+    /**
+     * Tests that events lasting longer than the look-behind of the occurrence index are answered by the index.
+     */
+    @Test
+    public void testOccurrenceIndexWithLongEvents() throws IOException, CalendarException {
+        BiweeklyPresentableCalendar calendarLongEvents = new BiweeklyPresentableCalendar(
+                new FileInputStream("src/test/resources/test-long-events.ics"));
+        Instant begin = Instant.parse("2021-07-01T00:00:00Z");
+        assertSameResults("src/test/resources/test-long-events.ics", calendarLongEvents, begin);
+        assertTrue(calendarLongEvents.isAnsweredByOccurrenceIndex(begin, begin.plus(Duration.ofDays(14))));
+
+        // both events started before the begin of the indexed range
+        Event currentEvent = calendarLongEvents.getCurrentEvent(begin);
+        assertNotNull(currentEvent);
+        assertEquals("Sabbatical", currentEvent.title);
+        List<Event> activeEvents = calendarLongEvents.getFilteredEventsBetween(begin, begin.plus(Duration.ofHours(1)),
+                EventTimeFilter.searchByActive(), null, 5);
+        assertEquals(List.of("Sabbatical", "Summer season"), activeEvents.stream().map(e -> e.title).toList());
+    }
+
+    private void assertSameResults(String file, AbstractPresentableCalendar indexed, Instant begin)
+            throws IOException, CalendarException {
+        // the index is built around the first query, so all following queries of this calendar iterate the events
+        AbstractPresentableCalendar iterating = new BiweeklyPresentableCalendar(new FileInputStream(file));
+        iterating.isEventPresent(Instant.parse("2000-01-01T00:00:00Z"));
+        indexed.isEventPresent(begin);
+
+        for (Instant instant = begin; instant.isBefore(begin.plus(Duration.ofDays(14))); instant = instant
+                .plus(Duration.ofMinutes(17))) {
+            Instant frameEnd = instant.plus(Duration.ofHours(6));
+            EventTimeFilter active = EventTimeFilter.searchByActive();
+            assertEquals(iterating.getCurrentEvent(instant), indexed.getCurrentEvent(instant));
+            assertEquals(iterating.getNextEvent(instant), indexed.getNextEvent(instant));
+            assertEquals(iterating.getJustBegunEvents(instant, frameEnd),
+                    indexed.getJustBegunEvents(instant, frameEnd));
+            assertEquals(iterating.getJustEndedEvents(instant, frameEnd),
+                    indexed.getJustEndedEvents(instant, frameEnd));
+            assertEquals(iterating.getFilteredEventsBetween(instant, frameEnd, active, null, 2),
+                    indexed.getFilteredEventsBetween(instant, frameEnd, active, null, 2));
+        }
+    }
 }
@@ -48,6 +48,9 @@ public class CameraConfig {
     private String mjpegOptions = "";
     private String snapshotOptions = "";
     private String motionOptions = "";
+    private String motionDetector = "ffmpeg";
+    private String motionRegions = "";
+    private int motionFps = 2;
     private boolean ptzContinuous;
     private int gifPreroll;
 
@@ -75,6 +78,18 @@ public class CameraConfig {
         return motionOptions;
     }
 
+    public boolean useBuiltinMotionDetector() {
+        return "builtin".equals(motionDetector);
+    }
+
+    public String getMotionRegions() {
+        return motionRegions;
+    }
+
+    public int getMotionFps() {
+        return motionFps;
+    }
+
     public String getMp4OutOptions() {
         return mp4OutOptions;
     }
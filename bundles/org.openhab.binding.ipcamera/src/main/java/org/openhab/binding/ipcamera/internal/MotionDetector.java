@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link MotionDetector} detects motion in the jpg pictures of a camera without using FFmpeg.
+ *
+ * Each picture is decoded at a reduced resolution and turned into the average brightness of a small grid of cells.
+ * Every cell is compared with a background that slowly follows the picture, so changes of the daylight are not seen
+ * as motion. A cell has changed when its brightness differs from the background by more than
+ * {@value #CELL_THRESHOLD}. There is motion when the share of changed cells inside the configured regions reaches the
+ * threshold in {@value #FRAMES_TO_START} pictures in a row, and the motion ends after {@value #FRAMES_TO_STOP}
+ * pictures without motion.
+ *
+ * All cameras share one thread pool. A camera never has more than one picture waiting to be analysed, pictures which
+ * arrive while the last one is still analysed or faster than the configured rate are skipped.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MotionDetector {
+    private static final String POOL_NAME = "ipcamera-motion";
+    private static final int GRID_WIDTH = 64;
+    private static final int GRID_HEIGHT = 48;
+    private static final int CELL_THRESHOLD = 24;
+    // weight of a new picture in the background
+    private static final float BACKGROUND_WEIGHT = 0.1f;
+    private static final int FRAMES_TO_START = 2;
+    private static final int FRAMES_TO_STOP = 5;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final Executor executor;
+    private final AtomicBoolean busy = new AtomicBoolean();
+    private final Consumer<Boolean> motionListener;
+    private final String cameraName;
+    private final boolean[] mask;
+    private final int maskedCells;
+    private final long frameIntervalNanos;
+    private volatile long lastFrameNanos;
+    private volatile double areaThreshold;
+    private volatile boolean running = true;
+    // only used by the one picture that is analysed at a time
+    private float @Nullable [] background;
+    private int motionFrames;
+    private int stillFrames;
+    private boolean motion;
+
+    /**
+     * @param cameraName used for logging
+     * @param regions rectangles in percent of the picture as "x,y,width,height" separated by ";", empty for the whole
+     *            picture
+     * @param framesPerSecond maximum number of pictures analysed per second
+     * @param motionListener called with true when motion starts and with false when it stops
+     */
+    public MotionDetector(String cameraName, String regions, int framesPerSecond, Consumer<Boolean> motionListener) {
+        this(cameraName, regions, framesPerSecond, motionListener, ThreadPoolManager.getPool(POOL_NAME));
+    }
+
+    MotionDetector(String cameraName, String regions, int framesPerSecond, Consumer<Boolean> motionListener,
+            Executor executor) {
+        this.executor = executor;
+        this.cameraName = cameraName;
+        this.motionListener = motionListener;
+        this.frameIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, framesPerSecond);
+        this.lastFrameNanos = System.nanoTime() - frameIntervalNanos;
+        mask = parseRegions(regions);
+        int cells = 0;
+        for (boolean used : mask) {
+            if (used) {
+                cells++;
+            }
+        }
+        maskedCells = cells;
+        setSensitivity(0);
+    }
+
+    private boolean[] parseRegions(String regions) {
+        boolean[] cells = new boolean[GRID_WIDTH * GRID_HEIGHT];
+        boolean found = false;
+        for (String region : regions.split(";")) {
+            if (region.isBlank()) {
+                continue;
+            }
+            String[] values = region.split(",");
+            try {
+                if (values.length != 4) {
+                    throw new NumberFormatException();
+                }
+                double left = Double.parseDouble(values[0].trim()) / 100;
+                double top = Double.parseDouble(values[1].trim()) / 100;
+                double right = left + Double.parseDouble(values[2].trim()) / 100;
+                double bottom = top + Double.parseDouble(values[3].trim()) / 100;
+                for (int y = 0; y < GRID_HEIGHT; y++) {
+                    double centerY = (y + 0.5) / GRID_HEIGHT;
+                    for (int x = 0; x < GRID_WIDTH; x++) {
+                        double centerX = (x + 0.5) / GRID_WIDTH;
+                        if (centerX >= left && centerX < right && centerY >= top && centerY < bottom) {
+                            cells[y * GRID_WIDTH + x] = true;
+                            found = true;
+                        }
+                    }
+                }
+            } catch (NumberFormatException e) {
+                logger.warn("Motion region '{}' of camera {} is not in the format x,y,width,height and is ignored.",
+                        region, cameraName);
+            }
+        }
+        if (!found) {
+            Arrays.fill(cells, true);
+        }
+        return cells;
+    }
+
+    /**
+     * Sets the sensitivity the same way as the FFmpeg motion control does, a higher value needs more of the picture to
+     * change before motion is reported.
+     *
+     * @param percent value of the motion control channel
+     */
+    public void setSensitivity(int percent) {
+        // 100% needs a fifth of the picture to change, 1% a few cells
+        areaThreshold = Math.max(1, Math.min(100, percent)) / 500.0;
+    }
+
+    /**
+     * Hands a picture to the detector. Returns at once, the picture is analysed on the shared thread pool.
+     *
+     * @param jpg the picture, which must not be changed afterwards
+     */
+    public void offerFrame(byte[] jpg) {
+        long now = System.nanoTime();
+        if (!running || now - lastFrameNanos < frameIntervalNanos || !busy.compareAndSet(false, true)) {
+            return;
+        }
+        lastFrameNanos = now;
+        try {
+            executor.execute(() -> analyse(jpg));
+        } catch (RejectedExecutionException e) {
+            busy.set(false);
+        }
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    private void analyse(byte[] jpg) {
+        try {
+            int[] grid = toBrightnessGrid(jpg);
+            if (grid == null || !running) {
+                return;
+            }
+            float[] localBackground = background;
+            if (localBackground == null) {
+                localBackground = new float[grid.length];
+                for (int i = 0; i < grid.length; i++) {
+                    localBackground[i] = grid[i];
+                }
+                background = localBackground;
+                return;
+            }
+            int changed = 0;
+            for (int i = 0; i < grid.length; i++) {
+                float difference = grid[i] - localBackground[i];
+                if (mask[i] && Math.abs(difference) > CELL_THRESHOLD) {
+                    changed++;
+                }
+                localBackground[i] += difference * BACKGROUND_WEIGHT;
+            }
+            update((double) changed / maskedCells >= areaThreshold);
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Could not analyse a picture of camera {} for motion: {}", cameraName, e.getMessage());
+        } finally {
+            busy.set(false);
+        }
+    }
+
+    private void update(boolean moving) {
+        if (moving) {
+            stillFrames = 0;
+            if (!motion && ++motionFrames >= FRAMES_TO_START) {
+                motion = true;
+                motionListener.accept(true);
+            }
+        } else {
+            motionFrames = 0;
+            if (motion && ++stillFrames >= FRAMES_TO_STOP) {
+                motion = false;
+                motionListener.accept(false);
+            }
+        }
+    }
+
+    /**
+     * Decodes the picture with a resolution of about twice the grid and averages the brightness of each cell.
+     *
+     * @return brightness of the cells, or null if the picture is too small or can not be read
+     */
+    private int @Nullable [] toBrightnessGrid(byte[] jpg) throws IOException {
+        BufferedImage image;
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(jpg))) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width < GRID_WIDTH || height < GRID_HEIGHT) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.min(width / (GRID_WIDTH * 2), height / (GRID_HEIGHT * 2)));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                image = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (width < GRID_WIDTH || height < GRID_HEIGHT) {
+            return null;
+        }
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        int[] sums = new int[GRID_WIDTH * GRID_HEIGHT];
+        int[] counts = new int[GRID_WIDTH * GRID_HEIGHT];
+        for (int y = 0; y < height; y++) {
+            int row = y * GRID_HEIGHT / height * GRID_WIDTH;
+            for (int x = 0; x < width; x++) {
+                int pixel = pixels[y * width + x];
+                int luma = (((pixel >> 16) & 0xff) * 77 + ((pixel >> 8) & 0xff) * 150 + (pixel & 0xff) * 29) >> 8;
+                int cell = row + x * GRID_WIDTH / width;
+                sums[cell] += luma;
+                counts[cell]++;
+            }
+        }
+        for (int i = 0; i < sums.length; i++) {
+            sums[i] /= counts[i];
+        }
+        return sums;
+    }
+}
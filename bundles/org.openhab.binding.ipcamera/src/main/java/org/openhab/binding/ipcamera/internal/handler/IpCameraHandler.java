@@ -58,6 +58,7 @@ import org.openhab.binding.ipcamera.internal.InstarHandler;
 import org.openhab.binding.ipcamera.internal.IpCameraActions;
 import org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.FFmpegFormat;
 import org.openhab.binding.ipcamera.internal.IpCameraDynamicStateDescriptionProvider;
+import org.openhab.binding.ipcamera.internal.MotionDetector;
 import org.openhab.binding.ipcamera.internal.MyNettyAuthHandler;
 import org.openhab.binding.ipcamera.internal.ReolinkHandler;
 import org.openhab.binding.ipcamera.internal.onvif.OnvifConnection;
@@ -192,6 +193,7 @@ public class IpCameraHandler extends BaseThingHandler {
     public int audioThreshold = 35;
     public boolean streamingSnapshotMjpeg = false;
     public boolean ffmpegMotionAlarmEnabled = false;
+    private @Nullable MotionDetector motionDetector;
     public boolean ffmpegAudioAlarmEnabled = false;
     public boolean ffmpegSnapshotGeneration = false;
     public boolean snapshotPolling = false;
@@ -266,12 +268,10 @@ public class IpCameraHandler extends BaseThingHandler {
                 }
                 if (msg instanceof HttpContent content) {
                     if (mjpegUri.endsWith(requestUrl) && !(content instanceof LastHttpContent)) {
-                        // multiple MJPEG stream packets come back as this.
-                        byte[] chunkedFrame = new byte[content.content().readableBytes()];
-                        content.content().getBytes(content.content().readerIndex(), chunkedFrame);
+                        // multiple MJPEG stream packets come back as this, the streams keep their own reference.
                         CameraServlet localServlet = servlet;
                         if (localServlet != null) {
-                            localServlet.openStreams.queueFrame(chunkedFrame);
+                            localServlet.openStreams.queueFrame(content.content());
                         }
                     } else {
                         // Found some cameras use Content-Type: image/jpg instead of image/jpeg
@@ -688,6 +688,7 @@ public class IpCameraHandler extends BaseThingHandler {
             lockCurrentSnapshot.unlock();
             currentSnapshotTime = Instant.now();
         }
+        offerMotionFrame(incommingSnapshot);
 
         if (updateImageChannel) {
             updateState(CHANNEL_IMAGE, new RawType(incommingSnapshot, "image/jpeg"));
@@ -897,9 +898,10 @@ public class IpCameraHandler extends BaseThingHandler {
                 break;
             case RTSP_ALARMS:
                 Ffmpeg localAlarms = ffmpegRtspHelper;
+                boolean ffmpegMotion = ffmpegMotionAlarmEnabled && !cameraConfig.useBuiltinMotionDetector();
                 if (localAlarms != null) {
                     localAlarms.stopConverting();
-                    if (!ffmpegAudioAlarmEnabled && !ffmpegMotionAlarmEnabled) {
+                    if (!ffmpegAudioAlarmEnabled && !ffmpegMotion) {
                         return;
                     }
                 }
@@ -910,9 +912,9 @@ public class IpCameraHandler extends BaseThingHandler {
                 } else {
                     filterOptions = "-af silencedetect=n=-" + audioThreshold + "dB:d=2";
                 }
-                if (!ffmpegMotionAlarmEnabled && !ffmpegSnapshotGeneration) {
+                if (!ffmpegMotion && !ffmpegSnapshotGeneration) {
                     filterOptions = filterOptions.concat(" -vn");
-                } else if (ffmpegMotionAlarmEnabled && !cameraConfig.getMotionOptions().isEmpty()) {
+                } else if (ffmpegMotion && !cameraConfig.getMotionOptions().isEmpty()) {
                     String usersMotionOptions = cameraConfig.getMotionOptions();
                     if (usersMotionOptions.startsWith("-")) {
                         // Need to put the users custom options first in the chain before the motion is detected
@@ -922,7 +924,7 @@ public class IpCameraHandler extends BaseThingHandler {
                         filterOptions = filterOptions + " " + usersMotionOptions + " -vf select='gte(scene,"
                                 + motionThreshold.divide(BIG_DECIMAL_SCALE_MOTION) + ")',metadata=print";
                     }
-                } else if (ffmpegMotionAlarmEnabled) {
+                } else if (ffmpegMotion) {
                     filterOptions = filterOptions.concat(" -vf select='gte(scene,"
                             + motionThreshold.divide(BIG_DECIMAL_SCALE_MOTION) + ")',metadata=print");
                 }
@@ -976,6 +978,42 @@ public class IpCameraHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Hands a jpg to the built-in motion detection, if it is enabled.
+     */
+    public void offerMotionFrame(byte[] jpg) {
+        MotionDetector localDetector = motionDetector;
+        if (localDetector != null) {
+            localDetector.offerFrame(jpg);
+        }
+    }
+
+    /**
+     * Starts or stops the built-in motion detection, which analyses the snapshots instead of using FFmpeg.
+     */
+    private void updateMotionDetector() {
+        MotionDetector localDetector = motionDetector;
+        if (ffmpegMotionAlarmEnabled && cameraConfig.useBuiltinMotionDetector()) {
+            if (localDetector == null) {
+                localDetector = new MotionDetector(getThing().getUID().getId(), cameraConfig.getMotionRegions(),
+                        cameraConfig.getMotionFps(), motion -> {
+                            if (motion) {
+                                motionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
+                            } else {
+                                noMotionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
+                            }
+                        });
+                motionDetector = localDetector;
+            }
+            localDetector.setSensitivity(motionThreshold.intValue());
+            startSnapshotPolling();
+        } else if (localDetector != null) {
+            localDetector.stop();
+            motionDetector = null;
+            stopSnapshotPolling();
+        }
+    }
+
     public void noMotionDetected(String thisAlarmsChannel) {
         setChannelState(thisAlarmsChannel, OnOffType.OFF);
         firstMotionAlarm = false;
@@ -1163,7 +1201,11 @@ public class IpCameraHandler extends BaseThingHandler {
                         ffmpegMotionAlarmEnabled = true;
                         motionThreshold = percentCommand.toBigDecimal();
                     }
-                    setupFfmpegFormat(FFmpegFormat.RTSP_ALARMS);
+                    if (cameraConfig.useBuiltinMotionDetector()) {
+                        updateMotionDetector();
+                    } else {
+                        setupFfmpegFormat(FFmpegFormat.RTSP_ALARMS);
+                    }
                     return;
                 case CHANNEL_START_STREAM:
                     Ffmpeg localHLS;
@@ -1530,6 +1572,9 @@ public class IpCameraHandler extends BaseThingHandler {
 
     public void stopSnapshotPolling() {
         Future<?> localFuture;
+        if (motionDetector != null) {
+            return; // the built-in motion detection needs the snapshots
+        }
         if (!streamingSnapshotMjpeg && cameraConfig.getGifPreroll() == 0
                 && !cameraConfig.getUpdateImageWhen().contains("1")) {
             snapshotPolling = false;
@@ -1550,7 +1595,8 @@ public class IpCameraHandler extends BaseThingHandler {
         if (snapshotPolling || ffmpegSnapshotGeneration) {
             return; // Already polling or creating with FFmpeg from RTSP
         }
-        if (streamingSnapshotMjpeg || streamingAutoFps || cameraConfig.getUpdateImageWhen().contains("4")) {
+        if (streamingSnapshotMjpeg || streamingAutoFps || cameraConfig.getUpdateImageWhen().contains("4")
+                || motionDetector != null) {
             snapshotPolling = true;
             snapshotJob = threadPool.scheduleWithFixedDelay(this::snapshotRunnable, 0, cameraConfig.getPollTime(),
                     TimeUnit.MILLISECONDS);
@@ -1631,7 +1677,10 @@ public class IpCameraHandler extends BaseThingHandler {
         if (localFfmpeg != null) {
             localFfmpeg.checkKeepAlive();
         }
-        if (ffmpegMotionAlarmEnabled || ffmpegAudioAlarmEnabled) {
+        if (motionDetector != null) {
+            startSnapshotPolling();
+        }
+        if ((ffmpegMotionAlarmEnabled && !cameraConfig.useBuiltinMotionDetector()) || ffmpegAudioAlarmEnabled) {
             localFfmpeg = ffmpegRtspHelper;
             if (localFfmpeg == null || !localFfmpeg.isAlive()) {
                 setupFfmpegFormat(FFmpegFormat.RTSP_ALARMS);
@@ -1870,6 +1919,11 @@ public class IpCameraHandler extends BaseThingHandler {
     @Override
     public void dispose() {
         offline();
+        MotionDetector localDetector = motionDetector;
+        if (localDetector != null) {
+            localDetector.stop();
+            motionDetector = null;
+        }
         CameraServlet localServlet = servlet;
         if (localServlet != null) {
             localServlet.dispose();
@@ -12,22 +12,31 @@
  */
 package org.openhab.binding.ipcamera.internal.servlet;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
 /**
  * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
  * 1 to many streams without needing to open more than 1 source stream.
  *
+ * The buffers are not copied per stream, every stream holds a reference until it has written the buffer. Buffers of
+ * the camera's stream are split at the boundary, so the streams know where a new jpg starts and can skip frames.
+ *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
 public class OpenStreams {
     private List<StreamOutput> openStreams = Collections.synchronizedList(new ArrayList<>());
     public String boundary = "thisMjpegStream";
+    private ByteBuf boundaryMarker = marker(boundary);
 
     public synchronized void addStream(StreamOutput stream) {
         openStreams.add(stream);
@@ -45,23 +54,78 @@ public class OpenStreams {
         return openStreams.isEmpty();
     }
 
+    private static ByteBuf marker(String boundary) {
+        String marker = boundary.startsWith("--") ? boundary : "--" + boundary;
+        return Unpooled.unreleasableBuffer(Unpooled.copiedBuffer(marker, StandardCharsets.US_ASCII));
+    }
+
     public synchronized void updateContentType(String contentType, String boundary) {
         this.boundary = boundary;
-        for (StreamOutput stream : openStreams) {
+        this.boundaryMarker = marker(boundary);
+        // a stream which fails is closed and removes itself
+        for (StreamOutput stream : new ArrayList<>(openStreams)) {
             stream.updateContentType(contentType);
         }
     }
 
     public synchronized void queueFrame(byte[] frame) {
+        ByteBuf buffer = Unpooled.wrappedBuffer(frame);
+        try {
+            queueFrame(buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Queues a part of a stream for all open streams. The caller keeps its reference of the buffer.
+     *
+     * @param frame the buffer, a jpg for snapshot based streams or a chunk of the camera's stream
+     */
+    public synchronized void queueFrame(ByteBuf frame) {
+        int length = frame.readableBytes();
+        if (openStreams.isEmpty() || length == 0) {
+            return;
+        }
+        // the servlet container needs an array, copy once into a pooled buffer if the data is not in the heap
+        ByteBuf heapFrame = frame.hasArray() ? frame.retainedSlice()
+                : frame.alloc().heapBuffer(length).writeBytes(frame, frame.readerIndex(), length);
+        try {
+            int start = heapFrame.readerIndex();
+            int index = ByteBufUtil.indexOf(boundaryMarker, heapFrame);
+            int split = index < 0 ? -1 : index - start;
+            // a stream which fails is closed and removes itself
+            for (StreamOutput stream : new ArrayList<>(openStreams)) {
+                if (stream.isSnapshotBased) {
+                    stream.queueFrame(heapFrame.retainedSlice(), true);
+                } else if (split <= 0) {
+                    stream.queueFrame(heapFrame.retainedSlice(), split == 0);
+                } else {
+                    stream.queueFrame(heapFrame.retainedSlice(start, split), false);
+                    stream.queueFrame(heapFrame.retainedSlice(start + split, length - split), true);
+                }
+            }
+        } finally {
+            heapFrame.release();
+        }
+    }
+
+    /**
+     * @return frame rate, sent and dropped frames of all open streams
+     */
+    public synchronized List<String> getStatistics() {
+        List<String> statistics = new ArrayList<>();
         for (StreamOutput stream : openStreams) {
-            stream.queueFrame(frame);
+            statistics.add(stream.getStatistics());
         }
+        return statistics;
     }
 
     public synchronized void closeAllStreams() {
-        for (StreamOutput stream : openStreams) {
+        List<StreamOutput> streams = new ArrayList<>(openStreams);
+        openStreams.clear();
+        for (StreamOutput stream : streams) {
             stream.close();
         }
-        openStreams.clear();
     }
 }
@@ -13,32 +13,74 @@
 package org.openhab.binding.ipcamera.internal.servlet;
 
 import java.io.IOException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import javax.servlet.AsyncContext;
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * The {@link StreamOutput} Streams mjpeg out to a client
  *
+ * Queued frames are reference counted buffers shared by all clients, they are written with non blocking writes once
+ * {@link #startAsync} was called. A client which can not keep up does not get the frames it missed, when a new frame
+ * starts the frames which have not been started yet are dropped.
+ *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
-public class StreamOutput {
+public class StreamOutput implements WriteListener {
+    private static final byte[] CRLF = "\r\n".getBytes();
+    // frames waiting for a client, older frames are dropped when a new one starts
+    private static final int MAX_QUEUED_FRAMES = 2;
+    // limit for streams where the start of a frame can not be found
+    private static final int MAX_QUEUED_CHUNKS = 50;
+
+    private record Chunk(ByteBuf buffer, boolean frameStart) {
+    }
+
+    private record Segment(byte[] array, int offset, int length, @Nullable ByteBuf owner) {
+    }
+
     public final Logger logger = LoggerFactory.getLogger(getClass());
     private final HttpServletResponse response;
     private final String boundary;
     private String contentType;
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<>(50);
+    private final Deque<Chunk> fifo = new ArrayDeque<>();
+    // parts of the chunk currently written
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    // buffers handed to the servlet container, released once the write has completed
+    private final List<ByteBuf> inFlight = new ArrayList<>();
+    // the container has not completed the last write yet and still uses the buffers in flight
+    private boolean writePending = false;
+    private int queuedFrames = 0;
+    private @Nullable AsyncContext asyncContext;
+    private @Nullable Runnable closeListener;
+    private String client = "";
+    private boolean closed = false;
     private boolean connected = false;
     public boolean isSnapshotBased = false;
 
+    private long framesSent = 0;
+    private long framesDropped = 0;
+    private long fpsWindowStart = System.nanoTime();
+    private int fpsWindowFrames = 0;
+    private double fps = 0;
+
     public StreamOutput(HttpServletResponse response) throws IOException {
         boundary = "thisMjpegStream";
         contentType = "multipart/x-mixed-replace; boundary=" + boundary;
@@ -74,30 +116,202 @@ public class StreamOutput {
         output.write("\r\n".getBytes());
     }
 
-    public void queueFrame(byte[] frame) {
-        try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            logger.debug("FIFO buffer has run out of space: {}", e.getMessage());
-            fifo.remove();
-            fifo.add(frame);
+    /**
+     * Switches the stream to non blocking writes, queued frames are written from now on.
+     *
+     * @param asyncContext the context of the request
+     * @param closeListener called once the stream is closed
+     */
+    public void startAsync(AsyncContext asyncContext, Runnable closeListener) {
+        asyncContext.setTimeout(0);
+        synchronized (this) {
+            this.asyncContext = asyncContext;
+            this.closeListener = closeListener;
+            client = asyncContext.getRequest().getRemoteHost();
+        }
+        output.setWriteListener(this);
+    }
+
+    /**
+     * Queues a part of the stream. The stream takes ownership of the buffer, which must be backed by an array.
+     *
+     * @param frame the buffer
+     * @param frameStart true if a new jpg starts with this buffer
+     */
+    public void queueFrame(ByteBuf frame, boolean frameStart) {
+        synchronized (this) {
+            if (closed) {
+                frame.release();
+                return;
+            }
+            if (frameStart) {
+                if (queuedFrames >= MAX_QUEUED_FRAMES) {
+                    dropQueuedFrames();
+                }
+                queuedFrames++;
+            } else if (fifo.size() >= MAX_QUEUED_CHUNKS) {
+                logger.debug("FIFO buffer of the stream to {} has run out of space", client);
+                Chunk oldest = fifo.remove();
+                if (oldest.frameStart()) {
+                    queuedFrames--;
+                    framesDropped++;
+                }
+                oldest.buffer().release();
+            }
+            fifo.add(new Chunk(frame, frameStart));
+            if (writeQueued()) {
+                return;
+            }
         }
+        close();
+    }
+
+    // drops everything from the first frame which has not been started yet
+    private void dropQueuedFrames() {
+        boolean dropping = false;
+        Iterator<Chunk> iterator = fifo.iterator();
+        while (iterator.hasNext()) {
+            Chunk chunk = iterator.next();
+            if (chunk.frameStart()) {
+                dropping = true;
+                framesDropped++;
+            }
+            if (dropping) {
+                iterator.remove();
+                chunk.buffer().release();
+            }
+        }
+        queuedFrames = 0;
     }
 
     public void updateContentType(String contentType) {
-        this.contentType = contentType;
+        synchronized (this) {
+            this.contentType = contentType;
+            if (connected) {
+                return;
+            }
+            sendInitialHeaders();
+            connected = true;
+            if (writeQueued()) {
+                return;
+            }
+        }
+        close();
+    }
+
+    @Override
+    public void onWritePossible() {
+        synchronized (this) {
+            if (closed) {
+                // the write pending when the stream was closed has completed
+                writePending = false;
+                complete();
+                return;
+            }
+            if (writeQueued()) {
+                return;
+            }
+        }
+        close();
+    }
+
+    @Override
+    public void onError(@Nullable Throwable t) {
+        logger.debug("Stream to {} failed: {}", client, t == null ? "" : t.getMessage());
+        synchronized (this) {
+            // a failed write does not use the buffers any more
+            writePending = false;
+            if (closed) {
+                complete();
+                return;
+            }
+        }
+        close();
+    }
+
+    /**
+     * Writes queued frames until the container can not take more data without blocking.
+     *
+     * @return false if the client has gone
+     */
+    private boolean writeQueued() {
+        if (asyncContext == null || closed || (!isSnapshotBased && !connected)) {
+            return true;
+        }
+        try {
+            while (output.isReady()) {
+                // the previous write has completed
+                writePending = false;
+                releaseInFlight();
+                Segment segment = segments.poll();
+                if (segment == null) {
+                    Chunk chunk = fifo.poll();
+                    if (chunk == null) {
+                        return true;
+                    }
+                    addSegments(chunk);
+                    continue;
+                }
+                ByteBuf owner = segment.owner();
+                if (owner != null) {
+                    inFlight.add(owner);
+                }
+                output.write(segment.array(), segment.offset(), segment.length());
+            }
+            // the container calls onWritePossible once the write has completed
+            writePending = true;
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Occurs when browser stops the stream.
+            logger.debug("Stream to {} was closed: {}", client, e.getMessage());
+            return false;
+        }
+    }
+
+    private void addSegments(Chunk chunk) {
+        ByteBuf buffer = chunk.buffer();
+        Segment data = new Segment(buffer.array(), buffer.arrayOffset() + buffer.readerIndex(),
+                buffer.readableBytes(), buffer);
+        if (chunk.frameStart()) {
+            queuedFrames--;
+            countFrame();
+        }
+        if (!isSnapshotBased) {
+            segments.add(data);
+            return;
+        }
+        byte[] header = ("--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
+                + data.length() + "\r\n\r\n").getBytes();
         if (!connected) {
             sendInitialHeaders();
+            // iOS needs to have two jpgs sent for the picture to appear instantly.
+            segments.add(new Segment(header, 0, header.length, null));
+            segments.add(new Segment(data.array(), data.offset(), data.length(), buffer.retain()));
+            segments.add(new Segment(CRLF, 0, CRLF.length, null));
             connected = true;
         }
+        segments.add(new Segment(header, 0, header.length, null));
+        segments.add(data);
+        segments.add(new Segment(CRLF, 0, CRLF.length, null));
+    }
+
+    private void countFrame() {
+        framesSent++;
+        fpsWindowFrames++;
+        long now = System.nanoTime();
+        long elapsed = now - fpsWindowStart;
+        if (elapsed >= TimeUnit.SECONDS.toNanos(2)) {
+            fps = fpsWindowFrames * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+            fpsWindowStart = now;
+            fpsWindowFrames = 0;
+        }
     }
 
-    public void sendFrame() throws IOException, InterruptedException {
-        if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
-        } else if (connected) {
-            output.write(fifo.take());
+    private void releaseInFlight() {
+        for (ByteBuf buffer : inFlight) {
+            buffer.release();
         }
+        inFlight.clear();
     }
 
     private void sendInitialHeaders() {
@@ -106,10 +320,64 @@ public class StreamOutput {
         response.setHeader("Access-Control-Expose-Headers", "*");
     }
 
+    /**
+     * @return frame rate, sent and dropped frames of this stream
+     */
+    public synchronized String getStatistics() {
+        return String.format("%s: %.1f fps, %d frames sent, %d frames dropped, %d frames queued", client, fps,
+                framesSent, framesDropped, queuedFrames);
+    }
+
     public void close() {
-        try {
-            output.close();
-        } catch (IOException e) {
+        Runnable listener;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            // buffers not handed to the container yet
+            for (Segment segment : segments) {
+                ByteBuf owner = segment.owner();
+                if (owner != null) {
+                    owner.release();
+                }
+            }
+            segments.clear();
+            for (Chunk chunk : fifo) {
+                chunk.buffer().release();
+            }
+            fifo.clear();
+            queuedFrames = 0;
+            listener = closeListener;
+            closeListener = null;
+            if (asyncContext != null) {
+                logger.debug("Stream to {} closed after {} frames, {} frames dropped", client, framesSent,
+                        framesDropped);
+            }
+            if (!writePending) {
+                complete();
+            }
+        }
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    // releases the buffers in flight and ends the response, once the container does not write anymore
+    private void complete() {
+        releaseInFlight();
+        AsyncContext context = asyncContext;
+        if (context != null) {
+            try {
+                context.complete();
+            } catch (IllegalStateException e) {
+                // already completed by the container
+            }
+        } else {
+            try {
+                output.close();
+            } catch (IOException e) {
+            }
         }
     }
 }
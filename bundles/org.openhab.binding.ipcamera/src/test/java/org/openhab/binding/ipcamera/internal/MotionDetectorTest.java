@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests cases for {@link MotionDetector} with synthetic pictures.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MotionDetectorTest {
+    private static final int WIDTH = 320;
+    private static final int HEIGHT = 240;
+    // no pictures are skipped
+    private static final int UNLIMITED_FPS = Integer.MAX_VALUE;
+
+    private final List<Boolean> events = new ArrayList<>();
+
+    private MotionDetector detector(String regions, int framesPerSecond, int sensitivity) {
+        MotionDetector detector = new MotionDetector("test", regions, framesPerSecond, events::add, Runnable::run);
+        detector.setSensitivity(sensitivity);
+        return detector;
+    }
+
+    /**
+     * @return a grey picture with a white rectangle, given in percent of the picture
+     */
+    private static byte[] picture(int x, int y, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.GRAY);
+        graphics.fillRect(0, 0, WIDTH, HEIGHT);
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(x * WIDTH / 100, y * HEIGHT / 100, width * WIDTH / 100, height * HEIGHT / 100);
+        graphics.dispose();
+        ByteArrayOutputStream jpg = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", jpg);
+        return jpg.toByteArray();
+    }
+
+    private static byte[] still() throws IOException {
+        return picture(0, 0, 0, 0);
+    }
+
+    @Test
+    public void motionStartsAfterTwoPicturesAboveThreshold() throws IOException {
+        MotionDetector detector = detector("", UNLIMITED_FPS, 100);
+        byte[] moving = picture(0, 0, 50, 50);
+
+        detector.offerFrame(still());
+        detector.offerFrame(moving);
+        assertEquals(List.of(), events);
+        detector.offerFrame(moving);
+        assertEquals(List.of(true), events);
+    }
+
+    @Test
+    public void smallChangeIsBelowThreshold() throws IOException {
+        // a tenth of the width and height changes, 1% of the picture
+        byte[] moving = picture(40, 40, 10, 10);
+
+        MotionDetector insensitive = detector("", UNLIMITED_FPS, 100);
+        insensitive.offerFrame(still());
+        for (int i = 0; i < 3; i++) {
+            insensitive.offerFrame(moving);
+        }
+        assertEquals(List.of(), events);
+
+        MotionDetector sensitive = detector("", UNLIMITED_FPS, 1);
+        sensitive.offerFrame(still());
+        for (int i = 0; i < 3; i++) {
+            sensitive.offerFrame(moving);
+        }
+        assertEquals(List.of(true), events);
+    }
+
+    @Test
+    public void onlyCellsInsideRegionsCount() throws IOException {
+        // the left half of the picture changes
+        byte[] moving = picture(0, 0, 50, 100);
+
+        MotionDetector rightHalf = detector("50,0,50,100", UNLIMITED_FPS, 50);
+        rightHalf.offerFrame(still());
+        for (int i = 0; i < 3; i++) {
+            rightHalf.offerFrame(moving);
+        }
+        assertEquals(List.of(), events);
+
+        MotionDetector leftQuarter = detector("0,0,25,100;invalid", UNLIMITED_FPS, 100);
+        leftQuarter.offerFrame(still());
+        for (int i = 0; i < 3; i++) {
+            leftQuarter.offerFrame(moving);
+        }
+        assertEquals(List.of(true), events);
+    }
+
+    @Test
+    public void motionStopsAfterStillPictures() throws IOException {
+        MotionDetector detector = detector("", UNLIMITED_FPS, 100);
+        byte[] moving = picture(0, 0, 50, 50);
+        byte[] still = still();
+
+        detector.offerFrame(still);
+        detector.offerFrame(moving);
+        detector.offerFrame(moving);
+        assertEquals(List.of(true), events);
+
+        // motion only ends after several pictures without motion
+        for (int i = 0; i < 4; i++) {
+            detector.offerFrame(still);
+        }
+        assertEquals(List.of(true), events);
+        for (int i = 0; i < 20; i++) {
+            detector.offerFrame(still);
+        }
+        assertEquals(List.of(true, false), events);
+    }
+
+    @Test
+    public void picturesFasterThanFrameRateAreSkipped() throws IOException {
+        MotionDetector detector = detector("", 1, 100);
+        byte[] moving = picture(0, 0, 50, 50);
+
+        // only the first picture is analysed within a second
+        detector.offerFrame(still());
+        detector.offerFrame(moving);
+        detector.offerFrame(moving);
+        assertEquals(List.of(), events);
+    }
+
+    @Test
+    public void stoppedDetectorIgnoresPictures() throws IOException {
+        MotionDetector detector = detector("", UNLIMITED_FPS, 100);
+        byte[] moving = picture(0, 0, 50, 50);
+
+        detector.offerFrame(still());
+        detector.stop();
+        detector.offerFrame(moving);
+        detector.offerFrame(moving);
+        assertEquals(List.of(), events);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Tests cases for {@link OpenStreams} and {@link StreamOutput}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OpenStreamsTest {
+    private static final String CONTENT_TYPE = "multipart/x-mixed-replace; boundary=thisMjpegStream";
+
+    private final OpenStreams openStreams = new OpenStreams();
+
+    private StreamOutput startStream(ServletOutputStream output) throws IOException {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(output);
+        ServletRequest request = mock(ServletRequest.class);
+        when(request.getRemoteHost()).thenReturn("client");
+        AsyncContext asyncContext = mock(AsyncContext.class);
+        when(asyncContext.getRequest()).thenReturn(request);
+
+        StreamOutput stream = new StreamOutput(response, CONTENT_TYPE);
+        openStreams.addStream(stream);
+        stream.startAsync(asyncContext, () -> openStreams.removeStream(stream));
+        return stream;
+    }
+
+    private static ByteBuf chunk() {
+        return Unpooled.copiedBuffer("part of a jpg", StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    public void failingStreamIsRemovedWhileQueueing() throws IOException {
+        ServletOutputStream failingOutput = mock(ServletOutputStream.class);
+        when(failingOutput.isReady()).thenReturn(true);
+        doThrow(new IOException("Broken pipe")).when(failingOutput).write(any(byte[].class), anyInt(), anyInt());
+        ServletOutputStream output = mock(ServletOutputStream.class);
+        when(output.isReady()).thenReturn(true);
+        startStream(failingOutput);
+        startStream(output);
+        ByteBuf frame = chunk();
+
+        openStreams.queueFrame(frame);
+
+        assertEquals(1, openStreams.getNumberOfStreams());
+        verify(output).write(any(byte[].class), anyInt(), eq(frame.readableBytes()));
+
+        openStreams.closeAllStreams();
+        // only the reference of the caller is left
+        assertEquals(1, frame.refCnt());
+        frame.release();
+    }
+
+    @Test
+    public void buffersArePendingUntilWriteHasCompleted() throws IOException {
+        ServletOutputStream output = mock(ServletOutputStream.class);
+        // ready to take the chunk, then the write is pending
+        when(output.isReady()).thenReturn(true, true, false);
+        StreamOutput stream = startStream(output);
+        ByteBuf frame = chunk();
+
+        openStreams.queueFrame(frame);
+        verify(output).write(any(byte[].class), anyInt(), eq(frame.readableBytes()));
+
+        openStreams.closeAllStreams();
+        // the container still writes from the buffer
+        assertEquals(2, frame.refCnt());
+
+        stream.onWritePossible();
+        assertEquals(1, frame.refCnt());
+        frame.release();
+    }
+
+    @Test
+    public void buffersAreReleasedWhenPendingWriteFails() throws IOException {
+        ServletOutputStream output = mock(ServletOutputStream.class);
+        when(output.isReady()).thenReturn(true, true, false);
+        StreamOutput stream = startStream(output);
+        ByteBuf frame = chunk();
+
+        openStreams.queueFrame(frame);
+        openStreams.queueFrame(frame);
+        assertEquals(3, frame.refCnt());
+
+        stream.onError(new IOException("Broken pipe"));
+        assertEquals(0, openStreams.getNumberOfStreams());
+        assertEquals(1, frame.refCnt());
+        frame.release();
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Delivers incoming telegrams to the {@link GroupAddressListener}s of their destination group address.
+ *
+ * The listeners are indexed by the raw 16 bit group address, so finding the listeners of a telegram does not depend
+ * on the number of registered listeners. The index is rebuilt for a listener whenever it is registered again, e.g.
+ * after its channels changed.
+ *
+ * Every listener has its own queue. Telegrams are delivered one after the other in the order they were received,
+ * and a queue only occupies a thread of the executor while it has telegrams to deliver.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class GroupAddressDispatcher {
+    private static final int GROUP_ADDRESS_SPACE = 0x10000;
+    // deliver at most this number of telegrams in a row, before giving other queues a chance
+    private static final int MAX_BATCH = 64;
+
+    private final Logger logger = LoggerFactory.getLogger(GroupAddressDispatcher.class);
+
+    private final Executor executor;
+    private final AtomicReferenceArray<ListenerQueue @Nullable []> index = new AtomicReferenceArray<>(
+            GROUP_ADDRESS_SPACE);
+    private final Map<GroupAddressListener, ListenerQueue> queues = new HashMap<>();
+
+    private class ListenerQueue implements Runnable {
+        private final GroupAddressListener listener;
+        private final Queue<Consumer<GroupAddressListener>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private Set<GroupAddress> groupAddresses = Set.of();
+        private volatile boolean active = true;
+
+        private ListenerQueue(GroupAddressListener listener) {
+            this.listener = listener;
+        }
+
+        private void offer(Consumer<GroupAddressListener> notification) {
+            pending.add(notification);
+            schedule();
+        }
+
+        private void schedule() {
+            if (!pending.isEmpty() && scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < MAX_BATCH && active; i++) {
+                    Consumer<GroupAddressListener> notification = pending.poll();
+                    if (notification == null) {
+                        break;
+                    }
+                    try {
+                        notification.accept(listener);
+                    } catch (RuntimeException e) {
+                        logger.warn("Listener {} failed to process a telegram: {}", listener, e.getMessage());
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            if (active) {
+                // telegrams which arrived while finishing the batch
+                schedule();
+            } else {
+                pending.clear();
+            }
+        }
+    }
+
+    public GroupAddressDispatcher(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Registers a listener for the group addresses it currently listens to. Registering a listener again updates its
+     * group addresses, telegrams which are still queued for the listener are delivered.
+     *
+     * @param listener the listener
+     */
+    public synchronized void register(GroupAddressListener listener) {
+        ListenerQueue queue = queues.get(listener);
+        if (queue == null) {
+            queue = new ListenerQueue(listener);
+            queues.put(listener, queue);
+        } else {
+            removeFromIndex(queue);
+        }
+        queue.groupAddresses = Set.copyOf(listener.getGroupAddresses());
+        for (GroupAddress groupAddress : queue.groupAddresses) {
+            int slot = groupAddress.getRawAddress();
+            ListenerQueue @Nullable [] current = index.get(slot);
+            ListenerQueue[] updated;
+            if (current == null) {
+                updated = new ListenerQueue[] { queue };
+            } else {
+                updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = queue;
+            }
+            index.set(slot, updated);
+        }
+    }
+
+    /**
+     * Removes a listener. Telegrams which are still queued for the listener are dropped.
+     *
+     * @param listener the listener
+     */
+    public synchronized void unregister(GroupAddressListener listener) {
+        ListenerQueue queue = queues.remove(listener);
+        if (queue != null) {
+            queue.active = false;
+            removeFromIndex(queue);
+        }
+    }
+
+    private void removeFromIndex(ListenerQueue queue) {
+        for (GroupAddress groupAddress : queue.groupAddresses) {
+            int slot = groupAddress.getRawAddress();
+            ListenerQueue @Nullable [] current = index.get(slot);
+            if (current == null) {
+                continue;
+            }
+            ListenerQueue[] updated = Arrays.stream(current).filter(q -> q != queue).toArray(ListenerQueue[]::new);
+            index.set(slot, updated.length == 0 ? null : updated);
+        }
+        queue.groupAddresses = Set.of();
+    }
+
+    /**
+     * Queues a notification for every listener of the given group address.
+     *
+     * @param destination the destination of the telegram
+     * @param notification the notification to deliver to each listener
+     * @return false if no listener is registered for the group address
+     */
+    public boolean dispatch(GroupAddress destination, Consumer<GroupAddressListener> notification) {
+        ListenerQueue @Nullable [] listeners = index.get(destination.getRawAddress());
+        if (listeners == null) {
+            return false;
+        }
+        for (ListenerQueue queue : listeners) {
+            queue.offer(notification);
+        }
+        return true;
+    }
+
+    /**
+     * @return number of registered listeners
+     */
+    public synchronized int getListenerCount() {
+        return queues.size();
+    }
+}
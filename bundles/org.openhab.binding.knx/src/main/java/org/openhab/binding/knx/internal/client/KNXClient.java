@@ -78,8 +78,16 @@ public interface KNXClient {
      * Schedule the given data point for asynchronous reading.
      *
      * @param datapoint the datapoint
+     * @param priority the priority of the read request
      */
-    void readDatapoint(Datapoint datapoint);
+    void readDatapoint(Datapoint datapoint, ReadPriority priority);
+
+    /**
+     * Get statistics of the queued read requests.
+     *
+     * @return the statistics
+     */
+    ReadScheduler.Statistics getReadStatistics();
 
     /**
      * Write a command to the KNX bus.
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Queue of the read requests to be sent to the KNX bus.
+ *
+ * Read requests are kept in one lane per {@link ReadPriority}, a lane is only served if all lanes of higher priority
+ * are empty. This way, thousands of initial reads after a restart do not delay refresh commands or periodic reads.
+ * Only one read per group address is queued. Requesting a read of a group address which is already queued with a
+ * lower priority moves it to the lane of the higher priority.
+ *
+ * The pause between two reads adapts to the time the bus and the gateway need to answer: it is never shorter than
+ * the configured reading pause, but at least as long as the average response time of the previous reads. Failed
+ * reads double the pause, up to {@value #MAX_PAUSE_SECONDS} seconds.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ReadScheduler {
+    private static final int MAX_PAUSE_SECONDS = 5;
+    private static final long MAX_PAUSE_NANOS = TimeUnit.SECONDS.toNanos(MAX_PAUSE_SECONDS);
+    // weight of a new response time in the moving average
+    private static final double LATENCY_WEIGHT = 0.2;
+
+    /**
+     * Statistics of one lane.
+     */
+    public record LaneStatistics(ReadPriority priority, int depth, long reads, long averageWaitMillis,
+            long maxWaitMillis, long oldestWaitMillis) {
+    }
+
+    /**
+     * Statistics of the scheduler, the number of merged reads and the current pacing.
+     */
+    public record Statistics(List<LaneStatistics> lanes, long merged, long latencyMillis, long pauseMillis) {
+        public static final Statistics EMPTY = new Statistics(List.of(), 0, 0, 0);
+    }
+
+    private static class Lane {
+        private final Deque<ReadDatapoint> queue = new ArrayDeque<>();
+        private int depth;
+        private long reads;
+        private long totalWaitNanos;
+        private long maxWaitNanos;
+    }
+
+    private final LongSupplier clock;
+    private final long minPauseNanos;
+    private final Map<ReadPriority, Lane> lanes = new EnumMap<>(ReadPriority.class);
+    private final Map<GroupAddress, ReadDatapoint> queued = new HashMap<>();
+    private long merged;
+    private double latencyNanos;
+    private int failures;
+    private long pauseNanos;
+    private long nextReadNanos;
+
+    public ReadScheduler(int readingPause) {
+        this(readingPause, System::nanoTime);
+    }
+
+    ReadScheduler(int readingPause, LongSupplier clock) {
+        this.clock = clock;
+        this.minPauseNanos = TimeUnit.MILLISECONDS.toNanos(readingPause);
+        this.pauseNanos = minPauseNanos;
+        this.nextReadNanos = clock.getAsLong();
+        for (ReadPriority priority : ReadPriority.values()) {
+            lanes.put(priority, new Lane());
+        }
+    }
+
+    /**
+     * Queues a read request.
+     *
+     * @param datapoint the read request
+     * @return false if a read of the same group address was already queued
+     */
+    public synchronized boolean add(ReadDatapoint datapoint) {
+        GroupAddress address = datapoint.getDatapoint().getMainAddress();
+        ReadDatapoint pending = queued.get(address);
+        if (pending == null) {
+            datapoint.setQueuedNanos(clock.getAsLong());
+            queued.put(address, datapoint);
+            Lane lane = getLane(datapoint.getPriority());
+            lane.queue.add(datapoint);
+            lane.depth++;
+            return true;
+        }
+        merged++;
+        if (datapoint.getPriority().compareTo(pending.getPriority()) < 0) {
+            // the entry in the lower lane is skipped when it is reached
+            getLane(pending.getPriority()).depth--;
+            pending.setPriority(datapoint.getPriority());
+            Lane lane = getLane(pending.getPriority());
+            lane.queue.add(pending);
+            lane.depth++;
+        }
+        return false;
+    }
+
+    /**
+     * Takes the next read request of the highest priority.
+     *
+     * @return the read request or null if nothing is queued
+     */
+    public synchronized @Nullable ReadDatapoint poll() {
+        for (Map.Entry<ReadPriority, Lane> entry : lanes.entrySet()) {
+            Lane lane = entry.getValue();
+            ReadDatapoint datapoint = peek(entry.getKey(), lane);
+            if (datapoint != null) {
+                lane.queue.poll();
+                lane.depth--;
+                queued.remove(datapoint.getDatapoint().getMainAddress());
+                long waitNanos = clock.getAsLong() - datapoint.getQueuedNanos();
+                lane.reads++;
+                lane.totalWaitNanos += waitNanos;
+                lane.maxWaitNanos = Math.max(lane.maxWaitNanos, waitNanos);
+                return datapoint;
+            }
+        }
+        return null;
+    }
+
+    private @Nullable ReadDatapoint peek(ReadPriority priority, Lane lane) {
+        ReadDatapoint datapoint;
+        while ((datapoint = lane.queue.peek()) != null) {
+            if (datapoint.getPriority() == priority
+                    && queued.get(datapoint.getDatapoint().getMainAddress()) == datapoint) {
+                return datapoint;
+            }
+            // moved to a lane of higher priority
+            lane.queue.poll();
+        }
+        return null;
+    }
+
+    private Lane getLane(ReadPriority priority) {
+        Lane lane = lanes.get(priority);
+        if (lane == null) {
+            throw new IllegalStateException("No lane for priority " + priority);
+        }
+        return lane;
+    }
+
+    /**
+     * @return true if the pause after the last read has elapsed
+     */
+    public synchronized boolean isReadDue() {
+        return clock.getAsLong() - nextReadNanos >= 0;
+    }
+
+    /**
+     * Adapts the pause before the next read to the response time of the last read.
+     *
+     * @param responseNanos time between sending the read request and receiving the response (or giving up)
+     * @param success false if the read failed
+     */
+    public synchronized void readCompleted(long responseNanos, boolean success) {
+        long pause;
+        if (success) {
+            failures = 0;
+            latencyNanos = latencyNanos == 0 ? responseNanos
+                    : latencyNanos + LATENCY_WEIGHT * (responseNanos - latencyNanos);
+            pause = Math.max(minPauseNanos, (long) latencyNanos);
+        } else {
+            failures = Math.min(failures + 1, 16);
+            pause = Math.max(minPauseNanos, (long) latencyNanos) << failures;
+        }
+        pauseNanos = Math.min(pause, Math.max(minPauseNanos, MAX_PAUSE_NANOS));
+        nextReadNanos = clock.getAsLong() + pauseNanos;
+    }
+
+    /**
+     * Drops all queued read requests and resets the pacing, e.g. after the connection was lost.
+     */
+    public synchronized void clear() {
+        queued.clear();
+        for (Lane lane : lanes.values()) {
+            lane.queue.clear();
+            lane.depth = 0;
+        }
+        failures = 0;
+        latencyNanos = 0;
+        pauseNanos = minPauseNanos;
+        nextReadNanos = clock.getAsLong();
+    }
+
+    public synchronized Statistics getStatistics() {
+        long now = clock.getAsLong();
+        List<LaneStatistics> laneStatistics = new ArrayList<>();
+        for (Map.Entry<ReadPriority, Lane> entry : lanes.entrySet()) {
+            Lane lane = entry.getValue();
+            ReadDatapoint oldest = peek(entry.getKey(), lane);
+            laneStatistics.add(new LaneStatistics(entry.getKey(), lane.depth, lane.reads,
+                    lane.reads == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(lane.totalWaitNanos / lane.reads),
+                    TimeUnit.NANOSECONDS.toMillis(lane.maxWaitNanos),
+                    oldest == null ? 0 : TimeUnit.NANOSECONDS.toMillis(now - oldest.getQueuedNanos())));
+        }
+        return new Statistics(laneStatistics, merged, TimeUnit.NANOSECONDS.toMillis((long) latencyNanos),
+                TimeUnit.NANOSECONDS.toMillis(pauseNanos));
+    }
+}
@@ -13,11 +13,13 @@
 package org.openhab.binding.knx.internal.console;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map.Entry;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.KNXBindingConstants;
+import org.openhab.binding.knx.internal.client.ReadScheduler;
 import org.openhab.binding.knx.internal.factory.KNXHandlerFactory;
 import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler;
 import org.openhab.core.io.console.Console;
@@ -39,7 +41,9 @@ import org.osgi.service.component.annotations.Reference;
 public class KNXCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
 
     private static final String CMD_LIST_UNKNOWN_GA = "list-unknown-ga";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST_UNKNOWN_GA), false);
+    private static final String CMD_READ_QUEUE = "read-queue";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST_UNKNOWN_GA, CMD_READ_QUEUE), false);
 
     private final KNXHandlerFactory knxHandlerFactory;
 
@@ -61,13 +65,29 @@ public class KNXCommandExtension extends AbstractConsoleCommandExtension impleme
             }
             return;
         }
+        if (args.length == 1 && CMD_READ_QUEUE.equalsIgnoreCase(args[0])) {
+            for (KNXBridgeBaseThingHandler bridgeHandler : knxHandlerFactory.getBridges()) {
+                ReadScheduler.Statistics statistics = bridgeHandler.getReadStatistics();
+                console.println("KNX bridge \"" + bridgeHandler.getThing().getLabel() + "\": response time "
+                        + statistics.latencyMillis() + " ms, pause between reads " + statistics.pauseMillis()
+                        + " ms, " + statistics.merged() + " reads merged with queued reads");
+                for (ReadScheduler.LaneStatistics lane : statistics.lanes()) {
+                    console.println(String.format(
+                            "  %-8s queued: %5d, oldest: %6d ms, read: %7d, average wait: %6d ms, max wait: %6d ms",
+                            lane.priority().name().toLowerCase(Locale.ROOT), lane.depth(), lane.oldestWaitMillis(),
+                            lane.reads(), lane.averageWaitMillis(), lane.maxWaitMillis()));
+                }
+            }
+            return;
+        }
         printUsage(console);
     }
 
     @Override
     public List<String> getUsages() {
-        return List
-                .of(buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"));
+        return List.of(
+                buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"),
+                buildCommandUsage(CMD_READ_QUEUE, "show queued read requests and wait times per priority"));
     }
 
     @Override
@@ -18,8 +18,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
+import javax.measure.Unit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
 
@@ -43,6 +46,7 @@ import tuwien.auto.calimero.dptxlator.DptXlator2ByteSigned;
 @NonNullByDefault
 public class DPTUnits {
     private static final Map<String, String> DPT_UNIT_MAP = new HashMap<>();
+    private static final Map<String, Unit<?>> DPT_PARSED_UNIT_MAP = new HashMap<>();
 
     private DPTUnits() {
         // prevent instantiation
@@ -58,6 +62,16 @@ public class DPTUnits {
         return DPT_UNIT_MAP.get(dptId);
     }
 
+    /**
+     * get the parsed unit for a given DPT, parsed only once instead of for every value
+     *
+     * @param dptId the KNX DPT
+     * @return unit, parsed the same way as the unit of a {@link QuantityType} string
+     */
+    public static @Nullable Unit<?> getParsedUnitForDpt(String dptId) {
+        return DPT_PARSED_UNIT_MAP.get(dptId);
+    }
+
     /**
      * for testing purposes only
      *
@@ -146,5 +160,14 @@ public class DPTUnits {
 
         // 64-bit signed (DPT 29)
         DPT_UNIT_MAP.put(DPTXlator64BitSigned.DPT_REACTIVE_ENERGY.getID(), Units.VAR_HOUR.toString());
+
+        for (Map.Entry<String, String> entry : DPT_UNIT_MAP.entrySet()) {
+            try {
+                QuantityType<?> quantity = new QuantityType<>("1 " + entry.getValue());
+                DPT_PARSED_UNIT_MAP.put(entry.getKey(), quantity.getUnit());
+            } catch (IllegalArgumentException e) {
+                // ignore, values of this DPT are decoded without unit
+            }
+        }
     }
 }
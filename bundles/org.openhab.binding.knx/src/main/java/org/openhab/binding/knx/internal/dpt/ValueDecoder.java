@@ -19,11 +19,16 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.measure.Unit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.library.types.DateTimeType;
@@ -56,12 +61,16 @@ import tuwien.auto.calimero.dptxlator.DPTXlatorBoolean;
 import tuwien.auto.calimero.dptxlator.DPTXlatorDateTime;
 import tuwien.auto.calimero.dptxlator.DPTXlatorSceneControl;
 import tuwien.auto.calimero.dptxlator.TranslatorTypes;
+import tuwien.auto.calimero.dptxlator.TranslatorTypes.MainType;
 
 /**
  * This class decodes raw data received from the KNX bus to an openHAB datatype
  *
  * Parts of this code are based on the openHAB KNXCoreTypeMapper by Kai Kreuzer et al.
  *
+ * Frequently used DPTs with integral values (booleans, counters, RGB colors, ...) are decoded directly from the raw
+ * data. All other DPTs are decoded using a Calimero translator.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -104,6 +113,94 @@ public class ValueDecoder {
         return true;
     }
 
+    /**
+     * Decodes the raw data of a DPT without a translator. Falls back to the translator for unexpected frame sizes.
+     */
+    @FunctionalInterface
+    private interface DirectDecoder {
+        @Nullable
+        Type decode(String dptId, byte[] data, Class<? extends Type> preferredType);
+    }
+
+    private static final Map<String, DirectDecoder> DIRECT_DECODERS = new HashMap<>();
+
+    static {
+        // DPT 1: boolean in the lowest bit
+        MainType booleanType = TranslatorTypes.getMainType(1);
+        if (booleanType != null) {
+            for (String dptId : booleanType.getSubTypes().keySet()) {
+                String subType = dptId.substring(dptId.indexOf('.') + 1);
+                DIRECT_DECODERS.put(dptId, (id, data, preferredType) -> data.length == 1
+                        ? handleDpt1(subType, (data[0] & 0x01) != 0, preferredType)
+                        : decodeWithTranslator(id, data, preferredType));
+            }
+        }
+
+        // DPT 3: control bit and step code
+        for (String dptId : List.of("3.007", "3.008")) {
+            String subType = dptId.substring(dptId.indexOf('.') + 1);
+            DIRECT_DECODERS.put(dptId,
+                    (id, data, preferredType) -> data.length == 1
+                            ? handleDpt3(subType, (data[0] & 0x08) != 0, data[0] & 0x07)
+                            : decodeWithTranslator(id, data, preferredType));
+        }
+
+        // integer DPTs, only those without a fractional resolution
+        putIntegerDecoders(1, false, 1, "5.004", "5.005", "5.006", "5.010");
+        putIntegerDecoders(1, true, 1, "6.001", "6.010");
+        putIntegerDecoders(2, false, 1, "7.001", "7.002", "7.005", "7.006", "7.007", "7.011", "7.012", "7.013",
+                "7.600");
+        putIntegerDecoders(2, false, 10, "7.003");
+        putIntegerDecoders(2, false, 100, "7.004");
+        putIntegerDecoders(2, true, 1, "8.001", "8.002", "8.005", "8.006", "8.007", "8.011", "8.012");
+        putIntegerDecoders(2, true, 10, "8.003");
+        putIntegerDecoders(2, true, 100, "8.004");
+        putIntegerDecoders(4, false, 1, "12.001");
+        putIntegerDecoders(4, true, 1, "13.001", "13.010", "13.011", "13.012", "13.013", "13.014", "13.015",
+                "13.100");
+        putIntegerDecoders(8, true, 1, "29.010", "29.011", "29.012");
+        // DPT 9 (2-byte float) is left to the translator: its value is the double computed by Calimero, the unit
+        // and the number of decimals of the resulting QuantityType depend on that exact double representation
+
+        // DPT 232: RGB
+        for (String dptId : List.of("232.600", "232.60000")) {
+            String subType = dptId.substring(dptId.indexOf('.') + 1);
+            DIRECT_DECODERS.put(dptId,
+                    (id, data, preferredType) -> data.length == 3
+                            ? handleDpt232(data[0] & 0xff, data[1] & 0xff, data[2] & 0xff, subType)
+                            : decodeWithTranslator(id, data, preferredType));
+        }
+    }
+
+    private static void putIntegerDecoders(int size, boolean signed, long factor, String... dptIds) {
+        for (String dptId : dptIds) {
+            DIRECT_DECODERS.put(dptId, (id, data, preferredType) -> {
+                if (data.length != size) {
+                    return decodeWithTranslator(id, data, preferredType);
+                }
+                long value = 0;
+                for (byte b : data) {
+                    value = (value << 8) | (b & 0xff);
+                }
+                if (signed && size < 8) {
+                    int shift = 64 - 8 * size;
+                    value = (value << shift) >> shift;
+                }
+                value *= factor;
+                return handleNumericDpt(id, value, size == 8 ? value : null, preferredType);
+            });
+        }
+    }
+
+    /**
+     * for testing purposes only
+     *
+     * @return all DPTs which are decoded without a translator
+     */
+    static Set<String> getDirectlyDecodedDpts() {
+        return DIRECT_DECODERS.keySet();
+    }
+
     /**
      * convert the raw value received to the corresponding openHAB value
      *
@@ -113,6 +210,17 @@ public class ValueDecoder {
      * @return the data converted to an openHAB Type (or null if conversion failed)
      */
     public static @Nullable Type decode(String dptId, byte[] data, Class<? extends Type> preferredType) {
+        DirectDecoder decoder = DIRECT_DECODERS.get(dptId);
+        if (decoder != null) {
+            return decoder.decode(dptId, data, preferredType);
+        }
+        return decodeWithTranslator(dptId, data, preferredType);
+    }
+
+    /**
+     * convert the raw value received to the corresponding openHAB value using a Calimero translator
+     */
+    static @Nullable Type decodeWithTranslator(String dptId, byte[] data, Class<? extends Type> preferredType) {
         try {
             String value = "";
             String translatorDptId = dptId;
@@ -167,14 +275,16 @@ public class ValueDecoder {
 
             switch (mainType) {
                 case "1":
-                    return handleDpt1(subType, translator, preferredType);
+                    return handleDpt1(subType, ((DPTXlatorBoolean) translator).getValueBoolean(), preferredType);
                 case "2":
                     DPTXlator1BitControlled translator1BitControlled = (DPTXlator1BitControlled) translator;
                     int decValue = (translator1BitControlled.getControlBit() ? 2 : 0)
                             + (translator1BitControlled.getValueBit() ? 1 : 0);
                     return new DecimalType(decValue);
                 case "3":
-                    return handleDpt3(subType, translator);
+                    DPTXlator3BitControlled translator3BitControlled = (DPTXlator3BitControlled) translator;
+                    return handleDpt3(subType, translator3BitControlled.getControlBit(),
+                            translator3BitControlled.getStepCode());
                 case "6":
                     if ("020".equals(subType)) {
                         return handleStringOrDecimal(data, value, preferredType, 8);
@@ -239,48 +349,45 @@ public class ValueDecoder {
         return null;
     }
 
-    private static Type handleDpt1(String subType, DPTXlator translator, Class<? extends Type> preferredType) {
-        DPTXlatorBoolean translatorBoolean = (DPTXlatorBoolean) translator;
+    private static Type handleDpt1(String subType, boolean value, Class<? extends Type> preferredType) {
         return switch (subType) {
-            case "008" -> translatorBoolean.getValueBoolean() ? UpDownType.DOWN : UpDownType.UP;
+            case "008" -> value ? UpDownType.DOWN : UpDownType.UP;
             case "009", "019" -> {
                 // default is OpenClosedType (Contact), but it may be mapped to OnOffType as well
                 if (OnOffType.class.equals(preferredType)) {
-                    yield OnOffType.from(translatorBoolean.getValueBoolean());
+                    yield OnOffType.from(value);
                 }
 
                 // This is wrong for DPT 1.009. It should be true -> CLOSE, false -> OPEN, but unfortunately
                 // can't be fixed without breaking a lot of working installations.
                 // The documentation has been updated to reflect that. / @J-N-K
-                yield translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                yield value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
 
                 // This is wrong for DPT 1.009. It should be true -> CLOSE, false -> OPEN, but unfortunately
                 // can't be fixed without breaking a lot of working installations.
                 // The documentation has been updated to reflect that. / @J-N-K
             }
-            case "010" -> translatorBoolean.getValueBoolean() ? StopMoveType.MOVE : StopMoveType.STOP;
-            case "022" -> DecimalType.valueOf(translatorBoolean.getValueBoolean() ? "1" : "0");
+            case "010" -> value ? StopMoveType.MOVE : StopMoveType.STOP;
+            case "022" -> DecimalType.valueOf(value ? "1" : "0");
             default -> {
                 // default is OnOffType (Switch), but it may be mapped to OpenClosedType as well
                 if (OpenClosedType.class.equals(preferredType)) {
-                    yield translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                    yield value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
                 }
 
-                yield OnOffType.from(translatorBoolean.getValueBoolean());
+                yield OnOffType.from(value);
             }
         };
     }
 
-    private static @Nullable Type handleDpt3(String subType, DPTXlator translator) {
-        DPTXlator3BitControlled translator3BitControlled = (DPTXlator3BitControlled) translator;
-        if (translator3BitControlled.getStepCode() == 0) {
+    private static @Nullable Type handleDpt3(String subType, boolean controlBit, int stepCode) {
+        if (stepCode == 0) {
             LOGGER.debug("convertRawDataToType: KNX DPT_Control_Dimming: break received.");
             return UnDefType.NULL;
         }
         return switch (subType) {
-            case "007" -> translator3BitControlled.getControlBit() ? IncreaseDecreaseType.INCREASE
-                    : IncreaseDecreaseType.DECREASE;
-            case "008" -> translator3BitControlled.getControlBit() ? UpDownType.DOWN : UpDownType.UP;
+            case "007" -> controlBit ? IncreaseDecreaseType.INCREASE : IncreaseDecreaseType.DECREASE;
+            case "008" -> controlBit ? UpDownType.DOWN : UpDownType.UP;
             default -> {
                 // should never happen unless Calimero introduces new subtypes
                 LOGGER.warn("DPT3, subtype '{}' is unknown. Please open an issue.", subType);
@@ -398,25 +505,28 @@ public class ValueDecoder {
             int r = Integer.parseInt(rgb.group("r"));
             int g = Integer.parseInt(rgb.group("g"));
             int b = Integer.parseInt(rgb.group("b"));
-
-            switch (subType) {
-                case "600":
-                    return HSBType.fromRGB(r, g, b);
-                case "60000":
-                    // MDT specific: mis-use 232.600 for hsv instead of rgb
-                    DecimalType hue = new DecimalType(coerceToRange(r * 360.0 / 255.0, 0.0, 359.9999));
-                    PercentType sat = new PercentType(BigDecimal.valueOf(coerceToRange(g / 2.55, 0.0, 100.0)));
-                    PercentType bright = new PercentType(BigDecimal.valueOf(coerceToRange(b / 2.55, 0.0, 100.0)));
-                    return new HSBType(hue, sat, bright);
-                default:
-                    LOGGER.warn("Unknown subtype '232.{}', no conversion possible.", subType);
-                    return null;
-            }
+            return handleDpt232(r, g, b, subType);
         }
         LOGGER.warn("Failed to convert '{}' (DPT 232): Pattern does not match", value);
         return null;
     }
 
+    private static @Nullable Type handleDpt232(int r, int g, int b, String subType) {
+        switch (subType) {
+            case "600":
+                return HSBType.fromRGB(r, g, b);
+            case "60000":
+                // MDT specific: mis-use 232.600 for hsv instead of rgb
+                DecimalType hue = new DecimalType(coerceToRange(r * 360.0 / 255.0, 0.0, 359.9999));
+                PercentType sat = new PercentType(BigDecimal.valueOf(coerceToRange(g / 2.55, 0.0, 100.0)));
+                PercentType bright = new PercentType(BigDecimal.valueOf(coerceToRange(b / 2.55, 0.0, 100.0)));
+                return new HSBType(hue, sat, bright);
+            default:
+                LOGGER.warn("Unknown subtype '232.{}', no conversion possible.", subType);
+                return null;
+        }
+    }
+
     private static @Nullable Type handleDpt242(String value) {
         Matcher xyY = XYY_PATTERN.matcher(value);
         if (xyY.matches()) {
@@ -487,31 +597,38 @@ public class ValueDecoder {
 
     private static @Nullable Type handleNumericDpt(String id, DPTXlator translator, Class<? extends Type> preferredType)
             throws KNXFormatException {
+        // prevent loss of precision, do not represent 64bit decimal using double
+        Long exactValue = translator instanceof DPTXlator64BitSigned translatorSigned
+                ? translatorSigned.getValueSigned()
+                : null;
+        return handleNumericDpt(id, translator.getNumericValue(), exactValue, preferredType);
+    }
+
+    private static @Nullable Type handleNumericDpt(String id, double value, @Nullable Long exactValue,
+            Class<? extends Type> preferredType) {
         Set<Class<? extends Type>> allowedTypes = DPTUtil.getAllowedTypes(id);
 
-        double value = translator.getNumericValue();
         if (allowedTypes.contains(PercentType.class)
                 && (HSBType.class.equals(preferredType) || PercentType.class.equals(preferredType))) {
             return new PercentType(BigDecimal.valueOf(Math.round(value)));
         }
 
         if (allowedTypes.contains(QuantityType.class) && !disableUoM) {
-            String unit = DPTUnits.getUnitForDpt(id);
+            Unit<?> unit = DPTUnits.getParsedUnitForDpt(id);
             if (unit != null) {
-                if (translator instanceof DPTXlator64BitSigned translatorSigned) {
-                    // prevent loss of precision, do not represent 64bit decimal using double
-                    return new QuantityType<>(translatorSigned.getValueSigned() + " " + unit);
+                if (exactValue != null) {
+                    return new QuantityType<>(BigDecimal.valueOf(exactValue), unit);
                 }
-                return new QuantityType<>(value + " " + unit);
+                // same number representation as parsing the string value
+                return new QuantityType<>(new BigDecimal(Double.toString(value)), unit);
             } else {
                 LOGGER.trace("Could not determine unit for DPT '{}', fallback to plain decimal", id);
             }
         }
 
         if (allowedTypes.contains(DecimalType.class)) {
-            if (translator instanceof DPTXlator64BitSigned translatorSigned) {
-                // prevent loss of precision, do not represent 64bit decimal using double
-                return new DecimalType(translatorSigned.getValueSigned());
+            if (exactValue != null) {
+                return new DecimalType(exactValue.longValue());
             }
             return new DecimalType(value);
         }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.IndividualAddress;
+
+/**
+ * Tests for {@link GroupAddressDispatcher}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class GroupAddressDispatcherTest {
+
+    private static class RecordingListener implements GroupAddressListener {
+        private final Set<GroupAddress> groupAddresses = new HashSet<>();
+        private final List<String> received = new ArrayList<>();
+
+        @Override
+        public boolean listensTo(GroupAddress destination) {
+            return groupAddresses.contains(destination);
+        }
+
+        @Override
+        public Set<GroupAddress> getGroupAddresses() {
+            return groupAddresses;
+        }
+
+        @Override
+        public void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+            received.add(destination + ":" + asdu[0]);
+        }
+
+        @Override
+        public void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+
+        @Override
+        public void onGroupReadResponse(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+    }
+
+    private final AbstractKNXClient client = mock(AbstractKNXClient.class);
+    private final IndividualAddress source = new IndividualAddress(1, 1, 1);
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final GroupAddressDispatcher dispatcher = new GroupAddressDispatcher(tasks::add);
+
+    private boolean write(GroupAddress destination, int value) {
+        return dispatcher.dispatch(destination,
+                listener -> listener.onGroupWrite(client, source, destination, new byte[] { (byte) value }));
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    @Test
+    public void testDispatchToListenersOfGroupAddress() {
+        GroupAddress ga1 = new GroupAddress(1, 2, 3);
+        GroupAddress ga2 = new GroupAddress(4, 5, 6);
+        RecordingListener listener1 = new RecordingListener();
+        listener1.groupAddresses.add(ga1);
+        RecordingListener listener2 = new RecordingListener();
+        listener2.groupAddresses.addAll(Set.of(ga1, ga2));
+        dispatcher.register(listener1);
+        dispatcher.register(listener2);
+
+        assertTrue(write(ga1, 1));
+        assertTrue(write(ga2, 2));
+        assertFalse(write(new GroupAddress(7, 7, 7), 3));
+        runTasks();
+
+        assertEquals(List.of("1/2/3:1"), listener1.received);
+        assertEquals(List.of("1/2/3:1", "4/5/6:2"), listener2.received);
+    }
+
+    @Test
+    public void testOrderIsPreservedWithOneTaskPerBurst() {
+        GroupAddress ga = new GroupAddress(1, 2, 3);
+        RecordingListener listener = new RecordingListener();
+        listener.groupAddresses.add(ga);
+        dispatcher.register(listener);
+
+        for (int i = 0; i < 10; i++) {
+            write(ga, i);
+        }
+        // one task delivers all queued telegrams
+        assertEquals(1, tasks.size());
+        runTasks();
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            expected.add("1/2/3:" + i);
+        }
+        assertEquals(expected, listener.received);
+    }
+
+    @Test
+    public void testRegisterAgainUpdatesIndex() {
+        GroupAddress ga1 = new GroupAddress(1, 2, 3);
+        GroupAddress ga2 = new GroupAddress(4, 5, 6);
+        RecordingListener listener = new RecordingListener();
+        listener.groupAddresses.add(ga1);
+        dispatcher.register(listener);
+
+        listener.groupAddresses.clear();
+        listener.groupAddresses.add(ga2);
+        dispatcher.register(listener);
+
+        assertFalse(write(ga1, 1));
+        assertTrue(write(ga2, 2));
+        runTasks();
+        assertEquals(List.of("4/5/6:2"), listener.received);
+        assertEquals(1, dispatcher.getListenerCount());
+
+        dispatcher.unregister(listener);
+        assertFalse(write(ga2, 3));
+        assertEquals(0, dispatcher.getListenerCount());
+    }
+}
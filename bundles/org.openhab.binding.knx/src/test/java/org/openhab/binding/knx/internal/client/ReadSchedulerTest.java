@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+
+/**
+ * Tests for {@link ReadScheduler}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ReadSchedulerTest {
+    private long now = 0;
+    private final ReadScheduler scheduler = new ReadScheduler(50, () -> now);
+
+    private static ReadDatapoint read(int subGroup, ReadPriority priority) {
+        return new ReadDatapoint(new CommandDP(new GroupAddress(1, 1, subGroup), "test", 0, "1.001"), 3, priority);
+    }
+
+    private static int subGroup(@Nullable ReadDatapoint datapoint) {
+        assertNotNull(datapoint);
+        return datapoint.getDatapoint().getMainAddress().getSubGroup8();
+    }
+
+    @Test
+    public void testHigherPriorityIsReadFirst() {
+        for (int i = 0; i < 10; i++) {
+            scheduler.add(read(i, ReadPriority.INITIAL));
+        }
+        scheduler.add(read(100, ReadPriority.PERIODIC));
+        scheduler.add(read(200, ReadPriority.USER));
+
+        assertEquals(200, subGroup(scheduler.poll()));
+        assertEquals(100, subGroup(scheduler.poll()));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, subGroup(scheduler.poll()));
+        }
+        assertNull(scheduler.poll());
+    }
+
+    @Test
+    public void testReadsOfSameGroupAddressAreMerged() {
+        assertTrue(scheduler.add(read(1, ReadPriority.INITIAL)));
+        assertTrue(scheduler.add(read(2, ReadPriority.INITIAL)));
+        assertFalse(scheduler.add(read(1, ReadPriority.INITIAL)));
+        // promoted to the user lane
+        assertFalse(scheduler.add(read(2, ReadPriority.USER)));
+
+        ReadScheduler.Statistics statistics = scheduler.getStatistics();
+        assertEquals(2, statistics.merged());
+        assertEquals(1, statistics.lanes().get(ReadPriority.USER.ordinal()).depth());
+        assertEquals(1, statistics.lanes().get(ReadPriority.INITIAL.ordinal()).depth());
+
+        assertEquals(2, subGroup(scheduler.poll()));
+        assertEquals(1, subGroup(scheduler.poll()));
+        assertNull(scheduler.poll());
+
+        // can be queued again after it was read
+        assertTrue(scheduler.add(read(1, ReadPriority.PERIODIC)));
+    }
+
+    @Test
+    public void testWaitTimeIsMeasured() {
+        scheduler.add(read(1, ReadPriority.INITIAL));
+        now += TimeUnit.MILLISECONDS.toNanos(300);
+        scheduler.add(read(2, ReadPriority.INITIAL));
+        now += TimeUnit.MILLISECONDS.toNanos(100);
+        assertEquals(400, scheduler.getStatistics().lanes().get(ReadPriority.INITIAL.ordinal()).oldestWaitMillis());
+
+        scheduler.poll();
+        scheduler.poll();
+
+        ReadScheduler.LaneStatistics lane = scheduler.getStatistics().lanes().get(ReadPriority.INITIAL.ordinal());
+        assertEquals(0, lane.depth());
+        assertEquals(2, lane.reads());
+        assertEquals(250, lane.averageWaitMillis());
+        assertEquals(400, lane.maxWaitMillis());
+    }
+
+    @Test
+    public void testPauseAdaptsToResponseTime() {
+        assertTrue(scheduler.isReadDue());
+
+        // fast responses, the configured reading pause applies
+        scheduler.readCompleted(TimeUnit.MILLISECONDS.toNanos(10), true);
+        assertFalse(scheduler.isReadDue());
+        now += TimeUnit.MILLISECONDS.toNanos(50);
+        assertTrue(scheduler.isReadDue());
+        assertEquals(50, scheduler.getStatistics().pauseMillis());
+
+        // slow responses extend the pause
+        for (int i = 0; i < 20; i++) {
+            scheduler.readCompleted(TimeUnit.MILLISECONDS.toNanos(200), true);
+        }
+        long pause = scheduler.getStatistics().pauseMillis();
+        assertTrue(pause > 150 && pause <= 200, "pause " + pause);
+
+        // failures back off
+        scheduler.readCompleted(TimeUnit.SECONDS.toNanos(10), false);
+        assertEquals(2 * pause, scheduler.getStatistics().pauseMillis(), 1);
+        for (int i = 0; i < 10; i++) {
+            scheduler.readCompleted(TimeUnit.SECONDS.toNanos(10), false);
+        }
+        assertEquals(5000, scheduler.getStatistics().pauseMillis());
+
+        scheduler.clear();
+        assertTrue(scheduler.isReadDue());
+        assertEquals(50, scheduler.getStatistics().pauseMillis());
+    }
+}
@@ -15,9 +15,14 @@ package org.openhab.binding.knx.internal.dpt;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Matcher;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -25,15 +30,23 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.IncreaseDecreaseType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StopMoveType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
+import org.openhab.core.types.Type;
+import org.openhab.core.types.UnDefType;
 import org.openhab.core.util.ColorUtil;
 
 import tuwien.auto.calimero.dptxlator.DPTXlator2ByteUnsigned;
@@ -637,4 +650,116 @@ class DPTTest {
             Assertions.assertEquals(String.format("(%.4f %.4f) %.1f %%", dx, dy, dY), result);
         }
     }
+
+    private static byte[] bytes(int... values) {
+        byte[] data = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            data[i] = (byte) values[i];
+        }
+        return data;
+    }
+
+    private static Arguments decoded(String dptId, byte[] data, Class<? extends Type> preferredType, Type expected) {
+        return Arguments.of(dptId, data, preferredType, expected);
+    }
+
+    private static Arguments decoded(String dptId, byte[] data, Type expected) {
+        return decoded(dptId, data, DecimalType.class, expected);
+    }
+
+    /**
+     * values decoded by the Calimero translator before DPTs were decoded directly from the raw data
+     */
+    private static Stream<Arguments> directlyDecodedValueProvider() {
+        List<Arguments> values = new ArrayList<>();
+        Set<String> specialBooleans = Set.of("1.008", "1.009", "1.010", "1.019", "1.022");
+        ValueDecoder.getDirectlyDecodedDpts().stream().filter(id -> id.startsWith("1."))
+                .filter(id -> !specialBooleans.contains(id)).sorted().forEach(id -> {
+                    values.add(decoded(id, bytes(0), OnOffType.class, OnOffType.OFF));
+                    values.add(decoded(id, bytes(1), OnOffType.class, OnOffType.ON));
+                    values.add(decoded(id, bytes(0), OpenClosedType.class, OpenClosedType.CLOSED));
+                    values.add(decoded(id, bytes(1), OpenClosedType.class, OpenClosedType.OPEN));
+                });
+        values.addAll(List.of( //
+                decoded("1.008", bytes(0), UpDownType.UP), //
+                decoded("1.008", bytes(1), UpDownType.DOWN), //
+                decoded("1.009", bytes(0), OpenClosedType.class, OpenClosedType.CLOSED), //
+                decoded("1.009", bytes(1), OpenClosedType.class, OpenClosedType.OPEN), //
+                decoded("1.009", bytes(1), OnOffType.class, OnOffType.ON), //
+                decoded("1.010", bytes(0), StopMoveType.STOP), //
+                decoded("1.010", bytes(1), StopMoveType.MOVE), //
+                decoded("1.019", bytes(0), OpenClosedType.class, OpenClosedType.CLOSED), //
+                decoded("1.019", bytes(0), OnOffType.class, OnOffType.OFF), //
+                decoded("1.022", bytes(0), new DecimalType(0)), //
+                decoded("1.022", bytes(1), new DecimalType(1)), //
+                decoded("3.007", bytes(0x09), IncreaseDecreaseType.INCREASE), //
+                decoded("3.007", bytes(0x01), IncreaseDecreaseType.DECREASE), //
+                decoded("3.007", bytes(0x08), UnDefType.NULL), //
+                decoded("3.008", bytes(0x0c), UpDownType.DOWN), //
+                decoded("3.008", bytes(0x04), UpDownType.UP), //
+                decoded("3.008", bytes(0x00), UnDefType.NULL), //
+                decoded("5.004", bytes(0x64), QuantityType.class, new QuantityType<>("100 %")), //
+                decoded("5.004", bytes(0xff), PercentType.class, new QuantityType<>("255 %")), //
+                decoded("5.005", bytes(0xff), new DecimalType(255)), //
+                decoded("5.006", bytes(0xfe), new DecimalType(254)), //
+                decoded("5.010", bytes(42), new DecimalType(42)), //
+                decoded("6.001", bytes(0x7f), new QuantityType<>("127 %")), //
+                decoded("6.001", bytes(0xff), new QuantityType<>("-1 %")), //
+                decoded("6.010", bytes(0x80), new DecimalType(-128)), //
+                decoded("7.001", bytes(0xff, 0xff), new DecimalType(65535)), //
+                decoded("7.002", bytes(0x00, 0xff), new QuantityType<>("255 ms")), //
+                decoded("7.003", bytes(0x00, 0x64), new QuantityType<>("1000 ms")), //
+                decoded("7.004", bytes(0xff, 0xff), new QuantityType<>("6553500 ms")), //
+                decoded("7.005", bytes(0xff, 0xff), new QuantityType<>("65535 s")), //
+                decoded("7.006", bytes(0x00, 0xff), new QuantityType<>("255 min")), //
+                decoded("7.007", bytes(0x00, 0xff), new QuantityType<>("918000 s")), //
+                decoded("7.011", bytes(0xff, 0xff), new QuantityType<>("65535 mm")), //
+                decoded("7.012", bytes(0x00, 0xff), new QuantityType<>("255 mA")), //
+                decoded("7.013", bytes(0x12, 0x34), new QuantityType<>("4660 lx")), //
+                decoded("7.600", bytes(0xff, 0xff), new QuantityType<>("65535 K")), //
+                decoded("8.001", bytes(0x80, 0x00), new DecimalType(-32768)), //
+                decoded("8.002", bytes(0x7f, 0xff), new QuantityType<>("32767 ms")), //
+                decoded("8.003", bytes(0x80, 0x00), new QuantityType<>("-327680 ms")), //
+                decoded("8.004", bytes(0x7f, 0xff), new QuantityType<>("3276700 ms")), //
+                decoded("8.005", bytes(0x80, 0x00), new QuantityType<>("-32768 s")), //
+                decoded("8.006", bytes(0x7f, 0xff), new QuantityType<>("32767 min")), //
+                decoded("8.007", bytes(0x80, 0x00), new QuantityType<>("-32768 h")), //
+                decoded("8.011", bytes(0xff, 0xff), new QuantityType<>("-1 °")), //
+                decoded("8.012", bytes(0x7f, 0xff), new QuantityType<>("32767 m")), //
+                decoded("12.001", bytes(0xff, 0xff, 0xff, 0xfe), new DecimalType("4294967294")), //
+                decoded("13.001", bytes(0x80, 0, 0, 0), new DecimalType(-2147483648)), //
+                decoded("13.010", bytes(0x7f, 0xff, 0xff, 0xff), new QuantityType<>("2147483647 Wh")), //
+                decoded("13.011", bytes(0x80, 0, 0, 0), new QuantityType<>("-2147483648 VAh")), //
+                decoded("13.012", bytes(0, 0, 0, 42), new QuantityType<>("42 varh")), //
+                decoded("13.013", bytes(0xff, 0xff, 0xff, 0xff), new QuantityType<>("-1 kWh")), //
+                decoded("13.014", bytes(0x7f, 0xff, 0xff, 0xff), new QuantityType<>("2147483647000 VAh")), //
+                decoded("13.015", bytes(0x80, 0, 0, 0), new QuantityType<>("-2147483648 kvarh")), //
+                decoded("13.100", bytes(0x12, 0x34, 0x56, 0x78), new QuantityType<>("305419896 s")), //
+                decoded("29.010", bytes(0x7f, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff),
+                        new QuantityType<>("9223372036854775807 Wh")), //
+                decoded("29.011", bytes(0x80, 0, 0, 0, 0, 0, 0, 0), new QuantityType<>("-9223372036854775808 VAh")), //
+                decoded("29.012", bytes(0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff), new QuantityType<>("-1 varh")),
+                decoded("232.600", bytes(0xff, 0x00, 0x00), HSBType.class, HSBType.fromRGB(255, 0, 0)), //
+                decoded("232.600", bytes(0x12, 0x34, 0x56), HSBType.class, HSBType.fromRGB(0x12, 0x34, 0x56)), //
+                decoded("232.60000", bytes(0x00, 0x00, 0x00), HSBType.class, new HSBType("0,0,0"))));
+        return values.stream();
+    }
+
+    @Test
+    public void testDirectlyDecodedValuesCoverAllDirectlyDecodedDpts() {
+        Set<String> covered = directlyDecodedValueProvider().map(arguments -> (String) arguments.get()[0])
+                .collect(Collectors.toSet());
+        for (String dptId : ValueDecoder.getDirectlyDecodedDpts()) {
+            assertTrue(covered.contains(dptId), "no expected value for DPT " + dptId);
+        }
+        // 2-byte floats are decoded by the translator, see ValueDecoder
+        assertFalse(ValueDecoder.getDirectlyDecodedDpts().contains("9.001"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("directlyDecodedValueProvider")
+    public void testDirectDecoding(String dptId, byte[] data, Class<? extends Type> preferredType, Type expected) {
+        assertEquals(expected, ValueDecoder.decode(dptId, data, preferredType),
+                "DPT " + dptId + ", payload " + HexFormat.of().formatHex(data));
+    }
 }
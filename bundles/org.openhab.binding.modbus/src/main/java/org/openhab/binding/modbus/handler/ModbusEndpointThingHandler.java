@@ -14,6 +14,7 @@ package org.openhab.binding.modbus.handler;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.modbus.internal.ModbusPollCoalescer;
 import org.openhab.core.common.registry.Identifiable;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.thing.ThingUID;
@@ -51,4 +52,14 @@ public interface ModbusEndpointThingHandler extends Identifiable<ThingUID> {
      * @return boolean true if the discovery is enabled
      */
     boolean isDiscoveryEnabled();
+
+    /**
+     * Get the {@link ModbusPollCoalescer} merging the regular polls of the pollers of this endpoint
+     *
+     * @return poll coalescer, or <code>null</code> if polls should not be merged or the initialization is not
+     *         complete
+     */
+    default @Nullable ModbusPollCoalescer getPollCoalescer() {
+        return null;
+    }
 }
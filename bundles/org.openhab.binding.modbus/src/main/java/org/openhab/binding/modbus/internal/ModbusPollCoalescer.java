@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Merges the regular polls of the pollers of one endpoint into as few Modbus transactions as possible.
+ *
+ * Polls are compatible when they share the unit id, the function code and the refresh interval. Compatible polls
+ * whose ranges overlap or are adjacent are merged into one request, as long as the merged request stays within the
+ * protocol limits ({@link ModbusConstants#MAX_REGISTERS_READ_COUNT} registers or
+ * {@link ModbusConstants#MAX_BITS_READ_COUNT} bits). Ranges with gaps in between are never merged, since reading
+ * unmapped addresses might fail on the slave.
+ *
+ * The response of a merged request is sliced and handed to the callbacks of each poll, as if the poll had been
+ * executed on its own.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollCoalescer {
+
+    /**
+     * Handle of a poll registered with the coalescer
+     */
+    public class Registration {
+        private final ModbusReadRequestBlueprint request;
+        private final long pollPeriodMillis;
+        private final ModbusReadCallback resultCallback;
+        private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback;
+
+        private Registration(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+                ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.pollPeriodMillis = pollPeriodMillis;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        private int start() {
+            return request.getReference();
+        }
+
+        private int end() {
+            return request.getReference() + request.getDataLength();
+        }
+
+        /**
+         * Stop polling. The remaining polls of the same group are merged again.
+         */
+        public void unregister() {
+            ModbusPollCoalescer.this.unregister(this);
+        }
+    }
+
+    private record GroupKey(int unitId, ModbusReadFunctionCode functionCode, long pollPeriodMillis) {
+    }
+
+    /**
+     * A single merged request, fanning out the response to the polls it contains
+     */
+    private class Block implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+        private final ModbusReadRequestBlueprint request;
+        private final List<Registration> members;
+
+        private Block(ModbusReadRequestBlueprint request, List<Registration> members) {
+            this.request = request;
+            this.members = members;
+        }
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            transactions.incrementAndGet();
+            savedTransactions.addAndGet(members.size() - 1);
+            result.getRegisters().ifPresent(registers -> {
+                byte[] bytes = registers.getBytes();
+                for (Registration member : members) {
+                    int offset = (member.start() - request.getReference()) * 2;
+                    ModbusRegisterArray slice = new ModbusRegisterArray(
+                            Arrays.copyOfRange(bytes, offset, offset + member.request.getDataLength() * 2));
+                    member.resultCallback.handle(new AsyncModbusReadResult(member.request, slice));
+                }
+            });
+            result.getBits().ifPresent(bits -> {
+                for (Registration member : members) {
+                    int offset = member.start() - request.getReference();
+                    BitArray slice = new BitArray(member.request.getDataLength());
+                    for (int i = 0; i < slice.size(); i++) {
+                        slice.setBit(i, bits.getBit(offset + i));
+                    }
+                    member.resultCallback.handle(new AsyncModbusReadResult(member.request, slice));
+                }
+            });
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            transactions.incrementAndGet();
+            savedTransactions.addAndGet(members.size() - 1);
+            for (Registration member : members) {
+                member.failureCallback.handle(new AsyncModbusFailure<>(member.request, failure.getCause()));
+            }
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusPollCoalescer.class);
+    private final ModbusCommunicationInterface comms;
+    private final Map<GroupKey, List<Registration>> registrations = new HashMap<>();
+    private final Map<GroupKey, List<PollTask>> pollTasks = new HashMap<>();
+    private final AtomicLong transactions = new AtomicLong();
+    private final AtomicLong savedTransactions = new AtomicLong();
+
+    public ModbusPollCoalescer(ModbusCommunicationInterface comms) {
+        this.comms = comms;
+    }
+
+    /**
+     * Register a regular poll. The poll is merged with the already registered compatible polls.
+     *
+     * @param request request to poll
+     * @param pollPeriodMillis poll interval in milliseconds
+     * @param resultCallback callback receiving the response of the given request
+     * @param failureCallback callback receiving the errors of the given request
+     * @return registration, to be used for unregistering
+     */
+    public synchronized Registration registerRegularPoll(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+            ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        Registration registration = new Registration(request, pollPeriodMillis, resultCallback, failureCallback);
+        GroupKey key = keyOf(registration);
+        registrations.computeIfAbsent(key, k -> new ArrayList<>()).add(registration);
+        reschedule(key);
+        return registration;
+    }
+
+    private synchronized void unregister(Registration registration) {
+        GroupKey key = keyOf(registration);
+        List<Registration> group = registrations.get(key);
+        if (group == null || !group.remove(registration)) {
+            return;
+        }
+        if (group.isEmpty()) {
+            registrations.remove(key);
+        }
+        reschedule(key);
+    }
+
+    /**
+     * Unregister all polls
+     */
+    public synchronized void dispose() {
+        pollTasks.values().forEach(tasks -> tasks.forEach(comms::unregisterRegularPoll));
+        pollTasks.clear();
+        registrations.clear();
+        logger.debug("Poll coalescing of endpoint {}: {} transactions executed, {} transactions saved",
+                comms.getEndpoint(), transactions.get(), savedTransactions.get());
+    }
+
+    /**
+     * @return number of transactions executed for merged requests
+     */
+    public long getTransactionCount() {
+        return transactions.get();
+    }
+
+    /**
+     * @return number of transactions that were saved by merging requests
+     */
+    public long getSavedTransactionCount() {
+        return savedTransactions.get();
+    }
+
+    /**
+     * @return number of registered polls
+     */
+    public synchronized int getPollCount() {
+        return registrations.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * @return number of requests executed per poll cycle, after merging
+     */
+    public synchronized int getRequestCount() {
+        return pollTasks.values().stream().mapToInt(List::size).sum();
+    }
+
+    private GroupKey keyOf(Registration registration) {
+        return new GroupKey(registration.request.getUnitID(), registration.request.getFunctionCode(),
+                registration.pollPeriodMillis);
+    }
+
+    private void reschedule(GroupKey key) {
+        List<PollTask> oldTasks = pollTasks.remove(key);
+        if (oldTasks != null) {
+            oldTasks.forEach(comms::unregisterRegularPoll);
+        }
+
+        List<Registration> group = registrations.get(key);
+        if (group == null) {
+            return;
+        }
+
+        List<PollTask> tasks = new ArrayList<>();
+        for (List<Registration> members : merge(key, group)) {
+            if (members.size() == 1) {
+                // Nothing to merge, poll as usual
+                Registration member = members.get(0);
+                tasks.add(comms.registerRegularPoll(member.request, key.pollPeriodMillis(), 0, member.resultCallback,
+                        member.failureCallback));
+            } else {
+                int start = members.stream().mapToInt(Registration::start).min().orElse(0);
+                int end = members.stream().mapToInt(Registration::end).max().orElse(0);
+                int maxTries = members.stream().mapToInt(m -> m.request.getMaxTries()).max().orElse(1);
+                Block block = new Block(
+                        new ModbusReadRequestBlueprint(key.unitId(), key.functionCode(), start, end - start, maxTries),
+                        members);
+                tasks.add(comms.registerRegularPoll(block.request, key.pollPeriodMillis(), 0, block, block));
+            }
+        }
+        pollTasks.put(key, tasks);
+        logger.debug("Poll coalescing of endpoint {}: {} polls of unit {} ({}, every {} ms) merged into {} requests",
+                comms.getEndpoint(), group.size(), key.unitId(), key.functionCode(), key.pollPeriodMillis(),
+                tasks.size());
+    }
+
+    /**
+     * Merge overlapping and adjacent polls, sorted by start address, into blocks respecting the protocol limits
+     */
+    private List<List<Registration>> merge(GroupKey key, List<Registration> group) {
+        int limit = switch (key.functionCode()) {
+            case READ_COILS, READ_INPUT_DISCRETES -> ModbusConstants.MAX_BITS_READ_COUNT;
+            default -> ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        };
+        List<Registration> sorted = new ArrayList<>(group);
+        sorted.sort(Comparator.comparingInt(Registration::start).thenComparingInt(Registration::end));
+
+        List<List<Registration>> blocks = new ArrayList<>();
+        @Nullable
+        List<Registration> current = null;
+        int blockStart = 0;
+        int blockEnd = 0;
+        for (Registration registration : sorted) {
+            int end = Math.max(blockEnd, registration.end());
+            if (current != null && registration.start() <= blockEnd && end - blockStart <= limit) {
+                current.add(registration);
+                blockEnd = end;
+            } else {
+                current = new ArrayList<>();
+                current.add(registration);
+                blocks.add(current);
+                blockStart = registration.start();
+                blockEnd = registration.end();
+            }
+        }
+        return blocks;
+    }
+}
@@ -119,11 +119,42 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     // data channels + 4 for read/write last error/success
     private static final int NUMER_OF_CHANNELS_HINT = CHANNEL_ID_TO_ACCEPTED_TYPES.size() + 4;
 
+    /**
+     * Decode plan of the read parameters, compiled once in initialize
+     *
+     * @param valueType value type to extract
+     * @param extractIndex index passed to the extraction, relative to the poll start. With value types of at least
+     *            16 bits, the index of the first register. With smaller value types, the index of the N'th
+     *            1-bit/8-bit item. With coils and discrete inputs, the index of the bit.
+     * @param firstRegister index of the first register holding the value, relative to the poll start
+     * @param registerCount number of registers holding the value
+     */
+    private record ReadPlan(ValueType valueType, int extractIndex, int firstRegister, int registerCount) {
+
+        /**
+         * Raw bits of the registers holding the value, used to detect unchanged values without decoding them
+         *
+         * @return raw bits, or <code>null</code> if the registers are not part of the response
+         */
+        @Nullable
+        Long rawValue(ModbusRegisterArray registers) {
+            if (firstRegister < 0 || firstRegister + registerCount > registers.size()) {
+                return null;
+            }
+            long raw = 0;
+            for (int i = firstRegister; i < firstRegister + registerCount; i++) {
+                raw = (raw << 16) | registers.getRegister(i);
+            }
+            return raw;
+        }
+    }
+
     //
     // If you change the below default/initial values, please update the corresponding values in dispose()
     //
     private volatile @Nullable ModbusDataConfiguration config;
     private volatile @Nullable ValueType readValueType;
+    private volatile @Nullable ReadPlan readPlan;
     private volatile @Nullable ValueType writeValueType;
     private volatile @Nullable ModbusTransformation readTransformation;
     private volatile @Nullable ModbusTransformation writeTransformation;
@@ -145,6 +176,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile Map<String, ChannelUID> channelCache = new HashMap<>();
     private volatile Map<ChannelUID, Long> channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     private volatile Map<ChannelUID, State> channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+    // Raw value of the last processed poll result. Polls with the same raw value are not decoded again until
+    // unchanged values need to be updated
+    private volatile @Nullable Long lastRawValue;
+    private volatile long unchangedValuesUpdateDueMillis;
 
     private volatile LocalDateTime lastStatusInfoUpdate = LocalDateTime.MIN;
     private volatile ThingStatusInfo statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE,
@@ -164,6 +199,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
 
         if (RefreshType.REFRESH == command) {
+            // Make sure the next poll result is decoded, e.g. for a newly linked channel
+            lastRawValue = null;
             ModbusPollerThingHandler poller = pollerHandler;
             if (poller == null) {
                 // Data thing must be child of endpoint, and thus write-only.
@@ -443,6 +480,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             validateAndParseReadParameters(localConfig);
             validateAndParseWriteParameters(localConfig);
             validateMustReadOrWrite();
+            readPlan = compileReadPlan();
 
             updateStatusIfChanged(ThingStatus.ONLINE);
         } catch (ModbusConfigurationException | EndpointNotInitializedException e) {
@@ -458,6 +496,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     public synchronized void dispose() {
         config = null;
         readValueType = null;
+        readPlan = null;
         writeValueType = null;
         readTransformation = null;
         writeTransformation = null;
@@ -480,6 +519,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
         channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
         channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+        lastRawValue = null;
+        unchangedValuesUpdateDueMillis = 0L;
     }
 
     @Override
@@ -783,6 +824,42 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Compile the read parameters into a {@link ReadPlan}, so that poll results can be decoded without deriving the
+     * indices again
+     *
+     * @return read plan, or <code>null</code> if the thing is not reading
+     */
+    private @Nullable ReadPlan compileReadPlan() {
+        ValueType readValueType = this.readValueType;
+        if (!isReadEnabled || readValueType == null || readIndex.isEmpty()) {
+            return null;
+        }
+        int relativeIndex = readIndex.get() - pollStart;
+        ModbusReadFunctionCode functionCode = this.functionCode;
+        if (functionCode == ModbusReadFunctionCode.READ_COILS
+                || functionCode == ModbusReadFunctionCode.READ_INPUT_DISCRETES) {
+            return new ReadPlan(readValueType, relativeIndex, -1, 0);
+        }
+        // extractIndex:
+        // e.g. with bit, extractIndex=4 means 5th bit (from right) of the first register ("10.4" -> 5th bit of
+        // register 10), and extractIndex=20 means 5th bit of the second register
+        // e.g. with 8bit integer, extractIndex=3 means high byte of second register
+        //
+        // with <16 bit types, this is the index of the N'th 1-bit/8-bit item. Each register has 16 or 2 items,
+        // respectively.
+        // with >=16 bit types, this is index of first register
+        if (readValueType.getBits() >= 16) {
+            // Invariant, checked in initialize
+            assert readSubIndex.orElse(0) == 0;
+            return new ReadPlan(readValueType, relativeIndex, relativeIndex, readValueType.getBits() / 16);
+        } else {
+            int subIndex = readSubIndex.orElse(0);
+            int itemsPerRegister = 16 / readValueType.getBits();
+            return new ReadPlan(readValueType, relativeIndex * itemsPerRegister + subIndex, relativeIndex, 1);
+        }
+    }
+
     private boolean containsOnOff(List<Class<? extends State>> channelAcceptedDataTypes) {
         return channelAcceptedDataTypes.stream().anyMatch(clz -> clz.equals(OnOffType.class));
     }
@@ -810,39 +887,24 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         } else if (!isReadEnabled) {
             return;
         }
-        ValueType readValueType = this.readValueType;
-        if (readValueType == null) {
+        ReadPlan readPlan = this.readPlan;
+        if (readPlan == null) {
             return;
         }
-        State numericState;
-
-        // extractIndex:
-        // e.g. with bit, extractIndex=4 means 5th bit (from right) ("10.4" -> 5th bit of register 10, "10.4" -> 5th bit
-        // of register 10)
-        // bit of second register)
-        // e.g. with 8bit integer, extractIndex=3 means high byte of second register
-        //
-        // with <16 bit types, this is the index of the N'th 1-bit/8-bit item. Each register has 16/2 items,
-        // respectively.
-        // with >=16 bit types, this is index of first register
-        int extractIndex;
-        if (readValueType.getBits() >= 16) {
-            // Invariant, checked in initialize
-            assert readSubIndex.orElse(0) == 0;
-            extractIndex = readIndex.get() - pollStart;
-        } else {
-            int subIndex = readSubIndex.orElse(0);
-            int itemsPerRegister = 16 / readValueType.getBits();
-            extractIndex = (readIndex.get() - pollStart) * itemsPerRegister + subIndex;
+        Long rawValue = readPlan.rawValue(registers);
+        if (skipUnchangedValue(rawValue)) {
+            return;
         }
-        numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
+        State numericState = ModbusBitUtilities
+                .extractStateFromRegisters(registers, readPlan.extractIndex(), readPlan.valueType())
                 .map(state -> (State) state).orElse(UnDefType.UNDEF);
         boolean boolValue = !numericState.equals(DecimalType.ZERO);
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
+        lastRawValue = rawValue;
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={}, readSubIndex(or 0)={}, extractIndex={} -> numeric value {} and boolValue={}. Registers {} for request {}",
-                thing.getUID(), values, readValueType, readIndex, readSubIndex.orElse(0), extractIndex, numericState,
-                boolValue, registers, request);
+                thing.getUID(), values, readPlan.valueType(), readIndex, readSubIndex.orElse(0),
+                readPlan.extractIndex(), numericState, boolValue, registers, request);
     }
 
     private synchronized void onBits(ModbusReadRequestBlueprint request, BitArray bits) {
@@ -851,14 +913,46 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         } else if (!isReadEnabled) {
             return;
         }
-        boolean boolValue = bits.getBit(readIndex.get() - pollStart);
+        ReadPlan readPlan = this.readPlan;
+        if (readPlan == null) {
+            return;
+        }
+        boolean boolValue = bits.getBit(readPlan.extractIndex());
+        Long rawValue = boolValue ? 1L : 0L;
+        if (skipUnchangedValue(rawValue)) {
+            return;
+        }
         DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
+        lastRawValue = rawValue;
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={} -> numeric value {} and boolValue={}. Bits {} for request {}",
                 thing.getUID(), values, readValueType, readIndex, numericState, boolValue, bits, request);
     }
 
+    /**
+     * Skip decoding and transforming a polled value, if the raw value is the same as with the last processed poll and
+     * no channel is due for an update of its unchanged value. Only the status and the last read success channel are
+     * updated then.
+     *
+     * @param rawValue raw value of the poll result, or <code>null</code> if unknown
+     * @return whether processing the value can be skipped
+     */
+    private boolean skipUnchangedValue(@Nullable Long rawValue) {
+        Long lastRawValue = this.lastRawValue;
+        if (rawValue == null || !rawValue.equals(lastRawValue) || statusInfo.getStatus() != ThingStatus.ONLINE
+                || updateUnchangedValuesEveryMillis <= 0L
+                || System.currentTimeMillis() > unchangedValuesUpdateDueMillis) {
+            return false;
+        }
+        updateStatusIfChanged(ThingStatus.ONLINE);
+        ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+        if (isLinked(lastReadSuccessUID)) {
+            tryUpdateState(lastReadSuccessUID, new DateTimeType());
+        }
+        return true;
+    }
+
     private synchronized void onError(ModbusReadRequestBlueprint request, Exception error) {
         if (hasConfigurationError()) {
             return;
@@ -1028,6 +1122,11 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             // Update channels that have not been updated in a while, or when their values has changed
             states.forEach((uid, state) -> updateExpiredChannel(now, uid, state));
             channelLastState = states;
+            // The earliest time an unchanged value needs to be updated again
+            ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+            unchangedValuesUpdateDueMillis = states.keySet().stream().filter(uid -> !uid.equals(lastReadSuccessUID))
+                    .mapToLong(uid -> channelLastUpdated.getOrDefault(uid, 0L) + updateUnchangedValuesEveryMillis)
+                    .min().orElse(Long.MAX_VALUE);
         }
     }
 
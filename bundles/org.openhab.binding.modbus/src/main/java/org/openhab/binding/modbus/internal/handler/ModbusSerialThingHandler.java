@@ -74,6 +74,12 @@ public class ModbusSerialThingHandler
                 stopBits, parity, encoding, config.isEcho(), config.getReceiveTimeoutMillis());
     }
 
+    @Override
+    protected boolean isPollCoalescingEnabled() {
+        ModbusSerialConfiguration localConfig = config;
+        return localConfig != null && localConfig.isCoalescePolls();
+    }
+
     /**
      * Return true if auto discovery is enabled in the config
      */
@@ -87,6 +87,12 @@ public class ModbusTcpThingHandler
         return getThing().getUID();
     }
 
+    @Override
+    protected boolean isPollCoalescingEnabled() {
+        ModbusTcpConfiguration localConfig = config;
+        return localConfig != null && localConfig.isCoalescePolls();
+    }
+
     /**
      * Returns true if discovery is enabled
      */
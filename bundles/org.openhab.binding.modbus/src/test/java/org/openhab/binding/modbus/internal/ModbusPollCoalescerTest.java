@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollCoalescerTest {
+
+    private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private @NonNullByDefault({}) ModbusPollCoalescer coalescer;
+    private final List<AsyncModbusReadResult> results = new ArrayList<>();
+    private final ModbusReadCallback resultCallback = results::add;
+    private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback = failure -> {
+    };
+
+    @BeforeEach
+    public void setUp() {
+        comms = mock(ModbusCommunicationInterface.class);
+        when(comms.registerRegularPoll(any(), anyLong(), anyLong(), any(), any()))
+                .thenAnswer(i -> mock(PollTask.class));
+        coalescer = new ModbusPollCoalescer(comms);
+    }
+
+    private static ModbusReadRequestBlueprint holding(int start, int length) {
+        return new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, start, length, 3);
+    }
+
+    @Test
+    public void testAdjacentAndOverlappingPollsAreMerged() {
+        coalescer.registerRegularPoll(holding(0, 10), 1000, resultCallback, failureCallback);
+        coalescer.registerRegularPoll(holding(10, 10), 1000, resultCallback, failureCallback);
+        coalescer.registerRegularPoll(holding(15, 10), 1000, resultCallback, failureCallback);
+        // gap in between, not merged
+        coalescer.registerRegularPoll(holding(30, 10), 1000, resultCallback, failureCallback);
+        // different refresh, not merged
+        coalescer.registerRegularPoll(holding(5, 10), 500, resultCallback, failureCallback);
+
+        assertThat(coalescer.getPollCount(), is(equalTo(5)));
+        assertThat(coalescer.getRequestCount(), is(equalTo(3)));
+    }
+
+    @Test
+    public void testProtocolLimitIsRespected() {
+        coalescer.registerRegularPoll(holding(0, 100), 1000, resultCallback, failureCallback);
+        coalescer.registerRegularPoll(holding(100, 100), 1000, resultCallback, failureCallback);
+
+        assertThat(coalescer.getRequestCount(), is(equalTo(2)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testResponseIsSliced() {
+        coalescer.registerRegularPoll(holding(0, 2), 1000, resultCallback, failureCallback);
+        coalescer.registerRegularPoll(holding(2, 1), 1000, resultCallback, failureCallback);
+
+        ArgumentCaptor<ModbusReadRequestBlueprint> request = ArgumentCaptor.forClass(ModbusReadRequestBlueprint.class);
+        ArgumentCaptor<ModbusReadCallback> callback = ArgumentCaptor.forClass(ModbusReadCallback.class);
+        verify(comms, atLeastOnce()).registerRegularPoll(request.capture(), eq(1000L), eq(0L), callback.capture(),
+                any(ModbusFailureCallback.class));
+        ModbusReadRequestBlueprint merged = request.getValue();
+        assertThat(merged.getReference(), is(equalTo(0)));
+        assertThat(merged.getDataLength(), is(equalTo(3)));
+
+        callback.getValue().handle(new AsyncModbusReadResult(merged, new ModbusRegisterArray(1, 2, 3)));
+
+        assertThat(results.size(), is(equalTo(2)));
+        assertThat(results.get(0).getRegisters().get(), is(equalTo(new ModbusRegisterArray(1, 2))));
+        assertThat(results.get(1).getRegisters().get(), is(equalTo(new ModbusRegisterArray(3))));
+        assertThat(coalescer.getSavedTransactionCount(), is(equalTo(1L)));
+    }
+
+    @Test
+    public void testUnregisterSplitsAgain() {
+        ModbusPollCoalescer.Registration first = coalescer.registerRegularPoll(holding(0, 10), 1000, resultCallback,
+                failureCallback);
+        coalescer.registerRegularPoll(holding(10, 10), 1000, resultCallback, failureCallback);
+        assertThat(coalescer.getRequestCount(), is(equalTo(1)));
+
+        first.unregister();
+
+        assertThat(coalescer.getPollCount(), is(equalTo(1)));
+        assertThat(coalescer.getRequestCount(), is(equalTo(1)));
+        verify(comms, atLeastOnce()).unregisterRegularPoll(any());
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.ModbusBitUtilities;
+import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.library.types.DecimalType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures throughput and latency of the poll, decode and write paths against the {@link SimulatedModbusSlave}, for
+ * a generic device and for the register maps of SunSpec and Sungrow inverters.
+ *
+ * Every transaction of the slave is delayed by {@link #LATENCY}, so the measured times are dominated by the number of
+ * transactions, like with a real device. The results are logged; the assertions only check what has to hold on any
+ * machine.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollMeasurementTest {
+
+    private static final Duration LATENCY = Duration.ofMillis(2);
+    private static final int CYCLES = 20;
+    private static final int POLLERS = 10;
+    private static final int REGISTERS_PER_POLLER = 10;
+
+    // SunSpec: "SunS" marker, common model (1) and three phase inverter model (103), then the end marker
+    private static final int SUNSPEC_BASE = 40000;
+    private static final int SUNSPEC_COMMON = SUNSPEC_BASE + 2;
+    private static final int SUNSPEC_COMMON_LENGTH = 66;
+    private static final int SUNSPEC_INVERTER = SUNSPEC_COMMON + 2 + SUNSPEC_COMMON_LENGTH;
+    private static final int SUNSPEC_INVERTER_LENGTH = 50;
+
+    // Sungrow: input registers of the inverter, numbered like in SungrowInverterRegisters
+    private static final int SUNGROW_INTERNAL_TEMPERATURE = 5008;
+    private static final int SUNGROW_TOTAL_DC_POWER = 5017;
+    private static final int SUNGROW_PHASE_A_VOLTAGE = 5019;
+    private static final int SUNGROW_REACTIVE_POWER = 5033;
+    private static final int SUNGROW_GRID_FREQUENCY = 5036;
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusPollMeasurementTest.class);
+
+    private @NonNullByDefault({}) SimulatedModbusSlave slave;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        slave = new SimulatedModbusSlave();
+        slave.setLatency(LATENCY);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        slave.close();
+    }
+
+    private static ModbusReadRequestBlueprint request(ModbusReadFunctionCode functionCode, int start, int length) {
+        return new ModbusReadRequestBlueprint(1, functionCode, start, length, 1);
+    }
+
+    private void setString(int address, int registers, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < registers; i++) {
+            int high = 2 * i < bytes.length ? bytes[2 * i] & 0xff : 0;
+            int low = 2 * i + 1 < bytes.length ? bytes[2 * i + 1] & 0xff : 0;
+            slave.set(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, address + i, high << 8 | low);
+        }
+    }
+
+    private void loadSunSpecInverter() {
+        ModbusReadFunctionCode holding = ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS;
+        slave.set(holding, SUNSPEC_BASE, 0x5375, 0x6e53);
+        slave.set(holding, SUNSPEC_COMMON, 1, SUNSPEC_COMMON_LENGTH);
+        setString(SUNSPEC_COMMON + 2, 16, "openHAB");
+        setString(SUNSPEC_COMMON + 18, 16, "Simulated Inverter");
+        setString(SUNSPEC_COMMON + 42, 8, "1.0");
+        setString(SUNSPEC_COMMON + 50, 16, "SIM-0001");
+        slave.set(holding, SUNSPEC_INVERTER, 103, SUNSPEC_INVERTER_LENGTH);
+        // A, AphA, AphB, AphC, A_SF
+        slave.set(holding, SUNSPEC_INVERTER + 2, 150, 50, 50, 50, -1);
+        // W, W_SF, Hz, Hz_SF
+        slave.set(holding, SUNSPEC_INVERTER + 14, 12345, -1, 5001, -2);
+        slave.set(holding, SUNSPEC_INVERTER + 2 + SUNSPEC_INVERTER_LENGTH, 0xffff, 0);
+    }
+
+    private void loadSungrowInverter() {
+        ModbusReadFunctionCode input = ModbusReadFunctionCode.READ_INPUT_REGISTERS;
+        slave.set(input, SUNGROW_INTERNAL_TEMPERATURE, 415);
+        // UINT32_SWAP: low word first
+        slave.set(input, SUNGROW_TOTAL_DC_POWER, 1576, 0);
+        slave.set(input, SUNGROW_PHASE_A_VOLTAGE, 2301, 2305, 2299);
+        // INT32_SWAP -120, power factor 0.998
+        slave.set(input, SUNGROW_REACTIVE_POWER, 0xff88, 0xffff, 998);
+        slave.set(input, SUNGROW_GRID_FREQUENCY, 5001);
+    }
+
+    private static BigDecimal decode(ModbusRegisterArray registers, int index, ValueType valueType) {
+        return ModbusBitUtilities.extractStateFromRegisters(registers, index, valueType).map(DecimalType::toBigDecimal)
+                .orElseThrow();
+    }
+
+    private static BigDecimal decodeScaled(ModbusRegisterArray registers, int index, int scaleFactorIndex) {
+        int scaleFactor = decode(registers, scaleFactorIndex, ValueType.INT16).intValue();
+        return decode(registers, index, ValueType.INT16).scaleByPowerOfTen(scaleFactor);
+    }
+
+    /**
+     * Register the requests as regular polls, merged by a {@link ModbusPollCoalescer} or one by one, and run the
+     * given number of poll cycles
+     *
+     * @return the time taken by the cycles
+     */
+    private Duration measure(String name, boolean coalesce, List<ModbusReadRequestBlueprint> requests,
+            ModbusReadCallback callback) {
+        ModbusPollCoalescer coalescer = new ModbusPollCoalescer(slave);
+        List<PollTask> tasks = new ArrayList<>();
+        for (ModbusReadRequestBlueprint request : requests) {
+            if (coalesce) {
+                coalescer.registerRegularPoll(request, 1000, callback, failure -> {
+                    throw new AssertionError(failure.getCause());
+                });
+            } else {
+                tasks.add(slave.registerRegularPoll(request, 1000, 0, callback, failure -> {
+                    throw new AssertionError(failure.getCause());
+                }));
+            }
+        }
+        slave.resetStatistics();
+        long begin = System.nanoTime();
+        for (int cycle = 0; cycle < CYCLES; cycle++) {
+            slave.runPollCycle();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - begin);
+        logger.info("{} ({}): {} cycles in {} ms, {} transactions, {} cycles/s, round trip p50 {} us, p99 {} us",
+                name, coalesce ? "merged" : "plain", CYCLES, elapsed.toMillis(), slave.getTransactionCount(),
+                CYCLES * 1000 / Math.max(1, elapsed.toMillis()), slave.getRoundTripPercentile(50).toNanos() / 1000,
+                slave.getRoundTripPercentile(99).toNanos() / 1000);
+        coalescer.dispose();
+        tasks.forEach(slave::unregisterRegularPoll);
+        return elapsed;
+    }
+
+    private Duration measureGeneric(boolean coalesce) {
+        List<ModbusReadRequestBlueprint> requests = new ArrayList<>();
+        for (int i = 0; i < POLLERS; i++) {
+            requests.add(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, i * REGISTERS_PER_POLLER,
+                    REGISTERS_PER_POLLER));
+        }
+        AtomicInteger decoded = new AtomicInteger();
+        Duration elapsed = measure("generic", coalesce, requests, result -> {
+            ModbusRegisterArray registers = result.getRegisters().orElseThrow();
+            for (int i = 0; i < registers.size(); i++) {
+                assertThat(decode(registers, i, ValueType.UINT16).intValue(),
+                        is(equalTo(result.getRequest().getReference() + i)));
+                decoded.incrementAndGet();
+            }
+        });
+        assertThat(decoded.get(), is(equalTo(CYCLES * POLLERS * REGISTERS_PER_POLLER)));
+        assertThat(slave.getTransactionCount(), is(equalTo((long) (coalesce ? CYCLES : CYCLES * POLLERS))));
+        return elapsed;
+    }
+
+    @Test
+    public void testGenericPolling() {
+        for (int i = 0; i < POLLERS * REGISTERS_PER_POLLER; i++) {
+            slave.set(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, i, i);
+        }
+        Duration merged = measureGeneric(true);
+        Duration plain = measureGeneric(false);
+
+        // every transaction waits for the latency of the slave, merged polling saves most of them
+        assertThat(slave.getRoundTripPercentile(50), is(greaterThanOrEqualTo(LATENCY)));
+        assertThat(plain, is(greaterThanOrEqualTo(LATENCY.multipliedBy(CYCLES * POLLERS))));
+        assertThat(merged, is(lessThan(plain)));
+    }
+
+    @Test
+    public void testWrites() {
+        List<Integer> functionCodes = new ArrayList<>();
+        long begin = System.nanoTime();
+        for (int i = 0; i < CYCLES; i++) {
+            slave.submitOneTimeWrite(
+                    new ModbusWriteRegisterRequestBlueprint(1, i, new ModbusRegisterArray(new int[] { i }), false, 1),
+                    result -> functionCodes.add(result.getResponse().getFunctionCode()), failure -> {
+                        throw new AssertionError(failure.getCause());
+                    });
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - begin);
+        logger.info("writes: {} in {} ms, round trip p50 {} us, p99 {} us", CYCLES, elapsed.toMillis(),
+                slave.getRoundTripPercentile(50).toNanos() / 1000, slave.getRoundTripPercentile(99).toNanos() / 1000);
+
+        assertThat(functionCodes.size(), is(equalTo(CYCLES)));
+        assertThat(functionCodes.get(0), is(equalTo(6)));
+        assertThat(slave.get(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, CYCLES - 1), is(equalTo(CYCLES - 1)));
+        assertThat(slave.getTransactionCount(), is(equalTo((long) CYCLES)));
+        assertThat(slave.getRoundTripPercentile(50), is(greaterThanOrEqualTo(LATENCY)));
+    }
+
+    @Test
+    public void testSunSpecInverter() {
+        loadSunSpecInverter();
+        List<AsyncModbusReadResult> results = new ArrayList<>();
+        // like the SunSpec binding, the common and the inverter block are read as a whole
+        List<ModbusReadRequestBlueprint> requests = List.of(
+                request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, SUNSPEC_COMMON, SUNSPEC_COMMON_LENGTH + 2),
+                request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, SUNSPEC_INVERTER,
+                        SUNSPEC_INVERTER_LENGTH + 2));
+
+        Duration merged = measure("SunSpec", true, requests, results::add);
+        assertThat(slave.getTransactionCount(), is(equalTo((long) CYCLES)));
+        Duration plain = measure("SunSpec", false, requests, results::add);
+        assertThat(slave.getTransactionCount(), is(equalTo((long) CYCLES * 2)));
+        assertThat(merged, is(lessThan(plain)));
+
+        ModbusRegisterArray common = results.get(0).getRegisters().orElseThrow();
+        assertThat(decode(common, 0, ValueType.UINT16).intValue(), is(equalTo(1)));
+        assertThat(ModbusBitUtilities.extractStringFromRegisters(common, 2, 32, StandardCharsets.UTF_8).trim(),
+                is(equalTo("openHAB")));
+        assertThat(ModbusBitUtilities.extractStringFromRegisters(common, 50, 32, StandardCharsets.UTF_8).trim(),
+                is(equalTo("SIM-0001")));
+        ModbusRegisterArray inverter = results.get(1).getRegisters().orElseThrow();
+        assertThat(decode(inverter, 0, ValueType.UINT16).intValue(), is(equalTo(103)));
+        assertThat(decodeScaled(inverter, 2, 6), comparesEqualTo(new BigDecimal("15.0")));
+        assertThat(decodeScaled(inverter, 14, 15), comparesEqualTo(new BigDecimal("1234.5")));
+        assertThat(decodeScaled(inverter, 16, 17), comparesEqualTo(new BigDecimal("50.01")));
+    }
+
+    @Test
+    public void testSungrowInverter() {
+        loadSungrowInverter();
+        List<AsyncModbusReadResult> results = new ArrayList<>();
+        // contiguous register groups of the inverter, like the channel groups of the Sungrow binding
+        List<ModbusReadRequestBlueprint> requests = List.of(
+                request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, SUNGROW_INTERNAL_TEMPERATURE,
+                        SUNGROW_TOTAL_DC_POWER - SUNGROW_INTERNAL_TEMPERATURE),
+                request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, SUNGROW_TOTAL_DC_POWER,
+                        SUNGROW_REACTIVE_POWER - SUNGROW_TOTAL_DC_POWER),
+                request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, SUNGROW_REACTIVE_POWER,
+                        SUNGROW_GRID_FREQUENCY + 1 - SUNGROW_REACTIVE_POWER));
+
+        Duration merged = measure("Sungrow", true, requests, results::add);
+        assertThat(slave.getTransactionCount(), is(equalTo((long) CYCLES)));
+        Duration plain = measure("Sungrow", false, requests, results::add);
+        assertThat(slave.getTransactionCount(), is(equalTo((long) CYCLES * 3)));
+        assertThat(merged, is(lessThan(plain)));
+
+        assertThat(decode(results.get(0).getRegisters().orElseThrow(), 0, ValueType.INT16).intValue(),
+                is(equalTo(415)));
+        ModbusRegisterArray overview = results.get(1).getRegisters().orElseThrow();
+        assertThat(decode(overview, 0, ValueType.UINT32_SWAP).intValue(), is(equalTo(1576)));
+        int phaseC = SUNGROW_PHASE_A_VOLTAGE + 2 - SUNGROW_TOTAL_DC_POWER;
+        assertThat(decode(overview, phaseC, ValueType.UINT16).intValue(), is(equalTo(2299)));
+        ModbusRegisterArray grid = results.get(2).getRegisters().orElseThrow();
+        assertThat(decode(grid, 0, ValueType.INT32_SWAP).intValue(), is(equalTo(-120)));
+        assertThat(decode(grid, 2, ValueType.INT16).intValue(), is(equalTo(998)));
+        assertThat(decode(grid, 3, ValueType.UINT16).intValue(), is(equalTo(5001)));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+
+/**
+ * Poll path tests against the {@link SimulatedModbusSlave}, comparing plain and merged polling.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollSimulationTest {
+
+    private static final int POLLERS = 10;
+    private static final int REGISTERS_PER_POLLER = 10;
+    private static final int CYCLES = 100;
+
+    private @NonNullByDefault({}) SimulatedModbusSlave slave;
+    private final List<List<AsyncModbusReadResult>> results = new ArrayList<>();
+    private final List<List<AsyncModbusFailure<ModbusReadRequestBlueprint>>> failures = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        slave = new SimulatedModbusSlave();
+        for (int i = 0; i < POLLERS * REGISTERS_PER_POLLER; i++) {
+            slave.set(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, i, 1000 + i);
+        }
+        for (int i = 0; i < POLLERS; i++) {
+            results.add(new ArrayList<>());
+            failures.add(new ArrayList<>());
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        slave.close();
+    }
+
+    private static ModbusReadRequestBlueprint request(int poller) {
+        return new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS,
+                poller * REGISTERS_PER_POLLER, REGISTERS_PER_POLLER, 1);
+    }
+
+    private void registerPollers(boolean coalesce) {
+        ModbusPollCoalescer coalescer = new ModbusPollCoalescer(slave);
+        for (int i = 0; i < POLLERS; i++) {
+            List<AsyncModbusReadResult> pollerResults = results.get(i);
+            List<AsyncModbusFailure<ModbusReadRequestBlueprint>> pollerFailures = failures.get(i);
+            if (coalesce) {
+                coalescer.registerRegularPoll(request(i), 1000, pollerResults::add, pollerFailures::add);
+            } else {
+                slave.registerRegularPoll(request(i), 1000, 0, pollerResults::add, pollerFailures::add);
+            }
+        }
+    }
+
+    @Test
+    public void testPlainPolling() {
+        registerPollers(false);
+        for (int cycle = 0; cycle < CYCLES; cycle++) {
+            slave.runPollCycle();
+        }
+        assertThat(slave.getTransactionCount(), is(equalTo((long) POLLERS * CYCLES)));
+        assertResults();
+    }
+
+    @Test
+    public void testMergedPolling() {
+        registerPollers(true);
+        assertThat(slave.getRegularPollCount(), is(equalTo(1)));
+        for (int cycle = 0; cycle < CYCLES; cycle++) {
+            slave.runPollCycle();
+        }
+        assertThat(slave.getTransactionCount(), is(equalTo((long) CYCLES)));
+        assertResults();
+    }
+
+    @Test
+    public void testMergedPollingFailureReachesAllPollers() {
+        registerPollers(true);
+        slave.failNext(1);
+        slave.runPollCycle();
+        slave.runPollCycle();
+        for (int i = 0; i < POLLERS; i++) {
+            assertThat(failures.get(i).size(), is(equalTo(1)));
+            assertThat(failures.get(i).get(0).getRequest(), is(equalTo(request(i))));
+            assertThat(results.get(i).size(), is(equalTo(1)));
+        }
+    }
+
+    @Test
+    public void testMergedPollingFailEvery() {
+        registerPollers(true);
+        slave.failEvery(3);
+        for (int cycle = 0; cycle < 9; cycle++) {
+            slave.runPollCycle();
+        }
+        assertThat(slave.getTransactionCount(), is(equalTo(9L)));
+        for (int i = 0; i < POLLERS; i++) {
+            assertThat(failures.get(i).size(), is(equalTo(3)));
+            assertThat(results.get(i).size(), is(equalTo(6)));
+        }
+    }
+
+    @Test
+    public void testWritesAreSeenByMergedPolling() {
+        registerPollers(true);
+        List<AsyncModbusWriteResult> writeResults = new ArrayList<>();
+        List<AsyncModbusFailure<ModbusWriteRequestBlueprint>> writeFailures = new ArrayList<>();
+
+        // register 12 belongs to the second poller
+        slave.submitOneTimeWrite(new ModbusWriteRegisterRequestBlueprint(1, 12,
+                new ModbusRegisterArray(new int[] { 42, 43 }), true, 1), writeResults::add, writeFailures::add);
+        slave.failNext(1);
+        slave.submitOneTimeWrite(new ModbusWriteRegisterRequestBlueprint(1, 25,
+                new ModbusRegisterArray(new int[] { 44 }), false, 1), writeResults::add, writeFailures::add);
+        assertThat(writeResults.size(), is(equalTo(1)));
+        assertThat(writeResults.get(0).getResponse().getFunctionCode(), is(equalTo(16)));
+        assertThat(writeFailures.size(), is(equalTo(1)));
+
+        slave.runPollCycle();
+        assertThat(slave.getTransactionCount(), is(equalTo(3L)));
+        ModbusRegisterArray registers = results.get(1).get(0).getRegisters().get();
+        assertThat(registers.getRegister(2), is(equalTo(42)));
+        assertThat(registers.getRegister(3), is(equalTo(43)));
+        // the failed write did not change the register
+        assertThat(results.get(2).get(0).getRegisters().get().getRegister(5), is(equalTo(1025)));
+    }
+
+    @Test
+    public void testCoilWrite() {
+        List<AsyncModbusWriteResult> writeResults = new ArrayList<>();
+        BitArray coils = new BitArray(2);
+        coils.setBit(1, true);
+        slave.set(ModbusReadFunctionCode.READ_COILS, 5, 1, 0);
+
+        slave.submitOneTimeWrite(new ModbusWriteCoilRequestBlueprint(1, 5, coils, true, 1), writeResults::add,
+                failure -> {
+                    throw new AssertionError(failure.getCause());
+                });
+
+        assertThat(writeResults.get(0).getResponse().getFunctionCode(), is(equalTo(15)));
+        assertThat(slave.get(ModbusReadFunctionCode.READ_COILS, 5), is(equalTo(0)));
+        assertThat(slave.get(ModbusReadFunctionCode.READ_COILS, 6), is(equalTo(1)));
+    }
+
+    private void assertResults() {
+        for (int i = 0; i < POLLERS; i++) {
+            List<AsyncModbusReadResult> pollerResults = results.get(i);
+            assertThat(pollerResults.size(), is(equalTo(CYCLES)));
+            AsyncModbusReadResult result = pollerResults.get(CYCLES - 1);
+            assertThat(result.getRequest(), is(equalTo(request(i))));
+            ModbusRegisterArray registers = result.getRegisters().get();
+            assertThat(registers.size(), is(equalTo(REGISTERS_PER_POLLER)));
+            for (int j = 0; j < REGISTERS_PER_POLLER; j++) {
+                assertThat(registers.getRegister(j), is(equalTo(1000 + i * REGISTERS_PER_POLLER + j)));
+            }
+        }
+    }
+}
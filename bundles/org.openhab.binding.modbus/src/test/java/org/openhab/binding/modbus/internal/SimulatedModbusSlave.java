@@ -0,0 +1,504 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusTCPSlaveEndpoint;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.facade.ModbusTCPMaster;
+import com.ghgande.j2mod.modbus.procimg.DigitalIn;
+import com.ghgande.j2mod.modbus.procimg.DigitalOut;
+import com.ghgande.j2mod.modbus.procimg.IllegalAddressException;
+import com.ghgande.j2mod.modbus.procimg.InputRegister;
+import com.ghgande.j2mod.modbus.procimg.Register;
+import com.ghgande.j2mod.modbus.procimg.SimpleDigitalIn;
+import com.ghgande.j2mod.modbus.procimg.SimpleDigitalOut;
+import com.ghgande.j2mod.modbus.procimg.SimpleProcessImage;
+import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
+import com.ghgande.j2mod.modbus.slave.ModbusSlave;
+import com.ghgande.j2mod.modbus.slave.ModbusSlaveFactory;
+import com.ghgande.j2mod.modbus.util.BitVector;
+
+/**
+ * Simulation of a Modbus slave, exposed as {@link ModbusCommunicationInterface}.
+ *
+ * The slave is a j2mod TCP slave listening on a free port of the loopback interface. Requests are sent to it over
+ * TCP by a j2mod master, so every request goes through the same framing and socket round trip as with a real device.
+ * Like a slave accepting only one connection, transactions are executed one at a time.
+ *
+ * The register maps can be programmed per function code. Every request is a transaction of the simulated slave: it
+ * is counted, can be delayed by a latency and can be made to fail with an exception response. The round trip times
+ * of the transactions are recorded for measurements.
+ *
+ * Regular polls are not executed on their own, but with {@link #runPollCycle()}. This keeps tests deterministic.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SimulatedModbusSlave implements ModbusCommunicationInterface {
+
+    private static final int TIMEOUT_MILLIS = 5000;
+
+    private class SimulatedPollTask implements PollTask {
+        private final ModbusReadRequestBlueprint request;
+        private final ModbusReadCallback resultCallback;
+        private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback;
+
+        SimulatedPollTask(ModbusReadRequestBlueprint request, ModbusReadCallback resultCallback,
+                ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        @Override
+        public ModbusSlaveEndpoint getEndpoint() {
+            return endpoint;
+        }
+
+        @Override
+        public ModbusReadRequestBlueprint getRequest() {
+            return request;
+        }
+
+        @Override
+        public ModbusReadCallback getResultCallback() {
+            return resultCallback;
+        }
+
+        @Override
+        public ModbusFailureCallback<ModbusReadRequestBlueprint> getFailureCallback() {
+            return failureCallback;
+        }
+    }
+
+    /**
+     * Process image of the slave with sparse tables: addresses which were never programmed read as 0.
+     *
+     * j2mod calls one of the methods below for every request it serves, which makes them the place to count, delay
+     * and fail transactions.
+     */
+    private class SimulatedProcessImage extends SimpleProcessImage {
+        private final Map<Integer, SimpleRegister> holdingRegisters = new ConcurrentHashMap<>();
+        private final Map<Integer, SimpleRegister> inputRegisters = new ConcurrentHashMap<>();
+        private final Map<Integer, SimpleDigitalOut> coils = new ConcurrentHashMap<>();
+        private final Map<Integer, SimpleDigitalIn> discreteInputs = new ConcurrentHashMap<>();
+
+        SimulatedProcessImage(int unitId) {
+            super(unitId);
+        }
+
+        SimpleRegister holdingRegister(int address) {
+            return holdingRegisters.computeIfAbsent(address, a -> new SimpleRegister(0));
+        }
+
+        SimpleRegister inputRegister(int address) {
+            return inputRegisters.computeIfAbsent(address, a -> new SimpleRegister(0));
+        }
+
+        SimpleDigitalOut coil(int address) {
+            return coils.computeIfAbsent(address, a -> new SimpleDigitalOut(false));
+        }
+
+        SimpleDigitalIn discreteInput(int address) {
+            return discreteInputs.computeIfAbsent(address, a -> new SimpleDigitalIn(false));
+        }
+
+        @Override
+        public Register[] getRegisterRange(int offset, int count) {
+            transaction();
+            Register[] range = new Register[count];
+            for (int i = 0; i < count; i++) {
+                range[i] = holdingRegister(offset + i);
+            }
+            return range;
+        }
+
+        @Override
+        public Register getRegister(int ref) {
+            transaction();
+            return holdingRegister(ref);
+        }
+
+        @Override
+        public InputRegister[] getInputRegisterRange(int offset, int count) {
+            transaction();
+            InputRegister[] range = new InputRegister[count];
+            for (int i = 0; i < count; i++) {
+                range[i] = inputRegister(offset + i);
+            }
+            return range;
+        }
+
+        @Override
+        public InputRegister getInputRegister(int ref) {
+            transaction();
+            return inputRegister(ref);
+        }
+
+        @Override
+        public DigitalOut[] getDigitalOutRange(int offset, int count) {
+            transaction();
+            DigitalOut[] range = new DigitalOut[count];
+            for (int i = 0; i < count; i++) {
+                range[i] = coil(offset + i);
+            }
+            return range;
+        }
+
+        @Override
+        public DigitalOut getDigitalOut(int ref) {
+            transaction();
+            return coil(ref);
+        }
+
+        @Override
+        public DigitalIn[] getDigitalInRange(int offset, int count) {
+            transaction();
+            DigitalIn[] range = new DigitalIn[count];
+            for (int i = 0; i < count; i++) {
+                range[i] = discreteInput(offset + i);
+            }
+            return range;
+        }
+
+        @Override
+        public DigitalIn getDigitalIn(int ref) {
+            transaction();
+            return discreteInput(ref);
+        }
+    }
+
+    private final SimulatedProcessImage processImage;
+    private final ModbusSlave slave;
+    private final ModbusTCPMaster master;
+    private final ModbusSlaveEndpoint endpoint;
+    private final List<SimulatedPollTask> pollTasks = new ArrayList<>();
+    private final List<Long> roundTripNanos = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong transactions = new AtomicLong();
+    private final AtomicInteger failNext = new AtomicInteger();
+    private volatile int failEvery;
+    private volatile Duration latency = Duration.ZERO;
+
+    /**
+     * Start a slave with unit id 1
+     */
+    public SimulatedModbusSlave() throws Exception {
+        this(1);
+    }
+
+    /**
+     * Start a slave with the given unit id, and connect to it
+     */
+    public SimulatedModbusSlave(int unitId) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        InetAddress address = InetAddress.getLoopbackAddress();
+        processImage = new SimulatedProcessImage(unitId);
+        slave = ModbusSlaveFactory.createTCPSlave(address, port, 1, false);
+        slave.addProcessImage(unitId, processImage);
+        slave.open();
+        endpoint = new ModbusTCPSlaveEndpoint(address.getHostAddress(), port, false);
+        master = new ModbusTCPMaster(address.getHostAddress(), port, TIMEOUT_MILLIS, false);
+        try {
+            master.connect();
+        } catch (Exception e) {
+            ModbusSlaveFactory.close(slave);
+            throw e;
+        }
+    }
+
+    /**
+     * Program a register (holding or input) or a bit (coil or discrete input) of the simulated slave
+     */
+    public SimulatedModbusSlave set(ModbusReadFunctionCode functionCode, int address, int value) {
+        switch (functionCode) {
+            case READ_COILS -> processImage.coil(address).set(value != 0);
+            case READ_INPUT_DISCRETES -> processImage.discreteInput(address).set(value != 0);
+            case READ_INPUT_REGISTERS -> processImage.inputRegister(address).setValue(value & 0xffff);
+            case READ_MULTIPLE_REGISTERS -> processImage.holdingRegister(address).setValue(value & 0xffff);
+        }
+        return this;
+    }
+
+    /**
+     * Program consecutive registers or bits of the simulated slave
+     */
+    public SimulatedModbusSlave set(ModbusReadFunctionCode functionCode, int start, int... values) {
+        for (int i = 0; i < values.length; i++) {
+            set(functionCode, start + i, values[i]);
+        }
+        return this;
+    }
+
+    public int get(ModbusReadFunctionCode functionCode, int address) {
+        return switch (functionCode) {
+            case READ_COILS -> processImage.coil(address).isSet() ? 1 : 0;
+            case READ_INPUT_DISCRETES -> processImage.discreteInput(address).isSet() ? 1 : 0;
+            case READ_INPUT_REGISTERS -> processImage.inputRegister(address).toUnsignedShort();
+            case READ_MULTIPLE_REGISTERS -> processImage.holdingRegister(address).toUnsignedShort();
+        };
+    }
+
+    /**
+     * Delay every transaction by the given latency, like a slow device or link
+     */
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Fail the next given number of transactions
+     */
+    public void failNext(int count) {
+        failNext.set(count);
+    }
+
+    /**
+     * Fail every n'th transaction, 0 to disable
+     */
+    public void failEvery(int n) {
+        failEvery = n;
+    }
+
+    /**
+     * @return number of transactions executed by the slave
+     */
+    public long getTransactionCount() {
+        return transactions.get();
+    }
+
+    /**
+     * @return the given percentile (0 to 100) of the round trip times recorded since the last reset
+     */
+    public Duration getRoundTripPercentile(double percentile) {
+        List<Long> sorted;
+        synchronized (roundTripNanos) {
+            sorted = new ArrayList<>(roundTripNanos);
+        }
+        if (sorted.isEmpty()) {
+            return Duration.ZERO;
+        }
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * sorted.size()) - 1;
+        return Duration.ofNanos(sorted.get(Math.max(0, Math.min(sorted.size() - 1, index))));
+    }
+
+    /**
+     * Reset the transaction count and the recorded round trip times
+     */
+    public void resetStatistics() {
+        transactions.set(0);
+        roundTripNanos.clear();
+    }
+
+    /**
+     * @return number of registered regular polls
+     */
+    public synchronized int getRegularPollCount() {
+        return pollTasks.size();
+    }
+
+    /**
+     * Execute every registered regular poll once
+     */
+    public void runPollCycle() {
+        List<SimulatedPollTask> tasks;
+        synchronized (this) {
+            tasks = new ArrayList<>(pollTasks);
+        }
+        for (SimulatedPollTask task : tasks) {
+            read(task.request, task.resultCallback, task.failureCallback);
+        }
+    }
+
+    private void transaction() {
+        long count = transactions.incrementAndGet();
+        Duration localLatency = latency;
+        if (!localLatency.isZero()) {
+            try {
+                Thread.sleep(localLatency.toMillis(), localLatency.toNanosPart() % 1_000_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        int every = failEvery;
+        if (failNext.getAndUpdate(n -> Math.max(0, n - 1)) > 0 || (every > 0 && count % every == 0)) {
+            // answered by j2mod with an illegal data address exception response
+            throw new IllegalAddressException("Simulated failure of transaction " + count);
+        }
+    }
+
+    private static BitArray toBitArray(BitVector bits, int length) {
+        BitArray result = new BitArray(length);
+        for (int i = 0; i < length; i++) {
+            result.setBit(i, bits.getBit(i));
+        }
+        return result;
+    }
+
+    private static ModbusRegisterArray toRegisterArray(InputRegister[] registers) {
+        int[] result = new int[registers.length];
+        for (int i = 0; i < registers.length; i++) {
+            result[i] = registers[i].toUnsignedShort();
+        }
+        return new ModbusRegisterArray(result);
+    }
+
+    private synchronized void read(ModbusReadRequestBlueprint request, ModbusReadCallback resultCallback,
+            ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        int unitId = request.getUnitID();
+        int start = request.getReference();
+        int length = request.getDataLength();
+        AsyncModbusReadResult result;
+        long begin = System.nanoTime();
+        try {
+            result = switch (request.getFunctionCode()) {
+                case READ_COILS ->
+                    new AsyncModbusReadResult(request, toBitArray(master.readCoils(unitId, start, length), length));
+                case READ_INPUT_DISCRETES -> new AsyncModbusReadResult(request,
+                        toBitArray(master.readInputDiscretes(unitId, start, length), length));
+                case READ_INPUT_REGISTERS -> new AsyncModbusReadResult(request,
+                        toRegisterArray(master.readInputRegisters(unitId, start, length)));
+                case READ_MULTIPLE_REGISTERS -> new AsyncModbusReadResult(request,
+                        toRegisterArray(master.readMultipleRegisters(unitId, start, length)));
+            };
+        } catch (ModbusException e) {
+            failureCallback.handle(new AsyncModbusFailure<>(request, e));
+            return;
+        } finally {
+            roundTripNanos.add(System.nanoTime() - begin);
+        }
+        resultCallback.handle(result);
+    }
+
+    private void write(ModbusWriteRequestBlueprint request) throws ModbusException {
+        int unitId = request.getUnitID();
+        if (request instanceof ModbusWriteRegisterRequestBlueprint registerRequest) {
+            ModbusRegisterArray registers = registerRequest.getRegisters();
+            Register[] values = new Register[registers.size()];
+            for (int i = 0; i < registers.size(); i++) {
+                values[i] = new SimpleRegister(registers.getRegister(i));
+            }
+            if (request.getFunctionCode() == ModbusWriteFunctionCode.WRITE_SINGLE_REGISTER) {
+                master.writeSingleRegister(unitId, registerRequest.getReference(), values[0]);
+            } else {
+                master.writeMultipleRegisters(unitId, registerRequest.getReference(), values);
+            }
+        } else if (request instanceof ModbusWriteCoilRequestBlueprint coilRequest) {
+            BitArray coils = coilRequest.getCoils();
+            if (request.getFunctionCode() == ModbusWriteFunctionCode.WRITE_COIL) {
+                master.writeCoil(unitId, coilRequest.getReference(), coils.getBit(0));
+            } else {
+                BitVector values = new BitVector(coils.size());
+                for (int i = 0; i < coils.size(); i++) {
+                    values.setBit(i, coils.getBit(i));
+                }
+                master.writeMultipleCoils(unitId, coilRequest.getReference(), values);
+            }
+        } else {
+            throw new ModbusException("Unsupported request " + request);
+        }
+    }
+
+    @Override
+    public ModbusSlaveEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public Future<?> submitOneTimePoll(ModbusReadRequestBlueprint request, ModbusReadCallback resultCallback,
+            ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        read(request, resultCallback, failureCallback);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public synchronized PollTask registerRegularPoll(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+            long initialDelayMillis, ModbusReadCallback resultCallback,
+            ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        SimulatedPollTask task = new SimulatedPollTask(request, resultCallback, failureCallback);
+        pollTasks.add(task);
+        return task;
+    }
+
+    @Override
+    public synchronized boolean unregisterRegularPoll(PollTask task) {
+        return pollTasks.remove(task);
+    }
+
+    @Override
+    public synchronized Future<?> submitOneTimeWrite(ModbusWriteRequestBlueprint request,
+            ModbusWriteCallback resultCallback, ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+        long begin = System.nanoTime();
+        try {
+            write(request);
+        } catch (ModbusException e) {
+            failureCallback.handle(new AsyncModbusFailure<>(request, e));
+            return CompletableFuture.completedFuture(null);
+        } finally {
+            roundTripNanos.add(System.nanoTime() - begin);
+        }
+        int functionCode = request.getFunctionCode().getFunctionCode();
+        resultCallback.handle(new AsyncModbusWriteResult(request, () -> functionCode));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Unregister all regular polls, disconnect and stop the slave
+     */
+    @Override
+    public synchronized void close() {
+        pollTasks.clear();
+        master.disconnect();
+        ModbusSlaveFactory.close(slave);
+    }
+
+    @Override
+    public String toString() {
+        return "SimulatedModbusSlave(" + endpoint + ", transactions=" + transactions.get() + ")";
+    }
+}
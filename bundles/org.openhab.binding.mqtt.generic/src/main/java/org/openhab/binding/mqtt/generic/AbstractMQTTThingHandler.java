@@ -25,6 +25,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.generic.tools.MessageStatistics;
 import org.openhab.binding.mqtt.generic.utils.FutureCollector;
 import org.openhab.binding.mqtt.generic.values.OnOffValue;
 import org.openhab.binding.mqtt.generic.values.Value;
@@ -249,7 +250,11 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
             logger.warn("unsubscription on disposal failed for {}: ", thing.getUID(), e);
         }
-        connection = null;
+        MqttBrokerConnection connection = this.connection;
+        if (connection != null) {
+            logger.debug("Messages of broker {}: {}", connection.getHost(), MessageStatistics.of(connection));
+        }
+        this.connection = null;
         super.dispose();
     }
 
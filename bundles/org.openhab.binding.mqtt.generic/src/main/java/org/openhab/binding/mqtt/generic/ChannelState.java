@@ -13,6 +13,7 @@
 package org.openhab.binding.mqtt.generic;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.IllegalFormatException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -22,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.generic.tools.MessageStatistics;
 import org.openhab.binding.mqtt.generic.values.TextValue;
 import org.openhab.binding.mqtt.generic.values.Value;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
@@ -66,6 +68,10 @@ public class ChannelState implements MqttMessageSubscriber {
     private @Nullable ScheduledFuture<?> scheduledFuture;
     private CompletableFuture<@Nullable Void> future = CompletableFuture.completedFuture(null);
     private final Object futureLock = new Object();
+    private @Nullable MessageStatistics statistics;
+    // Last payload handled by the fast path and the state parsed from it
+    private byte @Nullable [] lastPayload;
+    private @Nullable State lastPayloadState;
 
     /**
      * Creates a new channel state.
@@ -145,9 +151,14 @@ public class ChannelState implements MqttMessageSubscriber {
      */
     @Override
     public void processMessage(String topic, byte[] payload) {
+        final MessageStatistics statistics = this.statistics;
+        if (statistics != null) {
+            statistics.received();
+        }
         final ChannelStateUpdateListener channelStateUpdateListener = this.channelStateUpdateListener;
         if (channelStateUpdateListener == null) {
             logger.warn("MQTT message received for topic {}, but MessageSubscriber object hasn't been started!", topic);
+            dropped();
             return;
         }
 
@@ -158,6 +169,38 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
+        // Fast path: Untransformed simple values are parsed from the payload bytes. A repeated payload is not parsed
+        // again at all.
+        if (!incomingTransformation.isPresent() && !config.trigger) {
+            State fastState = lastPayloadState;
+            if (fastState != null && Arrays.equals(payload, lastPayload)) {
+                if (statistics != null) {
+                    statistics.duplicate();
+                }
+            } else {
+                try {
+                    fastState = cachedValue.parseRawMessage(payload);
+                } catch (IllegalArgumentException e) {
+                    logger.warn("Command '{}' from channel '{}' not supported by type '{}': {}",
+                            new String(payload, StandardCharsets.UTF_8), channelUID,
+                            cachedValue.getClass().getSimpleName(), e.getMessage());
+                    lastPayloadState = null;
+                    dropped();
+                    receivedOrTimeout();
+                    return;
+                }
+            }
+            if (fastState != null) {
+                lastPayload = payload;
+                lastPayloadState = fastState;
+                cachedValue.update(fastState);
+                publishState(channelStateUpdateListener);
+                receivedOrTimeout();
+                return;
+            }
+        }
+        lastPayloadState = null;
+
         // String value: Apply transformations
         String strValue = new String(payload, StandardCharsets.UTF_8);
         if (incomingTransformation.isPresent()) {
@@ -165,6 +208,7 @@ public class ChannelState implements MqttMessageSubscriber {
             if (transformedValue.isEmpty()) {
                 logger.debug("Transformation '{}' returned null on '{}', discarding message", strValue,
                         incomingTransformation);
+                dropped();
                 receivedOrTimeout();
                 return;
             }
@@ -177,6 +221,7 @@ public class ChannelState implements MqttMessageSubscriber {
                 cachedValue.parseMessage(new StringType(strValue));
             } catch (IllegalArgumentException e) {
                 // invalid value for this trigger; ignore
+                dropped();
                 receivedOrTimeout();
                 return;
             }
@@ -189,6 +234,7 @@ public class ChannelState implements MqttMessageSubscriber {
         if (command == null) {
             logger.warn("Incoming payload '{}' on '{}' not supported by type '{}'", strValue, topic,
                     cachedValue.getClass().getSimpleName());
+            dropped();
             receivedOrTimeout();
             return;
         }
@@ -200,6 +246,7 @@ public class ChannelState implements MqttMessageSubscriber {
         } catch (IllegalArgumentException | IllegalStateException e) {
             logger.warn("Command '{}' from channel '{}' not supported by type '{}': {}", strValue, channelUID,
                     cachedValue.getClass().getSimpleName(), e.getMessage());
+            dropped();
             receivedOrTimeout();
             return;
         }
@@ -213,6 +260,11 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
+        publishState(channelStateUpdateListener);
+        receivedOrTimeout();
+    }
+
+    private void publishState(ChannelStateUpdateListener channelStateUpdateListener) {
         State newState = cachedValue.getChannelState();
         // If the user explicitly wants a command sent, not an update, do that. But
         // we have to check that the state is even possible to send as a command
@@ -222,7 +274,21 @@ public class ChannelState implements MqttMessageSubscriber {
         } else {
             channelStateUpdateListener.updateChannelState(channelUID, newState);
         }
-        receivedOrTimeout();
+    }
+
+    private void dropped() {
+        final MessageStatistics statistics = this.statistics;
+        if (statistics != null) {
+            statistics.dropped();
+        }
+    }
+
+    /**
+     * Returns the message statistics of the broker connection this channel is subscribed to, or null if it has not
+     * been started yet.
+     */
+    public @Nullable MessageStatistics getMessageStatistics() {
+        return statistics;
     }
 
     /**
@@ -274,6 +340,7 @@ public class ChannelState implements MqttMessageSubscriber {
         this.connection = null;
         this.channelStateUpdateListener = null;
         hasSubscribed = false;
+        lastPayloadState = null;
         cachedValue.resetState();
     }
 
@@ -315,6 +382,7 @@ public class ChannelState implements MqttMessageSubscriber {
             hasSubscribed = false;
 
             this.connection = connection;
+            this.statistics = MessageStatistics.of(connection);
 
             if (config.stateTopic.isBlank()) {
                 return CompletableFuture.completedFuture(null);
@@ -446,5 +514,6 @@ public class ChannelState implements MqttMessageSubscriber {
      */
     public void setConnection(MqttBrokerConnection connection) {
         this.connection = connection;
+        this.statistics = MessageStatistics.of(connection);
     }
 }
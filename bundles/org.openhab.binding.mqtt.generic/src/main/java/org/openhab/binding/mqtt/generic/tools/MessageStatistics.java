@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+
+/**
+ * Counts the messages processed by the {@link org.openhab.binding.mqtt.generic.ChannelState}s of one broker
+ * connection.
+ *
+ * Received messages are all messages handed to a channel state. Duplicates are messages with the same payload as the
+ * previous message of the channel, which were not parsed again. Dropped messages were discarded, because a
+ * transformation returned nothing or the payload could not be parsed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MessageStatistics {
+    private static final Map<MqttBrokerConnection, MessageStatistics> STATISTICS = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Returns the statistics of the given broker connection. The statistics are discarded together with the
+     * connection.
+     */
+    public static MessageStatistics of(MqttBrokerConnection connection) {
+        return STATISTICS.computeIfAbsent(connection, c -> new MessageStatistics());
+    }
+
+    public void received() {
+        received.increment();
+    }
+
+    public void duplicate() {
+        duplicates.increment();
+    }
+
+    public void dropped() {
+        dropped.increment();
+    }
+
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    public long getDuplicateCount() {
+        return duplicates.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public String toString() {
+        return getReceivedCount() + " received, " + getDuplicateCount() + " duplicates, " + getDroppedCount()
+                + " dropped";
+    }
+}
@@ -27,6 +27,7 @@ import org.openhab.core.library.types.StringType;
 import org.openhab.core.library.types.UpDownType;
 import org.openhab.core.library.unit.Units;
 import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
 import org.openhab.core.types.StateDescriptionFragmentBuilder;
 import org.openhab.core.types.Type;
 import org.openhab.core.types.UnDefType;
@@ -148,6 +149,53 @@ public class NumberValue extends Value {
         return parseCommand(command);
     }
 
+    @Override
+    public @Nullable State parseRawMessage(byte[] payload) throws IllegalArgumentException {
+        BigDecimal value = parseDecimal(payload);
+        if (value == null) {
+            return null;
+        }
+        // Always a DecimalType or QuantityType
+        return (State) parseCommand(new DecimalType(value));
+    }
+
+    /**
+     * Parses a plain decimal number like "-12.5" from the given bytes. Returns null for everything else (exponents,
+     * NaN, whitespace, more than 18 digits, ...), these payloads are left to {@link BigDecimal} parsing.
+     */
+    static @Nullable BigDecimal parseDecimal(byte[] payload) {
+        int i = 0;
+        boolean negative = false;
+        if (payload.length > 0 && payload[0] == '-') {
+            negative = true;
+            i = 1;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; i < payload.length; i++) {
+            byte b = payload[i];
+            if (b >= '0' && b <= '9') {
+                // 18 digits always fit into a long
+                if (++digits > 18) {
+                    return null;
+                }
+                unscaled = unscaled * 10 + (b - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (b == '.' && scale < 0 && digits > 0) {
+                scale = 0;
+            } else {
+                return null;
+            }
+        }
+        if (digits == 0 || scale == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
     private BigDecimal getOldValue() {
         BigDecimal val = BigDecimal.ZERO;
         if (state instanceof DecimalType decimalCommand) {
@@ -14,6 +14,8 @@ package org.openhab.binding.mqtt.generic.values;
 
 import static java.util.function.Predicate.not;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -27,6 +29,7 @@ import org.openhab.core.library.types.StringType;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.CommandDescriptionBuilder;
 import org.openhab.core.types.CommandOption;
+import org.openhab.core.types.State;
 
 /**
  * Implements an on/off boolean value.
@@ -35,10 +38,15 @@ import org.openhab.core.types.CommandOption;
  */
 @NonNullByDefault
 public class OnOffValue extends Value {
+    private static final byte[] ON_BYTES = OnOffType.ON.name().getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OFF_BYTES = OnOffType.OFF.name().getBytes(StandardCharsets.UTF_8);
+
     private final Set<String> onStates;
     private final Set<String> offStates;
     private final String onCommand;
     private final String offCommand;
+    private final byte[][] onStateBytes;
+    private final byte[][] offStateBytes;
 
     /**
      * Creates a switch On/Off type, that accepts "ON" for on and "OFF" for off.
@@ -93,6 +101,10 @@ public class OnOffValue extends Value {
         this.offStates = Stream.of(offStates).filter(not(String::isBlank)).collect(Collectors.toSet());
         this.onCommand = onCommand;
         this.offCommand = offCommand;
+        this.onStateBytes = this.onStates.stream().map(s -> s.getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+        this.offStateBytes = this.offStates.stream().map(s -> s.getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
     }
 
     @Override
@@ -111,6 +123,27 @@ public class OnOffValue extends Value {
         }
     }
 
+    @Override
+    public @Nullable State parseRawMessage(byte[] payload) {
+        // Same precedence as parsing the string: "ON" and "OFF" first, then the configured states
+        if (Arrays.equals(payload, ON_BYTES)) {
+            return OnOffType.ON;
+        } else if (Arrays.equals(payload, OFF_BYTES)) {
+            return OnOffType.OFF;
+        }
+        for (byte[] state : onStateBytes) {
+            if (Arrays.equals(payload, state)) {
+                return OnOffType.ON;
+            }
+        }
+        for (byte[] state : offStateBytes) {
+            if (Arrays.equals(payload, state)) {
+                return OnOffType.OFF;
+            }
+        }
+        return null;
+    }
+
     @Override
     public String getMQTTpublishValue(Command command, @Nullable String pattern) {
         String formatPattern = pattern;
@@ -154,6 +154,19 @@ public abstract class Value {
         return parseCommand(command);
     }
 
+    /**
+     * Parses an untransformed MQTT payload directly from its bytes, without decoding it into a string first. This is
+     * a fast path for simple values like numbers or on/off values, which are received at a high rate. The default
+     * implementation returns null, so that the payload is parsed by {@link #parseMessage(Command)}.
+     *
+     * @param payload The MQTT payload.
+     * @return The parsed state or null if the payload has to be parsed by {@link #parseMessage(Command)}.
+     * @exception IllegalArgumentException Thrown if for example a number is out of range.
+     */
+    public @Nullable State parseRawMessage(byte[] payload) throws IllegalArgumentException {
+        return null;
+    }
+
     /**
      * Updates the internal value state with the given binary payload.
      *
@@ -98,6 +98,22 @@ public class ValueTests {
         assertThrows(IllegalArgumentException.class, () -> v.parseCommand(OnOffType.OFF));
     }
 
+    @Test
+    public void numberRawMessage() {
+        for (String number : new String[] { "0", "-0", "15", "-15", "5.5", "-0.50", "007", "123456789012345678",
+                "0.00000000000000001" }) {
+            assertThat(NumberValue.parseDecimal(number.getBytes()), is(new BigDecimal(number)));
+        }
+        for (String payload : new String[] { "", "-", ".5", "5.", "1e3", " 5", "5 ", "+5", "1.2.3", "NaN",
+                "1234567890123456789", "INCREASE" }) {
+            assertNull(NumberValue.parseDecimal(payload.getBytes()));
+        }
+
+        NumberValue v = new NumberValue(null, new BigDecimal(100), null, Units.WATT);
+        assertThat(Objects.requireNonNull(v.parseRawMessage("15".getBytes())).toString(), is("15 W"));
+        assertThrows(IllegalArgumentException.class, () -> v.parseRawMessage("101".getBytes()));
+    }
+
     @Test
     public void illegalPercentCommand() {
         PercentageValue v = new PercentageValue(null, null, null, null, null, null);
@@ -153,6 +169,19 @@ public class ValueTests {
         assertThat(v.parseCommand(new StringType("JAMMED")), is(OnOffType.OFF));
     }
 
+    @Test
+    public void onoffRawMessage() {
+        OnOffValue v = new OnOffValue(new String[] { "LOCKED" }, new String[] { "UNLOCKED", "JAMMED" }, "LOCK",
+                "UNLOCK");
+
+        assertThat(v.parseRawMessage("ON".getBytes()), is(OnOffType.ON));
+        assertThat(v.parseRawMessage("OFF".getBytes()), is(OnOffType.OFF));
+        assertThat(v.parseRawMessage("LOCKED".getBytes()), is(OnOffType.ON));
+        assertThat(v.parseRawMessage("JAMMED".getBytes()), is(OnOffType.OFF));
+        assertNull(v.parseRawMessage("on".getBytes()));
+        assertNull(v.parseRawMessage(new byte[0]));
+    }
+
     @Test
     public void openCloseUpdate() {
         OpenCloseValue v = new OpenCloseValue("fancyON", "fancyOff");
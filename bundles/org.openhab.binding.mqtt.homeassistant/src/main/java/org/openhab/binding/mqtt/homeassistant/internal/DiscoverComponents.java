@@ -13,9 +13,13 @@
 package org.openhab.binding.mqtt.homeassistant.internal;
 
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -64,6 +68,8 @@ public class DiscoverComponents implements MqttMessageSubscriber {
     protected @Nullable ComponentDiscovered discoveredListener;
     private int discoverTime;
     private Set<String> topics = new HashSet<>();
+    // Hash of the last config payload per topic, to not create the same component again for a repeated config
+    private final Map<String, Integer> configHashes = new ConcurrentHashMap<>();
 
     /**
      * Implement this to get notified of new components
@@ -104,6 +110,11 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         AbstractComponent<?> component = null;
 
         if (config.length() > 0) {
+            int configHash = Arrays.hashCode(payload);
+            if (Objects.equals(configHashes.put(topic, configHash), configHash)) {
+                logger.trace("Ignoring unchanged config of HomeAssistant component {}", haID);
+                return;
+            }
             try {
                 component = ComponentFactory.createComponent(thingUID, haID, config, updateListener, tracker, scheduler,
                         gson, jinjava, unitProvider);
@@ -122,6 +133,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
                         haID.objectID, haID.component, e.getMessage());
             }
         } else {
+            configHashes.remove(topic);
             if (discoveredListener != null) {
                 discoveredListener.componentRemoved(haID);
             }
@@ -152,6 +164,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         this.discoverTime = discoverTime;
         this.discoveredListener = componentsDiscoveredListener;
         this.connectionRef = new WeakReference<>(connection);
+        this.configHashes.clear();
 
         // Subscribe to the wildcard topic and start receive MQTT retained topics
         this.topics.stream().map(t -> connection.subscribe(t, this)).collect(FutureCollector.allOf())
@@ -31,9 +31,14 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
 import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.InterpretException;
 import com.hubspot.jinjava.interpret.InvalidInputException;
 import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.tree.Node;
 
 /**
  * Provides a channel transformation for a Home Assistant channel with a
@@ -50,18 +55,59 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         }
     }
 
+    /**
+     * A payload and its json, parsed once for all channels receiving the same message. The MQTT client calls all
+     * subscribers of a message one after the other on the same thread, so the last parsed payload is kept per
+     * thread.
+     */
+    private static class ParsedPayload {
+        private final String value;
+        private final @Nullable JsonNode tree;
+        private @Nullable Object object;
+        private boolean converted;
+
+        private ParsedPayload(String value, @Nullable JsonNode tree) {
+            this.value = value;
+            this.tree = tree;
+        }
+
+        private @Nullable Object toObject(JsonNode tree) {
+            if (!converted) {
+                object = HomeAssistantChannelTransformation.toObject(tree);
+                converted = true;
+            }
+            return object;
+        }
+    }
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ThreadLocal<@Nullable ParsedPayload> LAST_PAYLOAD = new ThreadLocal<>();
+
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantChannelTransformation.class);
 
     private final Jinjava jinjava;
     private final AbstractComponent<?> component;
     private final String template;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // The template parsed once for all values, null if it has syntax errors
+    private final @Nullable Node parsedTemplate;
 
     public HomeAssistantChannelTransformation(Jinjava jinjava, AbstractComponent<?> component, String template) {
         super((String) null);
         this.jinjava = jinjava;
         this.component = component;
         this.template = template;
+        this.parsedTemplate = parseTemplate(jinjava, template);
+    }
+
+    /**
+     * Parses the template, or returns null if it has syntax errors. Templates with errors are rendered from source,
+     * so that the errors are reported like before.
+     */
+    private static @Nullable Node parseTemplate(Jinjava jinjava, String template) {
+        JinjavaInterpreter interpreter = new JinjavaInterpreter(jinjava,
+                new Context(jinjava.getGlobalContext(), Map.of()), jinjava.getGlobalConfig());
+        Node node = interpreter.parse(template);
+        return interpreter.getErrorsCopy().isEmpty() ? node : null;
     }
 
     @Override
@@ -81,21 +127,41 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
 
         bindings.put("value", value);
 
-        try {
-            JsonNode tree = objectMapper.readTree(value);
-            bindings.put("value_json", toObject(tree));
-        } catch (IOException e) {
-            // ok, then value_json is null...
+        ParsedPayload payload = parse(value);
+        JsonNode tree = payload.tree;
+        if (tree != null) {
+            bindings.put("value_json", payload.toObject(tree));
         }
+        // otherwise value_json is null...
 
         return apply(template, bindings);
     }
 
+    private static ParsedPayload parse(String value) {
+        ParsedPayload payload = LAST_PAYLOAD.get();
+        if (payload == null || !payload.value.equals(value)) {
+            JsonNode tree;
+            try {
+                tree = OBJECT_MAPPER.readTree(value);
+            } catch (IOException e) {
+                tree = null;
+            }
+            payload = new ParsedPayload(value, tree);
+            LAST_PAYLOAD.set(payload);
+        }
+        return payload;
+    }
+
     public Optional<String> apply(String template, Map<String, @Nullable Object> bindings) {
         String transformationResult;
 
         try {
-            transformationResult = jinjava.render(template, bindings);
+            Node parsedTemplate = this.parsedTemplate;
+            if (parsedTemplate != null && template.equals(this.template)) {
+                transformationResult = render(parsedTemplate, template, bindings);
+            } else {
+                transformationResult = jinjava.render(template, bindings);
+            }
         } catch (FatalTemplateErrorsException e) {
             var error = e.getErrors().iterator();
             Exception exception = null;
@@ -116,6 +182,34 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         return Optional.of(transformationResult);
     }
 
+    /**
+     * Renders the parsed template like {@link Jinjava#render(String, Map)} renders its source.
+     */
+    private String render(Node parsedTemplate, String template, Map<String, @Nullable Object> bindings) {
+        JinjavaInterpreter interpreter = new JinjavaInterpreter(jinjava,
+                new Context(jinjava.getGlobalContext(), bindings), jinjava.getGlobalConfig());
+        @Nullable
+        String result;
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            result = interpreter.render(parsedTemplate);
+        } catch (InterpretException e) {
+            result = null;
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+        if (result == null) {
+            // Jinjava turns the exception into a template error when rendering the source
+            return jinjava.render(template, bindings);
+        }
+        List<TemplateError> fatalErrors = interpreter.getErrorsCopy().stream()
+                .filter(error -> error.getSeverity() == ErrorType.FATAL).toList();
+        if (!fatalErrors.isEmpty()) {
+            throw new FatalTemplateErrorsException(template, fatalErrors);
+        }
+        return result;
+    }
+
     private static @Nullable Object toObject(JsonNode node) {
         switch (node.getNodeType()) {
             case ARRAY: {
@@ -14,6 +14,7 @@ package org.openhab.binding.mqtt.homeassistant.internal.discovery;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -63,6 +64,10 @@ import com.google.gson.GsonBuilder;
  * The {@link HomeAssistantDiscovery} is responsible for discovering device nodes that follow the
  * Home Assistant MQTT discovery convention (https://www.home-assistant.io/docs/mqtt/discovery/).
  *
+ * When a broker comes online, all retained config messages arrive at once. Received configs are therefore only
+ * collected until no new config arrived for 2 seconds, then each thing is built once from all of its components.
+ * Configs that were already received with the same payload are not parsed again.
+ *
  * @author David Graeff - Initial contribution
  */
 @Component(service = DiscoveryService.class, configurationPid = "discovery.mqttha", property = Constants.SERVICE_PID
@@ -76,10 +81,24 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     protected final Map<String, ThingUID> thingIDPerTopic = new HashMap<>();
     protected final Map<String, DiscoveryResult> results = new HashMap<>();
     protected final Map<String, DiscoveryResult> allResults = new HashMap<>();
+    private final Map<String, Integer> configHashPerTopic = new HashMap<>();
+    private final Map<String, PendingThing> pendingThings = new HashMap<>();
+
+    // Statistics of the current settle window, guarded by results
+    private int receivedConfigs;
+    private int unchangedConfigs;
+    private long parseNanos;
 
     private @Nullable ScheduledFuture<?> future;
     private final Gson gson;
 
+    /**
+     * A thing that needs to be built, because one of its components was added or removed
+     */
+    private record PendingThing(String thingID, ThingUID thingUID, String thingName, String baseTopic,
+            Map<String, Object> properties, ThingUID bridgeUID) {
+    }
+
     static final String BASE_TOPIC = "homeassistant";
     static final String BIRTH_TOPIC = "homeassistant/status";
     static final String ONLINE_STATUS = "online";
@@ -145,11 +164,30 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
 
         resetPublishTimer();
 
+        int configHash = Arrays.hashCode(payload);
+        synchronized (results) {
+            receivedConfigs++;
+            ThingUID knownThingUID = thingIDPerTopic.get(topic);
+            if (knownThingUID != null && Objects.equals(configHashPerTopic.get(topic), configHash)) {
+                // Unchanged config, e.g. the retained configs after a reconnect: publish the known result again
+                String key = knownThingUID.toString();
+                DiscoveryResult known = allResults.get(key);
+                if (pendingThings.containsKey(key) || known != null) {
+                    unchangedConfigs++;
+                    if (known != null && !pendingThings.containsKey(key)) {
+                        results.put(key, known);
+                    }
+                    return;
+                }
+            }
+        }
+
         // We will of course find multiple of the same unique Thing IDs, for each different component another one.
         // Therefore the components are assembled into a list and given to the DiscoveryResult label for the user to
         // easily recognize object capabilities.
         HaID haID = new HaID(topic);
 
+        long start = System.nanoTime();
         try {
             AbstractChannelConfiguration config = AbstractChannelConfiguration
                     .fromString(new String(payload, StandardCharsets.UTF_8), gson);
@@ -159,18 +197,26 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
 
             synchronized (results) {
                 thingIDPerTopic.put(topic, thingUID);
+                configHashPerTopic.put(topic, configHash);
+                componentsPerThingID.computeIfAbsent(thingID, key -> new HashSet<>()).add(haID);
 
                 Map<String, Object> properties = new HashMap<>();
                 properties = config.appendToProperties(properties);
                 properties.put("deviceId", thingID);
 
-                buildResult(thingID, thingUID, config.getThingName(), haID, properties, bridgeUID);
+                // The thing is built once the settle window is over
+                pendingThings.put(thingUID.toString(), new PendingThing(thingID, thingUID, config.getThingName(),
+                        haID.baseTopic, properties, bridgeUID));
             }
         } catch (ConfigurationException e) {
             logger.warn("HomeAssistant discover error: invalid configuration of thing {} component {}: {}",
                     haID.objectID, haID.component, e.getMessage());
         } catch (Exception e) {
             logger.warn("HomeAssistant discover error: {}", e.getMessage());
+        } finally {
+            synchronized (results) {
+                parseNanos += System.nanoTime() - start;
+            }
         }
     }
 
@@ -204,42 +250,44 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         this.future = scheduler.schedule(this::publishResults, 2, TimeUnit.SECONDS);
     }
 
-    private void buildResult(String thingID, ThingUID thingUID, String thingName, HaID haID,
-            Map<String, Object> properties, ThingUID bridgeUID) {
+    private void buildResult(PendingThing thing) {
         // We need to keep track of already found component topics for a specific thing
-        final List<HaID> components;
-        {
-            Set<HaID> componentsUnordered = componentsPerThingID.computeIfAbsent(thingID, key -> new HashSet<>());
-
-            // Invariant. For compiler, computeIfAbsent above returns always
-            // non-null
-            Objects.requireNonNull(componentsUnordered);
-            componentsUnordered.add(haID);
-
-            components = componentsUnordered.stream().collect(Collectors.toList());
-            // We sort the components for consistent jsondb serialization order of 'topics' thing property
-            // Sorting key is HaID::toString, i.e. using the full topic string
-            components.sort(Comparator.comparing(HaID::toString));
-        }
+        final List<HaID> components = new ArrayList<>(
+                componentsPerThingID.getOrDefault(thing.thingID(), Collections.emptySet()));
+        // We sort the components for consistent jsondb serialization order of 'topics' thing property
+        // Sorting key is HaID::toString, i.e. using the full topic string
+        components.sort(Comparator.comparing(HaID::toString));
 
         final List<String> topics = components.stream().map(HaID::toShortTopic).collect(Collectors.toList());
 
-        HandlerConfiguration handlerConfig = new HandlerConfiguration(haID.baseTopic, topics);
-        properties = handlerConfig.appendToProperties(properties);
+        HandlerConfiguration handlerConfig = new HandlerConfiguration(thing.baseTopic(), topics);
+        Map<String, Object> properties = handlerConfig.appendToProperties(thing.properties());
 
-        DiscoveryResult result = DiscoveryResultBuilder.create(thingUID).withProperties(properties)
-                .withRepresentationProperty("deviceId").withBridge(bridgeUID).withLabel(thingName).build();
+        DiscoveryResult result = DiscoveryResultBuilder.create(thing.thingUID()).withProperties(properties)
+                .withRepresentationProperty("deviceId").withBridge(thing.bridgeUID()).withLabel(thing.thingName())
+                .build();
         // Because we need the new properties map with the updated "components" list
-        results.put(thingUID.toString(), result);
-        allResults.put(thingUID.toString(), result);
+        results.put(thing.thingUID().toString(), result);
+        allResults.put(thing.thingUID().toString(), result);
     }
 
     protected void publishResults() {
         Collection<DiscoveryResult> localResults;
 
         synchronized (results) {
+            long start = System.nanoTime();
+            int builtThings = pendingThings.size();
+            pendingThings.values().forEach(this::buildResult);
+            pendingThings.clear();
             localResults = new ArrayList<>(results.values());
             results.clear();
+
+            logger.debug("Received {} configs ({} unchanged), parsed in {} ms, built {} things in {} ms, {} results",
+                    receivedConfigs, unchangedConfigs, TimeUnit.NANOSECONDS.toMillis(parseNanos), builtThings,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), localResults.size());
+            receivedConfigs = 0;
+            unchangedConfigs = 0;
+            parseNanos = 0;
         }
         for (DiscoveryResult result : localResults) {
             thingDiscovered(result);
@@ -252,6 +300,7 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
             return;
         }
         synchronized (results) {
+            configHashPerTopic.remove(topic);
             ThingUID thingUID = thingIDPerTopic.remove(topic);
             if (thingUID != null) {
                 final String thingID = thingUID.getId();
@@ -263,8 +312,9 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
                 if (components.isEmpty()) {
                     allResults.remove(thingUID.toString());
                     results.remove(thingUID.toString());
+                    pendingThings.remove(thingUID.toString());
                     thingRemoved(thingUID);
-                } else {
+                } else if (!pendingThings.containsKey(thingUID.toString())) {
                     resetPublishTimer();
 
                     DiscoveryResult existingThing = allResults.get(thingUID.toString());
@@ -273,8 +323,9 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
                                 thingUID);
                         return;
                     }
-                    Map<String, Object> properties = new HashMap<>(existingThing.getProperties());
-                    buildResult(thingID, thingUID, existingThing.getLabel(), haID, properties, bridgeUID);
+                    pendingThings.put(thingUID.toString(),
+                            new PendingThing(thingID, thingUID, existingThing.getLabel(), haID.baseTopic,
+                                    new HashMap<>(existingThing.getProperties()), bridgeUID));
                 }
             }
         }
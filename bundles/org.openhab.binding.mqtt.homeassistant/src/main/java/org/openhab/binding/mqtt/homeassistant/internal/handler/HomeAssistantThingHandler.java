@@ -306,6 +306,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
 
         synchronized (haComponents) { // sync whenever discoverComponents is started
             ThingTypeUID typeID = getThing().getThingTypeUID();
+            boolean componentChanged = false;
             for (AbstractComponent<?> discovered : discoveredComponentsList) {
                 if (typeID.equals(MqttBindingConstants.HOMEASSISTANT_MQTT_THING)) {
                     typeID = calculateThingTypeUID(discovered);
@@ -331,6 +332,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                 }
 
                 // Add component to the component map
+                componentChanged = true;
                 if (addComponent(discovered)) {
                     // Start component / Subscribe to channel topics
                     discovered.start(connection, scheduler, 0).exceptionally(e -> {
@@ -344,7 +346,12 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                     updateComponent.setReleaseStateUpdateListener(this::releaseStateUpdated);
                 }
             }
-            updateThingType(typeID);
+            // Rebuilding the thing is expensive, skip it if all components were already known (e.g. after a reconnect)
+            if (componentChanged || !typeID.equals(getThing().getThingTypeUID())) {
+                updateThingType(typeID);
+            } else {
+                logger.trace("No component of {} changed, thing is not updated", getThing().getUID());
+            }
         }
     }
 
@@ -18,6 +18,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +39,8 @@ import org.openhab.core.test.storage.VolatileStorageService;
 import org.openhab.core.thing.type.ChannelTypeRegistry;
 import org.openhab.core.thing.type.ThingTypeRegistry;
 
+import com.hubspot.jinjava.Jinjava;
+
 /**
  * @author Jochen Klein - Initial contribution
  */
@@ -48,6 +52,8 @@ public class HomeAssistantChannelTransformationTests {
     protected @Mock @NonNullByDefault({}) UnitProvider unitProvider;
 
     protected @NonNullByDefault({}) HomeAssistantChannelTransformation transformation;
+    protected @NonNullByDefault({}) AbstractComponent<?> component;
+    protected @NonNullByDefault({}) Jinjava jinjava;
 
     @BeforeEach
     public void beforeEachChannelTransformationTest() {
@@ -58,10 +64,11 @@ public class HomeAssistantChannelTransformationTests {
         MqttThingHandlerFactory thingHandlerFactory = new MqttThingHandlerFactory(channelTypeProvider,
                 stateDescriptionProvider, channelTypeRegistry, unitProvider);
 
-        AbstractComponent component = Mockito.mock(AbstractComponent.class);
+        component = Mockito.mock(AbstractComponent.class);
         HaID haID = new HaID("homeassistant/light/pool/light/config");
         when(component.getHaID()).thenReturn(haID);
-        transformation = new HomeAssistantChannelTransformation(thingHandlerFactory.getJinjava(), component, "");
+        jinjava = thingHandlerFactory.getJinjava();
+        transformation = new HomeAssistantChannelTransformation(jinjava, component, "");
     }
 
     @Test
@@ -118,6 +125,31 @@ public class HomeAssistantChannelTransformationTests {
                 ""), is("[button_up, press]"));
     }
 
+    @Test
+    public void testParsedTemplate() {
+        String payload = "{\"temperature\": 21.5, \"count\": 3, \"state\": \"ON\", \"on\": true, "
+                + "\"tiny\": 1e-9, \"list\": [1, {\"b c\": \"x\"}], \"nested\": {\"a\": \"b\"}}";
+        for (String template : List.of("{{ value_json.temperature }}", " {{ value_json.count }} ",
+                "{{ value_json['state'] }}", "{{ value_json.on }}", "{{ value_json.tiny }}",
+                "{{ value_json.list[1]['b c'] }}", "{{ value_json.nested }}", "{{ value_json.missing }}",
+                "{{ value_json.state.x }}", "{{ value_json.temperature | float * 2 }}",
+                "{{ value_json.missing | is_defined }}", "{% if value_json.on %}yes{% else %}no{% endif %}",
+                "{{ value", "{{ value | no_such_filter }}")) {
+            // Rendering the template parsed once must give the same result as rendering its source
+            HomeAssistantChannelTransformation parsedTransformation = new HomeAssistantChannelTransformation(jinjava,
+                    component, template);
+            for (String value : List.of(payload, "{\"temperature\": 5}", "not json")) {
+                assertThat(template, parsedTransformation.apply(value), is(transformation.apply(template, value)));
+            }
+        }
+
+        // Whitespace around the expression is kept
+        assertThat(new HomeAssistantChannelTransformation(jinjava, component, " {{ value_json.count }} ")
+                .apply(payload).orElse(null), is(" 3 "));
+        assertThat(new HomeAssistantChannelTransformation(jinjava, component, "{{ value_json.temperature }}")
+                .apply("{\"temperature\": 5}").orElse(null), is("5"));
+    }
+
     protected @Nullable String transform(String template, String value) {
         return transformation.apply(template, value).orElse(null);
     }
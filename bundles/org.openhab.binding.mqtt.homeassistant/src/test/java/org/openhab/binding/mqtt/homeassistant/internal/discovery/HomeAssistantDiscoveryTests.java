@@ -181,6 +181,50 @@ public class HomeAssistantDiscoveryTests extends AbstractHomeAssistantTests {
                 hasItems("climate/0x847127fffe11dd6a_climate_zigbee2mqtt"));
     }
 
+    @Test
+    public void testRepeatedConfigsAreBatched() throws Exception {
+        var discoveryListener = new LatchDiscoveryListener();
+        var latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+
+        // When the same configs are received again, e.g. because of a reconnect
+        discovery.addDiscoveryListener(discoveryListener);
+        for (int i = 0; i < 3; i++) {
+            discovery.receivedMessage(HA_UID, bridgeConnection,
+                    "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config",
+                    getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+            discovery.receivedMessage(HA_UID, bridgeConnection,
+                    "homeassistant/switch/0x847127fffe11dd6a_auto_lock_zigbee2mqtt/config",
+                    getResourceAsByteArray("component/configTS0601AutoLock.json"));
+        }
+
+        // Then the thing is published once with both components
+        assert latch.await(3, TimeUnit.SECONDS);
+        var discoveryResults = discoveryListener.getDiscoveryResults();
+        assertThat(discoveryResults.size(), is(1));
+        assertThat((List<String>) discoveryResults.get(0).getProperties().get(HandlerConfiguration.PROPERTY_TOPICS),
+                is(List.of("climate/0x847127fffe11dd6a_climate_zigbee2mqtt",
+                        "switch/0x847127fffe11dd6a_auto_lock_zigbee2mqtt")));
+
+        // An unchanged config published later still leads to the known result
+        latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        discovery.receivedMessage(HA_UID, bridgeConnection,
+                "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config",
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+        assert latch.await(3, TimeUnit.SECONDS);
+        discoveryResults = discoveryListener.getDiscoveryResults();
+        assertThat(discoveryResults.size(), is(1));
+
+        // A vanished component is removed from the topics
+        latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        discovery.topicVanished(HA_UID, bridgeConnection,
+                "homeassistant/switch/0x847127fffe11dd6a_auto_lock_zigbee2mqtt/config");
+        assert latch.await(3, TimeUnit.SECONDS);
+        discoveryResults = discoveryListener.getDiscoveryResults();
+        assertThat(discoveryResults.size(), is(1));
+        assertThat((List<String>) discoveryResults.get(0).getProperties().get(HandlerConfiguration.PROPERTY_TOPICS),
+                is(List.of("climate/0x847127fffe11dd6a_climate_zigbee2mqtt")));
+    }
+
     private static class TestHomeAssistantDiscovery extends HomeAssistantDiscovery {
         public TestHomeAssistantDiscovery(MqttChannelTypeProvider typeProvider) {
             super(null);
@@ -14,15 +14,18 @@ package org.openhab.binding.mqtt.handler;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.mqtt.discovery.MQTTTopicDiscoveryParticipant;
 import org.openhab.binding.mqtt.discovery.TopicSubscribe;
+import org.openhab.binding.mqtt.internal.TopicTrie;
 import org.openhab.binding.mqtt.internal.action.MQTTActions;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
 import org.openhab.core.io.transport.mqtt.MqttConnectionObserver;
@@ -32,6 +35,7 @@ import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
+import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.BaseBridgeHandler;
 import org.openhab.core.thing.binding.ThingHandlerService;
 import org.openhab.core.types.Command;
@@ -50,7 +54,94 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
     private final Logger logger = LoggerFactory.getLogger(AbstractBrokerHandler.class);
 
     final Map<ChannelUID, PublishTriggerChannel> channelStateByChannelUID = new HashMap<>();
-    private final Map<String, @Nullable Map<MQTTTopicDiscoveryParticipant, @Nullable TopicSubscribe>> discoveryTopics = new HashMap<>();
+
+    private record DiscoveryRegistration(String topic, MQTTTopicDiscoveryParticipant listener,
+            DiscoverySubscription subscription) {
+    }
+
+    /**
+     * Broker subscription of one discovery topic. It receives the messages of the listeners of its own topic, and of
+     * the listeners of narrower topics registered while it is subscribed. Overlapping discovery topics therefore do not
+     * add broker subscriptions, and every message reaches a listener through exactly one subscription.
+     */
+    private class DiscoverySubscription implements MQTTTopicDiscoveryParticipant {
+        private final String subscribedTopic;
+        private final TopicSubscribe topicSubscribe;
+        // Last payload by topic, for listeners registered after the broker sent the retained messages
+        private final Map<String, byte[]> payloads = new ConcurrentHashMap<>();
+
+        private DiscoverySubscription(String subscribedTopic) {
+            this.subscribedTopic = subscribedTopic;
+            this.topicSubscribe = new TopicSubscribe(connection, subscribedTopic, this, thing.getUID());
+        }
+
+        @Override
+        public void receivedMessage(ThingUID thingUID, MqttBrokerConnection connection, String topic,
+                byte[] payload) {
+            payloads.put(topic, payload);
+            for (DiscoveryRegistration registration : discoveryListeners.match(topic)) {
+                if (registration.subscription() == this) {
+                    registration.listener().receivedMessage(thingUID, connection, topic, payload);
+                }
+            }
+        }
+
+        @Override
+        public void topicVanished(ThingUID thingUID, MqttBrokerConnection connection, String topic) {
+            payloads.remove(topic);
+            for (DiscoveryRegistration registration : discoveryListeners.match(topic)) {
+                if (registration.subscription() == this) {
+                    registration.listener().topicVanished(thingUID, connection, topic);
+                }
+            }
+        }
+
+        /**
+         * Hands the messages received so far to a listener registered after the subscription was started.
+         */
+        private void replay(DiscoveryRegistration registration) {
+            final MqttBrokerConnection connection = AbstractBrokerHandler.this.connection;
+            if (connection == null) {
+                return;
+            }
+            payloads.forEach((topic, payload) -> {
+                if (TopicTrie.covers(registration.topic(), topic)) {
+                    registration.listener().receivedMessage(thing.getUID(), connection, topic, payload);
+                }
+            });
+        }
+
+        private void start() {
+            if (discoveryEnabled()) {
+                topicSubscribe.start().handle((result, ex) -> {
+                    if (ex != null) {
+                        logger.warn("Failed to subscribe to discovery topic {} on broker {}", subscribedTopic,
+                                thing.getUID());
+                    } else {
+                        logger.trace("Subscribed to discovery topic {} on broker {}", subscribedTopic,
+                                thing.getUID());
+                    }
+                    return null;
+                });
+            }
+        }
+
+        private void stop() {
+            topicSubscribe.stop();
+        }
+
+        @Override
+        public String toString() {
+            return "discovery of " + subscribedTopic;
+        }
+    }
+
+    // Discovery registrations by topic and listener
+    private final Map<String, Map<MQTTTopicDiscoveryParticipant, DiscoveryRegistration>> discoveryTopics = new HashMap<>();
+    // The same registrations for dispatching incoming messages
+    private final TopicTrie<DiscoveryRegistration> discoveryListeners = new TopicTrie<>();
+    // Broker subscriptions by subscribed topic
+    private final Map<String, DiscoverySubscription> discoverySubscriptions = new HashMap<>();
 
     protected @Nullable MqttBrokerConnection connection;
     protected CompletableFuture<MqttBrokerConnection> connectionFuture = new CompletableFuture<>();
@@ -116,28 +207,10 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
         });
         connectionFuture.complete(connection);
 
-        discoveryTopics.forEach((topic, listenerMap) -> {
-            listenerMap.replaceAll((listener, oldTopicSubscribe) -> {
-                if (oldTopicSubscribe.isStarted()) {
-                    oldTopicSubscribe.stop();
-                }
-
-                TopicSubscribe topicSubscribe = new TopicSubscribe(connection, topic, listener, thing.getUID());
-                if (discoveryEnabled()) {
-                    topicSubscribe.start().handle((result, ex) -> {
-                        if (ex != null) {
-                            logger.warn("Failed to subscribe {} to discovery topic {} on broker {}", listener, topic,
-                                    thing.getUID());
-                        } else {
-                            logger.trace("Subscribed {} to discovery topic {} on broker {}", listener, topic,
-                                    thing.getUID());
-                        }
-                        return null;
-                    });
-                }
-                return topicSubscribe;
-            });
-        });
+        synchronized (discoveryTopics) {
+            stopDiscoverySubscriptions();
+            subscribeDiscoveryRegistrations(allDiscoveryRegistrations());
+        }
     }
 
     @Override
@@ -169,11 +242,9 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
         channelStateByChannelUID.clear();
 
         // keep topics, but stop subscriptions
-        discoveryTopics.forEach((topic, listenerMap) -> {
-            listenerMap.forEach((listener, topicSubscribe) -> {
-                topicSubscribe.stop();
-            });
-        });
+        synchronized (discoveryTopics) {
+            stopDiscoverySubscriptions();
+        }
 
         if (connection != null) {
             connection.removeConnectionObserver(this);
@@ -193,30 +264,29 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
      * @param topic the topic (wildcards supported)
      */
     public final void registerDiscoveryListener(MQTTTopicDiscoveryParticipant listener, String topic) {
-        Map<MQTTTopicDiscoveryParticipant, @Nullable TopicSubscribe> topicListeners = discoveryTopics
-                .computeIfAbsent(topic, t -> new HashMap<>());
-        topicListeners.compute(listener, (k, v) -> {
-            if (v != null) {
+        DiscoveryRegistration registration;
+        boolean subscribed;
+        synchronized (discoveryTopics) {
+            Map<MQTTTopicDiscoveryParticipant, DiscoveryRegistration> listeners = discoveryTopics
+                    .computeIfAbsent(topic, t -> new HashMap<>());
+            if (listeners.containsKey(listener)) {
                 logger.warn("Duplicate subscription for {} to discovery topic {} on broker {}. Check discovery logic!",
                         listener, topic, thing.getUID());
-                v.stop();
+                return;
             }
-
-            TopicSubscribe topicSubscribe = new TopicSubscribe(connection, topic, listener, thing.getUID());
-            if (discoveryEnabled()) {
-                topicSubscribe.start().handle((result, ex) -> {
-                    if (ex != null) {
-                        logger.warn("Failed to subscribe {} to discovery topic {} on broker {}", listener, topic,
-                                thing.getUID());
-                    } else {
-                        logger.trace("Subscribed {} to discovery topic {} on broker {}", listener, topic,
-                                thing.getUID());
-                    }
-                    return null;
-                });
+            DiscoverySubscription subscription = findDiscoverySubscription(topic);
+            subscribed = subscription != null;
+            if (subscription == null) {
+                subscription = startDiscoverySubscription(topic);
             }
-            return topicSubscribe;
-        });
+            registration = new DiscoveryRegistration(topic, listener, subscription);
+            listeners.put(listener, registration);
+            discoveryListeners.add(topic, registration);
+        }
+        if (subscribed) {
+            // The broker sent the retained messages of the topic before the listener was registered
+            registration.subscription().replay(registration);
+        }
     }
 
     /**
@@ -226,27 +296,94 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
      * @param topic the topic (as specified during registration)
      */
     public final void unregisterDiscoveryListener(MQTTTopicDiscoveryParticipant listener, String topic) {
-        discoveryTopics.compute(topic, (k, v) -> {
-            if (v == null) {
+        synchronized (discoveryTopics) {
+            Map<MQTTTopicDiscoveryParticipant, DiscoveryRegistration> listeners = discoveryTopics.get(topic);
+            if (listeners == null) {
                 logger.warn(
                         "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered at all. Check discovery logic!",
                         listener, topic, thing.getUID());
-                return null;
+                return;
             }
-            v.compute(listener, (l, w) -> {
-                if (w == null) {
-                    logger.warn(
-                            "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered for listener. Check discovery logic!",
-                            listener, topic, thing.getUID());
-                } else {
-                    w.stop();
-                    logger.trace("Unsubscribed {} from discovery topic {} on broker {}", listener, topic,
-                            thing.getUID());
+            DiscoveryRegistration registration = listeners.remove(listener);
+            if (registration == null) {
+                logger.warn(
+                        "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered for listener. Check discovery logic!",
+                        listener, topic, thing.getUID());
+                return;
+            }
+            discoveryListeners.remove(topic, registration);
+            if (listeners.isEmpty()) {
+                discoveryTopics.remove(topic);
+            }
+            DiscoverySubscription subscription = registration.subscription();
+            if (!discoveryTopics.containsKey(subscription.subscribedTopic)) {
+                // Nobody listens to the subscribed topic anymore: the listeners of narrower topics get subscriptions
+                // matching their own topics
+                if (discoverySubscriptions.get(subscription.subscribedTopic) == subscription) {
+                    discoverySubscriptions.remove(subscription.subscribedTopic);
                 }
-                return null;
-            });
-            return v.isEmpty() ? null : v;
-        });
+                subscription.stop();
+                subscribeDiscoveryRegistrations(allDiscoveryRegistrations().stream()
+                        .filter(r -> r.subscription() == subscription).toList());
+            }
+            logger.trace("Unsubscribed {} from discovery topic {} on broker {}", listener, topic, thing.getUID());
+        }
+    }
+
+    /**
+     * Returns the started subscription receiving all messages of the given topic, or null if there is none. Must be
+     * called with the lock on {@link #discoveryTopics}.
+     */
+    private @Nullable DiscoverySubscription findDiscoverySubscription(String topic) {
+        DiscoverySubscription subscription = discoverySubscriptions.get(topic);
+        if (subscription != null) {
+            return subscription;
+        }
+        for (DiscoverySubscription other : discoverySubscriptions.values()) {
+            if (TopicTrie.covers(other.subscribedTopic, topic)) {
+                return other;
+            }
+        }
+        return null;
+    }
+
+    private List<DiscoveryRegistration> allDiscoveryRegistrations() {
+        return discoveryTopics.values().stream().flatMap(listeners -> listeners.values().stream()).toList();
+    }
+
+    /**
+     * Assigns the given registrations to the started subscriptions, subscribing their topics where needed. Must be
+     * called with the lock on {@link #discoveryTopics}.
+     */
+    private void subscribeDiscoveryRegistrations(List<DiscoveryRegistration> registrations) {
+        for (DiscoveryRegistration registration : registrations) {
+            String topic = registration.topic();
+            DiscoverySubscription subscription = findDiscoverySubscription(topic);
+            if (subscription == null) {
+                subscription = startDiscoverySubscription(topic);
+            }
+            DiscoveryRegistration newRegistration = new DiscoveryRegistration(topic, registration.listener(),
+                    subscription);
+            discoveryListeners.remove(topic, registration);
+            discoveryListeners.add(topic, newRegistration);
+            discoveryTopics.computeIfAbsent(topic, t -> new HashMap<>()).put(registration.listener(),
+                    newRegistration);
+        }
+    }
+
+    /**
+     * Subscribes a discovery topic. Must be called with the lock on {@link #discoveryTopics}.
+     */
+    private DiscoverySubscription startDiscoverySubscription(String topic) {
+        DiscoverySubscription subscription = new DiscoverySubscription(topic);
+        subscription.start();
+        discoverySubscriptions.put(topic, subscription);
+        return subscription;
+    }
+
+    private void stopDiscoverySubscriptions() {
+        discoverySubscriptions.values().forEach(DiscoverySubscription::stop);
+        discoverySubscriptions.clear();
     }
 
     /**
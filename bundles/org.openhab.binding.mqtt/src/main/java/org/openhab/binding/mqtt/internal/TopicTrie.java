@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Stores values by MQTT topic filter and finds the values of all filters matching a topic.
+ *
+ * Every level of a filter is a node of the trie, the single level wildcard "+" and the multi level wildcard "#" are
+ * nodes as well. Matching a topic therefore only depends on the number of levels of the topic, not on the number of
+ * filters.
+ *
+ * The trie is copy-on-write: Modifications create new nodes along the path of the filter and replace the root.
+ * Lookups do not lock and always see a consistent trie, even while filters are added or removed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TopicTrie<T> {
+    private static final String SINGLE_LEVEL = "+";
+    private static final String MULTI_LEVEL = "#";
+
+    private static final class Node<T> {
+        private final Map<String, Node<T>> children;
+        private final List<T> values;
+
+        private Node(Map<String, Node<T>> children, List<T> values) {
+            this.children = children;
+            this.values = values;
+        }
+
+        private boolean isEmpty() {
+            return children.isEmpty() && values.isEmpty();
+        }
+    }
+
+    private volatile Node<T> root = new Node<>(Map.of(), List.of());
+
+    /**
+     * Adds a value for the given topic filter.
+     */
+    public synchronized void add(String filter, T value) {
+        root = add(root, levels(filter), 0, value);
+    }
+
+    private Node<T> add(Node<T> node, String[] levels, int index, T value) {
+        if (index == levels.length) {
+            List<T> values = new ArrayList<>(node.values);
+            values.add(value);
+            return new Node<>(node.children, List.copyOf(values));
+        }
+        Node<T> child = node.children.get(levels[index]);
+        Map<String, Node<T>> children = new HashMap<>(node.children);
+        children.put(levels[index], add(child == null ? new Node<>(Map.of(), List.of()) : child, levels, index + 1,
+                value));
+        return new Node<>(Map.copyOf(children), node.values);
+    }
+
+    /**
+     * Removes a value of the given topic filter.
+     *
+     * @return true if the value was found
+     */
+    public synchronized boolean remove(String filter, T value) {
+        Node<T> newRoot = remove(root, levels(filter), 0, value);
+        if (newRoot == null) {
+            return false;
+        }
+        root = newRoot;
+        return true;
+    }
+
+    /**
+     * Returns the new node or null if the value was not found
+     */
+    private @Nullable Node<T> remove(Node<T> node, String[] levels, int index, T value) {
+        if (index == levels.length) {
+            List<T> values = new ArrayList<>(node.values);
+            if (!values.remove(value)) {
+                return null;
+            }
+            return new Node<>(node.children, List.copyOf(values));
+        }
+        Node<T> child = node.children.get(levels[index]);
+        if (child == null) {
+            return null;
+        }
+        Node<T> newChild = remove(child, levels, index + 1, value);
+        if (newChild == null) {
+            return null;
+        }
+        Map<String, Node<T>> children = new HashMap<>(node.children);
+        if (newChild.isEmpty()) {
+            children.remove(levels[index]);
+        } else {
+            children.put(levels[index], newChild);
+        }
+        return new Node<>(Map.copyOf(children), node.values);
+    }
+
+    /**
+     * Returns the values of all filters matching the given topic.
+     */
+    public List<T> match(String topic) {
+        List<T> result = new ArrayList<>();
+        String[] levels = levels(topic);
+        // Wildcards at the first level do not match topics starting with '$' (like $SYS/...)
+        match(root, levels, 0, !levels[0].startsWith("$"), result);
+        return result;
+    }
+
+    private void match(Node<T> node, String[] levels, int index, boolean wildcards, List<T> result) {
+        if (wildcards) {
+            // "a/#" matches "a" as well
+            Node<T> multiLevel = node.children.get(MULTI_LEVEL);
+            if (multiLevel != null) {
+                result.addAll(multiLevel.values);
+            }
+        }
+        if (index == levels.length) {
+            result.addAll(node.values);
+            return;
+        }
+        Node<T> exact = node.children.get(levels[index]);
+        if (exact != null) {
+            match(exact, levels, index + 1, true, result);
+        }
+        if (wildcards) {
+            Node<T> singleLevel = node.children.get(SINGLE_LEVEL);
+            if (singleLevel != null) {
+                match(singleLevel, levels, index + 1, true, result);
+            }
+        }
+    }
+
+    /**
+     * Returns true if every topic matching the filter {@code other} also matches {@code filter}.
+     */
+    public static boolean covers(String filter, String other) {
+        String[] levels = levels(filter);
+        String[] otherLevels = levels(other);
+        for (int i = 0; i < levels.length; i++) {
+            String level = levels[i];
+            if (MULTI_LEVEL.equals(level)) {
+                return i > 0 || !otherLevels[0].startsWith("$");
+            }
+            if (i == otherLevels.length) {
+                return false;
+            }
+            String otherLevel = otherLevels[i];
+            if (MULTI_LEVEL.equals(otherLevel)) {
+                return false;
+            }
+            if (SINGLE_LEVEL.equals(level)) {
+                if (i == 0 && otherLevel.startsWith("$")) {
+                    return false;
+                }
+            } else if (!level.equals(otherLevel)) {
+                return false;
+            }
+        }
+        return levels.length == otherLevels.length;
+    }
+
+    private static String[] levels(String topic) {
+        return topic.split("/", -1);
+    }
+}
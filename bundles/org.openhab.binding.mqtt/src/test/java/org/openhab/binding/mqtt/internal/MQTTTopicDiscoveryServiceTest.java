@@ -12,8 +12,9 @@
  */
 package org.openhab.binding.mqtt.internal;
 
-import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -127,6 +128,99 @@ public class MQTTTopicDiscoveryServiceTest {
         verify(listenerMock).receivedMessage(eq(thingMock.getUID()), eq(connection), eq("topic"), eq(bytes));
     }
 
+    @Test
+    public void overlappingTopicsAreDispatchedOnce() {
+        MQTTTopicDiscoveryParticipant homieListener = mock(MQTTTopicDiscoveryParticipant.class);
+        handler.initialize();
+        subject.createdHandler(handler);
+        subject.subscribe(listenerMock, "homie/#");
+        subject.subscribe(homieListener, "homie/+/$homie");
+
+        // The narrower topic is received with the subscription of the wider one
+        assertThat(connection.getSubscribers().keySet(), hasItem("homie/#"));
+        assertThat(connection.getSubscribers().keySet(), not(hasItem("homie/+/$homie")));
+
+        final byte[] bytes = "TEST".getBytes();
+        connection.getSubscribers().get("homie/#").messageArrived("homie/device/$homie", bytes, false);
+        connection.getSubscribers().get("homie/#").messageArrived("homie/device/$name", bytes, false);
+        verify(listenerMock).receivedMessage(eq(thingMock.getUID()), eq(connection), eq("homie/device/$homie"),
+                eq(bytes));
+        verify(listenerMock).receivedMessage(eq(thingMock.getUID()), eq(connection), eq("homie/device/$name"),
+                eq(bytes));
+        verify(homieListener).receivedMessage(eq(thingMock.getUID()), eq(connection), eq("homie/device/$homie"),
+                eq(bytes));
+        verifyNoMoreInteractions(listenerMock, homieListener);
+
+        // Without listener of the wider topic, the narrower topic is subscribed on its own
+        subject.unsubscribe(listenerMock);
+        assertThat(connection.getSubscribers().keySet(), not(hasItem("homie/#")));
+        assertThat(connection.getSubscribers().keySet(), hasItem("homie/+/$homie"));
+        connection.getSubscribers().get("homie/+/$homie").messageArrived("homie/other/$homie", bytes, false);
+        verify(homieListener).receivedMessage(eq(thingMock.getUID()), eq(connection), eq("homie/other/$homie"),
+                eq(bytes));
+    }
+
+    @Test
+    public void widerTopicRegisteredLaterIsDispatchedOnce() {
+        MQTTTopicDiscoveryParticipant homieListener = mock(MQTTTopicDiscoveryParticipant.class);
+        handler.initialize();
+        subject.createdHandler(handler);
+        subject.subscribe(homieListener, "homie/+/$homie");
+        subject.subscribe(listenerMock, "homie/#");
+
+        assertThat(connection.getSubscribers().keySet(), hasItems("homie/#", "homie/+/$homie"));
+
+        // Simulate receiving, the broker sends a message once per matching subscription
+        final byte[] bytes = "TEST".getBytes();
+        connection.getSubscribers().get("homie/#").messageArrived("homie/device/$homie", bytes, false);
+        connection.getSubscribers().get("homie/+/$homie").messageArrived("homie/device/$homie", bytes, false);
+        verify(listenerMock).receivedMessage(eq(thingMock.getUID()), eq(connection), eq("homie/device/$homie"),
+                eq(bytes));
+        verify(homieListener).receivedMessage(eq(thingMock.getUID()), eq(connection), eq("homie/device/$homie"),
+                eq(bytes));
+        verifyNoMoreInteractions(listenerMock, homieListener);
+    }
+
+    @Test
+    public void listenerRegisteredLaterReceivesRetainedMessages() {
+        MQTTTopicDiscoveryParticipant homieListener = mock(MQTTTopicDiscoveryParticipant.class);
+        handler.initialize();
+        subject.createdHandler(handler);
+        subject.subscribe(listenerMock, "homie/#");
+        final byte[] bytes = "TEST".getBytes();
+        connection.getSubscribers().get("homie/#").messageArrived("homie/device/$homie", bytes, true);
+        connection.getSubscribers().get("homie/#").messageArrived("homie/device/$name", bytes, true);
+
+        // A listener registered later receives the messages of its topic without subscribing again
+        subject.subscribe(homieListener, "homie/+/$homie");
+        assertThat(connection.getSubscribers().keySet(), not(hasItem("homie/+/$homie")));
+
+        verify(homieListener).receivedMessage(eq(thingMock.getUID()), eq(connection), eq("homie/device/$homie"),
+                eq(bytes));
+        verify(listenerMock, times(1)).receivedMessage(eq(thingMock.getUID()), eq(connection),
+                eq("homie/device/$homie"), eq(bytes));
+        verify(listenerMock, times(1)).receivedMessage(eq(thingMock.getUID()), eq(connection), eq("homie/device/$name"),
+                eq(bytes));
+        verifyNoMoreInteractions(listenerMock, homieListener);
+    }
+
+    @Test
+    public void secondListenerOfTopicDoesNotSubscribeAgain() {
+        MQTTTopicDiscoveryParticipant secondListener = mock(MQTTTopicDiscoveryParticipant.class);
+        handler.initialize();
+        subject.createdHandler(handler);
+        subject.subscribe(listenerMock, "topic");
+        final byte[] bytes = "TEST".getBytes();
+        connection.getSubscribers().get("topic").messageArrived("topic", bytes, true);
+
+        subject.subscribe(secondListener, "topic");
+
+        verify(connection, times(1)).subscribe(eq("topic"), any());
+        verify(listenerMock, times(1)).receivedMessage(eq(thingMock.getUID()), eq(connection), eq("topic"),
+                eq(bytes));
+        verify(secondListener).receivedMessage(eq(thingMock.getUID()), eq(connection), eq("topic"), eq(bytes));
+    }
+
     @Test
     public void topicVanished() {
         handler.initialize();
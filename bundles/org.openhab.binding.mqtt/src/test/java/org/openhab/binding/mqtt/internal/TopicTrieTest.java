@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link TopicTrie}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TopicTrieTest {
+
+    private static Set<String> match(TopicTrie<String> trie, String topic) {
+        return new HashSet<>(trie.match(topic));
+    }
+
+    @Test
+    public void wildcards() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        for (String filter : List.of("a/b/c", "a/+/c", "a/#", "+/b/+", "#", "a/b", "a/+/+/d", "$SYS/#", "+/x")) {
+            trie.add(filter, filter);
+        }
+
+        assertThat(match(trie, "a/b/c"), is(Set.of("a/b/c", "a/+/c", "a/#", "+/b/+", "#")));
+        assertThat(match(trie, "a"), is(Set.of("a/#", "#")));
+        assertThat(match(trie, "a/b"), is(Set.of("a/#", "#", "a/b")));
+        assertThat(match(trie, "a/x/y/d"), is(Set.of("a/#", "#", "a/+/+/d")));
+        assertThat(match(trie, "b/x"), is(Set.of("#", "+/x")));
+        // Wildcards at the first level do not match topics starting with '$'
+        assertThat(match(trie, "$SYS/x"), is(Set.of("$SYS/#")));
+        // Empty levels are levels as well
+        assertThat(match(trie, "a//c"), is(Set.of("a/+/c", "a/#", "#")));
+    }
+
+    @Test
+    public void addAndRemove() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("a/+", "first");
+        trie.add("a/+", "second");
+        assertThat(trie.match("a/b"), is(List.of("first", "second")));
+
+        assertTrue(trie.remove("a/+", "first"));
+        assertFalse(trie.remove("a/+", "first"));
+        assertFalse(trie.remove("a/b", "second"));
+        assertThat(trie.match("a/b"), is(List.of("second")));
+
+        assertTrue(trie.remove("a/+", "second"));
+        assertThat(trie.match("a/b"), is(List.of()));
+        assertFalse(trie.remove("a/+", "second"));
+    }
+
+    @Test
+    public void covers() {
+        assertTrue(TopicTrie.covers("a/#", "a"));
+        assertTrue(TopicTrie.covers("a/#", "a/+/c"));
+        assertTrue(TopicTrie.covers("#", "a/#"));
+        assertTrue(TopicTrie.covers("a/+/c", "a/b/c"));
+        assertTrue(TopicTrie.covers("a/+", "a/+"));
+        assertFalse(TopicTrie.covers("a/+", "a/#"));
+        assertFalse(TopicTrie.covers("a/b/c", "a/+/c"));
+        assertFalse(TopicTrie.covers("a/+", "a/b/c"));
+        assertFalse(TopicTrie.covers("a/b/c", "a/b"));
+        assertFalse(TopicTrie.covers("#", "$SYS/a"));
+        assertFalse(TopicTrie.covers("+/a", "$SYS/a"));
+    }
+
+    /**
+     * Matches 10k filters, as used by large Home Assistant or zigbee2mqtt installations, against a set of topics and
+     * compares result and time with matching every filter.
+     */
+    @Test
+    public void manyFilters() {
+        Random random = new Random(42);
+        TopicTrie<String> trie = new TopicTrie<>();
+        List<String> filters = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String filter = switch (random.nextInt(5)) {
+                case 0 -> "homeassistant/sensor/node" + random.nextInt(100) + "/object" + i + "/config";
+                case 1 -> "zigbee2mqtt/device" + random.nextInt(2000);
+                case 2 -> "zigbee2mqtt/device" + random.nextInt(2000) + "/+";
+                case 3 -> "homie/device" + random.nextInt(500) + "/#";
+                default -> "tasmota/+/device" + random.nextInt(1000) + "/state";
+            };
+            filters.add(filter);
+            trie.add(filter, filter);
+        }
+
+        List<String> topics = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            topics.add(switch (random.nextInt(4)) {
+                case 0 -> "zigbee2mqtt/device" + random.nextInt(2000);
+                case 1 -> "zigbee2mqtt/device" + random.nextInt(2000) + "/availability";
+                case 2 -> "homie/device" + random.nextInt(500) + "/node/property";
+                default -> "tasmota/tele/device" + random.nextInt(1000) + "/state";
+            });
+        }
+
+        long begin = System.nanoTime();
+        List<List<String>> expected = topics.stream()
+                .map(topic -> filters.stream().filter(filter -> TopicTrie.covers(filter, topic)).toList()).toList();
+        long linearNanos = System.nanoTime() - begin;
+        begin = System.nanoTime();
+        List<List<String>> actual = topics.stream().map(trie::match).toList();
+        long trieNanos = System.nanoTime() - begin;
+
+        for (int i = 0; i < topics.size(); i++) {
+            assertThat(topics.get(i), actual.get(i).stream().sorted().toList(),
+                    is(expected.get(i).stream().sorted().toList()));
+        }
+        // The trie visits a few nodes per topic instead of all 10k filters
+        assertThat("trie " + trieNanos / 1000 + " us, linear " + linearNanos / 1000 + " us", trieNanos < linearNanos,
+                is(true));
+    }
+}
@@ -14,7 +14,6 @@ package org.openhab.binding.network.internal;
 
 import static org.openhab.binding.network.internal.PresenceDetectionType.*;
 
-import java.io.IOException;
 import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.SocketException;
@@ -25,12 +24,8 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -45,6 +40,7 @@ import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.binding.network.internal.utils.ProbeEngine;
 import org.openhab.core.cache.ExpiringCache;
 import org.openhab.core.cache.ExpiringCacheAsync;
 import org.slf4j.Logger;
@@ -64,6 +60,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     private static final Duration DESTINATION_TTL = Duration.ofMinutes(5);
 
     NetworkUtils networkUtils = new NetworkUtils();
+    ProbeEngine probeEngine = ProbeEngine.getInstance();
     private final Logger logger = LoggerFactory.getLogger(PresenceDetection.class);
 
     /// Configuration variables
@@ -86,6 +83,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     private @Nullable InetAddress cachedDestination;
 
     private boolean preferResponseTimeAsLatency;
+    private boolean useFping;
 
     // State variables (cannot be final because of test dependency injections)
     ExpiringCacheAsync<PresenceDetectionValue> cache;
@@ -95,8 +93,6 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
     private Set<String> networkInterfaceNames = Set.of();
     private @Nullable ScheduledFuture<?> refreshJob;
-    protected @Nullable ExecutorService detectionExecutorService;
-    protected @Nullable ExecutorService waitForResultExecutorService;
     private String dhcpState = "off";
     int detectionChecks;
     private String lastReachableNetworkInterfaceName = "";
@@ -180,6 +176,10 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         this.preferResponseTimeAsLatency = preferResponseTimeAsLatency;
     }
 
+    public void setUseFping(boolean useFping) {
+        this.useFping = useFping;
+    }
+
     /**
      * Sets the ping method. This method will perform a feature test. If {@link IpPingMethodEnum#SYSTEM_PING}
      * does not work on this system, {@link IpPingMethodEnum#JAVA_PING} will be used instead.
@@ -322,37 +322,11 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         cache.getValue(this::performPresenceDetection).thenAccept(callback);
     }
 
-    public ExecutorService getThreadsFor(int threadCount) {
-        return Executors.newFixedThreadPool(threadCount);
-    }
-
-    private void withDestinationAddress(Consumer<InetAddress> consumer) {
-        InetAddress destinationAddress = destination.getValue();
-        if (destinationAddress == null) {
-            logger.trace("The destinationAddress for {} is null", hostname);
-        } else {
-            consumer.accept(destinationAddress);
-        }
-    }
-
-    private void stopDetection() {
-        ExecutorService detectionExecutorService = this.detectionExecutorService;
-        if (detectionExecutorService != null) {
-            logger.debug("Shutting down detectionExecutorService");
-            detectionExecutorService.shutdownNow();
-            this.detectionExecutorService = null;
-        }
-        ExecutorService waitForResultExecutorService = this.waitForResultExecutorService;
-        if (waitForResultExecutorService != null) {
-            logger.debug("Shutting down waitForResultExecutorService");
-            waitForResultExecutorService.shutdownNow();
-            this.waitForResultExecutorService = null;
-        }
-    }
-
     /**
      * Perform a presence detection with ICMP-, ARP ping and TCP connection attempts simultaneously.
-     * A fixed thread pool will be created with as many threads as necessary to perform all tests at once.
+     * The probes are performed by the {@link ProbeEngine} shared by all presence detections, so no threads are
+     * created for a presence detection. Every probe ends after its own timeout, which starts when the probe is
+     * actually sent, so probes waiting for their turn do not make a reachable host appear offline.
      *
      * Please be aware of the following restrictions:
      * <ul>
@@ -363,86 +337,56 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      * @return a {@link CompletableFuture} for obtaining the {@link PresenceDetectionValue}
      */
     public CompletableFuture<PresenceDetectionValue> performPresenceDetection() {
-        Set<String> interfaceNames = null;
+        PresenceDetectionValue pdv = new PresenceDetectionValue(hostname, PresenceDetectionValue.UNREACHABLE);
+
+        // resolving the destination may disable ARP pings for IPv6 addresses
+        InetAddress destinationAddress = destination.getValue();
 
+        Set<String> interfaceNames = null;
         detectionChecks = tcpPorts.size();
         if (pingMethod != IpPingMethodEnum.DISABLED) {
             detectionChecks += 1;
         }
         if (arpPingMethod.canProceed) {
-            if (!lastReachableNetworkInterfaceName.isEmpty()) {
-                interfaceNames = Set.of(lastReachableNetworkInterfaceName);
-            } else if (!networkInterfaceNames.isEmpty()) {
-                interfaceNames = networkInterfaceNames;
-            } else {
-                interfaceNames = networkUtils.getInterfaceNames();
-            }
+            interfaceNames = getArpPingInterfaceNames(destinationAddress);
             detectionChecks += interfaceNames.size();
         }
 
         logger.trace("Performing {} presence detection checks for {}", detectionChecks, hostname);
 
-        PresenceDetectionValue pdv = new PresenceDetectionValue(hostname, PresenceDetectionValue.UNREACHABLE);
-
         if (detectionChecks == 0) {
             return CompletableFuture.completedFuture(pdv);
         }
 
-        stopDetection();
-
-        ExecutorService detectionExecutorService = getThreadsFor(detectionChecks);
-        this.detectionExecutorService = detectionExecutorService;
-        ExecutorService waitForResultExecutorService = getThreadsFor(1);
-        this.waitForResultExecutorService = waitForResultExecutorService;
-
         List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
-
-        for (Integer tcpPort : tcpPorts) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionTCP_" + hostname + " " + tcpPort);
-                performServicePing(pdv, tcpPort);
-            }, detectionExecutorService);
-        }
-
-        // ARP ping for IPv4 addresses. Use single executor for Windows tool and
-        // each own executor for each network interface for other tools
-        if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionARP_" + hostname + " ");
-                // arp-ping.exe tool capable of handling multiple interfaces by itself
-                performArpPing(pdv, "");
-            }, detectionExecutorService);
-        } else if (interfaceNames != null) {
-            for (final String interfaceName : interfaceNames) {
-                addAsyncDetection(completableFutures, () -> {
-                    Thread.currentThread().setName("presenceDetectionARP_" + hostname + " " + interfaceName);
-                    performArpPing(pdv, interfaceName);
-                }, detectionExecutorService);
+        if (destinationAddress == null) {
+            logger.trace("The destinationAddress for {} is null", hostname);
+        } else {
+            for (Integer tcpPort : tcpPorts) {
+                completableFutures.add(performServicePing(pdv, destinationAddress, tcpPort));
             }
-        }
 
-        // ICMP ping
-        if (pingMethod != IpPingMethodEnum.DISABLED) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionICMP_" + hostname);
-                if (pingMethod == IpPingMethodEnum.JAVA_PING) {
-                    performJavaPing(pdv);
-                } else {
-                    performSystemPing(pdv);
+            // ARP ping for IPv4 addresses. The Windows tool handles all interfaces at once,
+            // other tools are called for each network interface
+            if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
+                completableFutures.add(performArpPing(pdv, destinationAddress, ""));
+            } else if (interfaceNames != null) {
+                for (final String interfaceName : interfaceNames) {
+                    completableFutures.add(performArpPing(pdv, destinationAddress, interfaceName));
                 }
-            }, detectionExecutorService);
+            }
+
+            // ICMP ping
+            if (pingMethod != IpPingMethodEnum.DISABLED) {
+                completableFutures.add(performIcmpPing(pdv, destinationAddress));
+            }
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            Thread.currentThread().setName("presenceDetectionResult_" + hostname);
-            logger.debug("Waiting for {} detection futures for {} to complete", completableFutures.size(), hostname);
-            completableFutures.forEach(completableFuture -> {
-                try {
-                    completableFuture.join();
-                } catch (CancellationException | CompletionException e) {
-                    logger.debug("Detection future failed to complete", e);
-                }
-            });
+        logger.debug("Waiting for {} detection futures for {} to complete", completableFutures.size(), hostname);
+        return CompletableFuture.allOf(completableFutures.toArray(CompletableFuture[]::new)).handle((result, e) -> {
+            if (e != null) {
+                logger.debug("Detection future failed to complete", e);
+            }
             logger.debug("All {} detection futures for {} have completed", completableFutures.size(), hostname);
 
             if (!pdv.isReachable()) {
@@ -452,19 +396,29 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
             logger.debug("Sending listener final result: {}", pdv);
             updateListener.finalDetectionResult(pdv);
-
-            detectionExecutorService.shutdownNow();
-            this.detectionExecutorService = null;
             detectionChecks = 0;
 
             return pdv;
-        }, waitForResultExecutorService);
+        });
     }
 
-    private void addAsyncDetection(List<CompletableFuture<Void>> completableFutures, Runnable detectionRunnable,
-            ExecutorService executorService) {
-        completableFutures.add(CompletableFuture.runAsync(detectionRunnable, executorService)
-                .orTimeout(timeout.plusSeconds(3).toMillis(), TimeUnit.MILLISECONDS));
+    /**
+     * Returns the interfaces to send ARP pings on. The interface the host was last reachable on is preferred,
+     * followed by the interface of the host in the ARP table of the kernel.
+     */
+    private Set<String> getArpPingInterfaceNames(@Nullable InetAddress destinationAddress) {
+        if (!lastReachableNetworkInterfaceName.isEmpty()) {
+            return Set.of(lastReachableNetworkInterfaceName);
+        }
+        String arpInterfaceName = destinationAddress == null ? null : probeEngine.getArpInterface(destinationAddress);
+        if (arpInterfaceName != null
+                && (networkInterfaceNames.isEmpty() || networkInterfaceNames.contains(arpInterfaceName))) {
+            return Set.of(arpInterfaceName);
+        } else if (!networkInterfaceNames.isEmpty()) {
+            return networkInterfaceNames;
+        } else {
+            return networkUtils.getInterfaceNames();
+        }
     }
 
     /**
@@ -508,18 +462,13 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         updateListener.partialDetectionResult(pdv);
     }
 
-    protected void performServicePing(PresenceDetectionValue pdv, int tcpPort) {
+    protected CompletableFuture<Void> performServicePing(PresenceDetectionValue pdv, InetAddress destinationAddress,
+            int tcpPort) {
         logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
 
-        withDestinationAddress(destinationAddress -> {
-            try {
-                PingResult pingResult = networkUtils.servicePing(destinationAddress.getHostAddress(), tcpPort, timeout);
-                if (pingResult.isSuccess()) {
-                    updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
-                }
-            } catch (IOException e) {
-                // This should not happen and might be a user configuration issue, we log a warning message therefore.
-                logger.warn("Could not create a socket connection", e);
+        return probeEngine.tcpPing(destinationAddress, tcpPort, timeout).thenAccept(pingResult -> {
+            if (pingResult.isSuccess()) {
+                updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
             }
         });
     }
@@ -530,74 +479,51 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      * called before performing the ARP ping.
      *
      * @param pdv the {@link PresenceDetectionValue} to update
+     * @param destinationAddress the address to ping
      * @param interfaceName the interface name. You can request a list of interface names
      *            from {@link NetworkUtils#getInterfaceNames()} for example.
      */
-    protected void performArpPing(PresenceDetectionValue pdv, String interfaceName) {
+    protected CompletableFuture<Void> performArpPing(PresenceDetectionValue pdv, InetAddress destinationAddress,
+            String interfaceName) {
         logger.trace("Perform ARP ping presence detection for {} on interface: {}", hostname, interfaceName);
 
-        withDestinationAddress(destinationAddress -> {
-            try {
-                if (iosDevice) {
-                    networkUtils.wakeUpIOS(destinationAddress);
-                    Thread.sleep(50);
-                }
-
-                PingResult pingResult = networkUtils.nativeArpPing(arpPingMethod, arpPingUtilPath, interfaceName,
-                        destinationAddress.getHostAddress(), timeout);
-                if (pingResult != null) {
-                    if (pingResult.isSuccess()) {
-                        updateReachable(pdv, ARP_PING, getLatency(pingResult));
-                        lastReachableNetworkInterfaceName = interfaceName;
-                    } else if (lastReachableNetworkInterfaceName.equals(interfaceName)) {
-                        logger.trace("{} is no longer reachable on network interface: {}", hostname, interfaceName);
-                        lastReachableNetworkInterfaceName = "";
-                    }
+        return probeEngine.submit(ARP_PING, timeout, () -> {
+            if (iosDevice) {
+                networkUtils.wakeUpIOS(destinationAddress);
+                Thread.sleep(50);
+            }
+            return networkUtils.nativeArpPing(arpPingMethod, arpPingUtilPath, interfaceName,
+                    destinationAddress.getHostAddress(), timeout);
+        }).thenAccept(pingResult -> {
+            if (pingResult != null) {
+                if (pingResult.isSuccess()) {
+                    updateReachable(pdv, ARP_PING, getLatency(pingResult));
+                    lastReachableNetworkInterfaceName = interfaceName;
+                } else if (lastReachableNetworkInterfaceName.equals(interfaceName)) {
+                    logger.trace("{} is no longer reachable on network interface: {}", hostname, interfaceName);
+                    lastReachableNetworkInterfaceName = "";
                 }
-            } catch (IOException e) {
-                logger.trace("Failed to execute an ARP ping for {}", hostname, e);
-            } catch (InterruptedException ignored) {
-                // This can be ignored, the thread will end anyway
             }
         });
     }
 
     /**
-     * Performs a Java ping. It is not recommended to use this, as it is not interruptible,
-     * and will not work on Windows systems reliably and will fall back from ICMP pings to
+     * Performs an ICMP ping with the configured ping method. Java pings are not recommended, as they are not
+     * interruptible, and will not work on Windows systems reliably and will fall back from ICMP pings to
      * the TCP echo service on port 7 which barely no device or server supports nowadays.
      *
      * @see InetAddress#isReachable(int)
      */
-    protected void performJavaPing(PresenceDetectionValue pdv) {
-        logger.trace("Perform Java ping presence detection for {}", hostname);
+    protected CompletableFuture<Void> performIcmpPing(PresenceDetectionValue pdv, InetAddress destinationAddress) {
+        logger.trace("Perform {} presence detection for {}", pingMethod, hostname);
 
-        withDestinationAddress(destinationAddress -> {
-            PingResult pingResult = networkUtils.javaPing(timeout, destinationAddress);
-            if (pingResult.isSuccess()) {
+        return probeEngine.icmpPing(pingMethod, useFping, destinationAddress, timeout).thenAccept(pingResult -> {
+            if (pingResult != null && pingResult.isSuccess()) {
                 updateReachable(pdv, ICMP_PING, getLatency(pingResult));
             }
         });
     }
 
-    protected void performSystemPing(PresenceDetectionValue pdv) {
-        logger.trace("Perform native ping presence detection for {}", hostname);
-
-        withDestinationAddress(destinationAddress -> {
-            try {
-                PingResult pingResult = networkUtils.nativePing(pingMethod, destinationAddress.getHostAddress(),
-                        timeout);
-                if (pingResult != null && pingResult.isSuccess()) {
-                    updateReachable(pdv, ICMP_PING, getLatency(pingResult));
-                }
-            } catch (IOException e) {
-                logger.trace("Failed to execute a native ping for {}", hostname, e);
-            } catch (InterruptedException e) {
-                // This can be ignored, the thread will end anyway
-            }
-        });
-    }
-
     private Duration getLatency(PingResult pingResult) {
         logger.trace("Getting latency from ping result {} using latency mode {}", pingResult,
                 preferResponseTimeAsLatency);
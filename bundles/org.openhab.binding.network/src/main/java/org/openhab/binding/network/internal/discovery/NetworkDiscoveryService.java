@@ -15,16 +15,19 @@ package org.openhab.binding.network.internal.discovery;
 import static org.openhab.binding.network.internal.NetworkBindingConstants.*;
 import static org.openhab.binding.network.internal.utils.NetworkUtils.durationToMillis;
 
+import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -33,6 +36,8 @@ import org.openhab.binding.network.internal.PresenceDetection;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
+import org.openhab.binding.network.internal.utils.ProbeEngine;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
@@ -50,14 +55,22 @@ import org.slf4j.LoggerFactory;
  * the current Network. It uses every Network Interface which is connected to a network.
  * It tries common TCP ports to connect to, ICMP pings and ARP pings.
  *
+ * The addresses are probed by a {@link SubnetSweep} which keeps to the configured packets per second. Addresses which
+ * answered in an earlier scan are probed first, followed by the addresses in the ARP table of the kernel. A device is
+ * reported as soon as it answered. A sweep which takes longer than the scan timeout still probes all addresses, its
+ * devices are reported after the scan ended.
+ *
  * @author Marc Mettke - Initial contribution
  * @author David Graeff - Rewritten
  */
 @NonNullByDefault
 @Component(service = DiscoveryService.class, configurationPid = "discovery.network")
+@ConfigurableService(category = "discovery", label = "Network Discovery", description_uri = "discovery:network")
 public class NetworkDiscoveryService extends AbstractDiscoveryService implements PresenceDetectionListener {
     static final Duration PING_TIMEOUT = Duration.ofMillis(500);
     static final int MAXIMUM_IPS_PER_INTERFACE = 255;
+    static final int DEFAULT_PACKETS_PER_SECOND = 100;
+    static final String CONFIG_PACKETS_PER_SECOND = "packetsPerSecond";
     private static final long DISCOVERY_RESULT_TTL = TimeUnit.MINUTES.toSeconds(10);
     private final Logger logger = LoggerFactory.getLogger(NetworkDiscoveryService.class);
 
@@ -65,10 +78,13 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     // TCP port 554 (Windows share / Linux samba)
     // TCP port 1025 (Xbox / MS-RPC)
     private Set<Integer> tcpServicePorts = Set.of(80, 548, 554, 1025);
-    private AtomicInteger scannedIPcount = new AtomicInteger(0);
-    private @Nullable ExecutorService executorService = null;
     private final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
     private final NetworkUtils networkUtils = new NetworkUtils();
+    // addresses which answered, with the time of the last answer
+    private final Map<String, Instant> lastSeen = new ConcurrentHashMap<>();
+    private int packetsPerSecond = DEFAULT_PACKETS_PER_SECOND;
+    private volatile int scanTimeout;
+    private @Nullable SubnetSweep sweep;
 
     public NetworkDiscoveryService() {
         super(SUPPORTED_THING_TYPES_UIDS,
@@ -92,20 +108,59 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
         // configuration, the values are automatically available in all handlers. Because they all
         // share the same instance.
         configuration.update(new Configuration(config).as(NetworkBindingConfiguration.class));
+        Object rate = config == null ? null : config.get(CONFIG_PACKETS_PER_SECOND);
+        try {
+            packetsPerSecond = rate == null ? DEFAULT_PACKETS_PER_SECOND
+                    : Math.max(1, new BigDecimal(rate.toString()).intValue());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value '{}' for {}, using {}", rate, CONFIG_PACKETS_PER_SECOND,
+                    DEFAULT_PACKETS_PER_SECOND);
+            packetsPerSecond = DEFAULT_PACKETS_PER_SECOND;
+        }
+        scanTimeout = computeScanTimeout(networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).size());
     }
 
     @Override
     @Deactivate
     protected void deactivate() {
-        if (executorService != null) {
-            executorService.shutdown();
-        }
+        stopScan();
+        cancelSweep();
         super.deactivate();
     }
 
+    /**
+     * The timeout is computed when a scan is started, so that the network interfaces are not enumerated again for
+     * every call.
+     */
+    @Override
+    public int getScanTimeout() {
+        return scanTimeout;
+    }
+
+    /**
+     * The scan takes as long as sending the packets of all addresses with the configured rate, and at most as long as
+     * the probes take when each of them runs until its timeout.
+     */
+    private int computeScanTimeout(int addresses) {
+        Duration probeTimeout = PING_TIMEOUT.plus(ProbeEngine.PROBE_TIMEOUT_GRACE);
+        Duration duration = SubnetSweep.getMaximumDuration(addresses, packetsPerSecond, getPacketsPerAddress(),
+                probeTimeout);
+        return (int) duration.toSeconds() + 1;
+    }
+
+    /**
+     * @return approximate number of packets sent to probe one address
+     */
+    private int getPacketsPerAddress() {
+        return tcpServicePorts.size() + 1 + (configuration.arpPingUtilMethod.canProceed ? 1 : 0);
+    }
+
     @Override
     public void partialDetectionResult(PresenceDetectionValue value) {
         final String ip = value.getHostAddress();
+        if (value.isReachable()) {
+            lastSeen.put(ip, Instant.now());
+        }
         if (value.isPingReachable()) {
             newPingDevice(ip);
         } else if (value.isTcpServiceReachable()) {
@@ -121,66 +176,84 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Starts the DiscoveryThread for each IP on each interface on the network
+     * Starts a {@link SubnetSweep} over each IP on each interface on the network
      */
     @Override
-    protected void startScan() {
-        if (executorService == null) {
-            executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
-        }
-        final ExecutorService service = executorService;
-        if (service == null) {
+    protected synchronized void startScan() {
+        SubnetSweep oldSweep = sweep;
+        if (oldSweep != null && !oldSweep.isFinished()) {
             return;
         }
         removeOlderResults(getTimestampOfLastScan(), null);
         logger.trace("Starting Network Device Discovery");
 
-        final Set<String> networkIPs = networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE);
-        scannedIPcount.set(0);
-
-        for (String ip : networkIPs) {
-            final PresenceDetection pd = new PresenceDetection(this, scheduler, Duration.ofSeconds(2));
-            pd.setHostname(ip);
-            pd.setIOSDevice(true);
-            pd.setUseDhcpSniffing(false);
-            pd.setTimeout(PING_TIMEOUT);
-            // Ping devices
-            pd.setUseIcmpPing(true);
-            pd.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
-            // TCP devices
-            pd.setServicePorts(tcpServicePorts);
-
-            service.execute(() -> {
-                Thread.currentThread().setName("Discovery thread " + ip);
-                try {
-                    pd.getValue();
-                } catch (ExecutionException | InterruptedException e) {
-                    stopScan();
-                }
-                int count = scannedIPcount.incrementAndGet();
-                if (count == networkIPs.size()) {
-                    logger.trace("Scan of {} IPs successful", scannedIPcount);
+        List<String> networkIPs = prioritize(networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE));
+        scanTimeout = computeScanTimeout(networkIPs.size());
+        SubnetSweep newSweep = new SubnetSweep(networkIPs, packetsPerSecond, getPacketsPerAddress(), this::probe,
+                progress -> {
+                    logger.debug("Network scan finished: {}", progress);
                     stopScan();
-                }
-            });
+                });
+        sweep = newSweep;
+        newSweep.start(scheduler);
+    }
+
+    /**
+     * Orders the addresses so that the addresses which answered most recently come first, followed by the addresses
+     * in the ARP table of the kernel.
+     */
+    List<String> prioritize(Set<String> networkIPs) {
+        Set<String> ordered = new LinkedHashSet<>();
+        lastSeen.keySet().retainAll(networkIPs);
+        lastSeen.entrySet().stream().sorted(Map.Entry.<String, Instant> comparingByValue(Comparator.reverseOrder()))
+                .forEach(entry -> ordered.add(entry.getKey()));
+        for (String ip : ProbeEngine.getInstance().getArpAddresses()) {
+            if (networkIPs.contains(ip)) {
+                ordered.add(ip);
+            }
         }
+        ordered.addAll(networkIPs);
+        return new ArrayList<>(ordered);
+    }
+
+    private CompletableFuture<Boolean> probe(String ip) {
+        final PresenceDetection pd = new PresenceDetection(this, scheduler, Duration.ofSeconds(2));
+        pd.setHostname(ip);
+        pd.setIOSDevice(true);
+        pd.setUseDhcpSniffing(false);
+        pd.setTimeout(PING_TIMEOUT);
+        // Ping devices
+        pd.setUseIcmpPing(true);
+        pd.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
+        // TCP devices
+        pd.setServicePorts(tcpServicePorts);
+        return pd.performPresenceDetection().thenApply(PresenceDetectionValue::isReachable);
     }
 
+    /**
+     * Ends the scan. A sweep which is still running is not cancelled, so that all addresses are probed even if the
+     * scan timeout has been reached.
+     */
     @Override
     protected synchronized void stopScan() {
         super.stopScan();
-        final ExecutorService service = executorService;
-        if (service == null) {
-            return;
+        SubnetSweep localSweep = sweep;
+        if (localSweep != null && !localSweep.isFinished()) {
+            logger.debug("Network scan ended, probing the remaining addresses: {}", localSweep.getProgress());
         }
+    }
 
-        try {
-            service.awaitTermination(PING_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt(); // Reset interrupt flag
+    @Override
+    public synchronized void abortScan() {
+        super.abortScan();
+        cancelSweep();
+    }
+
+    private synchronized void cancelSweep() {
+        SubnetSweep localSweep = sweep;
+        if (localSweep != null && !localSweep.isFinished()) {
+            logger.debug("Network scan cancelled: {}", localSweep.cancel());
         }
-        service.shutdown();
-        executorService = null;
     }
 
     public static ThingUID createServiceUID(String ip, int tcpPort) {
@@ -189,7 +262,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link #startScan()}.
+     * Submit newly discovered devices. This method is called when a probe of {@link #startScan()} succeeds.
      *
      * @param ip The device IP
      * @param tcpPort The TCP port
@@ -222,7 +295,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link #startScan()}.
+     * Submit newly discovered devices. This method is called when a probe of {@link #startScan()} succeeds.
      *
      * @param ip The device IP
      */
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Probes a list of addresses in the given order without exceeding a budget of packets per second.
+ *
+ * Every {@value #TICK_MILLIS} ms the budget of the elapsed time is added and as many probes are started as the budget
+ * allows. A probe must not block, it returns a future which completes when the host answered or the probe timed out.
+ * The number of probes waiting for an answer is limited to the number of probes of one second.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SubnetSweep {
+    static final long TICK_MILLIS = 100;
+
+    /**
+     * Progress of a sweep.
+     *
+     * @param total number of addresses to probe
+     * @param started number of probes started
+     * @param completed number of probes completed
+     * @param found number of addresses which answered
+     * @param elapsed time since the sweep was started
+     */
+    public record Progress(int total, int started, int completed, int found, Duration elapsed) {
+        @Override
+        public String toString() {
+            return String.format("%d of %d addresses probed, %d answered, %.1f s", completed, total, found,
+                    elapsed.toMillis() / 1000.0);
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(SubnetSweep.class);
+    private final Deque<String> queue;
+    private final int total;
+    private final int packetsPerAddress;
+    private final double packetsPerTick;
+    private final int maxInFlight;
+    private final Function<String, CompletableFuture<Boolean>> probe;
+    private final Consumer<Progress> finishedListener;
+    private final LongSupplier clock;
+
+    private double budget;
+    private int inFlight;
+    private int started;
+    private int completed;
+    private int found;
+    private int reportedTenth;
+    private long startNanos;
+    private boolean finished;
+    private @Nullable ScheduledFuture<?> job;
+
+    /**
+     * @param addresses the addresses in the order they are probed
+     * @param packetsPerSecond the budget of packets per second
+     * @param packetsPerAddress the approximate number of packets a probe sends
+     * @param probe starts the probe of an address, the future completes with true if the address answered
+     * @param finishedListener called once all probes have completed
+     */
+    public SubnetSweep(Collection<String> addresses, int packetsPerSecond, int packetsPerAddress,
+            Function<String, CompletableFuture<Boolean>> probe, Consumer<Progress> finishedListener) {
+        this(addresses, packetsPerSecond, packetsPerAddress, probe, finishedListener, System::nanoTime);
+    }
+
+    SubnetSweep(Collection<String> addresses, int packetsPerSecond, int packetsPerAddress,
+            Function<String, CompletableFuture<Boolean>> probe, Consumer<Progress> finishedListener,
+            LongSupplier clock) {
+        this.queue = new ArrayDeque<>(addresses);
+        this.total = queue.size();
+        this.packetsPerAddress = Math.max(1, packetsPerAddress);
+        this.packetsPerTick = Math.max(1, packetsPerSecond) * TICK_MILLIS / 1000.0;
+        this.maxInFlight = getMaxInFlight(packetsPerSecond, this.packetsPerAddress);
+        this.probe = probe;
+        this.finishedListener = finishedListener;
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+    }
+
+    private static int getMaxInFlight(int packetsPerSecond, int packetsPerAddress) {
+        return Math.max(1, packetsPerSecond / Math.max(1, packetsPerAddress));
+    }
+
+    /**
+     * Estimates the longest time a sweep can take: sending the packets of all addresses with the given budget, plus
+     * every probe running until its timeout while no more probes than allowed wait for an answer.
+     *
+     * @param addresses the number of addresses
+     * @param packetsPerSecond the budget of packets per second
+     * @param packetsPerAddress the approximate number of packets a probe sends
+     * @param probeTimeout the longest time a probe takes
+     * @return the longest duration of the sweep
+     */
+    public static Duration getMaximumDuration(int addresses, int packetsPerSecond, int packetsPerAddress,
+            Duration probeTimeout) {
+        long sendMillis = (long) addresses * Math.max(1, packetsPerAddress) * 1000 / Math.max(1, packetsPerSecond);
+        int maxInFlight = getMaxInFlight(packetsPerSecond, packetsPerAddress);
+        long rounds = (addresses + maxInFlight - 1) / maxInFlight;
+        return Duration.ofMillis(sendMillis + TICK_MILLIS).plus(probeTimeout.multipliedBy(rounds));
+    }
+
+    /**
+     * Starts the sweep.
+     *
+     * @param scheduler the scheduler to start the probes from
+     */
+    public synchronized void start(ScheduledExecutorService scheduler) {
+        startNanos = clock.getAsLong();
+        job = scheduler.scheduleWithFixedDelay(this::tick, 0, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds the budget of one tick and starts the probes it allows.
+     */
+    void tick() {
+        List<String> addresses = new ArrayList<>();
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            // unused budget is kept for one probe at most, so there is no burst after a pause
+            budget = Math.min(budget + packetsPerTick, packetsPerTick + packetsPerAddress);
+            while (!queue.isEmpty() && budget >= packetsPerAddress && inFlight < maxInFlight) {
+                budget -= packetsPerAddress;
+                inFlight++;
+                started++;
+                addresses.add(queue.removeFirst());
+            }
+        }
+        for (String address : addresses) {
+            CompletableFuture<Boolean> future;
+            try {
+                future = probe.apply(address);
+            } catch (RuntimeException e) {
+                logger.debug("Could not probe {}", address, e);
+                future = CompletableFuture.completedFuture(false);
+            }
+            future.whenComplete((answered, e) -> completed(Boolean.TRUE.equals(answered)));
+        }
+        checkFinished();
+    }
+
+    private void completed(boolean answered) {
+        synchronized (this) {
+            inFlight--;
+            completed++;
+            if (answered) {
+                found++;
+            }
+            int tenth = total == 0 ? 10 : completed * 10 / total;
+            if (tenth > reportedTenth) {
+                reportedTenth = tenth;
+                logger.debug("Network scan: {}", getProgress());
+            }
+        }
+        checkFinished();
+    }
+
+    private void checkFinished() {
+        Progress progress;
+        synchronized (this) {
+            if (finished || !queue.isEmpty() || inFlight > 0) {
+                return;
+            }
+            progress = stop();
+        }
+        finishedListener.accept(progress);
+    }
+
+    /**
+     * Stops the sweep, probes which have been started still complete. The addresses which have not been probed yet
+     * are dropped, so a sweep is only cancelled when its results are not needed anymore.
+     *
+     * @return the progress when the sweep was stopped
+     */
+    public synchronized Progress cancel() {
+        if (finished) {
+            return getProgress();
+        }
+        queue.clear();
+        return stop();
+    }
+
+    private Progress stop() {
+        finished = true;
+        ScheduledFuture<?> localJob = job;
+        if (localJob != null) {
+            localJob.cancel(false);
+            job = null;
+        }
+        return getProgress();
+    }
+
+    public synchronized boolean isFinished() {
+        return finished;
+    }
+
+    public synchronized Progress getProgress() {
+        return new Progress(total, started, completed, found, Duration.ofNanos(clock.getAsLong() - startNanos));
+    }
+}
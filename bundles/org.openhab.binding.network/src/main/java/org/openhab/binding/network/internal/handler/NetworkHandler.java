@@ -171,6 +171,7 @@ public class NetworkHandler extends BaseThingHandler
         presenceDetection.setHostname(handlerConfiguration.hostname);
         presenceDetection.setNetworkInterfaceNames(handlerConfiguration.networkInterfaceNames);
         presenceDetection.setPreferResponseTimeAsLatency(configuration.preferResponseTimeAsLatency);
+        presenceDetection.setUseFping(configuration.useFping);
 
         if (isTCPServiceDevice) {
             Integer port = handlerConfiguration.port;
@@ -229,6 +230,7 @@ public class NetworkHandler extends BaseThingHandler
     public void bindingConfigurationChanged() {
         // Make sure that changed binding configuration is reflected
         presenceDetection.setPreferResponseTimeAsLatency(configuration.preferResponseTimeAsLatency);
+        presenceDetection.setUseFping(configuration.useFping);
     }
 
     @Override
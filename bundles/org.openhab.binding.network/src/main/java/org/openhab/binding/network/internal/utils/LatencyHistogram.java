@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.openhab.binding.network.internal.utils.NetworkUtils.durationToMillis;
+
+import java.time.Duration;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Counts the latencies of successful probes in buckets of increasing size, and the number of failed probes.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class LatencyHistogram {
+    /**
+     * Upper bounds of the buckets in milliseconds, the last bucket takes all longer latencies.
+     */
+    static final int[] BUCKET_LIMITS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000 };
+
+    private final long[] counts = new long[BUCKET_LIMITS.length + 1];
+    private long failures;
+    private double totalMillis;
+
+    public synchronized void record(Duration latency) {
+        double millis = durationToMillis(latency);
+        int bucket = 0;
+        while (bucket < BUCKET_LIMITS.length && millis >= BUCKET_LIMITS[bucket]) {
+            bucket++;
+        }
+        counts[bucket]++;
+        totalMillis += millis;
+    }
+
+    public synchronized void recordFailure() {
+        failures++;
+    }
+
+    /**
+     * @return number of successful probes per bucket
+     */
+    public synchronized long[] getCounts() {
+        return counts.clone();
+    }
+
+    public synchronized long getFailures() {
+        return failures;
+    }
+
+    public synchronized long getSuccesses() {
+        long successes = 0;
+        for (long count : counts) {
+            successes += count;
+        }
+        return successes;
+    }
+
+    /**
+     * @return the average latency of the successful probes in milliseconds
+     */
+    public synchronized double getAverageMillis() {
+        long successes = getSuccesses();
+        return successes == 0 ? 0 : totalMillis / successes;
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("%d ok, %d failed, avg %.1f ms |", getSuccesses(), failures, getAverageMillis()));
+        for (int i = 0; i < counts.length; i++) {
+            String label = i < BUCKET_LIMITS.length ? "<" + BUCKET_LIMITS[i] : ">=" + BUCKET_LIMITS[i - 1];
+            builder.append(' ').append(label).append("ms:").append(counts[i]);
+        }
+        return builder.toString();
+    }
+}
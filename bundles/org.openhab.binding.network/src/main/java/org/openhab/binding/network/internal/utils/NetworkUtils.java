@@ -31,11 +31,16 @@ import java.net.UnknownHostException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -60,6 +65,8 @@ public class NetworkUtils {
     private static final long NANOS_PER_MILLI = 1000_000L;
     private static final long NANOS_PER_MICRO = 1000L;
 
+    private static final Pattern FPING_ALIVE_PATTERN = Pattern.compile("^(\\S+) is alive(?: \\(([0-9.]+) ms\\))?");
+
     /**
      * Converts a {@link Duration} to milliseconds.
      * <p>
@@ -297,6 +304,60 @@ public class NetworkUtils {
         }
     }
 
+    /**
+     * Return true if the fping utility is available, which pings many hosts with one process.
+     */
+    public boolean determineFping() {
+        String result = ExecUtil.executeCommandLineAndWaitResponse(Duration.ofSeconds(1), "fping", "-v");
+        return result != null && result.contains("fping");
+    }
+
+    /**
+     * Use the fping utility to ping several hosts with one process.
+     *
+     * @param hostAddresses the IPv4 or IPv6 addresses to ping
+     * @param timeout the timeout of each ping
+     * @return the ping result of every address, addresses which did not answer are unreachable
+     * @throws IOException The fping command could probably not be found or failed
+     */
+    public Map<String, PingResult> fping(Collection<String> hostAddresses, Duration timeout)
+            throws IOException, InterruptedException {
+        Instant execStartTime = Instant.now();
+        List<String> command = new ArrayList<>(
+                List.of("fping", "-e", "-r", "0", "-t", String.valueOf(Math.max(1, timeout.toMillis()))));
+        command.addAll(hostAddresses);
+        Process proc = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+
+        Map<String, PingResult> results = new HashMap<>();
+        try (BufferedReader r = new BufferedReader(new InputStreamReader(proc.getInputStream()))) {
+            String line = r.readLine();
+            while (line != null) {
+                // "192.168.0.1 is alive (0.53 ms)" or "192.168.0.2 is unreachable"
+                Matcher matcher = FPING_ALIVE_PATTERN.matcher(line);
+                if (matcher.find()) {
+                    PingResult pingResult = new PingResult(true, Duration.between(execStartTime, Instant.now()));
+                    String latency = matcher.group(2);
+                    if (latency != null) {
+                        pingResult.setResponseTime(millisToDuration(Double.parseDouble(latency)));
+                    }
+                    results.put(matcher.group(1), pingResult);
+                }
+                line = r.readLine();
+            }
+        }
+        // The return code is 0 if all hosts are alive, 1 if some are unreachable and greater for errors
+        int result = proc.waitFor();
+        if (result > 1) {
+            throw new IOException("fping returned " + result);
+        }
+
+        Duration executionTime = Duration.between(execStartTime, Instant.now());
+        for (String hostAddress : hostAddresses) {
+            results.putIfAbsent(hostAddress, new PingResult(false, executionTime));
+        }
+        return results;
+    }
+
     public enum IpPingMethodEnum {
         DISABLED,
         JAVA_PING,
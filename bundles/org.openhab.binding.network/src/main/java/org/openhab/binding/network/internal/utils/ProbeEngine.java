@@ -0,0 +1,495 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.openhab.binding.network.internal.PresenceDetectionType.*;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NoRouteToHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.network.internal.NetworkBindingConstants;
+import org.openhab.binding.network.internal.PresenceDetectionType;
+import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Performs the probes of all presence detections of the binding.
+ * <ul>
+ * <li>TCP connections are opened without blocking and one selector thread waits for all of them. The thread is
+ * started with the first connection attempt and ends when no attempt is pending.
+ * <li>If enabled, system pings are collected for {@value #PING_BATCH_MILLIS} ms and sent with one call of the fping
+ * tool if it is installed, otherwise every ping starts its own ping process.
+ * <li>Probes which block, like ARP pings and Java pings, get a thread of their own from {@value #BLOCKING_POOL_NAME},
+ * which grows with the number of probes running at the same time. They are given up if they do not complete within
+ * their timeout plus a grace period, counted from the start of the probe.
+ * </ul>
+ * On Linux the ARP table of the kernel is read from {@value #ARP_TABLE} to find the interface a host is connected to.
+ * The latency of every probe is counted in a {@link LatencyHistogram} per detection type.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ProbeEngine {
+    static final String ARP_TABLE = "/proc/net/arp";
+    private static final String POOL_NAME = "network-probe";
+    private static final String BLOCKING_POOL_NAME = "network-blocking-probe";
+    private static final long BLOCKING_THREAD_KEEP_ALIVE_SECONDS = 60;
+    /** time a blocking probe may take longer than its timeout, e.g. to start a process */
+    public static final Duration PROBE_TIMEOUT_GRACE = Duration.ofSeconds(3);
+    private static final int PING_BATCH_MILLIS = 50;
+    private static final Duration ARP_TABLE_TTL = Duration.ofSeconds(2);
+    // flag of a complete entry in the ARP table
+    private static final int ATF_COM = 0x2;
+
+    private static final ProbeEngine INSTANCE = new ProbeEngine();
+
+    private class TcpProbe {
+        private final InetSocketAddress target;
+        private final long startNanos = System.nanoTime();
+        private final long deadlineNanos;
+        private final CompletableFuture<PingResult> future = new CompletableFuture<>();
+        private @Nullable SocketChannel channel;
+
+        private TcpProbe(InetSocketAddress target, Duration timeout) {
+            this.target = target;
+            this.deadlineNanos = startNanos + timeout.toNanos();
+        }
+    }
+
+    private record PendingPing(IpPingMethodEnum method, InetAddress address, Duration timeout,
+            CompletableFuture<@Nullable PingResult> future) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ProbeEngine.class);
+    private final ScheduledExecutorService executor = ThreadPoolManager.getScheduledPool(POOL_NAME);
+    private final ExecutorService blockingExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+            BLOCKING_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            new NamedThreadFactory(BLOCKING_POOL_NAME, true));
+    private final Map<PresenceDetectionType, LatencyHistogram> histograms = new EnumMap<>(
+            PresenceDetectionType.class);
+
+    NetworkUtils networkUtils = new NetworkUtils();
+    String arpTablePath = ARP_TABLE;
+    Duration probeTimeoutGrace = PROBE_TIMEOUT_GRACE;
+
+    private final Object tcpLock = new Object();
+    private final Queue<TcpProbe> newTcpProbes = new ConcurrentLinkedQueue<>();
+    private @Nullable Selector selector;
+
+    private final Object pingLock = new Object();
+    private List<PendingPing> pingBatch = new ArrayList<>();
+    private volatile @Nullable Boolean fpingAvailable;
+
+    private Map<String, String> arpTable = Map.of();
+    private Instant arpTableTime = Instant.MIN;
+
+    ProbeEngine() {
+        for (PresenceDetectionType type : List.of(ARP_PING, ICMP_PING, TCP_CONNECTION)) {
+            histograms.put(type, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * @return the probe engine shared by the binding
+     */
+    public static ProbeEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Tries to establish a TCP connection to the given port without occupying a thread while waiting.
+     *
+     * @param address the address of the host
+     * @param port the TCP port. Must be not 0.
+     * @param timeout the timeout before the attempt is given up
+     * @return the {@link PingResult} of connecting to the given port
+     */
+    public CompletableFuture<PingResult> tcpPing(InetAddress address, int port, Duration timeout) {
+        TcpProbe probe = new TcpProbe(new InetSocketAddress(address, port), timeout);
+        newTcpProbes.add(probe);
+        synchronized (tcpLock) {
+            Selector localSelector = selector;
+            if (localSelector != null) {
+                localSelector.wakeup();
+                return probe.future;
+            }
+            try {
+                localSelector = Selector.open();
+            } catch (IOException e) {
+                logger.warn("Could not create a socket connection", e);
+                newTcpProbes.remove(probe);
+                complete(probe, false);
+                return probe.future;
+            }
+            selector = localSelector;
+            final Selector threadSelector = localSelector;
+            Thread thread = new Thread(() -> runSelector(threadSelector),
+                    String.format("OH-binding-%s-%s", NetworkBindingConstants.BINDING_ID, "TcpProbe"));
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return probe.future;
+    }
+
+    private void runSelector(Selector selector) {
+        Set<TcpProbe> pending = new HashSet<>();
+        try (selector) {
+            while (true) {
+                TcpProbe probe;
+                while ((probe = newTcpProbes.poll()) != null) {
+                    connect(probe, selector, pending);
+                }
+                if (pending.isEmpty()) {
+                    synchronized (tcpLock) {
+                        if (newTcpProbes.isEmpty()) {
+                            this.selector = null;
+                            return;
+                        }
+                    }
+                    continue;
+                }
+
+                long nextDeadline = Long.MAX_VALUE;
+                long now = System.nanoTime();
+                for (TcpProbe pendingProbe : pending) {
+                    nextDeadline = Math.min(nextDeadline, pendingProbe.deadlineNanos - now);
+                }
+                selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextDeadline)));
+
+                for (SelectionKey key : selector.selectedKeys()) {
+                    if (key.attachment() instanceof TcpProbe connectedProbe) {
+                        key.cancel();
+                        pending.remove(connectedProbe);
+                        complete(connectedProbe, finishConnect(connectedProbe));
+                    }
+                }
+                selector.selectedKeys().clear();
+
+                final long deadline = System.nanoTime();
+                pending.removeIf(pendingProbe -> {
+                    if (deadline - pendingProbe.deadlineNanos >= 0) {
+                        complete(pendingProbe, false);
+                        return true;
+                    }
+                    return false;
+                });
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Waiting for TCP connections failed", e);
+            synchronized (tcpLock) {
+                this.selector = null;
+            }
+            pending.forEach(pendingProbe -> complete(pendingProbe, false));
+            TcpProbe probe;
+            while ((probe = newTcpProbes.poll()) != null) {
+                complete(probe, false);
+            }
+        }
+    }
+
+    private void connect(TcpProbe probe, Selector selector, Set<TcpProbe> pending) {
+        try {
+            SocketChannel channel = SocketChannel.open();
+            probe.channel = channel;
+            channel.configureBlocking(false);
+            if (channel.connect(probe.target)) {
+                complete(probe, true);
+            } else {
+                channel.register(selector, SelectionKey.OP_CONNECT, probe);
+                pending.add(probe);
+            }
+        } catch (ConnectException | NoRouteToHostException e) {
+            logger.trace("Could not connect to {}", probe.target, e);
+            complete(probe, false);
+        } catch (IOException e) {
+            // This should not happen and might be a user configuration issue, we log a warning message therefore.
+            logger.warn("Could not create a socket connection", e);
+            complete(probe, false);
+        }
+    }
+
+    private boolean finishConnect(TcpProbe probe) {
+        SocketChannel channel = probe.channel;
+        try {
+            return channel != null && channel.finishConnect();
+        } catch (IOException e) {
+            logger.trace("Could not connect to {}", probe.target, e);
+            return false;
+        }
+    }
+
+    private void complete(TcpProbe probe, boolean success) {
+        SocketChannel channel = probe.channel;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.trace("Could not close the connection to {}", probe.target, e);
+            }
+        }
+        PingResult pingResult = new PingResult(success, Duration.ofNanos(System.nanoTime() - probe.startNanos));
+        record(TCP_CONNECTION, pingResult);
+        // the listeners of the result must not delay the selector thread
+        try {
+            executor.execute(() -> probe.future.complete(pingResult));
+        } catch (RejectedExecutionException e) {
+            probe.future.complete(pingResult);
+        }
+    }
+
+    /**
+     * Pings a host. If enabled, system pings of all hosts which are requested at about the same time are sent by one
+     * fping process, if the tool is installed.
+     *
+     * @param method the ping method
+     * @param useFping whether system pings may be sent with fping
+     * @param address the address of the host
+     * @param timeout the timeout before the ping is given up
+     * @return the {@link PingResult}, <code>null</code> if no ping was executed
+     */
+    public CompletableFuture<@Nullable PingResult> icmpPing(@Nullable IpPingMethodEnum method, boolean useFping,
+            InetAddress address, Duration timeout) {
+        if (method == null || method == IpPingMethodEnum.DISABLED) {
+            return CompletableFuture.completedFuture(null);
+        } else if (method == IpPingMethodEnum.JAVA_PING) {
+            return submit(ICMP_PING, timeout, () -> networkUtils.javaPing(timeout, address));
+        } else if (!useFping || method == IpPingMethodEnum.WINDOWS_PING || !isFpingAvailable()) {
+            return submit(ICMP_PING, timeout, () -> networkUtils.nativePing(method, address.getHostAddress(), timeout));
+        }
+
+        PendingPing ping = new PendingPing(method, address, timeout, new CompletableFuture<>());
+        synchronized (pingLock) {
+            pingBatch.add(ping);
+            if (pingBatch.size() == 1) {
+                try {
+                    executor.schedule(() -> blockingExecutor.execute(this::sendPingBatch), PING_BATCH_MILLIS,
+                            TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    pingBatch.clear();
+                    ping.future().complete(null);
+                }
+            }
+        }
+        return ping.future();
+    }
+
+    private boolean isFpingAvailable() {
+        Boolean available = fpingAvailable;
+        if (available == null) {
+            available = networkUtils.determineFping();
+            logger.debug("fping is {}available for batched pings", available ? "" : "not ");
+            fpingAvailable = available;
+        }
+        return available;
+    }
+
+    private void sendPingBatch() {
+        List<PendingPing> batch;
+        synchronized (pingLock) {
+            batch = pingBatch;
+            pingBatch = new ArrayList<>();
+        }
+        Set<String> hostAddresses = new LinkedHashSet<>();
+        Duration timeout = Duration.ZERO;
+        for (PendingPing ping : batch) {
+            hostAddresses.add(ping.address().getHostAddress());
+            timeout = timeout.compareTo(ping.timeout()) < 0 ? ping.timeout() : timeout;
+        }
+
+        Map<String, PingResult> results;
+        try {
+            logger.trace("Pinging {} hosts with fping", hostAddresses.size());
+            results = networkUtils.fping(hostAddresses, timeout);
+        } catch (IOException e) {
+            logger.warn("fping failed, using one ping process per host from now on: {}", e.getMessage());
+            fpingAvailable = false;
+            for (PendingPing ping : batch) {
+                icmpPing(ping.method(), false, ping.address(), ping.timeout()).thenAccept(ping.future()::complete);
+            }
+            return;
+        } catch (InterruptedException e) {
+            batch.forEach(ping -> ping.future().complete(null));
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        for (PendingPing ping : batch) {
+            PingResult pingResult = results.get(ping.address().getHostAddress());
+            record(ICMP_PING, pingResult);
+            ping.future().complete(pingResult);
+        }
+    }
+
+    /**
+     * Runs a probe which blocks on a thread of its own.
+     *
+     * @param type the detection type the latency is counted for
+     * @param timeout the timeout of the probe. The probe is given up if it did not complete within the timeout and a
+     *            grace period after it was started.
+     * @param probe the probe
+     * @return the {@link PingResult} of the probe, <code>null</code> if the probe was not executed, failed or was given
+     *         up
+     */
+    public CompletableFuture<@Nullable PingResult> submit(PresenceDetectionType type, Duration timeout,
+            Callable<@Nullable PingResult> probe) {
+        CompletableFuture<@Nullable PingResult> future = new CompletableFuture<>();
+        long giveUpMillis = timeout.plus(probeTimeoutGrace).toMillis();
+        try {
+            blockingExecutor.execute(() -> {
+                // the timeout starts when the probe starts, not when it is submitted
+                ScheduledFuture<?> guard = executor.schedule(() -> {
+                    if (future.complete(null)) {
+                        logger.trace("Gave up a {} probe after {} ms", type, giveUpMillis);
+                    }
+                }, giveUpMillis, TimeUnit.MILLISECONDS);
+                try {
+                    PingResult pingResult = probe.call();
+                    record(type, pingResult);
+                    future.complete(pingResult);
+                } catch (InterruptedException e) {
+                    future.complete(null);
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    logger.trace("Failed to execute a {} probe", type, e);
+                    future.complete(null);
+                } finally {
+                    guard.cancel(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.complete(null);
+        }
+        return future;
+    }
+
+    private void record(PresenceDetectionType type, @Nullable PingResult pingResult) {
+        LatencyHistogram histogram = histograms.get(type);
+        if (histogram == null || pingResult == null) {
+            return;
+        }
+        if (pingResult.isSuccess()) {
+            Duration responseTime = pingResult.getResponseTime();
+            histogram.record(responseTime != null ? responseTime : pingResult.getExecutionTime());
+        } else {
+            histogram.recordFailure();
+        }
+    }
+
+    /**
+     * @return the latency histograms of the ARP, ICMP and TCP probes
+     */
+    public Map<PresenceDetectionType, LatencyHistogram> getHistograms() {
+        return new EnumMap<>(histograms);
+    }
+
+    /**
+     * Looks up the network interface of a host in the ARP table of the kernel. Only available on Linux.
+     *
+     * @param address the address of the host
+     * @return the interface name, or <code>null</code> if the ARP table has no complete entry for the host
+     */
+    public @Nullable String getArpInterface(InetAddress address) {
+        return getArpTable().get(address.getHostAddress());
+    }
+
+    /**
+     * @return the addresses which have a complete entry in the ARP table of the kernel, empty if not on Linux
+     */
+    public Set<String> getArpAddresses() {
+        return getArpTable().keySet();
+    }
+
+    private synchronized Map<String, String> getArpTable() {
+        Instant now = Instant.now();
+        if (arpTableTime.plus(ARP_TABLE_TTL).isBefore(now)) {
+            arpTable = readArpTable();
+            arpTableTime = now;
+        }
+        return arpTable;
+    }
+
+    private Map<String, String> readArpTable() {
+        Path path = Path.of(arpTablePath);
+        if (!Files.isReadable(path)) {
+            return Map.of();
+        }
+        try {
+            return parseArpTable(Files.readAllLines(path));
+        } catch (IOException e) {
+            logger.trace("Could not read the ARP table {}", path, e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * Parses the lines of /proc/net/arp, e.g.
+     *
+     * <pre>
+     * IP address       HW type     Flags       HW address            Mask     Device
+     * 192.168.0.1      0x1         0x2         aa:bb:cc:dd:ee:ff     *        eth0
+     * </pre>
+     *
+     * @return the interface name of every complete entry by IP address
+     */
+    static Map<String, String> parseArpTable(List<String> lines) {
+        Map<String, String> table = new HashMap<>();
+        for (String line : lines) {
+            String[] columns = line.trim().split("\\s+");
+            if (columns.length < 6) {
+                continue;
+            }
+            try {
+                if ((Integer.decode(columns[2]) & ATF_COM) != 0) {
+                    table.put(columns[0], columns[5]);
+                }
+            } catch (NumberFormatException e) {
+                // header line
+            }
+        }
+        return table;
+    }
+}
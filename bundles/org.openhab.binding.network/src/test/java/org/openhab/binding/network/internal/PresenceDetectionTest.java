@@ -21,7 +21,9 @@ import static org.mockito.Mockito.*;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 
@@ -38,6 +40,7 @@ import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.binding.network.internal.utils.ProbeEngine;
 
 /**
  * Tests cases for {@see PresenceDetectionValue}
@@ -52,11 +55,10 @@ public class PresenceDetectionTest {
     private @NonNullByDefault({}) PresenceDetection subject;
 
     private @Mock @NonNullByDefault({}) Consumer<PresenceDetectionValue> callback;
-    private @Mock @NonNullByDefault({}) ExecutorService detectionExecutorService;
-    private @Mock @NonNullByDefault({}) ExecutorService waitForResultExecutorService;
     private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduledExecutorService;
     private @Mock @NonNullByDefault({}) PresenceDetectionListener listener;
     private @Mock @NonNullByDefault({}) NetworkUtils networkUtils;
+    private @Mock @NonNullByDefault({}) ProbeEngine probeEngine;
 
     @BeforeEach
     public void setUp() {
@@ -65,8 +67,15 @@ public class PresenceDetectionTest {
         doReturn(ArpPingUtilEnum.IPUTILS_ARPING).when(networkUtils).determineNativeArpPingMethod(anyString());
         doReturn(IpPingMethodEnum.WINDOWS_PING).when(networkUtils).determinePingMethod();
 
+        // Blocking probes are executed immediately
+        doAnswer(invocation -> {
+            Callable<?> probe = invocation.getArgument(2);
+            return CompletableFuture.completedFuture(probe.call());
+        }).when(probeEngine).submit(any(), any(), any());
+
         subject = spy(new PresenceDetection(listener, scheduledExecutorService, Duration.ofSeconds(2)));
         subject.networkUtils = networkUtils;
+        subject.probeEngine = probeEngine;
 
         // Set a useful configuration. The default presenceDetection is a no-op.
         subject.setHostname("127.0.0.1");
@@ -80,107 +89,74 @@ public class PresenceDetectionTest {
         assertThat(subject.pingMethod, is(IpPingMethodEnum.WINDOWS_PING));
     }
 
-    // Depending on the amount of test methods an according amount of threads is spawned.
-    // We will check if they spawn and return in time.
-    @Test
-    public void threadCountTest() {
-        assertNull(subject.detectionExecutorService);
+    private void mockProbeResults(PingResult pingResult) throws IOException, InterruptedException {
+        doReturn(CompletableFuture.completedFuture(pingResult)).when(probeEngine).icmpPing(
+                eq(IpPingMethodEnum.WINDOWS_PING), anyBoolean(), any(), any());
+        doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
+                anyString(), any(), any());
+        doReturn(CompletableFuture.completedFuture(pingResult)).when(probeEngine).tcpPing(any(), anyInt(), any());
+    }
 
-        doNothing().when(subject).performArpPing(any(), any());
-        doNothing().when(subject).performJavaPing(any());
-        doNothing().when(subject).performSystemPing(any());
-        doNothing().when(subject).performServicePing(any(), anyInt());
+    @Test
+    public void partialAndFinalCallbackTests() throws InterruptedException, IOException, ExecutionException {
+        mockProbeResults(new PingResult(true, Duration.ofMillis(10)));
 
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
+        PresenceDetectionValue value = subject.performPresenceDetection().get();
 
-        subject.getValue(callback -> {
-        });
+        // Checks are done: ARP + ICMP + 1*TCP
+        assertThat(subject.detectionChecks, is(0));
+        assertTrue(value.isReachable());
 
-        // Thread count: ARP + ICMP + 1*TCP
-        assertThat(subject.detectionChecks, is(3));
-        assertNotNull(subject.detectionExecutorService);
+        verify(subject).performIcmpPing(any(), any());
+        verify(subject).performArpPing(any(), any(), eq("TESTinterface"));
+        verify(subject).performServicePing(any(), any(), eq(1010));
+        verify(networkUtils).wakeUpIOS(any());
 
-        // "Wait" for the presence detection to finish
-        ArgumentCaptor<Runnable> runnableCapture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(runnableCapture.capture());
-        runnableCapture.getValue().run();
+        verify(listener, times(3)).partialDetectionResult(any());
+        ArgumentCaptor<PresenceDetectionValue> pdvCapture = ArgumentCaptor.forClass(PresenceDetectionValue.class);
+        verify(listener, times(1)).finalDetectionResult(pdvCapture.capture());
 
-        assertThat(subject.detectionChecks, is(0));
-        assertNull(subject.detectionExecutorService);
+        assertThat(pdvCapture.getValue().getSuccessfulDetectionTypes(), is("ARP_PING, ICMP_PING, TCP_CONNECTION"));
     }
 
     @Test
-    public void partialAndFinalCallbackTests() throws InterruptedException, IOException {
-        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
-        doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
-        doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
-                anyString(), any(), any());
-        doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
-
-        doReturn(detectionExecutorService).when(subject).getThreadsFor(3);
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
+    public void unreachableTest() throws InterruptedException, IOException, ExecutionException {
+        mockProbeResults(new PingResult(false, Duration.ofMillis(300)));
 
-        subject.performPresenceDetection();
+        PresenceDetectionValue value = subject.performPresenceDetection().get();
 
-        assertThat(subject.detectionChecks, is(3));
-
-        // Perform the different presence detection threads now
-        ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(detectionExecutorService, times(3)).execute(capture.capture());
-        for (Runnable r : capture.getAllValues()) {
-            r.run();
-        }
-
-        // "Wait" for the presence detection to finish
-        ArgumentCaptor<Runnable> runnableCapture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(runnableCapture.capture());
-        runnableCapture.getValue().run();
-
-        assertThat(subject.detectionChecks, is(0));
+        assertFalse(value.isReachable());
+        verify(listener, never()).partialDetectionResult(any());
+        verify(listener, times(1)).finalDetectionResult(any());
+    }
 
-        verify(subject, times(0)).performJavaPing(any());
-        verify(subject).performSystemPing(any());
-        verify(subject).performArpPing(any(), any());
-        verify(subject).performServicePing(any(), anyInt());
+    @Test
+    public void arpTableSelectsInterface() throws InterruptedException, IOException, ExecutionException {
+        mockProbeResults(new PingResult(true, Duration.ofMillis(10)));
+        when(networkUtils.getInterfaceNames()).thenReturn(Set.of("eth0", "eth1", "wlan0"));
+        when(probeEngine.getArpInterface(any())).thenReturn("eth1");
 
-        verify(listener, times(3)).partialDetectionResult(any());
-        ArgumentCaptor<PresenceDetectionValue> pdvCapture = ArgumentCaptor.forClass(PresenceDetectionValue.class);
-        verify(listener, times(1)).finalDetectionResult(pdvCapture.capture());
+        subject.performPresenceDetection().get();
 
-        assertThat(pdvCapture.getValue().getSuccessfulDetectionTypes(), is("ARP_PING, ICMP_PING, TCP_CONNECTION"));
+        verify(networkUtils, times(1)).nativeArpPing(any(), anyString(), anyString(), any(), any());
+        verify(networkUtils).nativeArpPing(any(), anyString(), eq("eth1"), any(), any());
     }
 
     @Test
     public void cacheTest() throws InterruptedException, IOException {
-        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
-        doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
-        doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
-                anyString(), any(), any());
-        doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
-
-        doReturn(detectionExecutorService).when(subject).getThreadsFor(3);
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
+        mockProbeResults(new PingResult(true, Duration.ofMillis(10)));
+        CompletableFuture<PingResult> tcpResult = new CompletableFuture<>();
+        doReturn(tcpResult).when(probeEngine).tcpPing(any(), anyInt(), any());
 
         // We expect no valid value
         assertTrue(subject.cache.isExpired());
         // Get value will issue a PresenceDetection internally.
         subject.getValue(callback);
         verify(subject).performPresenceDetection();
-        assertNotNull(subject.detectionExecutorService);
-        // There should be no straight callback yet
+        // There should be no straight callback yet, the TCP connection is still pending
         verify(callback, times(0)).accept(any());
 
-        // Perform the different presence detection threads now
-        ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(detectionExecutorService, times(3)).execute(capture.capture());
-        for (Runnable r : capture.getAllValues()) {
-            r.run();
-        }
-
-        // "Wait" for the presence detection to finish
-        capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(capture.capture());
-        capture.getValue().run();
+        tcpResult.complete(new PingResult(true, Duration.ofMillis(10)));
 
         // Although there are multiple partial results and a final result,
         // the getValue() consumers get the fastest response possible, and only once.
@@ -191,6 +167,8 @@ public class PresenceDetectionTest {
         verify(callback, times(2)).accept(any());
 
         // Invalidate value, we should not get a new callback immediately again
+        tcpResult = new CompletableFuture<>();
+        doReturn(tcpResult).when(probeEngine).tcpPing(any(), anyInt(), any());
         subject.cache.invalidateValue();
         subject.getValue(callback);
         verify(callback, times(2)).accept(any());
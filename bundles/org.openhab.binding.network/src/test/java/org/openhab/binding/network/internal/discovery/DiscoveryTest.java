@@ -19,6 +19,7 @@ import static org.mockito.Mockito.*;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
@@ -91,4 +92,20 @@ public class DiscoveryTest {
         assertThat(dresult.getProperties().get(NetworkBindingConstants.PARAMETER_HOSTNAME), is(ip));
         assertThat(dresult.getProperties().get(NetworkBindingConstants.PARAMETER_PORT), is(1010));
     }
+
+    @Test
+    public void recentlySeenAddressesFirst() throws InterruptedException {
+        NetworkDiscoveryService d = new NetworkDiscoveryService();
+        d.addDiscoveryListener(listener);
+        when(value.isPingReachable()).thenReturn(true);
+
+        when(value.getHostAddress()).thenReturn("192.0.2.20");
+        d.partialDetectionResult(value);
+        Thread.sleep(2);
+        when(value.getHostAddress()).thenReturn("192.0.2.30");
+        d.partialDetectionResult(value);
+
+        List<String> ordered = d.prioritize(Set.of("192.0.2.10", "192.0.2.20", "192.0.2.30"));
+        assertThat(ordered, is(List.of("192.0.2.30", "192.0.2.20", "192.0.2.10")));
+    }
 }
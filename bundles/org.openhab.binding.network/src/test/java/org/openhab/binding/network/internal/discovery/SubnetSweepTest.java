@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.network.internal.discovery.SubnetSweep.Progress;
+
+/**
+ * Tests cases for {@link SubnetSweep}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SubnetSweepTest {
+    private final Map<String, CompletableFuture<Boolean>> probes = new HashMap<>();
+    private final List<String> probed = new ArrayList<>();
+    private final AtomicReference<@Nullable Progress> finished = new AtomicReference<>();
+
+    private CompletableFuture<Boolean> probe(String address) {
+        probed.add(address);
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        probes.put(address, future);
+        return future;
+    }
+
+    private void answer(String address, boolean answered) {
+        CompletableFuture<Boolean> future = probes.get(address);
+        assertNotNull(future);
+        future.complete(answered);
+    }
+
+    private static List<String> addresses(int count) {
+        List<String> addresses = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            addresses.add("192.0.2." + i);
+        }
+        return addresses;
+    }
+
+    @Test
+    public void keepsToPacketBudget() {
+        // 100 packets per second with 5 packets per address are 2 addresses per tick of 100 ms
+        SubnetSweep sweep = new SubnetSweep(addresses(10), 100, 5, this::probe, finished::set, () -> 0);
+
+        sweep.tick();
+        assertEquals(List.of("192.0.2.1", "192.0.2.2"), probed);
+        sweep.tick();
+        assertEquals(4, probed.size());
+        probes.values().forEach(future -> future.complete(false));
+        sweep.tick();
+        sweep.tick();
+        sweep.tick();
+        assertEquals(10, probed.size());
+        assertNull(finished.get());
+    }
+
+    @Test
+    public void limitsProbesInFlight() {
+        // at most 20 packets per second / 5 packets per address = 4 probes wait for an answer
+        SubnetSweep sweep = new SubnetSweep(addresses(10), 20, 5, this::probe, finished::set, () -> 0);
+
+        for (int i = 0; i < 20; i++) {
+            sweep.tick();
+        }
+        assertEquals(4, probed.size());
+        answer("192.0.2.1", true);
+        for (int i = 0; i < 3; i++) {
+            sweep.tick();
+        }
+        assertEquals(5, probed.size());
+    }
+
+    @Test
+    public void reportsProgressWhenFinished() {
+        SubnetSweep sweep = new SubnetSweep(addresses(3), 1000, 1, this::probe, finished::set, () -> 0);
+
+        sweep.tick();
+        assertEquals(3, probed.size());
+        answer("192.0.2.1", true);
+        answer("192.0.2.2", false);
+        assertNull(finished.get());
+        CompletableFuture<Boolean> failing = probes.get("192.0.2.3");
+        assertNotNull(failing);
+        failing.completeExceptionally(new IllegalStateException());
+
+        Progress progress = finished.get();
+        assertNotNull(progress);
+        assertEquals(3, progress.total());
+        assertEquals(3, progress.completed());
+        assertEquals(1, progress.found());
+        assertTrue(sweep.isFinished());
+    }
+
+    @Test
+    public void cancelStopsStartingProbes() {
+        SubnetSweep sweep = new SubnetSweep(addresses(10), 10, 1, this::probe, finished::set, () -> 0);
+
+        sweep.tick();
+        Progress progress = sweep.cancel();
+        sweep.tick();
+        assertEquals(1, probed.size());
+        assertEquals(1, progress.started());
+        assertTrue(sweep.isFinished());
+    }
+
+    @Test
+    public void maximumDurationAllowsEveryProbeToTimeOut() {
+        // 254 addresses with 6 packets each are sent in 15.24 s at 100 packets per second. At most 16 probes wait
+        // for an answer, so if every probe takes 3.5 s, 16 rounds of probes take 56 s.
+        assertEquals(Duration.ofMillis(15240 + SubnetSweep.TICK_MILLIS + 56000),
+                SubnetSweep.getMaximumDuration(254, 100, 6, Duration.ofMillis(3500)));
+        // a fast rate is limited by the probes
+        assertEquals(Duration.ofMillis(SubnetSweep.TICK_MILLIS + 2000),
+                SubnetSweep.getMaximumDuration(10, 100000, 1, Duration.ofSeconds(2)));
+    }
+}
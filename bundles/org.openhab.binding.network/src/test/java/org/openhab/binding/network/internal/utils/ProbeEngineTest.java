@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.network.internal.PresenceDetectionType;
+import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
+
+/**
+ * Tests the {@link ProbeEngine}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ProbeEngineTest {
+    private final ProbeEngine probeEngine = new ProbeEngine();
+
+    @Test
+    public void tcpPingOpenAndClosedPort() throws IOException, InterruptedException, ExecutionException,
+            TimeoutException {
+        InetAddress localhost = InetAddress.getLoopbackAddress();
+        int closedPort;
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, localhost)) {
+            PingResult open = probeEngine.tcpPing(localhost, serverSocket.getLocalPort(), Duration.ofSeconds(2))
+                    .get(5, TimeUnit.SECONDS);
+            assertTrue(open.isSuccess());
+            closedPort = serverSocket.getLocalPort();
+        }
+
+        PingResult closed = probeEngine.tcpPing(localhost, closedPort, Duration.ofSeconds(2)).get(5,
+                TimeUnit.SECONDS);
+        assertFalse(closed.isSuccess());
+
+        LatencyHistogram histogram = probeEngine.getHistograms().get(PresenceDetectionType.TCP_CONNECTION);
+        assertNotNull(histogram);
+        assertEquals(1, histogram.getSuccesses());
+        assertEquals(1, histogram.getFailures());
+    }
+
+    @Test
+    public void icmpPingWithoutFping() throws Exception {
+        NetworkUtils networkUtils = mock(NetworkUtils.class);
+        probeEngine.networkUtils = networkUtils;
+        InetAddress address = InetAddress.getByName("192.168.0.1");
+        PingResult pingResult = new PingResult(true, Duration.ofMillis(5));
+        doReturn(true).when(networkUtils).determineFping();
+        doReturn(pingResult).when(networkUtils).nativePing(any(), anyString(), any());
+
+        assertSame(pingResult, probeEngine.icmpPing(IpPingMethodEnum.IPUTILS_LINUX_PING, false, address,
+                Duration.ofSeconds(1)).get(5, TimeUnit.SECONDS));
+
+        verify(networkUtils, never()).determineFping();
+        verify(networkUtils, never()).fping(any(), any());
+    }
+
+    @Test
+    public void icmpPingFallsBackWhenFpingFails() throws Exception {
+        NetworkUtils networkUtils = mock(NetworkUtils.class);
+        probeEngine.networkUtils = networkUtils;
+        InetAddress address = InetAddress.getByName("192.168.0.1");
+        PingResult pingResult = new PingResult(true, Duration.ofMillis(5));
+        doReturn(true).when(networkUtils).determineFping();
+        doThrow(new IOException("fping returned 4")).when(networkUtils).fping(any(), any());
+        doReturn(pingResult).when(networkUtils).nativePing(any(), anyString(), any());
+
+        assertSame(pingResult, probeEngine.icmpPing(IpPingMethodEnum.IPUTILS_LINUX_PING, true, address,
+                Duration.ofSeconds(1)).get(5, TimeUnit.SECONDS));
+        verify(networkUtils).nativePing(IpPingMethodEnum.IPUTILS_LINUX_PING, "192.168.0.1", Duration.ofSeconds(1));
+
+        // fping is not used anymore
+        probeEngine.icmpPing(IpPingMethodEnum.IPUTILS_LINUX_PING, true, address, Duration.ofSeconds(1)).get(5,
+                TimeUnit.SECONDS);
+        verify(networkUtils, times(1)).fping(any(), any());
+    }
+
+    @Test
+    public void moreBlockingProbesThanPoolThreads() throws Exception {
+        // many more probes than threads of the shared scheduled pool, a probe only succeeds if all run at once
+        int probes = 32;
+        CountDownLatch running = new CountDownLatch(probes);
+        probeEngine.probeTimeoutGrace = Duration.ofSeconds(2);
+        List<CompletableFuture<@Nullable PingResult>> futures = new ArrayList<>();
+        for (int i = 0; i < probes; i++) {
+            futures.add(probeEngine.submit(PresenceDetectionType.ARP_PING, Duration.ofMillis(500), () -> {
+                running.countDown();
+                return new PingResult(running.await(2, TimeUnit.SECONDS), Duration.ofMillis(1));
+            }));
+        }
+
+        for (CompletableFuture<@Nullable PingResult> future : futures) {
+            PingResult pingResult = future.get(5, TimeUnit.SECONDS);
+            assertNotNull(pingResult);
+            assertTrue(pingResult.isSuccess());
+        }
+    }
+
+    @Test
+    public void blockingProbeIsGivenUpAfterItsTimeout() throws Exception {
+        probeEngine.probeTimeoutGrace = Duration.ofMillis(100);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<@Nullable PingResult> future = probeEngine.submit(PresenceDetectionType.ARP_PING,
+                    Duration.ofMillis(100), () -> {
+                        release.await(10, TimeUnit.SECONDS);
+                        return new PingResult(true, Duration.ofMillis(1));
+                    });
+
+            assertNull(future.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void parseArpTable() {
+        Map<String, String> table = ProbeEngine.parseArpTable(List.of(
+                "IP address       HW type     Flags       HW address            Mask     Device",
+                "192.168.0.1      0x1         0x2         aa:bb:cc:dd:ee:ff     *        eth0",
+                "192.168.0.2      0x1         0x0         00:00:00:00:00:00     *        eth0",
+                "10.0.0.5         0x1         0x6         11:22:33:44:55:66     *        wlan0"));
+
+        assertEquals(Map.of("192.168.0.1", "eth0", "10.0.0.5", "wlan0"), table);
+    }
+
+    @Test
+    public void latencyHistogramBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Duration.ofNanos(500_000));
+        histogram.record(Duration.ofMillis(1));
+        histogram.record(Duration.ofMillis(150));
+        histogram.record(Duration.ofSeconds(10));
+        histogram.recordFailure();
+
+        long[] counts = histogram.getCounts();
+        assertEquals(LatencyHistogram.BUCKET_LIMITS.length + 1, counts.length);
+        assertEquals(1, counts[0]); // < 1 ms
+        assertEquals(1, counts[1]); // < 2 ms
+        assertEquals(1, counts[7]); // < 200 ms
+        assertEquals(1, counts[counts.length - 1]); // >= 5000 ms
+        assertEquals(4, histogram.getSuccesses());
+        assertEquals(1, histogram.getFailures());
+    }
+}
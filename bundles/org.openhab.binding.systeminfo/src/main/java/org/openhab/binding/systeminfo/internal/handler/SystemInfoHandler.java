@@ -357,30 +357,41 @@ public class SystemInfoHandler extends BaseThingHandler {
     private void scheduleUpdates() {
         logger.debug("Schedule high priority tasks at fixed rate {} s", refreshIntervalHighPriority);
         highPriorityTasks = scheduler.scheduleWithFixedDelay(() -> {
-            publishData(highPriorityChannels);
+            publishData(highPriorityChannels, "high");
         }, WAIT_TIME_CHANNEL_ITEM_LINK_INIT, refreshIntervalHighPriority.intValue(), TimeUnit.SECONDS);
 
         logger.debug("Schedule medium priority tasks at fixed rate {} s", refreshIntervalMediumPriority);
         mediumPriorityTasks = scheduler.scheduleWithFixedDelay(() -> {
-            publishData(mediumPriorityChannels);
+            publishData(mediumPriorityChannels, "medium");
         }, WAIT_TIME_CHANNEL_ITEM_LINK_INIT, refreshIntervalMediumPriority.intValue(), TimeUnit.SECONDS);
 
         logger.debug("Schedule one time update for low priority tasks");
         scheduler.schedule(() -> {
-            publishData(lowPriorityChannels);
+            publishData(lowPriorityChannels, "low");
         }, WAIT_TIME_CHANNEL_ITEM_LINK_INIT, TimeUnit.SECONDS);
     }
 
-    private void publishData(Set<ChannelUID> channels) {
+    private void publishData(Set<ChannelUID> channels, String priority) {
         // if handler disposed while waiting for the links, don't update the channel states
         if (!ThingStatus.ONLINE.equals(thing.getStatus())) {
             return;
         }
-        for (ChannelUID channeUID : channels) {
-            if (isLinked(channeUID)) {
-                publishDataForChannel(channeUID);
+        // all channels of a priority are served from one sample, e.g. a process is read once for all its channels
+        long start = System.nanoTime();
+        int count = 0;
+        systeminfo.startSampling();
+        try {
+            for (ChannelUID channeUID : channels) {
+                if (isLinked(channeUID)) {
+                    publishDataForChannel(channeUID);
+                    count++;
+                }
             }
+        } finally {
+            systeminfo.stopSampling();
         }
+        logger.debug("Refreshed {} {} priority channels in {} ms", count, priority,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
     private void publishDataForChannel(ChannelUID channelUID) {
@@ -14,9 +14,14 @@ package org.openhab.binding.systeminfo.internal.model;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import javax.measure.quantity.ElectricPotential;
 import javax.measure.quantity.Frequency;
@@ -95,6 +100,9 @@ public class OSHISystemInfo implements SystemInfoInterface {
     // Map containing previous process state to calculate load by process
     private Map<Integer, OSProcess> processTicks = new HashMap<>();
 
+    // Values read from the operating system during a sample of the current thread, see startSampling()
+    private final ThreadLocal<@Nullable Sample> sample = new ThreadLocal<>();
+
     public static final int PRECISION_AFTER_DECIMAL_SIGN = 1;
 
     /**
@@ -110,7 +118,14 @@ public class OSHISystemInfo implements SystemInfoInterface {
         logger.debug("OSHISystemInfo service starts initializing");
 
         SystemInfo systemInfo = new SystemInfo();
-        hal = systemInfo.getHardware();
+        initializeSystemInfo(systemInfo.getHardware(), systemInfo.getOperatingSystem());
+    }
+
+    /**
+     * Initializes the service with the given hardware and operating system, tests pass mocks.
+     */
+    void initializeSystemInfo(HardwareAbstractionLayer hal, OperatingSystem operatingSystem) {
+        this.hal = hal;
 
         // Doesn't need regular update, they may be queried repeatedly
         memory = hal.getMemory();
@@ -118,7 +133,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
         sensors = hal.getSensors();
 
         computerSystem = hal.getComputerSystem();
-        operatingSystem = systemInfo.getOperatingSystem();
+        this.operatingSystem = operatingSystem;
         networks = hal.getNetworkIFs();
         displays = hal.getDisplays();
         fileStores = operatingSystem.getFileSystem().getFileStores();
@@ -140,8 +155,71 @@ public class OSHISystemInfo implements SystemInfoInterface {
         return devices[index];
     }
 
+    @Override
+    public void startSampling() {
+        sample.set(new Sample());
+    }
+
+    @Override
+    public void stopSampling() {
+        Sample currentSample = sample.get();
+        sample.remove();
+        if (currentSample != null) {
+            logger.debug("Sampled system information in {} ms with {} reads, {} values shared",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - currentSample.startNanos), currentSample.reads,
+                    currentSample.shared);
+        }
+    }
+
+    /**
+     * Reads a value from the operating system, or returns the value already read during the current sample.
+     */
+    private <T> T sampled(String key, Supplier<T> reader) {
+        Sample currentSample = sample.get();
+        if (currentSample == null) {
+            return reader.get();
+        }
+        Object value = currentSample.values.get(key);
+        if (value == null) {
+            value = reader.get();
+            currentSample.values.put(key, value);
+            currentSample.reads++;
+        } else {
+            currentSample.shared++;
+        }
+        @SuppressWarnings("unchecked")
+        T result = (T) value;
+        return result;
+    }
+
+    /**
+     * Updates the attributes of a device, only once during the current sample.
+     */
+    private void update(Object device, Runnable updater) {
+        Sample currentSample = sample.get();
+        if (currentSample == null) {
+            updater.run();
+        } else if (currentSample.updated.add(device)) {
+            updater.run();
+            currentSample.reads++;
+        } else {
+            currentSample.shared++;
+        }
+    }
+
     private OSProcess getProcess(int pid) throws DeviceNotFoundException {
-        OSProcess process = operatingSystem.getProcess(pid);
+        Sample currentSample = sample.get();
+        OSProcess process;
+        if (currentSample == null) {
+            process = operatingSystem.getProcess(pid);
+        } else if (currentSample.processes.containsKey(pid)) {
+            process = currentSample.processes.get(pid);
+            currentSample.shared++;
+        } else {
+            process = operatingSystem.getProcess(pid);
+            currentSample.processes.put(pid, process);
+            currentSample.reads++;
+        }
         if (process == null) {
             throw new DeviceNotFoundException("Error while getting information for process with PID " + pid);
         }
@@ -207,28 +285,28 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public @Nullable QuantityType<Frequency> getCpuFreq(int logicalProcessorIndex) {
-        long freq = cpu.getCurrentFreq()[logicalProcessorIndex];
+        long freq = this.<long[]> sampled("cpuFreq", cpu::getCurrentFreq)[logicalProcessorIndex];
         return freq >= 0 ? new QuantityType<>(freq, Units.HERTZ) : null;
     }
 
     @Override
     public QuantityType<DataAmount> getMemoryTotal() {
-        long totalMemory = memory.getTotal();
+        long totalMemory = getMemoryTotalBytes();
         totalMemory = getSizeInMB(totalMemory);
         return new QuantityType<>(totalMemory, Units.MEBIBYTE);
     }
 
     @Override
     public QuantityType<DataAmount> getMemoryAvailable() {
-        long availableMemory = memory.getAvailable();
+        long availableMemory = getMemoryAvailableBytes();
         availableMemory = getSizeInMB(availableMemory);
         return new QuantityType<>(availableMemory, Units.MEBIBYTE);
     }
 
     @Override
     public QuantityType<DataAmount> getMemoryUsed() {
-        long totalMemory = memory.getTotal();
-        long availableMemory = memory.getAvailable();
+        long totalMemory = getMemoryTotalBytes();
+        long availableMemory = getMemoryAvailableBytes();
         long usedMemory = totalMemory - availableMemory;
         usedMemory = getSizeInMB(usedMemory);
         return new QuantityType<>(usedMemory, Units.MEBIBYTE);
@@ -237,7 +315,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public QuantityType<DataAmount> getStorageTotal(int index) throws DeviceNotFoundException {
         OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
+        update(fileStore, fileStore::updateAttributes);
         long totalSpace = fileStore.getTotalSpace();
         totalSpace = getSizeInMB(totalSpace);
         return new QuantityType<>(totalSpace, Units.MEBIBYTE);
@@ -246,7 +324,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public QuantityType<DataAmount> getStorageAvailable(int index) throws DeviceNotFoundException {
         OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
+        update(fileStore, fileStore::updateAttributes);
         long freeSpace = fileStore.getUsableSpace();
         freeSpace = getSizeInMB(freeSpace);
         return new QuantityType<>(freeSpace, Units.MEBIBYTE);
@@ -255,7 +333,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public QuantityType<DataAmount> getStorageUsed(int index) throws DeviceNotFoundException {
         OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
+        update(fileStore, fileStore::updateAttributes);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -266,7 +344,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public @Nullable PercentType getStorageAvailablePercent(int deviceIndex) throws DeviceNotFoundException {
         OSFileStore fileStore = getDevice(fileStores, deviceIndex);
-        fileStore.updateAttributes();
+        update(fileStore, fileStore::updateAttributes);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         if (totalSpace > 0) {
@@ -281,7 +359,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public @Nullable PercentType getStorageUsedPercent(int deviceIndex) throws DeviceNotFoundException {
         OSFileStore fileStore = getDevice(fileStores, deviceIndex);
-        fileStore.updateAttributes();
+        update(fileStore, fileStore::updateAttributes);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -318,7 +396,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public StringType getNetworkIp(int index) throws DeviceNotFoundException {
         NetworkIF netInterface = getDevice(networks, index);
-        netInterface.updateAttributes();
+        update(netInterface, netInterface::updateAttributes);
         String[] ipAddresses = netInterface.getIPv4addr();
         String ipv4 = getDevice(ipAddresses, 0);
         return new StringType(ipv4);
@@ -356,21 +434,21 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public @Nullable QuantityType<Temperature> getSensorsCpuTemperature() {
-        BigDecimal cpuTemp = new BigDecimal(sensors.getCpuTemperature());
+        BigDecimal cpuTemp = new BigDecimal(this.<Double> sampled("cpuTemperature", sensors::getCpuTemperature));
         cpuTemp = cpuTemp.setScale(PRECISION_AFTER_DECIMAL_SIGN, RoundingMode.HALF_UP);
         return cpuTemp.signum() == 1 ? new QuantityType<>(cpuTemp, SIUnits.CELSIUS) : null;
     }
 
     @Override
     public @Nullable QuantityType<ElectricPotential> getSensorsCpuVoltage() {
-        BigDecimal cpuVoltage = new BigDecimal(sensors.getCpuVoltage());
+        BigDecimal cpuVoltage = new BigDecimal(this.<Double> sampled("cpuVoltage", sensors::getCpuVoltage));
         cpuVoltage = cpuVoltage.setScale(PRECISION_AFTER_DECIMAL_SIGN, RoundingMode.HALF_UP);
         return cpuVoltage.signum() == 1 ? new QuantityType<>(cpuVoltage, Units.VOLT) : null;
     }
 
     @Override
     public @Nullable DecimalType getSensorsFanSpeed(int index) throws DeviceNotFoundException {
-        int[] fanSpeeds = sensors.getFanSpeeds();
+        int[] fanSpeeds = sampled("fanSpeeds", sensors::getFanSpeeds);
         int speed = 0; // 0 means unable to measure speed
         if (index < fanSpeeds.length) {
             speed = fanSpeeds[index];
@@ -383,7 +461,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public @Nullable QuantityType<Time> getBatteryRemainingTime(int index) throws DeviceNotFoundException {
         PowerSource powerSource = getDevice(powerSources, index);
-        powerSource.updateAttributes();
+        update(powerSource, powerSource::updateAttributes);
         double remainingTimeInSeconds = powerSource.getTimeRemainingEstimated();
         // The getTimeRemaining() method returns (-1.0) if is calculating or (-2.0) if the time is unlimited.
         BigDecimal remainingTime = getTimeInMinutes(remainingTimeInSeconds);
@@ -393,7 +471,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public PercentType getBatteryRemainingCapacity(int index) throws DeviceNotFoundException {
         PowerSource powerSource = getDevice(powerSources, index);
-        powerSource.updateAttributes();
+        update(powerSource, powerSource::updateAttributes);
         double remainingCapacity = powerSource.getRemainingCapacityPercent();
         BigDecimal remainingCapacityPercents = getPercentsValue(remainingCapacity);
         return new PercentType(remainingCapacityPercents);
@@ -408,8 +486,8 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public @Nullable PercentType getMemoryAvailablePercent() {
-        long availableMemory = memory.getAvailable();
-        long totalMemory = memory.getTotal();
+        long availableMemory = getMemoryAvailableBytes();
+        long totalMemory = getMemoryTotalBytes();
         if (totalMemory > 0) {
             double freePercentDecimal = (double) availableMemory / (double) totalMemory;
             BigDecimal freePercent = getPercentsValue(freePercentDecimal);
@@ -421,8 +499,8 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public @Nullable PercentType getMemoryUsedPercent() {
-        long availableMemory = memory.getAvailable();
-        long totalMemory = memory.getTotal();
+        long availableMemory = getMemoryAvailableBytes();
+        long totalMemory = getMemoryTotalBytes();
         long usedMemory = totalMemory - availableMemory;
         if (totalMemory > 0) {
             double usedPercentDecimal = (double) usedMemory / (double) totalMemory;
@@ -456,15 +534,15 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public QuantityType<DataAmount> getSwapTotal() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
+        long swapTotal = getSwapTotalBytes();
         swapTotal = getSizeInMB(swapTotal);
         return new QuantityType<>(swapTotal, Units.MEBIBYTE);
     }
 
     @Override
     public QuantityType<DataAmount> getSwapAvailable() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        long swapTotal = getSwapTotalBytes();
+        long swapUsed = getSwapUsedBytes();
         long swapAvailable = swapTotal - swapUsed;
         swapAvailable = getSizeInMB(swapAvailable);
         return new QuantityType<>(swapAvailable, Units.MEBIBYTE);
@@ -472,15 +550,15 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public QuantityType<DataAmount> getSwapUsed() {
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        long swapUsed = getSwapUsedBytes();
         swapUsed = getSizeInMB(swapUsed);
         return new QuantityType<>(swapUsed, Units.MEBIBYTE);
     }
 
     @Override
     public @Nullable PercentType getSwapAvailablePercent() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        long swapTotal = getSwapTotalBytes();
+        long swapUsed = getSwapUsedBytes();
         long swapAvailable = swapTotal - swapUsed;
         if (swapTotal > 0) {
             double swapAvailablePercentDecimal = (double) swapAvailable / (double) swapTotal;
@@ -493,8 +571,8 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public @Nullable PercentType getSwapUsedPercent() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        long swapTotal = getSwapTotalBytes();
+        long swapUsed = getSwapUsedBytes();
         if (swapTotal > 0) {
             double swapUsedPercentDecimal = (double) swapUsed / (double) swapTotal;
             BigDecimal swapUsedPercent = getPercentsValue(swapUsedPercentDecimal);
@@ -504,6 +582,22 @@ public class OSHISystemInfo implements SystemInfoInterface {
         }
     }
 
+    private long getMemoryTotalBytes() {
+        return this.<Long> sampled("memoryTotal", memory::getTotal);
+    }
+
+    private long getMemoryAvailableBytes() {
+        return this.<Long> sampled("memoryAvailable", memory::getAvailable);
+    }
+
+    private long getSwapTotalBytes() {
+        return this.<Long> sampled("swapTotal", () -> memory.getVirtualMemory().getSwapTotal());
+    }
+
+    private long getSwapUsedBytes() {
+        return this.<Long> sampled("swapUsed", () -> memory.getVirtualMemory().getSwapUsed());
+    }
+
     private long getSizeInMB(long sizeInBytes) {
         return Math.round(sizeInBytes / (1024D * 1024));
     }
@@ -577,7 +671,8 @@ public class OSHISystemInfo implements SystemInfoInterface {
             default:
                 index = 2;
         }
-        double processorLoads[] = cpu.getSystemLoadAverage(index + 1);
+        // all three averages are read at once, so they can be shared by the channels
+        double processorLoads[] = sampled("loadAverage", () -> cpu.getSystemLoadAverage(3));
         BigDecimal result = new BigDecimal(processorLoads[index]);
         result = result.setScale(PRECISION_AFTER_DECIMAL_SIGN, RoundingMode.HALF_UP);
         return result;
@@ -605,7 +700,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public DecimalType getNetworkPacketsReceived(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        update(network, network::updateAttributes);
         long packRecv = network.getPacketsRecv();
         return new DecimalType(packRecv);
     }
@@ -613,7 +708,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public DecimalType getNetworkPacketsSent(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        update(network, network::updateAttributes);
         long packSent = network.getPacketsSent();
         return new DecimalType(packSent);
     }
@@ -621,7 +716,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public QuantityType<DataAmount> getNetworkDataSent(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        update(network, network::updateAttributes);
         long bytesSent = network.getBytesSent();
         return new QuantityType<>(getSizeInMB(bytesSent), Units.MEBIBYTE);
     }
@@ -629,7 +724,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public QuantityType<DataAmount> getNetworkDataReceived(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        update(network, network::updateAttributes);
         long bytesRecv = network.getBytesRecv();
         return new QuantityType<>(getSizeInMB(bytesRecv), Units.MEBIBYTE);
     }
@@ -727,4 +822,16 @@ public class OSHISystemInfo implements SystemInfoInterface {
     public int getFanCount() {
         return sensors.getFanSpeeds().length;
     }
+
+    /**
+     * The values read from the operating system during one sample.
+     */
+    private static class Sample {
+        private final long startNanos = System.nanoTime();
+        private final Map<String, Object> values = new HashMap<>();
+        private final Map<Integer, @Nullable OSProcess> processes = new HashMap<>();
+        private final Set<Object> updated = Collections.newSetFromMap(new IdentityHashMap<>());
+        private int reads;
+        private int shared;
+    }
 }
@@ -42,6 +42,19 @@ public interface SystemInfoInterface {
      */
     void initializeSystemInfo();
 
+    /**
+     * Start a sample for the calling thread. Until {@link #stopSampling()} is called, values are read from the
+     * operating system only once and shared by all channels, e.g. a process which is tracked by several channels.
+     */
+    default void startSampling() {
+    }
+
+    /**
+     * Stop the sample of the calling thread, following calls read the current values again.
+     */
+    default void stopSampling() {
+    }
+
     // Operating system info
     /**
      * Get the Family of the operating system /e.g. Windows, Unix,.../
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.systeminfo.internal.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.Units;
+
+import oshi.hardware.CentralProcessor;
+import oshi.hardware.GlobalMemory;
+import oshi.hardware.HardwareAbstractionLayer;
+import oshi.hardware.NetworkIF;
+import oshi.software.os.FileSystem;
+import oshi.software.os.OSProcess;
+import oshi.software.os.OperatingSystem;
+
+/**
+ * Tests that the channels of a refresh are served from one sample of {@link OSHISystemInfo}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class OSHISystemInfoTest {
+
+    private static final int PID = 42;
+    private static final long MIB = 1024 * 1024;
+
+    private @Mock @NonNullByDefault({}) HardwareAbstractionLayer hal;
+    private @Mock @NonNullByDefault({}) OperatingSystem operatingSystem;
+    private @Mock @NonNullByDefault({}) GlobalMemory memory;
+    private @Mock @NonNullByDefault({}) CentralProcessor cpu;
+    private @Mock @NonNullByDefault({}) FileSystem fileSystem;
+    private @Mock @NonNullByDefault({}) NetworkIF network;
+    private @Mock @NonNullByDefault({}) OSProcess process;
+
+    private final OSHISystemInfo systemInfo = new OSHISystemInfo();
+
+    @BeforeEach
+    public void setUp() {
+        when(hal.getMemory()).thenReturn(memory);
+        when(hal.getProcessor()).thenReturn(cpu);
+        when(hal.getNetworkIFs()).thenReturn(List.of(network));
+        when(hal.getDisplays()).thenReturn(List.of());
+        when(hal.getPowerSources()).thenReturn(List.of());
+        when(hal.getDiskStores()).thenReturn(List.of());
+        when(operatingSystem.getFileSystem()).thenReturn(fileSystem);
+        when(fileSystem.getFileStores()).thenReturn(List.of());
+
+        when(memory.getTotal()).thenReturn(8192 * MIB);
+        when(memory.getAvailable()).thenReturn(2048 * MIB);
+        when(cpu.getSystemLoadAverage(3)).thenReturn(new double[] { 1.0, 0.5, 0.25 });
+        when(network.getPacketsRecv()).thenReturn(100L);
+        when(network.getPacketsSent()).thenReturn(50L);
+        when(operatingSystem.getProcess(PID)).thenReturn(process);
+        when(process.getName()).thenReturn("java");
+        when(process.getPath()).thenReturn("/usr/bin/java");
+        when(process.getResidentSetSize()).thenReturn(256 * MIB);
+        when(process.getThreadCount()).thenReturn(12);
+
+        systemInfo.initializeSystemInfo(hal, operatingSystem);
+    }
+
+    @Test
+    public void processIsReadOnceForAllChannels() throws DeviceNotFoundException {
+        systemInfo.startSampling();
+        try {
+            assertEquals(new StringType("java"), systemInfo.getProcessName(PID));
+            assertEquals(new StringType("/usr/bin/java"), systemInfo.getProcessPath(PID));
+            assertEquals(new QuantityType<>(256, Units.MEBIBYTE), systemInfo.getProcessMemoryUsage(PID));
+            assertEquals(new DecimalType(12), systemInfo.getProcessThreads(PID));
+        } finally {
+            systemInfo.stopSampling();
+        }
+
+        verify(operatingSystem, times(1)).getProcess(PID);
+    }
+
+    @Test
+    public void memoryIsReadOnceForAllChannels() {
+        systemInfo.startSampling();
+        try {
+            assertEquals(new QuantityType<>(8192, Units.MEBIBYTE), systemInfo.getMemoryTotal());
+            assertEquals(new QuantityType<>(2048, Units.MEBIBYTE), systemInfo.getMemoryAvailable());
+            assertEquals(new QuantityType<>(6144, Units.MEBIBYTE), systemInfo.getMemoryUsed());
+            assertNotNull(systemInfo.getMemoryUsedPercent());
+        } finally {
+            systemInfo.stopSampling();
+        }
+
+        verify(memory, times(1)).getTotal();
+        verify(memory, times(1)).getAvailable();
+    }
+
+    @Test
+    public void networkAndLoadAreReadOnceForAllChannels() throws DeviceNotFoundException {
+        systemInfo.startSampling();
+        try {
+            assertEquals(new DecimalType(100), systemInfo.getNetworkPacketsReceived(0));
+            assertEquals(new DecimalType(50), systemInfo.getNetworkPacketsSent(0));
+            assertEquals(new DecimalType(1), systemInfo.getCpuLoad1());
+            assertEquals(new DecimalType(0.5), systemInfo.getCpuLoad5());
+            assertEquals(new DecimalType(0.3), systemInfo.getCpuLoad15());
+        } finally {
+            systemInfo.stopSampling();
+        }
+
+        verify(network, times(1)).updateAttributes();
+        verify(cpu, times(1)).getSystemLoadAverage(3);
+    }
+
+    @Test
+    public void valuesAreReadAgainOutsideOfASample() throws DeviceNotFoundException {
+        systemInfo.getProcessName(PID);
+        systemInfo.getProcessPath(PID);
+        systemInfo.getMemoryTotal();
+        systemInfo.getMemoryUsed();
+
+        verify(operatingSystem, times(2)).getProcess(PID);
+        verify(memory, times(2)).getTotal();
+    }
+
+    @Test
+    public void everySampleReadsTheCurrentValues() throws DeviceNotFoundException {
+        systemInfo.startSampling();
+        systemInfo.getProcessName(PID);
+        systemInfo.stopSampling();
+
+        when(process.getName()).thenReturn("java2");
+        systemInfo.startSampling();
+        try {
+            assertEquals(new StringType("java2"), systemInfo.getProcessName(PID));
+            systemInfo.getProcessThreads(PID);
+        } finally {
+            systemInfo.stopSampling();
+        }
+
+        verify(operatingSystem, times(2)).getProcess(PID);
+    }
+}
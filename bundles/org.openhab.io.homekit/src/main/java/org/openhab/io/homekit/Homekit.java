@@ -84,4 +84,14 @@ public interface Homekit {
      * returns how many bridge instances there are
      */
     int getInstanceCount();
+
+    /**
+     * returns the statistics about accessory updates of a specific instance, implementations which do not keep
+     * statistics need not override it
+     *
+     * @param instance the instance number (1-based)
+     */
+    default String getUpdateStatistics(int instance) {
+        return "no statistics available";
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.Metadata;
+import org.openhab.core.items.MetadataKey;
+import org.openhab.core.items.MetadataRegistry;
+import org.openhab.io.homekit.internal.accessories.HomekitAccessoryFactory;
+
+/**
+ * Everything a HomeKit accessory is created from: the item, its HomeKit metadata and, for groups, the definitions of
+ * the group members. Two accessories created from equal definitions have the same structure.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+record HomekitAccessoryDefinition(String name, String type, @Nullable String label, @Nullable String category,
+        Set<String> tags, List<String> groupNames, @Nullable String metadataValue,
+        Map<String, Object> metadataConfiguration, List<HomekitAccessoryDefinition> members) {
+
+    static HomekitAccessoryDefinition of(Item item, MetadataRegistry metadataRegistry) {
+        final Metadata metadata = metadataRegistry
+                .get(new MetadataKey(HomekitAccessoryFactory.METADATA_KEY, item.getUID()));
+        final List<HomekitAccessoryDefinition> members = item instanceof GroupItem groupItem
+                ? groupItem.getMembers().stream().sorted(Comparator.comparing(Item::getName))
+                        .map(member -> of(member, metadataRegistry)).collect(Collectors.toList())
+                : List.of();
+        final Item baseItem = item instanceof GroupItem groupItem ? groupItem.getBaseItem() : null;
+        final String type = baseItem != null ? item.getType() + ":" + baseItem.getType() : item.getType();
+        return new HomekitAccessoryDefinition(item.getName(), type, item.getLabel(), item.getCategory(),
+                Set.copyOf(item.getTags()), List.copyOf(item.getGroupNames()),
+                metadata != null ? metadata.getValue() : null,
+                metadata != null ? new HashMap<>(metadata.getConfiguration()) : Map.of(), members);
+    }
+}
@@ -12,11 +12,18 @@
  */
 package org.openhab.io.homekit.internal;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.StateChangeListener;
@@ -25,6 +32,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
+import io.github.hapjava.server.impl.HomekitRoot;
 
 /**
  * Subscribes and unsubscribes from Item changes to enable notification to HomeKit
@@ -32,11 +40,93 @@ import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
  * HomeKit library takes care of insuring only a single subscription exists for
  * each accessory.
  *
+ * Optionally, change notifications are coalesced: within the coalescing window, multiple changes of the same
+ * characteristic result in a single notification, and all changed characteristics are notified together at the end of
+ * the window, in one update batch of the bridge.
+ *
  * @author Andy Lintner - Initial contribution
  */
 public class HomekitAccessoryUpdater {
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryUpdater.class);
     private final ConcurrentMap<ItemKey, StateChangeListener> subscriptionsByName = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
+    private final Set<HomekitCharacteristicChangeCallback> pendingNotifications = new LinkedHashSet<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+    private volatile @Nullable HomekitRoot bridge;
+    private volatile int coalescingWindowMs = 0;
+
+    /**
+     * Sets the window in which change notifications are coalesced. 0 disables coalescing.
+     */
+    public void setCoalescingWindow(int coalescingWindowMs) {
+        this.coalescingWindowMs = Math.max(0, coalescingWindowMs);
+        if (this.coalescingWindowMs == 0) {
+            flushNotifications();
+        }
+    }
+
+    /**
+     * Sets the bridge the coalesced change notifications are published on. Notifications of a coalescing window are
+     * delivered within one update batch of the bridge.
+     */
+    public void setBridge(@Nullable HomekitRoot bridge) {
+        this.bridge = bridge;
+    }
+
+    /**
+     * Cancels a scheduled delivery and drops the pending change notifications.
+     */
+    public void stop() {
+        synchronized (pendingNotifications) {
+            final ScheduledFuture<?> localFlushJob = flushJob;
+            if (localFlushJob != null) {
+                localFlushJob.cancel(false);
+                flushJob = null;
+            }
+            pendingNotifications.clear();
+        }
+    }
+
+    private void notifyChanged(HomekitCharacteristicChangeCallback callback) {
+        final int window = coalescingWindowMs;
+        if (window == 0) {
+            callback.changed();
+            return;
+        }
+        synchronized (pendingNotifications) {
+            if (flushJob == null) {
+                flushJob = scheduler.schedule(this::flushNotifications, window, TimeUnit.MILLISECONDS);
+            }
+            pendingNotifications.add(callback);
+        }
+    }
+
+    void flushNotifications() {
+        final HomekitCharacteristicChangeCallback[] callbacks;
+        synchronized (pendingNotifications) {
+            flushJob = null;
+            callbacks = pendingNotifications.toArray(new HomekitCharacteristicChangeCallback[0]);
+            pendingNotifications.clear();
+        }
+        if (callbacks.length == 0) {
+            return;
+        }
+        logger.trace("Notifying {} coalesced characteristic changes", callbacks.length);
+        final HomekitRoot localBridge = bridge;
+        if (localBridge != null) {
+            localBridge.batchUpdate();
+        }
+        try {
+            for (HomekitCharacteristicChangeCallback callback : callbacks) {
+                callback.changed();
+            }
+        } finally {
+            if (localBridge != null) {
+                localBridge.completeUpdateBatch();
+            }
+        }
+    }
 
     public void subscribe(GenericItem item, HomekitCharacteristicChangeCallback callback) {
         subscribe(item, null, callback);
@@ -58,7 +148,7 @@ public class HomekitAccessoryUpdater {
                 unsubscribe(item, key);
             }
             logger.trace("Adding subscription for {} / {}", item, key);
-            Subscription subscription = (changedItem, oldState, newState) -> callback.changed();
+            Subscription subscription = (changedItem, oldState, newState) -> notifyChanged(callback);
             item.addStateChangeListener(subscription);
             return subscription;
         });
@@ -101,6 +191,27 @@ public class HomekitAccessoryUpdater {
         });
     }
 
+    /**
+     * Moves all subscriptions of an item to the instance which replaced it in the item registry.
+     */
+    public void moveSubscriptions(GenericItem oldItem, GenericItem newItem) {
+        if (oldItem == newItem) {
+            return;
+        }
+        for (ItemKey itemKey : subscriptionsByName.keySet()) {
+            if (itemKey.item != oldItem) {
+                continue;
+            }
+            StateChangeListener subscription = subscriptionsByName.remove(itemKey);
+            if (subscription != null) {
+                logger.trace("Moving subscription for {} / {}", newItem, itemKey.key);
+                oldItem.removeStateChangeListener(subscription);
+                newItem.addStateChangeListener(subscription);
+                subscriptionsByName.put(new ItemKey(newItem, itemKey.key), subscription);
+            }
+        }
+    }
+
     @FunctionalInterface
     @NonNullByDefault
     private interface Subscription extends StateChangeListener {
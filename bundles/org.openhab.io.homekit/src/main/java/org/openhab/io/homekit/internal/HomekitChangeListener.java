@@ -75,6 +75,13 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     private final Set<String> pendingUpdates = new HashSet<>();
 
+    /**
+     * The definitions every root accessory was created from. Only used with incremental updates, to skip the
+     * re-creation of accessories whose items and metadata did not change.
+     */
+    private final Map<String, HomekitAccessoryDefinition> accessoryDefinitions = new HashMap<>();
+    private final HomekitUpdateStatistics statistics = new HomekitUpdateStatistics();
+
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
 
@@ -95,6 +102,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.metadataRegistry = metadataRegistry;
         this.storage = storage;
         this.instance = instance;
+        this.updater.setCoalescingWindow(settings.eventCoalescingWindow);
         this.applyUpdatesDebouncer = new Debouncer("update-homekit-devices-" + instance, scheduler,
                 Duration.ofMillis(1000), Clock.systemUTC(), this::applyUpdates);
         metadataChangeListener = new RegistryChangeListener<>() {
@@ -192,12 +200,16 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         }
     }
 
+    public HomekitUpdateStatistics getStatistics() {
+        return statistics;
+    }
+
     private boolean hasHomeKitMetadata(Item item) {
         return metadataRegistry.get(new MetadataKey(HomekitAccessoryFactory.METADATA_KEY, item.getUID())) != null;
     }
 
     @Override
-    public synchronized void added(Item item) {
+    public void added(Item item) {
         if (hasHomeKitMetadata(item)) {
             markDirty(item);
         }
@@ -214,28 +226,32 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
      *
      * @param item The item that has been changed or removed.
      */
-    private synchronized void markDirty(Item item) {
+    private void markDirty(Item item) {
         logger.trace("Mark dirty item {}", item.getName());
-        pendingUpdates.add(item.getName());
         /*
          * If findMyAccessoryGroups fails because the accessory group has already been deleted, then we can count on a
          * later update telling us that the accessory group was removed.
          */
-        for (Item accessoryGroup : HomekitAccessoryFactory.getAccessoryGroups(item, itemRegistry, metadataRegistry)) {
-            pendingUpdates.add(accessoryGroup.getName());
-        }
+        final List<GroupItem> accessoryGroups = HomekitAccessoryFactory.getAccessoryGroups(item, itemRegistry,
+                metadataRegistry);
+        synchronized (pendingUpdates) {
+            pendingUpdates.add(item.getName());
+            for (Item accessoryGroup : accessoryGroups) {
+                pendingUpdates.add(accessoryGroup.getName());
+            }
 
-        /*
-         * if metadata of a group item was changed, mark all group member as dirty.
-         */
-        if (item instanceof GroupItem itemAsGroupItem) {
-            itemAsGroupItem.getMembers().forEach(groupMember -> pendingUpdates.add(groupMember.getName()));
+            /*
+             * if metadata of a group item was changed, mark all group member as dirty.
+             */
+            if (item instanceof GroupItem itemAsGroupItem) {
+                itemAsGroupItem.getMembers().forEach(groupMember -> pendingUpdates.add(groupMember.getName()));
+            }
         }
         applyUpdatesDebouncer.call();
     }
 
     @Override
-    public synchronized void removed(Item item) {
+    public void removed(Item item) {
         if (hasHomeKitMetadata(item)) {
             markDirty(item);
         }
@@ -267,6 +283,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                     String name = accessory.getName().get();
                     logger.info("Pruning dummy accessory {}.", name);
                     knownAccessories.remove(name);
+                    accessoryDefinitions.remove(name);
                     accessoryRegistry.remove(name);
                     removed = true;
                 } catch (ExecutionException | InterruptedException e) {
@@ -279,35 +296,130 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         }
     }
 
-    private synchronized void applyUpdates() {
+    private void applyUpdates() {
+        final List<String> updates;
+        synchronized (pendingUpdates) {
+            updates = new ArrayList<>(pendingUpdates);
+            pendingUpdates.clear();
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
         logger.trace("Apply updates");
+        final long start = System.nanoTime();
 
-        HomekitRoot bridge = accessoryRegistry.getBridge();
-        if (bridge != null) {
-            bridge.batchUpdate();
-        }
+        synchronized (this) {
+            HomekitRoot bridge = accessoryRegistry.getBridge();
+            if (bridge != null) {
+                bridge.batchUpdate();
+            }
 
-        try {
             boolean changed = false;
-            for (final String name : pendingUpdates) {
-                String oldValue = knownAccessories.get(name);
-                accessoryRegistry.remove(name);
-                logger.trace(" Add items {}", name);
-                getItemOptional(name).ifPresent(this::createRootAccessories);
-                if (accessoryChanged(name, oldValue)) {
-                    changed = true;
+            try {
+                for (final String name : updates) {
+                    final boolean accessoryChanged = settings.useIncrementalUpdates ? applyIncrementalUpdate(name)
+                            : applyUpdate(name);
+                    if (accessoryChanged) {
+                        changed = true;
+                    }
+                }
+                if (checkMissingAccessories() || changed) {
+                    makeNewConfigurationRevision();
+                }
+                checkForDummyAccessories();
+            } finally {
+                if (bridge != null) {
+                    bridge.completeUpdateBatch();
                 }
             }
-            pendingUpdates.clear();
-            if (checkMissingAccessories() || changed) {
-                makeNewConfigurationRevision();
-            }
-            checkForDummyAccessories();
-        } finally {
-            if (bridge != null) {
-                bridge.completeUpdateBatch();
+
+            final long durationMs = (System.nanoTime() - start) / 1_000_000;
+            statistics.recordUpdateRun(durationMs, changed);
+            logger.debug("Applied {} HomeKit updates in instance {} in {} ms (structure changed: {}).",
+                    updates.size(), instance, durationMs, changed);
+        }
+    }
+
+    /**
+     * Re-creates the accessory of the given item unconditionally.
+     *
+     * @return true if the structure of the accessory changed
+     */
+    private boolean applyUpdate(String name) {
+        String oldValue = knownAccessories.get(name);
+        accessoryRegistry.remove(name);
+        accessoryDefinitions.remove(name);
+        logger.trace(" Add items {}", name);
+        getItemOptional(name).ifPresent(this::createRootAccessories);
+        statistics.recordRebuilt();
+        return accessoryChanged(name, oldValue);
+    }
+
+    /**
+     * Re-creates the accessory of the given item only if its item definitions changed. If only the item instances were
+     * replaced in the item registry, the existing accessory is bound in place to the new instances, so its services
+     * and characteristics stay registered at the bridge.
+     *
+     * @return true if the structure of the accessory changed
+     */
+    private boolean applyIncrementalUpdate(String name) {
+        final Optional<Item> item = getItemOptional(name);
+        final String oldValue = knownAccessories.get(name);
+        final HomekitAccessory oldAccessory = accessoryRegistry.getAllAccessories().get(name);
+
+        if (item.isEmpty()) {
+            // missing accessories are handled by checkMissingAccessories
+            accessoryRegistry.remove(name);
+            accessoryDefinitions.remove(name);
+            statistics.recordRebuilt();
+            return false;
+        }
+
+        final HomekitAccessoryDefinition definition = HomekitAccessoryDefinition.of(item.get(), metadataRegistry);
+        final boolean sameDefinition = definition.equals(accessoryDefinitions.get(name));
+        if (sameDefinition && oldAccessory instanceof AbstractHomekitAccessoryImpl oldAccessoryImpl
+                && isBoundToRegisteredItems(oldAccessoryImpl)) {
+            logger.trace(" Accessory {} unchanged", name);
+            statistics.recordUnchanged();
+            return false;
+        }
+
+        final @Nullable AbstractHomekitAccessoryImpl accessory = createRootAccessory(item.get());
+        if (accessory == null) {
+            accessoryRegistry.remove(name);
+            accessoryDefinitions.remove(name);
+            statistics.recordRebuilt();
+            return false;
+        }
+
+        accessoryDefinitions.put(name, definition);
+        if (sameDefinition && oldAccessory instanceof AbstractHomekitAccessoryImpl oldAccessoryImpl
+                && oldAccessoryImpl.rebind(accessory)) {
+            logger.trace(" Update accessory {} in place", name);
+            statistics.recordUpdatedInPlace();
+            return false;
+        }
+
+        final String newValue = accessory.toJson();
+        knownAccessories.put(name, newValue);
+        logger.trace(" Add items {}", name);
+        accessoryRegistry.remove(name);
+        accessoryRegistry.addRootAccessory(name, accessory);
+        statistics.recordRebuilt();
+        return !newValue.equals(oldValue);
+    }
+
+    /**
+     * Checks whether all items of an accessory are the instances currently held by the item registry. The registry
+     * replaces the instance of an item whenever its definition is updated.
+     */
+    private boolean isBoundToRegisteredItems(AbstractHomekitAccessoryImpl accessory) {
+        for (Item boundItem : accessory.getItems()) {
+            if (getItemOptional(boundItem.getName()).orElse(null) != boundItem) {
+                return false;
             }
         }
+        return true;
     }
 
     private boolean accessoryChanged(String name, @Nullable String oldValue) {
@@ -335,15 +447,19 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     public synchronized void setBridge(HomekitRoot bridge) {
         accessoryRegistry.setBridge(bridge);
+        updater.setBridge(bridge);
     }
 
     public void setUpdater(HomekitAccessoryUpdater updater) {
         this.updater = updater;
+        updater.setCoalescingWindow(settings.eventCoalescingWindow);
+        updater.setBridge(accessoryRegistry.getBridge());
     }
 
     public void updateSettings(HomekitSettings settings) {
         boolean wasUsingDummyAccessories = this.settings.useDummyAccessories;
         this.settings = settings;
+        updater.setCoalescingWindow(settings.eventCoalescingWindow);
         // If they turned off dummy accessories, immediately prune them
         if (wasUsingDummyAccessories && !settings.useDummyAccessories) {
             pruneDummyAccessories();
@@ -354,6 +470,8 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.itemRegistry.removeRegistryChangeListener(this);
         this.metadataRegistry.removeRegistryChangeListener(metadataChangeListener);
         applyUpdatesDebouncer.stop();
+        updater.stop();
+        updater.setBridge(null);
         accessoryRegistry.unsetBridge();
     }
 
@@ -434,22 +552,37 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
      * @param item openHAB item
      */
     private void createRootAccessories(Item item) {
+        final @Nullable AbstractHomekitAccessoryImpl accessory = createRootAccessory(item);
+        if (accessory != null) {
+            knownAccessories.put(item.getName(), accessory.toJson());
+            accessoryDefinitions.put(item.getName(), HomekitAccessoryDefinition.of(item, metadataRegistry));
+            accessoryRegistry.addRootAccessory(item.getName(), accessory);
+        }
+    }
+
+    /**
+     * creates the root HomeKit accessory for given openHAB item, without adding it to the bridge.
+     *
+     * @param item openHAB item
+     * @return the accessory or null if the item is not a root accessory of this bridge
+     */
+    private @Nullable AbstractHomekitAccessoryImpl createRootAccessory(Item item) {
         final List<Entry<HomekitAccessoryType, HomekitCharacteristicType>> accessoryTypes = HomekitAccessoryFactory
                 .getAccessoryTypes(item, metadataRegistry);
         if (accessoryTypes.isEmpty()) {
-            return;
+            return null;
         }
 
         final List<GroupItem> groups = HomekitAccessoryFactory.getAccessoryGroups(item, itemRegistry, metadataRegistry);
         // Don't create accessories that are sub-accessories of other accessories
         if (groups.stream().anyMatch(g -> !HomekitAccessoryFactory.getAccessoryTypes(g, metadataRegistry).isEmpty())) {
-            return;
+            return null;
         }
 
         final @Nullable Map<String, Object> itemConfiguration = HomekitAccessoryFactory.getItemConfiguration(item,
                 metadataRegistry);
         if (!itemIsForThisBridge(item, itemConfiguration)) {
-            return;
+            return null;
         }
 
         final HomekitAccessoryType primaryAccessoryType = getPrimaryAccessoryType(item, accessoryTypes,
@@ -464,7 +597,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
             if (accessory.isLinkedServiceOnly()) {
                 logger.warn("Item '{}' is a '{}' which must be nested another another accessory.", taggedItem.getName(),
                         primaryAccessoryType);
-                return;
+                return null;
             }
 
             accessoryTypes.stream().filter(aType -> !primaryAccessoryType.equals(aType.getKey()))
@@ -475,15 +608,15 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                             final AbstractHomekitAccessoryImpl additionalAccessory = HomekitAccessoryFactory
                                     .create(additionalTaggedItem, metadataRegistry, updater, settings);
                             additionalAccessory.promoteNameCharacteristic();
-                            accessory.getServices().add(additionalAccessory.getPrimaryService());
+                            accessory.addLinkedAccessory(additionalAccessory, false);
                         } catch (HomekitException e) {
                             logger.warn("Cannot create additional accessory {}", additionalTaggedItem);
                         }
                     });
-            knownAccessories.put(taggedItem.getName(), accessory.toJson());
-            accessoryRegistry.addRootAccessory(taggedItem.getName(), accessory);
+            return accessory;
         } catch (HomekitException e) {
             logger.warn("Cannot create accessory {}: {}", taggedItem, e.getMessage());
+            return null;
         }
     }
 
@@ -527,7 +660,10 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
             }
         }
 
-        toRemove.forEach(k -> knownAccessories.remove(k));
+        toRemove.forEach(k -> {
+            knownAccessories.remove(k);
+            accessoryDefinitions.remove(k);
+        });
         return !toRemove.isEmpty();
     }
 
@@ -48,9 +48,11 @@ public class HomekitCommandExtension extends AbstractConsoleCommandExtension {
     private static final String SUBCMD_ALLOW_UNAUTHENTICATED = "allowUnauthenticated";
     private static final String SUBCMD_PRUNE_DUMMY_ACCESSORIES = "pruneDummyAccessories";
     private static final String SUBCMD_LIST_DUMMY_ACCESSORIES = "listDummyAccessories";
+    private static final String SUBCMD_UPDATE_STATISTICS = "updateStatistics";
     private static final StringsCompleter SUBCMD_COMPLETER = new StringsCompleter(
             List.of(SUBCMD_CLEAR_PAIRINGS, SUBCMD_LIST_ACCESSORIES, SUBCMD_PRINT_ACCESSORY,
-                    SUBCMD_ALLOW_UNAUTHENTICATED, SUBCMD_PRUNE_DUMMY_ACCESSORIES, SUBCMD_LIST_DUMMY_ACCESSORIES),
+                    SUBCMD_ALLOW_UNAUTHENTICATED, SUBCMD_PRUNE_DUMMY_ACCESSORIES, SUBCMD_LIST_DUMMY_ACCESSORIES,
+                    SUBCMD_UPDATE_STATISTICS),
             false);
 
     private static final String PARAM_INSTANCE = "--instance";
@@ -137,6 +139,9 @@ public class HomekitCommandExtension extends AbstractConsoleCommandExtension {
                 case SUBCMD_LIST_DUMMY_ACCESSORIES:
                     listDummyAccessories(console, instance);
                     break;
+                case SUBCMD_UPDATE_STATISTICS:
+                    printUpdateStatistics(console, instance);
+                    break;
                 default:
                     console.println("Unknown command '" + subCommand + "'");
                     printUsage(console);
@@ -161,7 +166,9 @@ public class HomekitCommandExtension extends AbstractConsoleCommandExtension {
                 buildCommandUsage(SUBCMD_PRUNE_DUMMY_ACCESSORIES + PARAM_INSTANCE_HELP,
                         "removes dummy accessories whose items no longer exist, optionally for a specific instance."),
                 buildCommandUsage(SUBCMD_LIST_DUMMY_ACCESSORIES + PARAM_INSTANCE_HELP,
-                        "list dummy accessories whose items no longer exist, optionally for a specific instance."));
+                        "list dummy accessories whose items no longer exist, optionally for a specific instance."),
+                buildCommandUsage(SUBCMD_UPDATE_STATISTICS + PARAM_INSTANCE_HELP,
+                        "print statistics about accessory updates, optionally for a specific instance."));
     }
 
     @Reference
@@ -199,6 +206,16 @@ public class HomekitCommandExtension extends AbstractConsoleCommandExtension {
         }
     }
 
+    private void printUpdateStatistics(Console console, @Nullable Integer instance) {
+        if (instance != null) {
+            console.println(instance + ": " + homekit.getUpdateStatistics(instance));
+        } else {
+            for (int i = 1; i <= homekit.getInstanceCount(); ++i) {
+                console.println(i + ": " + homekit.getUpdateStatistics(i));
+            }
+        }
+    }
+
     private void listAccessories(Console console, @Nullable Integer instance) {
         getInstanceAccessories(instance).forEach(v -> {
             try {
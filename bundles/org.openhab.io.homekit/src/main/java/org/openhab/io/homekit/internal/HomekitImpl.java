@@ -410,6 +410,16 @@ public class HomekitImpl implements Homekit, NetworkAddressChangeListener, Ready
         return homekitServers.size();
     }
 
+    @Override
+    public String getUpdateStatistics(int instance) {
+        if (instance < 1 || instance > changeListeners.size()) {
+            logger.warn("Instance {} is out of range 1..{}.", instance, changeListeners.size());
+            return "";
+        }
+
+        return changeListeners.get(instance - 1).getStatistics().toString();
+    }
+
     @Override
     public synchronized void onChanged(final List<CidrAddress> added, final List<CidrAddress> removed) {
         logger.trace("HomeKit bridge reacting on network interface changes.");
@@ -31,6 +31,8 @@ public class HomekitSettings {
     public String setupId;
     public String qrCode;
     public boolean useDummyAccessories = false;
+    public boolean useIncrementalUpdates = false;
+    public int eventCoalescingWindow = 0;
     public boolean useFahrenheitTemperature = false;
     public boolean useOHmDNS = false;
     public boolean blockUserDeletion = false;
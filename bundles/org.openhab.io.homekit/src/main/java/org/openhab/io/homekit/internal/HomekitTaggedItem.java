@@ -68,7 +68,7 @@ public class HomekitTaggedItem {
     private static final Map<Integer, String> CREATED_ACCESSORY_IDS = new ConcurrentHashMap<>();
 
     // proxy item used to group commands for complex item types like Color or Dimmer
-    private final HomekitOHItemProxy proxyItem;
+    private volatile HomekitOHItemProxy proxyItem;
 
     // type of HomeKit accessory/service, e.g. TemperatureSensor
     private final HomekitAccessoryType homekitAccessoryType;
@@ -305,6 +305,17 @@ public class HomekitTaggedItem {
         proxyItem.sendCommandProxy(commandType, command);
     }
 
+    /**
+     * Takes over the openHAB item of a tagged item with the same definition, e.g. after the item has been replaced
+     * in the item registry.
+     *
+     * @param taggedItem tagged item created for the new item instance
+     */
+    public void rebind(HomekitTaggedItem taggedItem) {
+        proxyItem = taggedItem.proxyItem;
+        parentGroupItem = taggedItem.parentGroupItem;
+    }
+
     public int getId() {
         return id;
     }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Counters about accessory updates applied by a {@link HomekitChangeListener}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HomekitUpdateStatistics {
+    private final AtomicLong updateRuns = new AtomicLong();
+    private final AtomicLong revisionChanges = new AtomicLong();
+    private final AtomicLong totalDurationMs = new AtomicLong();
+    private final AtomicLong maxDurationMs = new AtomicLong();
+    private volatile long lastDurationMs;
+    private final AtomicLong rebuilt = new AtomicLong();
+    private final AtomicLong updatedInPlace = new AtomicLong();
+    private final AtomicLong unchanged = new AtomicLong();
+
+    void recordUpdateRun(long durationMs, boolean revisionChanged) {
+        updateRuns.incrementAndGet();
+        if (revisionChanged) {
+            revisionChanges.incrementAndGet();
+        }
+        lastDurationMs = durationMs;
+        totalDurationMs.addAndGet(durationMs);
+        maxDurationMs.accumulateAndGet(durationMs, Math::max);
+    }
+
+    void recordRebuilt() {
+        rebuilt.incrementAndGet();
+    }
+
+    void recordUpdatedInPlace() {
+        updatedInPlace.incrementAndGet();
+    }
+
+    void recordUnchanged() {
+        unchanged.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        long runs = updateRuns.get();
+        return "update runs: " + runs + ", revision changes: " + revisionChanges.get() + ", last: " + lastDurationMs
+                + " ms, avg: " + (runs > 0 ? totalDurationMs.get() / runs : 0) + " ms, max: " + maxDurationMs.get()
+                + " ms, accessories rebuilt: " + rebuilt.get() + ", updated in place: " + updatedInPlace.get()
+                + ", unchanged: " + unchanged.get();
+    }
+}
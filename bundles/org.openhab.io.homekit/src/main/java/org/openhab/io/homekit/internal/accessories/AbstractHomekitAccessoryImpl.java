@@ -70,6 +70,7 @@ public abstract class AbstractHomekitAccessoryImpl implements HomekitAccessory {
     private final HomekitSettings settings;
     private final List<Service> services;
     private final Map<Class<? extends Characteristic>, Characteristic> rawCharacteristics;
+    private final List<AbstractHomekitAccessoryImpl> linkedAccessories = new ArrayList<>();
     private boolean isLinkedService = false;
 
     public AbstractHomekitAccessoryImpl(HomekitTaggedItem accessory, List<HomekitTaggedItem> mandatoryCharacteristics,
@@ -257,6 +258,92 @@ public abstract class AbstractHomekitAccessoryImpl implements HomekitAccessory {
         });
     }
 
+    /**
+     * Adds the primary service of another accessory as a service of this accessory.
+     *
+     * @param linkedAccessory the accessory providing the service
+     * @param linked true to link the service to the primary service, false to add it as a sibling
+     */
+    public void addLinkedAccessory(AbstractHomekitAccessoryImpl linkedAccessory, boolean linked) {
+        if (linked) {
+            getPrimaryService().addLinkedService(linkedAccessory.getPrimaryService());
+        } else {
+            getServices().add(linkedAccessory.getPrimaryService());
+        }
+        linkedAccessories.add(linkedAccessory);
+    }
+
+    /**
+     * Returns all openHAB items this accessory and its linked accessories are bound to.
+     */
+    public List<Item> getItems() {
+        final List<Item> items = new ArrayList<>();
+        items.add(accessory.getItem());
+        characteristics.forEach(c -> items.add(c.getItem()));
+        linkedAccessories.forEach(a -> items.addAll(a.getItems()));
+        return items;
+    }
+
+    /**
+     * Binds this accessory in place to the items of an accessory which was created from the same definition, e.g.
+     * after the items have been replaced in the item registry. The services and characteristics of this accessory stay
+     * registered, only the items they read, command and observe are exchanged.
+     *
+     * @param other accessory created from the same definition
+     * @return false if the accessories differ in structure and nothing was changed
+     */
+    public boolean rebind(AbstractHomekitAccessoryImpl other) {
+        if (!hasSameStructure(other)) {
+            return false;
+        }
+        rebindTree(other);
+        return true;
+    }
+
+    private boolean hasSameStructure(AbstractHomekitAccessoryImpl other) {
+        if (getClass() != other.getClass() || !isSameItem(accessory, other.accessory)
+                || characteristics.size() != other.characteristics.size()
+                || linkedAccessories.size() != other.linkedAccessories.size()) {
+            return false;
+        }
+        for (int i = 0; i < characteristics.size(); i++) {
+            if (!isSameItem(characteristics.get(i), other.characteristics.get(i))) {
+                return false;
+            }
+        }
+        for (int i = 0; i < linkedAccessories.size(); i++) {
+            if (!linkedAccessories.get(i).hasSameStructure(other.linkedAccessories.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSameItem(HomekitTaggedItem taggedItem, HomekitTaggedItem otherTaggedItem) {
+        return taggedItem.getName().equals(otherTaggedItem.getName())
+                && taggedItem.getAccessoryType() == otherTaggedItem.getAccessoryType()
+                && taggedItem.getCharacteristicType() == otherTaggedItem.getCharacteristicType();
+    }
+
+    private void rebindTree(AbstractHomekitAccessoryImpl other) {
+        rebind(accessory, other.accessory);
+        for (int i = 0; i < characteristics.size(); i++) {
+            rebind(characteristics.get(i), other.characteristics.get(i));
+        }
+        for (int i = 0; i < linkedAccessories.size(); i++) {
+            linkedAccessories.get(i).rebindTree(other.linkedAccessories.get(i));
+        }
+    }
+
+    private void rebind(HomekitTaggedItem taggedItem, HomekitTaggedItem otherTaggedItem) {
+        final Item oldItem = taggedItem.getItem();
+        taggedItem.rebind(otherTaggedItem);
+        if (oldItem instanceof GenericItem oldGenericItem
+                && taggedItem.getItem() instanceof GenericItem newGenericItem) {
+            updater.moveSubscriptions(oldGenericItem, newGenericItem);
+        }
+    }
+
     protected HomekitAccessoryUpdater getUpdater() {
         return updater;
     }
@@ -493,11 +493,7 @@ public class HomekitAccessoryFactory {
             final var subAccessory = create(subTaggedItem, metadataRegistry, updater, settings, ancestorServices);
             subAccessory.promoteNameCharacteristic();
 
-            if (subAccessory.isLinkable(accessory)) {
-                accessory.getPrimaryService().addLinkedService(subAccessory.getPrimaryService());
-            } else {
-                accessory.getServices().add(subAccessory.getPrimaryService());
-            }
+            accessory.addLinkedAccessory(subAccessory, subAccessory.isLinkable(accessory));
         }
     }
 
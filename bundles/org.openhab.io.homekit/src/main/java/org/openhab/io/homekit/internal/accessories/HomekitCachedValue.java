@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal.accessories;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.types.State;
+import org.openhab.io.homekit.internal.HomekitTaggedItem;
+
+/**
+ * Caches the HomeKit value of a characteristic converted from the item state.
+ *
+ * The conversion is only repeated if the item's state differs from the one the cached value was converted from, or
+ * if a setting the conversion depends on, e.g. the temperature unit, has changed.
+ *
+ * @param <T> type of the characteristic value
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class HomekitCachedValue<T> implements Supplier<CompletableFuture<T>> {
+    private final HomekitTaggedItem taggedItem;
+    private final Supplier<?> setting;
+    private final Function<State, T> converter;
+    private volatile @Nullable CachedEntry<T> entry;
+
+    private record CachedEntry<T> (State state, Object setting, CompletableFuture<T> value) {
+    }
+
+    /**
+     * @param taggedItem the item the value is read from
+     * @param converter converts the item's state to the characteristic value
+     */
+    HomekitCachedValue(HomekitTaggedItem taggedItem, Function<State, T> converter) {
+        this(taggedItem, () -> Boolean.TRUE, converter);
+    }
+
+    /**
+     * @param taggedItem the item the value is read from
+     * @param setting supplies the current value of the setting the conversion depends on
+     * @param converter converts the item's state to the characteristic value
+     */
+    HomekitCachedValue(HomekitTaggedItem taggedItem, Supplier<?> setting, Function<State, T> converter) {
+        this.taggedItem = taggedItem;
+        this.setting = setting;
+        this.converter = converter;
+    }
+
+    @Override
+    public CompletableFuture<T> get() {
+        final State state = taggedItem.getItem().getState();
+        final Object currentSetting = setting.get();
+        final CachedEntry<T> localEntry = entry;
+        if (localEntry != null && localEntry.state().equals(state) && localEntry.setting().equals(currentSetting)) {
+            return localEntry.value();
+        }
+        final CompletableFuture<T> value = CompletableFuture.completedFuture(converter.apply(state));
+        entry = new CachedEntry<>(state, currentSetting, value);
+        return value;
+    }
+}
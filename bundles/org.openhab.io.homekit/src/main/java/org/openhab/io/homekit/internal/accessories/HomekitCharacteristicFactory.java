@@ -530,6 +530,11 @@ public class HomekitCharacteristicFactory {
                 .completedFuture(getKeyFromMapping(item, item.getItem().getState(), mapping, defaultValue));
     }
 
+    private static <T extends CharacteristicEnum> Supplier<CompletableFuture<T>> getEnumSupplier(
+            HomekitTaggedItem item, Map<T, Object> mapping, T defaultValue) {
+        return new HomekitCachedValue<>(item, state -> getKeyFromMapping(item, state, mapping, defaultValue));
+    }
+
     public static <T extends Enum<T>> void setValueFromEnum(HomekitTaggedItem taggedItem, T value, Map<T, Object> map) {
         Object mapValue = map.get(value);
         // if the mapping has multiple values for this enum, just use the first one for the command sent to the item
@@ -554,8 +559,11 @@ public class HomekitCharacteristicFactory {
     }
 
     private static int getIntFromItem(HomekitTaggedItem taggedItem, int defaultValue) {
+        return getIntFromState(taggedItem, taggedItem.getItem().getState(), defaultValue);
+    }
+
+    private static int getIntFromState(HomekitTaggedItem taggedItem, State state, int defaultValue) {
         int value = defaultValue;
-        final State state = taggedItem.getItem().getState();
         if (state instanceof PercentType stateAsPercentType) {
             value = stateAsPercentType.intValue();
         } else if (state instanceof DecimalType stateAsDecimalType) {
@@ -572,13 +580,12 @@ public class HomekitCharacteristicFactory {
     }
 
     /** special method for tilts. it converts percentage to angle */
-    private static int getAngleFromItem(HomekitTaggedItem taggedItem, int defaultValue) {
+    private static int getAngleFromState(HomekitTaggedItem taggedItem, State state, int defaultValue) {
         int value = defaultValue;
-        final State state = taggedItem.getItem().getState();
         if (state instanceof PercentType stateAsPercentType) {
             value = (int) ((stateAsPercentType.intValue() * 90.0) / 50.0 - 90.0);
         } else {
-            value = getIntFromItem(taggedItem, defaultValue);
+            value = getIntFromState(taggedItem, state, defaultValue);
         }
         return value;
     }
@@ -617,11 +624,11 @@ public class HomekitCharacteristicFactory {
 
     private static Supplier<CompletableFuture<Integer>> getAngleSupplier(HomekitTaggedItem taggedItem,
             int defaultValue) {
-        return () -> CompletableFuture.completedFuture(getAngleFromItem(taggedItem, defaultValue));
+        return new HomekitCachedValue<>(taggedItem, state -> getAngleFromState(taggedItem, state, defaultValue));
     }
 
     private static Supplier<CompletableFuture<Integer>> getIntSupplier(HomekitTaggedItem taggedItem, int defaultValue) {
-        return () -> CompletableFuture.completedFuture(getIntFromItem(taggedItem, defaultValue));
+        return new HomekitCachedValue<>(taggedItem, state -> getIntFromState(taggedItem, state, defaultValue));
     }
 
     private static ExceptionalConsumer<Integer> setIntConsumer(HomekitTaggedItem taggedItem) {
@@ -664,8 +671,7 @@ public class HomekitCharacteristicFactory {
 
     private static Supplier<CompletableFuture<Double>> getDoubleSupplier(HomekitTaggedItem taggedItem,
             double defaultValue) {
-        return () -> {
-            final State state = taggedItem.getItem().getState();
+        return new HomekitCachedValue<>(taggedItem, state -> {
             double value = defaultValue;
             if (state instanceof PercentType stateAsPercentType) {
                 value = stateAsPercentType.doubleValue();
@@ -674,8 +680,8 @@ public class HomekitCharacteristicFactory {
             } else if (state instanceof QuantityType stateAsQuantityType) {
                 value = stateAsQuantityType.doubleValue();
             }
-            return CompletableFuture.completedFuture(value);
-        };
+            return value;
+        });
     }
 
     private static ExceptionalConsumer<Double> setDoubleConsumer(HomekitTaggedItem taggedItem) {
@@ -693,10 +699,10 @@ public class HomekitCharacteristicFactory {
 
     private static Supplier<CompletableFuture<Double>> getTemperatureSupplier(HomekitTaggedItem taggedItem,
             double defaultValue) {
-        return () -> {
-            final @Nullable Double value = stateAsTemperature(taggedItem.getItem().getState());
-            return CompletableFuture.completedFuture(value != null ? value : defaultValue);
-        };
+        return new HomekitCachedValue<>(taggedItem, HomekitCharacteristicFactory::useFahrenheit, state -> {
+            final @Nullable Double value = stateAsTemperature(state);
+            return value != null ? value : defaultValue;
+        });
     }
 
     private static ExceptionalConsumer<Double> setTemperatureConsumer(HomekitTaggedItem taggedItem) {
@@ -730,7 +736,7 @@ public class HomekitCharacteristicFactory {
     private static ActiveCharacteristic createActiveCharacteristic(HomekitTaggedItem taggedItem,
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, ActiveEnum.class, false);
-        return new ActiveCharacteristic(() -> getEnumFromItem(taggedItem, map, ActiveEnum.INACTIVE),
+        return new ActiveCharacteristic(getEnumSupplier(taggedItem, map, ActiveEnum.INACTIVE),
                 (value) -> setValueFromEnum(taggedItem, value, map), getSubscriber(taggedItem, ACTIVE, updater),
                 getUnsubscriber(taggedItem, ACTIVE, updater));
     }
@@ -806,7 +812,7 @@ public class HomekitCharacteristicFactory {
     private static ClosedCaptionsCharacteristic createClosedCaptionsCharacteristic(HomekitTaggedItem taggedItem,
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, ClosedCaptionsEnum.class);
-        return new ClosedCaptionsCharacteristic(() -> getEnumFromItem(taggedItem, map, ClosedCaptionsEnum.DISABLED),
+        return new ClosedCaptionsCharacteristic(getEnumSupplier(taggedItem, map, ClosedCaptionsEnum.DISABLED),
                 (value) -> setValueFromEnum(taggedItem, value, map),
                 getSubscriber(taggedItem, CLOSED_CAPTIONS, updater),
                 getUnsubscriber(taggedItem, CLOSED_CAPTIONS, updater));
@@ -921,7 +927,7 @@ public class HomekitCharacteristicFactory {
             List<CurrentDoorStateEnum> validValues = new ArrayList<>();
             var map = createMapping(taggedItem, CurrentDoorStateEnum.class, validValues, true);
             return new CurrentDoorStateCharacteristic(
-                    () -> getEnumFromItem(taggedItem, map, CurrentDoorStateEnum.CLOSED),
+                    getEnumSupplier(taggedItem, map, CurrentDoorStateEnum.CLOSED),
                     getSubscriber(taggedItem, CURRENT_DOOR_STATE, updater),
                     getUnsubscriber(taggedItem, CURRENT_DOOR_STATE, updater));
         }
@@ -932,7 +938,7 @@ public class HomekitCharacteristicFactory {
         List<CurrentHeatingCoolingStateEnum> validValues = new ArrayList<>();
         var map = createMapping(taggedItem, CurrentHeatingCoolingStateEnum.class, validValues);
         return new CurrentHeatingCoolingStateCharacteristic(validValues.toArray(new CurrentHeatingCoolingStateEnum[0]),
-                () -> getEnumFromItem(taggedItem, map, CurrentHeatingCoolingStateEnum.OFF),
+                getEnumSupplier(taggedItem, map, CurrentHeatingCoolingStateEnum.OFF),
                 getSubscriber(taggedItem, CURRENT_HEATING_COOLING_STATE, updater),
                 getUnsubscriber(taggedItem, CURRENT_HEATING_COOLING_STATE, updater));
     }
@@ -940,7 +946,7 @@ public class HomekitCharacteristicFactory {
     private static CurrentFanStateCharacteristic createCurrentFanStateCharacteristic(HomekitTaggedItem taggedItem,
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, CurrentFanStateEnum.class);
-        return new CurrentFanStateCharacteristic(() -> getEnumFromItem(taggedItem, map, CurrentFanStateEnum.INACTIVE),
+        return new CurrentFanStateCharacteristic(getEnumSupplier(taggedItem, map, CurrentFanStateEnum.INACTIVE),
                 getSubscriber(taggedItem, CURRENT_FAN_STATE, updater),
                 getUnsubscriber(taggedItem, CURRENT_FAN_STATE, updater));
     }
@@ -956,7 +962,7 @@ public class HomekitCharacteristicFactory {
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, CurrentMediaStateEnum.class);
         return new CurrentMediaStateCharacteristic(
-                () -> getEnumFromItem(taggedItem, map, CurrentMediaStateEnum.UNKNOWN),
+                getEnumSupplier(taggedItem, map, CurrentMediaStateEnum.UNKNOWN),
                 getSubscriber(taggedItem, CURRENT_MEDIA_STATE, updater),
                 getUnsubscriber(taggedItem, CURRENT_MEDIA_STATE, updater));
     }
@@ -1003,7 +1009,7 @@ public class HomekitCharacteristicFactory {
             HomekitTaggedItem taggedItem, HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, CurrentVisibilityStateEnum.class, true);
         return new CurrentVisibilityStateCharacteristic(
-                () -> getEnumFromItem(taggedItem, map, CurrentVisibilityStateEnum.HIDDEN),
+                getEnumSupplier(taggedItem, map, CurrentVisibilityStateEnum.HIDDEN),
                 getSubscriber(taggedItem, CURRENT_VISIBILITY, updater),
                 getUnsubscriber(taggedItem, CURRENT_VISIBILITY, updater));
     }
@@ -1134,7 +1140,7 @@ public class HomekitCharacteristicFactory {
     private static InputDeviceTypeCharacteristic createInputDeviceTypeCharacteristic(HomekitTaggedItem taggedItem,
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, InputDeviceTypeEnum.class);
-        return new InputDeviceTypeCharacteristic(() -> getEnumFromItem(taggedItem, map, InputDeviceTypeEnum.OTHER),
+        return new InputDeviceTypeCharacteristic(getEnumSupplier(taggedItem, map, InputDeviceTypeEnum.OTHER),
                 getSubscriber(taggedItem, INPUT_DEVICE_TYPE, updater),
                 getUnsubscriber(taggedItem, INPUT_DEVICE_TYPE, updater));
     }
@@ -1142,7 +1148,7 @@ public class HomekitCharacteristicFactory {
     private static InputSourceTypeCharacteristic createInputSourceTypeCharacteristic(HomekitTaggedItem taggedItem,
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, InputSourceTypeEnum.class);
-        return new InputSourceTypeCharacteristic(() -> getEnumFromItem(taggedItem, map, InputSourceTypeEnum.OTHER),
+        return new InputSourceTypeCharacteristic(getEnumSupplier(taggedItem, map, InputSourceTypeEnum.OTHER),
                 getSubscriber(taggedItem, INPUT_SOURCE_TYPE, updater),
                 getUnsubscriber(taggedItem, INPUT_SOURCE_TYPE, updater));
     }
@@ -1150,7 +1156,7 @@ public class HomekitCharacteristicFactory {
     private static IsConfiguredCharacteristic createIsConfiguredCharacteristic(HomekitTaggedItem taggedItem,
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, IsConfiguredEnum.class);
-        return new IsConfiguredCharacteristic(() -> getEnumFromItem(taggedItem, map, IsConfiguredEnum.NOT_CONFIGURED),
+        return new IsConfiguredCharacteristic(getEnumSupplier(taggedItem, map, IsConfiguredEnum.NOT_CONFIGURED),
                 (value) -> setValueFromEnum(taggedItem, value, map), getSubscriber(taggedItem, CONFIGURED, updater),
                 getUnsubscriber(taggedItem, CONFIGURED, updater));
     }
@@ -1159,7 +1165,7 @@ public class HomekitCharacteristicFactory {
             HomekitTaggedItem taggedItem, HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, LockPhysicalControlsEnum.class);
         return new LockPhysicalControlsCharacteristic(
-                () -> getEnumFromItem(taggedItem, map, LockPhysicalControlsEnum.CONTROL_LOCK_DISABLED),
+                getEnumSupplier(taggedItem, map, LockPhysicalControlsEnum.CONTROL_LOCK_DISABLED),
                 (value) -> setValueFromEnum(taggedItem, value, map), getSubscriber(taggedItem, LOCK_CONTROL, updater),
                 getUnsubscriber(taggedItem, LOCK_CONTROL, updater));
     }
@@ -1167,7 +1173,7 @@ public class HomekitCharacteristicFactory {
     private static LockCurrentStateCharacteristic createLockCurrentStateCharacteristic(HomekitTaggedItem taggedItem,
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, LockCurrentStateEnum.class);
-        return new LockCurrentStateCharacteristic(() -> getEnumFromItem(taggedItem, map, LockCurrentStateEnum.UNKNOWN),
+        return new LockCurrentStateCharacteristic(getEnumSupplier(taggedItem, map, LockCurrentStateEnum.UNKNOWN),
                 getSubscriber(taggedItem, LOCK_CURRENT_STATE, updater),
                 getUnsubscriber(taggedItem, LOCK_CURRENT_STATE, updater));
     }
@@ -1175,7 +1181,7 @@ public class HomekitCharacteristicFactory {
     private static LockTargetStateCharacteristic createLockTargetStateCharacteristic(HomekitTaggedItem taggedItem,
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, LockTargetStateEnum.class);
-        return new LockTargetStateCharacteristic(() -> getEnumFromItem(taggedItem, map, LockTargetStateEnum.UNSECURED),
+        return new LockTargetStateCharacteristic(getEnumSupplier(taggedItem, map, LockTargetStateEnum.UNSECURED),
                 (value) -> setValueFromEnum(taggedItem, value, map),
                 getSubscriber(taggedItem, LOCK_TARGET_STATE, updater),
                 getUnsubscriber(taggedItem, LOCK_TARGET_STATE, updater));
@@ -1271,7 +1277,7 @@ public class HomekitCharacteristicFactory {
     private static PictureModeCharacteristic createPictureModeCharacteristic(HomekitTaggedItem taggedItem,
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, PictureModeEnum.class);
-        return new PictureModeCharacteristic(() -> getEnumFromItem(taggedItem, map, PictureModeEnum.OTHER),
+        return new PictureModeCharacteristic(getEnumSupplier(taggedItem, map, PictureModeEnum.OTHER),
                 (value) -> setValueFromEnum(taggedItem, value, map), getSubscriber(taggedItem, PICTURE_MODE, updater),
                 getUnsubscriber(taggedItem, PICTURE_MODE, updater));
     }
@@ -1373,7 +1379,7 @@ public class HomekitCharacteristicFactory {
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, RotationDirectionEnum.class);
         return new RotationDirectionCharacteristic(
-                () -> getEnumFromItem(taggedItem, map, RotationDirectionEnum.CLOCKWISE),
+                getEnumSupplier(taggedItem, map, RotationDirectionEnum.CLOCKWISE),
                 (value) -> setValueFromEnum(taggedItem, value, map),
                 getSubscriber(taggedItem, ROTATION_DIRECTION, updater),
                 getUnsubscriber(taggedItem, ROTATION_DIRECTION, updater));
@@ -1425,7 +1431,7 @@ public class HomekitCharacteristicFactory {
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, SleepDiscoveryModeEnum.class);
         return new SleepDiscoveryModeCharacteristic(
-                () -> getEnumFromItem(taggedItem, map, SleepDiscoveryModeEnum.ALWAYS_DISCOVERABLE),
+                getEnumSupplier(taggedItem, map, SleepDiscoveryModeEnum.ALWAYS_DISCOVERABLE),
                 getSubscriber(taggedItem, SLEEP_DISCOVERY_MODE, updater),
                 getUnsubscriber(taggedItem, SLEEP_DISCOVERY_MODE, updater));
     }
@@ -1441,7 +1447,7 @@ public class HomekitCharacteristicFactory {
     private static StatusFaultCharacteristic createStatusFaultCharacteristic(HomekitTaggedItem taggedItem,
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, StatusFaultEnum.class);
-        return new StatusFaultCharacteristic(() -> getEnumFromItem(taggedItem, map, StatusFaultEnum.NO_FAULT),
+        return new StatusFaultCharacteristic(getEnumSupplier(taggedItem, map, StatusFaultEnum.NO_FAULT),
                 getSubscriber(taggedItem, FAULT_STATUS, updater), getUnsubscriber(taggedItem, FAULT_STATUS, updater));
     }
 
@@ -1462,7 +1468,7 @@ public class HomekitCharacteristicFactory {
     private static StatusTamperedCharacteristic createStatusTamperedCharacteristic(HomekitTaggedItem taggedItem,
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, StatusTamperedEnum.class);
-        return new StatusTamperedCharacteristic(() -> getEnumFromItem(taggedItem, map, StatusTamperedEnum.NOT_TAMPERED),
+        return new StatusTamperedCharacteristic(getEnumSupplier(taggedItem, map, StatusTamperedEnum.NOT_TAMPERED),
                 getSubscriber(taggedItem, TAMPERED_STATUS, updater),
                 getUnsubscriber(taggedItem, TAMPERED_STATUS, updater));
     }
@@ -1480,7 +1486,7 @@ public class HomekitCharacteristicFactory {
     private static SwingModeCharacteristic createSwingModeCharacteristic(HomekitTaggedItem taggedItem,
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, SwingModeEnum.class);
-        return new SwingModeCharacteristic(() -> getEnumFromItem(taggedItem, map, SwingModeEnum.SWING_DISABLED),
+        return new SwingModeCharacteristic(getEnumSupplier(taggedItem, map, SwingModeEnum.SWING_DISABLED),
                 (value) -> setValueFromEnum(taggedItem, value, map), getSubscriber(taggedItem, SWING_MODE, updater),
                 getUnsubscriber(taggedItem, SWING_MODE, updater));
     }
@@ -1501,7 +1507,7 @@ public class HomekitCharacteristicFactory {
         } else {
             List<TargetDoorStateEnum> validValues = new ArrayList<>();
             var map = createMapping(taggedItem, TargetDoorStateEnum.class, validValues, true);
-            return new TargetDoorStateCharacteristic(() -> getEnumFromItem(taggedItem, map, TargetDoorStateEnum.CLOSED),
+            return new TargetDoorStateCharacteristic(getEnumSupplier(taggedItem, map, TargetDoorStateEnum.CLOSED),
                     (targetState) -> setValueFromEnum(taggedItem, targetState, map),
                     getSubscriber(taggedItem, TARGET_DOOR_STATE, updater),
                     getUnsubscriber(taggedItem, TARGET_DOOR_STATE, updater));
@@ -1511,7 +1517,7 @@ public class HomekitCharacteristicFactory {
     private static TargetFanStateCharacteristic createTargetFanStateCharacteristic(HomekitTaggedItem taggedItem,
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, TargetFanStateEnum.class);
-        return new TargetFanStateCharacteristic(() -> getEnumFromItem(taggedItem, map, TargetFanStateEnum.AUTO),
+        return new TargetFanStateCharacteristic(getEnumSupplier(taggedItem, map, TargetFanStateEnum.AUTO),
                 (targetState) -> setValueFromEnum(taggedItem, targetState, map),
                 getSubscriber(taggedItem, TARGET_FAN_STATE, updater),
                 getUnsubscriber(taggedItem, TARGET_FAN_STATE, updater));
@@ -1522,7 +1528,7 @@ public class HomekitCharacteristicFactory {
         List<TargetHeatingCoolingStateEnum> validValues = new ArrayList<>();
         var map = createMapping(taggedItem, TargetHeatingCoolingStateEnum.class, validValues);
         return new TargetHeatingCoolingStateCharacteristic(validValues.toArray(new TargetHeatingCoolingStateEnum[0]),
-                () -> getEnumFromItem(taggedItem, map, TargetHeatingCoolingStateEnum.OFF),
+                getEnumSupplier(taggedItem, map, TargetHeatingCoolingStateEnum.OFF),
                 (value) -> setValueFromEnum(taggedItem, value, map),
                 getSubscriber(taggedItem, TARGET_HEATING_COOLING_STATE, updater),
                 getUnsubscriber(taggedItem, TARGET_HEATING_COOLING_STATE, updater));
@@ -1538,7 +1544,7 @@ public class HomekitCharacteristicFactory {
     private static TargetMediaStateCharacteristic createTargetMediaStateCharacteristic(HomekitTaggedItem taggedItem,
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, TargetMediaStateEnum.class);
-        return new TargetMediaStateCharacteristic(() -> getEnumFromItem(taggedItem, map, TargetMediaStateEnum.STOP),
+        return new TargetMediaStateCharacteristic(getEnumSupplier(taggedItem, map, TargetMediaStateEnum.STOP),
                 (value) -> setValueFromEnum(taggedItem, value, map),
                 getSubscriber(taggedItem, TARGET_MEDIA_STATE, updater),
                 getUnsubscriber(taggedItem, TARGET_MEDIA_STATE, updater));
@@ -1598,7 +1604,7 @@ public class HomekitCharacteristicFactory {
             HomekitTaggedItem taggedItem, HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, TargetVisibilityStateEnum.class, true);
         return new TargetVisibilityStateCharacteristic(
-                () -> getEnumFromItem(taggedItem, map, TargetVisibilityStateEnum.HIDDEN),
+                getEnumSupplier(taggedItem, map, TargetVisibilityStateEnum.HIDDEN),
                 (value) -> setValueFromEnum(taggedItem, value, map),
                 getSubscriber(taggedItem, TARGET_VISIBILITY_STATE, updater),
                 getUnsubscriber(taggedItem, TARGET_VISIBILITY_STATE, updater));
@@ -1651,7 +1657,7 @@ public class HomekitCharacteristicFactory {
     private static VolumeControlTypeCharacteristic createVolumeControlTypeCharacteristic(HomekitTaggedItem taggedItem,
             HomekitAccessoryUpdater updater) {
         var map = createMapping(taggedItem, VolumeControlTypeEnum.class);
-        return new VolumeControlTypeCharacteristic(() -> getEnumFromItem(taggedItem, map, VolumeControlTypeEnum.NONE),
+        return new VolumeControlTypeCharacteristic(getEnumSupplier(taggedItem, map, VolumeControlTypeEnum.NONE),
                 getSubscriber(taggedItem, VOLUME_CONTROL_TYPE, updater),
                 getUnsubscriber(taggedItem, VOLUME_CONTROL_TYPE, updater));
     }
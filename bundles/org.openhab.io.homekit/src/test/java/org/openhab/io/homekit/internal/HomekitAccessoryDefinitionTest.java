@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.Metadata;
+import org.openhab.core.items.MetadataKey;
+import org.openhab.core.items.MetadataRegistry;
+import org.openhab.core.library.items.SwitchItem;
+import org.openhab.io.homekit.internal.accessories.HomekitAccessoryFactory;
+
+/**
+ * Tests {@link HomekitAccessoryDefinition}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class HomekitAccessoryDefinitionTest {
+    private @Mock @NonNullByDefault({}) MetadataRegistry metadataRegistry;
+    private final Map<String, Metadata> metadata = new HashMap<>();
+
+    @BeforeEach
+    public void setup() {
+        when(metadataRegistry.get(any())).thenAnswer(invocation -> {
+            MetadataKey key = invocation.getArgument(0);
+            return metadata.get(key.getItemName());
+        });
+    }
+
+    private void setMetadata(String itemName, String value, @Nullable Map<String, Object> configuration) {
+        metadata.put(itemName,
+                new Metadata(new MetadataKey(HomekitAccessoryFactory.METADATA_KEY, itemName), value, configuration));
+    }
+
+    @Test
+    public void testReplacedItemInstanceHasSameDefinition() {
+        setMetadata("light", "Lighting", Map.of("instance", 1));
+        SwitchItem item = new SwitchItem("light");
+        item.setLabel("Light");
+        SwitchItem replacement = new SwitchItem("light");
+        replacement.setLabel("Light");
+
+        assertEquals(HomekitAccessoryDefinition.of(item, metadataRegistry),
+                HomekitAccessoryDefinition.of(replacement, metadataRegistry));
+    }
+
+    @Test
+    public void testChangedLabelChangesDefinition() {
+        SwitchItem item = new SwitchItem("light");
+        item.setLabel("Light");
+        HomekitAccessoryDefinition before = HomekitAccessoryDefinition.of(item, metadataRegistry);
+
+        item.setLabel("Lamp");
+
+        assertNotEquals(before, HomekitAccessoryDefinition.of(item, metadataRegistry));
+    }
+
+    @Test
+    public void testChangedMetadataConfigurationChangesDefinition() {
+        SwitchItem item = new SwitchItem("light");
+        setMetadata("light", "Lighting", Map.of("inverted", false));
+        HomekitAccessoryDefinition before = HomekitAccessoryDefinition.of(item, metadataRegistry);
+
+        setMetadata("light", "Lighting", Map.of("inverted", true));
+
+        assertNotEquals(before, HomekitAccessoryDefinition.of(item, metadataRegistry));
+    }
+
+    @Test
+    public void testChangedGroupMembersChangeDefinition() {
+        setMetadata("group", "Lighting", null);
+        setMetadata("on", "Lighting.OnState", null);
+        setMetadata("brightness", "Lighting.Brightness", null);
+        GroupItem group = new GroupItem("group");
+        group.addMember(new SwitchItem("on"));
+        HomekitAccessoryDefinition before = HomekitAccessoryDefinition.of(group, metadataRegistry);
+
+        group.addMember(new SwitchItem("brightness"));
+
+        assertNotEquals(before, HomekitAccessoryDefinition.of(group, metadataRegistry));
+    }
+
+    @Test
+    public void testChangedMemberMetadataChangesDefinition() {
+        setMetadata("group", "Lighting", null);
+        setMetadata("on", "Lighting.OnState", null);
+        GroupItem group = new GroupItem("group");
+        group.addMember(new SwitchItem("on"));
+        HomekitAccessoryDefinition before = HomekitAccessoryDefinition.of(group, metadataRegistry);
+
+        setMetadata("on", "Lighting.Brightness", null);
+
+        assertNotEquals(before, HomekitAccessoryDefinition.of(group, metadataRegistry));
+    }
+}
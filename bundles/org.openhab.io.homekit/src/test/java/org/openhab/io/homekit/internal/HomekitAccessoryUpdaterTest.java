@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.items.StateChangeListener;
+import org.openhab.core.library.items.SwitchItem;
+import org.openhab.core.library.types.OnOffType;
+
+import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
+import io.github.hapjava.server.impl.HomekitRoot;
+
+/**
+ * Tests {@link HomekitAccessoryUpdater}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class HomekitAccessoryUpdaterTest {
+    private @Mock @NonNullByDefault({}) SwitchItem oldItem;
+    private @Mock @NonNullByDefault({}) SwitchItem newItem;
+    private @Mock @NonNullByDefault({}) HomekitCharacteristicChangeCallback callback;
+    private @Mock @NonNullByDefault({}) HomekitCharacteristicChangeCallback otherCallback;
+    private @Mock @NonNullByDefault({}) HomekitRoot bridge;
+
+    private final HomekitAccessoryUpdater updater = new HomekitAccessoryUpdater();
+
+    @Test
+    public void testMoveSubscriptionsToReplacedItem() {
+        ArgumentCaptor<StateChangeListener> listener = ArgumentCaptor.forClass(StateChangeListener.class);
+        updater.subscribe(oldItem, "on", callback);
+        verify(oldItem).addStateChangeListener(listener.capture());
+
+        updater.moveSubscriptions(oldItem, newItem);
+
+        verify(oldItem).removeStateChangeListener(listener.getValue());
+        verify(newItem).addStateChangeListener(listener.getValue());
+
+        // the subscription now belongs to the new item
+        updater.unsubscribe(newItem, "on");
+        verify(newItem).removeStateChangeListener(listener.getValue());
+        updater.unsubscribe(oldItem, "on");
+        verify(oldItem, times(1)).removeStateChangeListener(any());
+    }
+
+    @Test
+    public void testMovedSubscriptionNotifiesCallback() {
+        ArgumentCaptor<StateChangeListener> listener = ArgumentCaptor.forClass(StateChangeListener.class);
+        updater.subscribe(oldItem, "on", callback);
+        updater.moveSubscriptions(oldItem, newItem);
+        verify(newItem).addStateChangeListener(listener.capture());
+
+        listener.getValue().stateChanged(newItem, OnOffType.OFF, OnOffType.ON);
+
+        verify(callback).changed();
+    }
+
+    @Test
+    public void testMoveSubscriptionsIgnoresOtherItems() {
+        updater.subscribe(newItem, "on", callback);
+
+        updater.moveSubscriptions(oldItem, newItem);
+
+        verify(newItem, never()).removeStateChangeListener(any());
+        assertDoesNotThrow(() -> updater.unsubscribe(newItem, "on"));
+        verify(newItem).removeStateChangeListener(any());
+    }
+
+    private StateChangeListener subscribe(SwitchItem item, HomekitCharacteristicChangeCallback callback) {
+        ArgumentCaptor<StateChangeListener> listener = ArgumentCaptor.forClass(StateChangeListener.class);
+        updater.subscribe(item, "on", callback);
+        verify(item).addStateChangeListener(listener.capture());
+        return listener.getValue();
+    }
+
+    @Test
+    public void testCoalescedNotificationsAreDeliveredOnceInOneBatch() {
+        updater.setBridge(bridge);
+        updater.setCoalescingWindow(60000);
+        StateChangeListener listener = subscribe(oldItem, callback);
+        StateChangeListener otherListener = subscribe(newItem, otherCallback);
+
+        listener.stateChanged(oldItem, OnOffType.OFF, OnOffType.ON);
+        listener.stateChanged(oldItem, OnOffType.ON, OnOffType.OFF);
+        otherListener.stateChanged(newItem, OnOffType.OFF, OnOffType.ON);
+        verify(callback, never()).changed();
+        verify(otherCallback, never()).changed();
+
+        updater.flushNotifications();
+
+        InOrder inOrder = inOrder(bridge, callback, otherCallback);
+        inOrder.verify(bridge).batchUpdate();
+        inOrder.verify(callback).changed();
+        inOrder.verify(otherCallback).changed();
+        inOrder.verify(bridge).completeUpdateBatch();
+    }
+
+    @Test
+    public void testNotificationsWithoutWindowAreDeliveredImmediately() {
+        updater.setBridge(bridge);
+        StateChangeListener listener = subscribe(oldItem, callback);
+
+        listener.stateChanged(oldItem, OnOffType.OFF, OnOffType.ON);
+        listener.stateChanged(oldItem, OnOffType.ON, OnOffType.OFF);
+
+        verify(callback, times(2)).changed();
+        verify(bridge, never()).batchUpdate();
+    }
+
+    @Test
+    public void testStopDropsPendingNotifications() {
+        updater.setCoalescingWindow(60000);
+        StateChangeListener listener = subscribe(oldItem, callback);
+        listener.stateChanged(oldItem, OnOffType.OFF, OnOffType.ON);
+
+        updater.stop();
+        updater.flushNotifications();
+
+        verify(callback, never()).changed();
+    }
+}
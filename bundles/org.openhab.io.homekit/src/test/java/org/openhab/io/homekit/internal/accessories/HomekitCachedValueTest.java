@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal.accessories;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.io.homekit.internal.HomekitTaggedItem;
+
+/**
+ * Tests {@link HomekitCachedValue}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class HomekitCachedValueTest {
+    private @Mock @NonNullByDefault({}) HomekitTaggedItem taggedItem;
+    private @Mock @NonNullByDefault({}) Item item;
+
+    private final AtomicInteger conversions = new AtomicInteger();
+
+    @BeforeEach
+    public void setup() {
+        when(taggedItem.getItem()).thenReturn(item);
+    }
+
+    private int convert(Object state) {
+        conversions.incrementAndGet();
+        return ((DecimalType) state).intValue();
+    }
+
+    @Test
+    public void testEqualStateIsNotConvertedAgain() throws InterruptedException, ExecutionException {
+        HomekitCachedValue<Integer> value = new HomekitCachedValue<>(taggedItem, this::convert);
+
+        when(item.getState()).thenReturn(new DecimalType(21));
+        assertEquals(21, value.get().get());
+        // an update with an equal value creates a new state instance
+        when(item.getState()).thenReturn(new DecimalType(21));
+        assertEquals(21, value.get().get());
+
+        assertEquals(1, conversions.get());
+    }
+
+    @Test
+    public void testChangedStateIsConverted() throws InterruptedException, ExecutionException {
+        HomekitCachedValue<Integer> value = new HomekitCachedValue<>(taggedItem, this::convert);
+
+        when(item.getState()).thenReturn(new DecimalType(21));
+        assertEquals(21, value.get().get());
+        when(item.getState()).thenReturn(new DecimalType(22));
+        assertEquals(22, value.get().get());
+
+        assertEquals(2, conversions.get());
+    }
+
+    @Test
+    public void testChangedSettingIsConverted() throws InterruptedException, ExecutionException {
+        AtomicBoolean fahrenheit = new AtomicBoolean(false);
+        HomekitCachedValue<Integer> value = new HomekitCachedValue<>(taggedItem, fahrenheit::get,
+                state -> convert(state) + (fahrenheit.get() ? 100 : 0));
+
+        when(item.getState()).thenReturn(new DecimalType(21));
+        assertEquals(21, value.get().get());
+        fahrenheit.set(true);
+        assertEquals(121, value.get().get());
+        assertEquals(121, value.get().get());
+
+        assertEquals(2, conversions.get());
+    }
+}
@@ -99,6 +99,11 @@ public class ConfigStore {
             .registerTypeAdapter(HueSuccessResponseStateChanged.class, new HueSuccessResponseStateChanged.Serializer())
             .registerTypeAdapter(HueGroupEntry.class, new HueGroupEntry.Serializer(this)).create();
 
+    /**
+     * Pre-serialized json of the lights and groups of {@link #ds}, for the frequently polled GET endpoints
+     */
+    public final HueJsonCache jsonCache = new HueJsonCache(this);
+
     @Reference
     protected @NonNullByDefault({}) ConfigurationAdmin configAdmin;
 
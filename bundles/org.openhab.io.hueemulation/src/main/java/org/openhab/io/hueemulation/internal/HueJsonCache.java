@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.hueemulation.internal;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
+import org.openhab.io.hueemulation.internal.dto.AbstractHueState;
+import org.openhab.io.hueemulation.internal.dto.HueDataStore;
+import org.openhab.io.hueemulation.internal.dto.HueGroupEntry;
+import org.openhab.io.hueemulation.internal.dto.HueLightEntry;
+import org.openhab.io.hueemulation.internal.dto.changerequest.HueStateChange;
+
+/**
+ * Keeps pre-serialized json fragments of the lights and groups of the {@link HueDataStore}.
+ * <p>
+ * Hue clients like Alexa or the Harmony hub poll the lights and groups every few seconds. Instead of serializing
+ * every light for every request, each light and group remembers what its json fragment was built from (the entry,
+ * the item, the item state and label and the last command). A fragment is only serialized again if one of those
+ * changed, so an item state change only re-serializes the affected light. The combined resource json is
+ * reassembled from the fragments if any of them changed.
+ * <p>
+ * Each json document gets an entity tag, which changes with every rebuild, so that clients can send an
+ * If-None-Match header and receive a "304 Not Modified" instead of the full document.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HueJsonCache {
+    /**
+     * A serialized json document and its entity tag.
+     */
+    public record CachedJson(String json, String etag) {
+        /**
+         * Returns true if the given If-None-Match header value matches this document.
+         */
+        public boolean matches(@Nullable String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                String trimmed = tag.trim();
+                if ("*".equals(trimmed) || etag.equals(trimmed) || ("W/" + etag).equals(trimmed)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record LightFragment(HueLightEntry entry, GenericItem item, State state, @Nullable String label,
+            @Nullable Command lastCommand, @Nullable HueStateChange lastHueChange, CachedJson json) {
+        boolean isValidFor(HueLightEntry light) {
+            return entry == light && item == light.item && state.equals(light.item.getState())
+                    && Objects.equals(label, light.item.getLabel()) && lastCommand == light.lastCommand
+                    && lastHueChange == light.lastHueChange;
+        }
+    }
+
+    private record GroupFragment(HueGroupEntry entry, @Nullable GroupItem item, AbstractHueState action, String name,
+            String type, String roomclass, List<String> lights, List<String> sensors, CachedJson json) {
+        boolean isValidFor(HueGroupEntry group, List<String> groupLights) {
+            return entry == group && item == group.groupItem && action == group.action && name.equals(group.name)
+                    && type.equals(group.type) && roomclass.equals(group.roomclass) && lights.equals(groupLights)
+                    && sensors == group.sensors;
+        }
+    }
+
+    private final ConfigStore cs;
+    // Entity tags must not repeat across restarts, otherwise a client could get a 304 for a different document
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+    private long revision;
+
+    private final Map<String, LightFragment> lightFragments = new HashMap<>();
+    private final Map<String, GroupFragment> groupFragments = new HashMap<>();
+    private @Nullable CachedJson lightsJson;
+    private @Nullable CachedJson groupsJson;
+
+    public HueJsonCache(ConfigStore cs) {
+        this.cs = cs;
+    }
+
+    private CachedJson newDocument(String json) {
+        return new CachedJson(json, "\"" + epoch + "-" + Long.toHexString(++revision) + "\"");
+    }
+
+    /**
+     * Returns the json of all lights. Only lights that changed since the last call are serialized again.
+     */
+    public synchronized CachedJson getLights() {
+        Map<String, HueLightEntry> lights = cs.ds.lights;
+        boolean changed = lightFragments.keySet().retainAll(lights.keySet());
+        for (Map.Entry<String, HueLightEntry> entry : lights.entrySet()) {
+            LightFragment fragment = lightFragments.get(entry.getKey());
+            if (fragment == null || !fragment.isValidFor(entry.getValue())) {
+                lightFragments.put(entry.getKey(), serializeLight(entry.getValue()));
+                changed = true;
+            }
+        }
+
+        CachedJson json = lightsJson;
+        if (json == null || changed) {
+            StringBuilder builder = new StringBuilder("{");
+            for (String id : lights.keySet()) {
+                LightFragment fragment = lightFragments.get(id);
+                if (fragment != null) {
+                    appendMember(builder, id, fragment.json.json);
+                }
+            }
+            json = newDocument(builder.append('}').toString());
+            lightsJson = json;
+        }
+        return json;
+    }
+
+    /**
+     * Returns the json of a single light or null if there is no light with the given id.
+     */
+    public synchronized @Nullable CachedJson getLight(String id) {
+        HueLightEntry light = cs.ds.lights.get(id);
+        if (light == null) {
+            return null;
+        }
+        LightFragment fragment = lightFragments.get(id);
+        if (fragment == null || !fragment.isValidFor(light)) {
+            fragment = serializeLight(light);
+            lightFragments.put(id, fragment);
+            // the combined document still contains the old fragment
+            lightsJson = null;
+        }
+        return fragment.json;
+    }
+
+    /**
+     * Returns the json of all groups. Only groups that changed since the last call are serialized again.
+     */
+    public synchronized CachedJson getGroups() {
+        Map<String, HueGroupEntry> groups = cs.ds.groups;
+        boolean changed = groupFragments.keySet().retainAll(groups.keySet());
+        for (Map.Entry<String, HueGroupEntry> entry : groups.entrySet()) {
+            HueGroupEntry group = entry.getValue();
+            List<String> groupLights = groupLights(group);
+            GroupFragment fragment = groupFragments.get(entry.getKey());
+            if (fragment == null || !fragment.isValidFor(group, groupLights)) {
+                groupFragments.put(entry.getKey(), serializeGroup(group, groupLights));
+                changed = true;
+            }
+        }
+
+        CachedJson json = groupsJson;
+        if (json == null || changed) {
+            StringBuilder builder = new StringBuilder("{");
+            for (String id : groups.keySet()) {
+                GroupFragment fragment = groupFragments.get(id);
+                if (fragment != null) {
+                    appendMember(builder, id, fragment.json.json);
+                }
+            }
+            json = newDocument(builder.append('}').toString());
+            groupsJson = json;
+        }
+        return json;
+    }
+
+    /**
+     * Returns the json of a single group or null if there is no group with the given id.
+     */
+    public synchronized @Nullable CachedJson getGroup(String id) {
+        HueGroupEntry group = cs.ds.groups.get(id);
+        if (group == null) {
+            return null;
+        }
+        List<String> groupLights = groupLights(group);
+        GroupFragment fragment = groupFragments.get(id);
+        if (fragment == null || !fragment.isValidFor(group, groupLights)) {
+            fragment = serializeGroup(group, groupLights);
+            groupFragments.put(id, fragment);
+            groupsJson = null;
+        }
+        return fragment.json;
+    }
+
+    /**
+     * Returns the json of the full data store. The cached lights and groups are reused, all other (small) parts are
+     * serialized. The document contains the current bridge time and therefore has no entity tag.
+     */
+    public String getDataStore() {
+        HueDataStore ds = cs.ds;
+        StringBuilder builder = new StringBuilder("{");
+        // Same member order as the field declaration order of HueDataStore
+        appendMember(builder, "config", cs.gson.toJson(ds.config));
+        appendMember(builder, "lights", getLights().json);
+        appendMember(builder, "groups", getGroups().json);
+        appendMember(builder, "scenes", cs.gson.toJson(ds.scenes));
+        appendMember(builder, "rules", cs.gson.toJson(ds.rules));
+        appendMember(builder, "sensors", cs.gson.toJson(ds.sensors));
+        appendMember(builder, "schedules", cs.gson.toJson(ds.schedules));
+        appendMember(builder, "resourcelinks", cs.gson.toJson(ds.resourcelinks));
+        appendMember(builder, "capabilities", cs.gson.toJson(ds.capabilities));
+        return builder.append('}').toString();
+    }
+
+    private void appendMember(StringBuilder builder, String name, String json) {
+        if (builder.length() > 1) {
+            builder.append(',');
+        }
+        builder.append(cs.gson.toJson(name)).append(':').append(json);
+    }
+
+    private LightFragment serializeLight(HueLightEntry light) {
+        // Remember the inputs before serializing. A concurrent change leads to a rebuild on the next request.
+        GenericItem item = light.item;
+        State state = item.getState();
+        String label = item.getLabel();
+        Command lastCommand = light.lastCommand;
+        HueStateChange lastHueChange = light.lastHueChange;
+        return new LightFragment(light, item, state, label, lastCommand, lastHueChange,
+                newDocument(cs.gson.toJson(light)));
+    }
+
+    private GroupFragment serializeGroup(HueGroupEntry group, List<String> groupLights) {
+        AbstractHueState action = group.action;
+        return new GroupFragment(group, group.groupItem, action, group.name, group.type, group.roomclass, groupLights,
+                group.sensors, newDocument(cs.gson.toJson(group)));
+    }
+
+    /**
+     * The light ids of a group, computed the same way as {@link HueGroupEntry.Serializer} does.
+     */
+    private List<String> groupLights(HueGroupEntry group) {
+        GroupItem item = group.groupItem;
+        if (item != null) {
+            return item.getMembers().stream().map(cs::mapItemUIDtoHueID).toList();
+        }
+        return List.copyOf(group.lights);
+    }
+}
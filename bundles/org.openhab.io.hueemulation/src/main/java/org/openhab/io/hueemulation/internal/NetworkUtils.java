@@ -20,12 +20,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.UriInfo;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.io.hueemulation.internal.HueJsonCache.CachedJson;
 import org.openhab.io.hueemulation.internal.dto.response.HueResponse;
 import org.openhab.io.hueemulation.internal.dto.response.HueResponse.HueErrorMessage;
 import org.openhab.io.hueemulation.internal.dto.response.HueResponseSuccessSimple;
@@ -140,4 +142,19 @@ public class NetworkUtils {
         return Response.ok(gson.toJson(responses, new TypeToken<List<?>>() {
         }.getType())).build();
     }
+
+    /**
+     * Creates a json response with an entity tag for a cached document. Responds with "304 Not Modified" if the
+     * client already has the current document.
+     *
+     * @param json A cached json document
+     * @param ifNoneMatch The If-None-Match header of the request, may be null
+     * @return A 200 response with the document or a 304 response
+     */
+    public static Response cachedJson(CachedJson json, @Nullable String ifNoneMatch) {
+        if (json.matches(ifNoneMatch)) {
+            return Response.notModified().header(HttpHeaders.ETAG, json.etag()).build();
+        }
+        return Response.ok(json.json()).header(HttpHeaders.ETAG, json.etag()).build();
+    }
 }
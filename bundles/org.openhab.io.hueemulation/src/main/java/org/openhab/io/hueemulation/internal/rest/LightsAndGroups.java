@@ -20,12 +20,14 @@ import java.util.stream.Stream;
 
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
@@ -44,6 +46,7 @@ import org.openhab.core.types.Command;
 import org.openhab.io.hueemulation.internal.ConfigStore;
 import org.openhab.io.hueemulation.internal.DeviceType;
 import org.openhab.io.hueemulation.internal.HueEmulationService;
+import org.openhab.io.hueemulation.internal.HueJsonCache.CachedJson;
 import org.openhab.io.hueemulation.internal.NetworkUtils;
 import org.openhab.io.hueemulation.internal.StateUtils;
 import org.openhab.io.hueemulation.internal.dto.HueGroupEntry;
@@ -248,11 +251,12 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @Path("{username}/lights")
     @Operation(summary = "Return all lights", responses = { @ApiResponse(responseCode = "200", description = "OK") })
     public Response getAllLightsApi(@Context UriInfo uri,
-            @PathParam("username") @Parameter(description = "username") String username) {
+            @PathParam("username") @Parameter(description = "username") String username,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights)).build();
+        return NetworkUtils.cachedJson(cs.jsonCache.getLights(), ifNoneMatch);
     }
 
     @GET
@@ -284,11 +288,16 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @Operation(summary = "Return a light", responses = { @ApiResponse(responseCode = "200", description = "OK") })
     public Response getLightApi(@Context UriInfo uri, //
             @PathParam("username") @Parameter(description = "username") String username,
-            @PathParam("id") @Parameter(description = "light id") String id) {
+            @PathParam("id") @Parameter(description = "light id") String id,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights.get(id))).build();
+        CachedJson json = cs.jsonCache.getLight(id);
+        if (json == null) {
+            return Response.ok(cs.gson.toJson(cs.ds.lights.get(id))).build();
+        }
+        return NetworkUtils.cachedJson(json, ifNoneMatch);
     }
 
     @SuppressWarnings({ "null", "unused" })
@@ -439,11 +448,12 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @Path("{username}/groups")
     @Operation(summary = "Return all groups", responses = { @ApiResponse(responseCode = "200", description = "OK") })
     public Response getAllGroupsApi(@Context UriInfo uri,
-            @PathParam("username") @Parameter(description = "username") String username) {
+            @PathParam("username") @Parameter(description = "username") String username,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups)).build();
+        return NetworkUtils.cachedJson(cs.jsonCache.getGroups(), ifNoneMatch);
     }
 
     @GET
@@ -451,11 +461,16 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @Operation(summary = "Return a group", responses = { @ApiResponse(responseCode = "200", description = "OK") })
     public Response getGroupApi(@Context UriInfo uri, //
             @PathParam("username") @Parameter(description = "username") String username,
-            @PathParam("id") @Parameter(description = "group id") String id) {
+            @PathParam("id") @Parameter(description = "group id") String id,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups.get(id))).build();
+        CachedJson json = cs.jsonCache.getGroup(id);
+        if (json == null) {
+            return Response.ok(cs.gson.toJson(cs.ds.groups.get(id))).build();
+        }
+        return NetworkUtils.cachedJson(json, ifNoneMatch);
     }
 
     @SuppressWarnings({ "null", "unused" })
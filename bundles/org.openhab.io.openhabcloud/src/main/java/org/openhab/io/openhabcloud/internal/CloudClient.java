@@ -19,6 +19,9 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -28,17 +31,18 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
 import org.eclipse.jetty.client.util.BytesContentProvider;
 import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpFields;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
-import org.eclipse.jetty.util.BufferUtil;
 import org.eclipse.jetty.util.URIUtil;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -83,6 +87,27 @@ public class CloudClient {
 
     private static final long READ_TIMEOUT = 60_0000;
 
+    /*
+     * Time in ms item updates are collected before they are sent; only the last state of an item is sent
+     */
+    private static final long ITEM_UPDATE_DELAY = 100;
+
+    /*
+     * Proxied response content is collected up to this size before it is sent to the openHAB Cloud
+     */
+    private static final int RESPONSE_CHUNK_SIZE = 64 * 1024;
+
+    /*
+     * Time in ms after which collected response content is sent even if the chunk size has not been reached, so
+     * streaming responses are not delayed
+     */
+    private static final long RESPONSE_FLUSH_DELAY = 20;
+
+    /*
+     * Maximum number of proxied requests to local openHAB running at the same time, further requests are queued
+     */
+    private static final int MAX_RUNNING_REQUESTS = 50;
+
     /*
      * Logger for this class
      */
@@ -118,6 +143,32 @@ public class CloudClient {
      */
     private final Map<Integer, Request> runningRequests = new ConcurrentHashMap<>();
 
+    /*
+     * This queue holds HTTP requests to local openHAB which wait for a running request to finish
+     */
+    private final Deque<QueuedRequest> queuedRequests = new ArrayDeque<>();
+
+    /*
+     * Ids of the HTTP requests which are sent to local openHAB and not finished yet, guarded by queuedRequests
+     */
+    private final Set<Integer> sentRequests = new HashSet<>();
+
+    /*
+     * Collects item updates, only the last state of an item within ITEM_UPDATE_DELAY is sent
+     */
+    private final ItemUpdateCoalescer itemUpdateCoalescer;
+
+    /*
+     * Counters for the traffic to the openHAB Cloud
+     */
+    private final AtomicLong itemUpdatesReceived = new AtomicLong();
+    private final AtomicLong itemUpdatesSent = new AtomicLong();
+    private final AtomicLong requestsProxied = new AtomicLong();
+    private final AtomicLong requestsQueued = new AtomicLong();
+    private final AtomicLong responseBytesSent = new AtomicLong();
+    private final AtomicLong responseChunksSent = new AtomicLong();
+    private final long statisticsStart = System.currentTimeMillis();
+
     /*
      * This variable indicates if connection to the openHAB Cloud is currently in an established state
      */
@@ -178,6 +229,7 @@ public class CloudClient {
         reconnectBackoff.setMin(RECONNECT_MIN);
         reconnectBackoff.setMax(RECONNECT_MAX);
         reconnectBackoff.setJitter(RECONNECT_JITTER);
+        itemUpdateCoalescer = new ItemUpdateCoalescer(scheduler, ITEM_UPDATE_DELAY, this::emitItemUpdate);
     }
 
     /**
@@ -379,8 +431,18 @@ public class CloudClient {
         logger.info("Disconnected from the openHAB Cloud service (UUID = {}, base URL = {})", censored(this.uuid),
                 this.localBaseUrl);
         isConnected = false;
-        // And clean up the list of running requests
+        // And abort the running requests and clean up the list of running and queued requests, the responses can
+        // not be delivered anymore
+        synchronized (queuedRequests) {
+            queuedRequests.clear();
+            sentRequests.clear();
+        }
+        for (Request request : runningRequests.values()) {
+            request.abort(new IOException("Disconnected from the openHAB Cloud service"));
+        }
         runningRequests.clear();
+        itemUpdateCoalescer.clear();
+        logger.debug("openHAB Cloud statistics: {}", getStatistics());
     }
 
     /**
@@ -461,6 +523,8 @@ public class CloudClient {
                 request.content(new BytesContentProvider(requestBody.getBytes()));
             }
 
+            ResponseContentBuffer contentBuffer = new ResponseContentBuffer(scheduler, RESPONSE_CHUNK_SIZE,
+                    RESPONSE_FLUSH_DELAY, content -> sendResponseContent(requestId, content));
             request.onResponseHeaders(response -> {
                 logger.debug("onHeaders {}", requestId);
                 JSONObject responseJson = new JSONObject();
@@ -477,18 +541,10 @@ public class CloudClient {
                 }
             }).onResponseContent((theResponse, content) -> {
                 logger.debug("onResponseContent: {}, content size {}", requestId, String.valueOf(content.remaining()));
-                JSONObject responseJson = new JSONObject();
-                try {
-                    responseJson.put("id", requestId);
-                    responseJson.put("body", BufferUtil.toArray(content));
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("{}", StandardCharsets.UTF_8.decode(content).toString());
-                    }
-                    socket.emit("responseContentBinary", responseJson);
-                    logger.trace("Sent content to request {}", requestId);
-                } catch (JSONException e) {
-                    logger.debug("{}", e.getMessage());
+                if (logger.isTraceEnabled()) {
+                    logger.trace("{}", StandardCharsets.UTF_8.decode(content.slice()).toString());
                 }
+                contentBuffer.append(content);
             }).onRequestFailure((origRequest, failure) -> {
                 logger.debug("onRequestFailure: {},  {}", requestId, failure.getMessage());
                 JSONObject responseJson = new JSONObject();
@@ -499,8 +555,11 @@ public class CloudClient {
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
                 }
-            }).send(result -> {
+            });
+            Response.CompleteListener completeListener = result -> {
                 logger.debug("onComplete: {}", requestId);
+                // Send the remaining content before finishing the response
+                contentBuffer.finish();
                 // Remove this request from list of running requests
                 runningRequests.remove(requestId);
                 if ((result != null && result.isFailed())
@@ -523,16 +582,49 @@ public class CloudClient {
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
                 }
-            });
+                sendNextQueuedRequest(requestId);
+            };
 
-            // If successfully submitted request to http client, add it to the list of currently
-            // running requests to be able to cancel it if needed
+            // Add the request to the list of currently running requests to be able to cancel it if needed
             runningRequests.put(requestId, request);
+            requestsProxied.incrementAndGet();
+            synchronized (queuedRequests) {
+                if (sentRequests.size() >= MAX_RUNNING_REQUESTS) {
+                    logger.debug("Queueing request {}, {} requests are running", requestId, sentRequests.size());
+                    queuedRequests.add(new QueuedRequest(requestId, request, completeListener));
+                    requestsQueued.incrementAndGet();
+                    return;
+                }
+                sentRequests.add(requestId);
+            }
+            request.send(completeListener);
         } catch (JSONException | IOException | URISyntaxException e) {
             logger.debug("{}", e.getMessage());
         }
     }
 
+    /**
+     * Sends the next queued request which has not been cancelled in the meantime, after a running request finished.
+     * Requests which were sent before a disconnect are not counted anymore, they do not free a place.
+     */
+    private void sendNextQueuedRequest(int finishedRequestId) {
+        QueuedRequest next;
+        synchronized (queuedRequests) {
+            if (!sentRequests.remove(finishedRequestId)) {
+                return;
+            }
+            do {
+                next = queuedRequests.poll();
+            } while (next != null && !runningRequests.containsKey(next.requestId()));
+            if (next == null) {
+                return;
+            }
+            sentRequests.add(next.requestId());
+        }
+        logger.debug("Sending queued request {}", next.requestId());
+        next.request().send(next.completeListener());
+    }
+
     private void setRequestHeaders(Request request, JSONObject requestHeadersJson) {
         Iterator<String> headersIterator = requestHeadersJson.keys();
         // Convert JSONObject of headers into Header ArrayList
@@ -766,20 +858,63 @@ public class CloudClient {
      */
     public void sendItemUpdate(String itemName, String itemState) {
         if (isConnected()) {
-            logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
-            JSONObject itemUpdateMessage = new JSONObject();
-            try {
-                itemUpdateMessage.put("itemName", itemName);
-                itemUpdateMessage.put("itemStatus", itemState);
-                socket.emit("itemupdate", itemUpdateMessage);
-            } catch (JSONException e) {
-                logger.debug("{}", e.getMessage());
-            }
+            itemUpdatesReceived.incrementAndGet();
+            // updates of the same item within the delay are coalesced, only the last state is sent
+            itemUpdateCoalescer.add(itemName, itemState);
         } else {
             logger.debug("No connection, Item update is not sent");
         }
     }
 
+    private void emitItemUpdate(String itemName, String itemState) {
+        if (!isConnected()) {
+            logger.debug("No connection, Item update is not sent");
+            return;
+        }
+        logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
+        JSONObject itemUpdateMessage = new JSONObject();
+        try {
+            itemUpdateMessage.put("itemName", itemName);
+            itemUpdateMessage.put("itemStatus", itemState);
+            socket.emit("itemupdate", itemUpdateMessage);
+            itemUpdatesSent.incrementAndGet();
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+
+    private void sendResponseContent(int requestId, byte[] content) {
+        JSONObject responseJson = new JSONObject();
+        try {
+            responseJson.put("id", requestId);
+            responseJson.put("body", content);
+            socket.emit("responseContentBinary", responseJson);
+            responseBytesSent.addAndGet(content.length);
+            responseChunksSent.incrementAndGet();
+            logger.trace("Sent {} bytes of content to request {}", content.length, requestId);
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns counters about the traffic to the openHAB Cloud
+     */
+    public String getStatistics() {
+        long seconds = Math.max(1, (System.currentTimeMillis() - statisticsStart) / 1000);
+        int queued;
+        int active;
+        synchronized (queuedRequests) {
+            queued = queuedRequests.size();
+            active = sentRequests.size();
+        }
+        return String.format(
+                "item updates: %d received, %d sent; requests: %d proxied, %d queued, %d running, %d waiting; "
+                        + "response content: %d bytes in %d chunks (%d bytes/s)",
+                itemUpdatesReceived.get(), itemUpdatesSent.get(), requestsProxied.get(), requestsQueued.get(), active,
+                queued, responseBytesSent.get(), responseChunksSent.get(), responseBytesSent.get() / seconds);
+    }
+
     /**
      * Returns true if openHAB Cloud connection is active
      */
@@ -838,6 +973,9 @@ public class CloudClient {
         return actionArray;
     }
 
+    private record QueuedRequest(int requestId, Request request, Response.CompleteListener completeListener) {
+    }
+
     private static String censored(String secret) {
         if (secret.length() < 4) {
             return "*******";
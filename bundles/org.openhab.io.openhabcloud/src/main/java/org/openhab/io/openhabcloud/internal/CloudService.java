@@ -330,6 +330,14 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
         return NotificationAction.class;
     }
 
+    /**
+     * Returns counters about the traffic to the openHAB Cloud since the connector was configured
+     */
+    public String getStatistics() {
+        CloudClient client = cloudClient;
+        return client == null ? "not connected" : client.getStatistics();
+    }
+
     /**
      * Reads the first line from specified file
      */
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Collects item updates for a short time and passes only the last state of every item on.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ItemUpdateCoalescer {
+    private final ScheduledExecutorService scheduler;
+    private final long delayMs;
+    private final BiConsumer<String, String> sender;
+
+    /*
+     * Item updates which are not sent yet, in the order the items were first updated, guarded by itself
+     */
+    private final Map<String, String> pendingItemUpdates = new LinkedHashMap<>();
+
+    /**
+     * @param scheduler scheduler used to send the collected updates
+     * @param delayMs time in ms updates are collected before they are sent
+     * @param sender receives the item name and the last state of every updated item
+     */
+    ItemUpdateCoalescer(ScheduledExecutorService scheduler, long delayMs, BiConsumer<String, String> sender) {
+        this.scheduler = scheduler;
+        this.delayMs = delayMs;
+        this.sender = sender;
+    }
+
+    void add(String itemName, String itemState) {
+        synchronized (pendingItemUpdates) {
+            if (pendingItemUpdates.isEmpty()) {
+                scheduler.schedule(this::send, delayMs, TimeUnit.MILLISECONDS);
+            }
+            pendingItemUpdates.put(itemName, itemState);
+        }
+    }
+
+    /**
+     * Drops the updates which are not sent yet.
+     */
+    void clear() {
+        synchronized (pendingItemUpdates) {
+            pendingItemUpdates.clear();
+        }
+    }
+
+    private void send() {
+        Map<String, String> itemUpdates;
+        synchronized (pendingItemUpdates) {
+            itemUpdates = new LinkedHashMap<>(pendingItemUpdates);
+            pendingItemUpdates.clear();
+        }
+        itemUpdates.forEach(sender);
+    }
+}
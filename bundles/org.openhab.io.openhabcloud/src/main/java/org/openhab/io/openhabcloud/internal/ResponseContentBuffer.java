@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.util.BufferUtil;
+
+/**
+ * Collects the content of a proxied response into larger chunks. Collected content is passed on when the chunk size
+ * is reached, after a short delay, or when the response is complete.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ResponseContentBuffer {
+    private final ScheduledExecutorService scheduler;
+    private final int chunkSize;
+    private final long flushDelayMs;
+    private final Consumer<byte[]> sender;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private @Nullable ScheduledFuture<?> flushFuture;
+
+    /**
+     * @param scheduler scheduler used to send partial chunks
+     * @param chunkSize size in bytes at which collected content is sent immediately
+     * @param flushDelayMs time in ms after which collected content is sent even if the chunk size has not been
+     *            reached
+     * @param sender receives the chunks
+     */
+    ResponseContentBuffer(ScheduledExecutorService scheduler, int chunkSize, long flushDelayMs,
+            Consumer<byte[]> sender) {
+        this.scheduler = scheduler;
+        this.chunkSize = chunkSize;
+        this.flushDelayMs = flushDelayMs;
+        this.sender = sender;
+    }
+
+    synchronized void append(ByteBuffer content) {
+        byte[] bytes = BufferUtil.toArray(content);
+        buffer.write(bytes, 0, bytes.length);
+        if (buffer.size() >= chunkSize) {
+            flush();
+        } else if (flushFuture == null) {
+            flushFuture = scheduler.schedule(this::flush, flushDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sends the remaining content, called when the response is complete.
+     */
+    synchronized void finish() {
+        flush();
+    }
+
+    private synchronized void flush() {
+        ScheduledFuture<?> localFlushFuture = flushFuture;
+        if (localFlushFuture != null) {
+            localFlushFuture.cancel(false);
+            flushFuture = null;
+        }
+        if (buffer.size() == 0) {
+            return;
+        }
+        sender.accept(buffer.toByteArray());
+        buffer.reset();
+    }
+}
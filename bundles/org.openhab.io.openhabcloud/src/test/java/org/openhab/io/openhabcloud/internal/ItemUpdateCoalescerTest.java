@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Tests {@link ItemUpdateCoalescer}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class ItemUpdateCoalescerTest {
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduler;
+
+    private final List<String> sent = new ArrayList<>();
+    private @NonNullByDefault({}) ItemUpdateCoalescer coalescer;
+
+    @BeforeEach
+    public void setup() {
+        coalescer = new ItemUpdateCoalescer(scheduler, 100,
+                (itemName, itemState) -> sent.add(itemName + "=" + itemState));
+    }
+
+    private Runnable scheduledSend() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(task.capture(), eq(100L), eq(TimeUnit.MILLISECONDS));
+        return task.getValue();
+    }
+
+    @Test
+    public void testOnlyLastStatePerItemIsSent() {
+        coalescer.add("light", "ON");
+        coalescer.add("temperature", "20");
+        coalescer.add("light", "OFF");
+        coalescer.add("temperature", "21");
+        assertTrue(sent.isEmpty());
+
+        scheduledSend().run();
+
+        assertEquals(List.of("light=OFF", "temperature=21"), sent);
+    }
+
+    @Test
+    public void testOneScheduleForAllUpdatesOfTheDelay() {
+        coalescer.add("light", "ON");
+        coalescer.add("light", "OFF");
+        Runnable send = scheduledSend();
+
+        send.run();
+        coalescer.add("light", "ON");
+
+        verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    public void testClearedUpdatesAreNotSent() {
+        coalescer.add("light", "ON");
+        coalescer.clear();
+
+        scheduledSend().run();
+
+        assertTrue(sent.isEmpty());
+    }
+}
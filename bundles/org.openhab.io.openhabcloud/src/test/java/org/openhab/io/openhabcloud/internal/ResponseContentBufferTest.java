@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Tests {@link ResponseContentBuffer}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class ResponseContentBufferTest {
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> flushFuture;
+
+    private final List<String> chunks = new ArrayList<>();
+    private @NonNullByDefault({}) ResponseContentBuffer buffer;
+
+    @BeforeEach
+    public void setup() {
+        doReturn(flushFuture).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+        buffer = new ResponseContentBuffer(scheduler, 8, 20,
+                chunk -> chunks.add(new String(chunk, StandardCharsets.UTF_8)));
+    }
+
+    private static ByteBuffer content(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSmallContentIsCollected() {
+        buffer.append(content("abc"));
+        buffer.append(content("def"));
+        assertTrue(chunks.isEmpty());
+
+        buffer.finish();
+
+        assertEquals(List.of("abcdef"), chunks);
+        verify(flushFuture).cancel(false);
+    }
+
+    @Test
+    public void testFullChunkIsSentImmediately() {
+        buffer.append(content("abcde"));
+        buffer.append(content("fghij"));
+
+        assertEquals(List.of("abcdefghij"), chunks);
+
+        buffer.append(content("k"));
+        buffer.finish();
+
+        assertEquals(List.of("abcdefghij", "k"), chunks);
+    }
+
+    @Test
+    public void testPartialChunkIsSentAfterDelay() {
+        buffer.append(content("abc"));
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(flush.capture(), eq(20L), eq(TimeUnit.MILLISECONDS));
+
+        flush.getValue().run();
+
+        assertEquals(List.of("abc"), chunks);
+        buffer.finish();
+        assertEquals(List.of("abc"), chunks);
+    }
+}
@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -103,6 +104,16 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         }
     }
 
+    private final class CountingTransformation implements TransformationService {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public String transform(String function, String source) throws TransformationException {
+            count.incrementAndGet();
+            return source;
+        }
+    }
+
     private static final String HOST = "thisishost";
     private static final int PORT = 44;
 
@@ -919,6 +930,123 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         waitForAssert(() -> verify((ModbusPollerThingHandler) poller.getHandler()).refresh());
     }
 
+    /**
+     * Creates a data thing reading the first registers of a poll, with unchanged values updated only every minute.
+     * Returns after the REFRESH commands sent by the core when linking the channels are handled.
+     */
+    @SuppressWarnings({ "null" })
+    private ModbusDataThingHandler createUnchangedValuesReadHandler(ModbusReadRequestBlueprint request,
+            String transform, ValueType valueType) {
+        ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("thisishost", 502, false);
+
+        doReturn(4).when(request).getDataLength();
+        doReturn(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS).when(request).getFunctionCode();
+
+        PollTask task = Mockito.mock(PollTask.class);
+        doReturn(endpoint).when(task).getEndpoint();
+        doReturn(request).when(task).getRequest();
+
+        Bridge poller = createPollerMock("poller1", task);
+
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("readStart", "0");
+        dataConfig.put("readTransform", transform);
+        dataConfig.put("readValueType", valueType.getConfigValue());
+        dataConfig.put("updateUnchangedValuesEveryMillis", 60_000L);
+
+        ModbusDataThingHandler dataHandler = createDataHandler("read1", poller,
+                builder -> builder.withConfiguration(dataConfig), bundleContext);
+        assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.ONLINE)));
+
+        // A REFRESH makes the next poll result to be decoded, wait for the ones of the core before polling
+        waitForAssert(
+                () -> verify((ModbusPollerThingHandler) poller.getHandler(), times(CHANNEL_TO_ACCEPTED_TYPE.size()))
+                        .refresh());
+        return dataHandler;
+    }
+
+    private List<State> getStateUpdates(ModbusDataThingHandler handler, String channel) {
+        List<State> updates = getStateUpdates(getItemName(new ChannelUID(handler.getThing().getUID(), channel)));
+        return updates == null ? List.of() : updates;
+    }
+
+    @Test
+    public void testOnRegistersUnchangedValueIsNotDecodedAgain() {
+        CountingTransformation transformation = new CountingTransformation();
+        mockTransformation("COUNTING", transformation);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        ModbusDataThingHandler dataHandler = createUnchangedValuesReadHandler(request, "COUNTING(1)",
+                ModbusConstants.ValueType.INT16);
+        ModbusRegisterArray registers = new ModbusRegisterArray(new byte[] { (byte) 0x00, (byte) 0x05 });
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers));
+        assertSingleStateUpdate(dataHandler, CHANNEL_NUMBER, new DecimalType(5));
+        int transformations = transformation.count.get();
+        assertTrue(transformations > 0);
+
+        // Same registers again: the status and the last read success are updated, the value is not decoded
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers));
+        waitForAssert(() -> assertThat(getStateUpdates(dataHandler, CHANNEL_LAST_READ_SUCCESS).size(), is(2)));
+        assertThat(transformation.count.get(), is(equalTo(transformations)));
+        assertSingleStateUpdate(dataHandler, CHANNEL_NUMBER, new DecimalType(5));
+        assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.ONLINE)));
+
+        // Changed registers are decoded
+        dataHandler.onReadResult(new AsyncModbusReadResult(request,
+                new ModbusRegisterArray(new byte[] { (byte) 0x00, (byte) 0x06 })));
+        assertThat(transformation.count.get(), is(equalTo(2 * transformations)));
+        waitForAssert(() -> assertThat(getStateUpdates(dataHandler, CHANNEL_NUMBER),
+                is(equalTo(List.of(new DecimalType(5), new DecimalType(6))))));
+    }
+
+    @Test
+    public void testOnRegistersUnchangedValueIsDecodedAfterRefresh() {
+        CountingTransformation transformation = new CountingTransformation();
+        mockTransformation("COUNTING", transformation);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        ModbusDataThingHandler dataHandler = createUnchangedValuesReadHandler(request, "COUNTING(1)",
+                ModbusConstants.ValueType.INT16);
+        ModbusRegisterArray registers = new ModbusRegisterArray(new byte[] { (byte) 0x00, (byte) 0x05 });
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers));
+        int transformations = transformation.count.get();
+        assertTrue(transformations > 0);
+
+        // e.g. a newly linked channel needs the value of the next poll, even if it is unchanged
+        dataHandler.handleCommand(new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_NUMBER),
+                RefreshType.REFRESH);
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers));
+        assertThat(transformation.count.get(), is(equalTo(2 * transformations)));
+
+        // ... but only the next one
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers));
+        assertThat(transformation.count.get(), is(equalTo(2 * transformations)));
+    }
+
+    @Test
+    public void testOnRegistersUnchangedValueInt64() {
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        ModbusDataThingHandler dataHandler = createUnchangedValuesReadHandler(request, "default",
+                ModbusConstants.ValueType.INT64);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(new byte[] { (byte) 0x00,
+                (byte) 0x01, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x05 })));
+        assertSingleStateUpdate(dataHandler, CHANNEL_NUMBER, new DecimalType(0x0001_0000_0000_0005L));
+
+        // Only the most significant register changes, all four registers are part of the raw value
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(new byte[] { (byte) 0x00,
+                (byte) 0x02, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x05 })));
+        waitForAssert(() -> assertThat(getStateUpdates(dataHandler, CHANNEL_NUMBER), is(equalTo(
+                List.of(new DecimalType(0x0001_0000_0000_0005L), new DecimalType(0x0002_0000_0000_0005L))))));
+
+        // Only the least significant register changes
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(new byte[] { (byte) 0x00,
+                (byte) 0x02, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x06 })));
+        waitForAssert(() -> assertThat(getStateUpdates(dataHandler, CHANNEL_NUMBER).size(), is(3)));
+        assertThat(getStateUpdates(dataHandler, CHANNEL_NUMBER).get(2),
+                is(equalTo(new DecimalType(0x0002_0000_0000_0006L))));
+    }
+
     private static Stream<Arguments> provideArgsForUpdateThenCommandFromItem()
 
     {